@@ -0,0 +1,130 @@
+package io.sirix.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Axis;
+import org.sirix.api.Database;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.axis.CoroutineDescendantAxis;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.axis.concurrent.CoroutineAxis;
+import org.sirix.axis.concurrent.ParallelDescendantAxis;
+import org.sirix.service.xml.shredder.XmlShredder;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential {@link DescendantAxis} with the coroutine based axes of the Kotlin API and the
+ * {@link ParallelDescendantAxis} on the XMark auction document.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgs = { "-Xms1G", "-Xmx5G" })
+public class DescendantAxisBench {
+
+  public static final String USER_HOME = System.getProperty("user.home");
+
+  public static final Path SIRIX_DATA_LOCATION = Paths.get(USER_HOME, "sirix-data");
+
+  private static final Path DATABASE_PATH = SIRIX_DATA_LOCATION.resolve("xml-xmark-axis-database");
+
+  @State(Scope.Thread)
+  public static class MyState {
+
+    private static final Path XMARK_AUCTION = Paths.get("src", "jmh", "resources", "xmark").resolve("auction.xml");
+
+    private Database<XmlResourceManager> database;
+    private XmlResourceManager manager;
+    private XmlNodeReadOnlyTrx rtx;
+    private XmlNodeReadOnlyTrx producerRtx;
+
+    @Setup(Level.Trial)
+    public void doSetup() {
+      if (Files.exists(DATABASE_PATH))
+        Databases.removeDatabase(DATABASE_PATH);
+
+      final var dbConfig = new DatabaseConfiguration(DATABASE_PATH);
+      Databases.createXmlDatabase(dbConfig);
+      database = Databases.openXmlDatabase(DATABASE_PATH);
+      database.createResource(ResourceConfiguration.newBuilder("resource")
+                                                   .useTextCompression(false)
+                                                   .useDeweyIDs(true)
+                                                   .build());
+      manager = database.openResourceManager("resource");
+
+      try (final var wtx = manager.beginNodeTrx(); final var fis = new FileInputStream(XMARK_AUCTION.toFile())) {
+        wtx.insertSubtreeAsFirstChild(XmlShredder.createFileReader(fis));
+        wtx.commit();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      rtx = manager.beginNodeReadOnlyTrx();
+      producerRtx = manager.beginNodeReadOnlyTrx();
+    }
+
+    @TearDown(Level.Trial)
+    public void doTearDown() {
+      rtx.close();
+      producerRtx.close();
+      manager.close();
+      database.close();
+
+      Databases.removeDatabase(DATABASE_PATH);
+    }
+  }
+
+  private static long count(final Axis axis) {
+    long count = 0;
+    while (axis.hasNext()) {
+      axis.next();
+      count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public long descendantAxis(MyState state) {
+    state.rtx.moveToDocumentRoot();
+    return count(new DescendantAxis(state.rtx, IncludeSelf.YES));
+  }
+
+  @Benchmark
+  public long coroutineDescendantAxis(MyState state) {
+    state.rtx.moveToDocumentRoot();
+    return count(new CoroutineDescendantAxis<>(state.manager, IncludeSelf.YES, state.rtx));
+  }
+
+  @Benchmark
+  public long coroutineAxis(MyState state) {
+    state.rtx.moveToDocumentRoot();
+    state.producerRtx.moveToDocumentRoot();
+    return count(new CoroutineAxis<>(state.rtx, new DescendantAxis(state.producerRtx, IncludeSelf.YES)));
+  }
+
+  @Benchmark
+  public long parallelDescendantAxis(MyState state) {
+    state.rtx.moveToDocumentRoot();
+    return count(new ParallelDescendantAxis(state.rtx, IncludeSelf.YES));
+  }
+}
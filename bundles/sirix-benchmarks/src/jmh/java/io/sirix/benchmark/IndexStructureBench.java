@@ -0,0 +1,118 @@
+package io.sirix.benchmark;
+
+import org.brackit.xquery.atomic.Str;
+import org.brackit.xquery.util.path.Path;
+import org.brackit.xquery.util.path.PathException;
+import org.brackit.xquery.xdm.Type;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.xml.XmlIndexController;
+import org.sirix.api.Database;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.index.IndexDef;
+import org.sirix.index.IndexDefs;
+import org.sirix.index.IndexStructure;
+import org.sirix.index.SearchMode;
+import org.sirix.index.path.xml.XmlPCRCollector;
+import org.sirix.service.xml.shredder.XmlShredder;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the AVL tree and the B+-tree as the data structure of a CAS index on the XMark auction document.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = { "-Xms1G", "-Xmx5G" })
+public class IndexStructureBench {
+
+  private static final java.nio.file.Path DATABASE_PATH = XMarkBench.SIRIX_DATA_LOCATION.resolve("index-structure-db");
+
+  private static final java.nio.file.Path XMARK_AUCTION = Paths.get("src", "jmh", "resources", "xmark", "auction.xml");
+
+  private static final String INDEXED_PATH = "//item/@id";
+
+  @Param({ "AVL_TREE", "BPLUS_TREE" })
+  public IndexStructure structure;
+
+  private Database<XmlResourceManager> database;
+
+  private XmlResourceManager manager;
+
+  private XmlNodeReadOnlyTrx rtx;
+
+  private XmlIndexController indexController;
+
+  private IndexDef indexDef;
+
+  @Setup(Level.Trial)
+  public void doSetup() throws PathException {
+    if (Files.exists(DATABASE_PATH))
+      Databases.removeDatabase(DATABASE_PATH);
+
+    Databases.createXmlDatabase(new DatabaseConfiguration(DATABASE_PATH));
+    database = Databases.openXmlDatabase(DATABASE_PATH);
+    database.createResource(ResourceConfiguration.newBuilder("resource").build());
+    manager = database.openResourceManager("resource");
+
+    try (final var wtx = manager.beginNodeTrx(); final var fis = new FileInputStream(XMARK_AUCTION.toFile())) {
+      final XmlIndexController wtxIndexController = manager.getWtxIndexController(wtx.getRevisionNumber() - 1);
+      final IndexDef casIndexDef =
+          IndexDefs.createCASIdxDef(false, Type.STR, Collections.singleton(Path.parse(INDEXED_PATH)), structure, 0);
+      wtxIndexController.createIndexes(Set.of(casIndexDef), wtx);
+      wtx.insertSubtreeAsFirstChild(XmlShredder.createFileReader(fis));
+      wtx.commit();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    rtx = manager.beginNodeReadOnlyTrx();
+    indexController = manager.getRtxIndexController(rtx.getRevisionNumber());
+    indexDef = indexController.getIndexes().findCASIndex(Path.parse(INDEXED_PATH), Type.STR).orElseThrow();
+  }
+
+  @TearDown(Level.Trial)
+  public void doTearDown() {
+    rtx.close();
+    manager.close();
+    database.close();
+
+    Databases.removeDatabase(DATABASE_PATH);
+  }
+
+  @Benchmark
+  public void equalLookup(Blackhole blackhole) throws PathException {
+    final var references = indexController.openCASIndex(rtx.getPageTrx(), indexDef,
+        indexController.createCASFilter(Set.of(INDEXED_PATH), new Str("item42"), SearchMode.EQUAL,
+            new XmlPCRCollector(rtx)));
+    references.forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void rangeScan(Blackhole blackhole) throws PathException {
+    final var references = indexController.openCASIndex(rtx.getPageTrx(), indexDef,
+        indexController.createCASFilterRange(Set.of(INDEXED_PATH), new Str("item1"), new Str("item5"), true, false,
+            new XmlPCRCollector(rtx)));
+    references.forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void greaterScan(Blackhole blackhole) throws PathException {
+    final var references = indexController.openCASIndex(rtx.getPageTrx(), indexDef,
+        indexController.createCASFilter(Set.of(INDEXED_PATH), new Str("item8"), SearchMode.GREATER,
+            new XmlPCRCollector(rtx)));
+    references.forEachRemaining(blackhole::consume);
+  }
+}
@@ -50,6 +50,9 @@ public abstract class AbstractLocalDatabase<T extends ResourceManager<? extends
   /** DatabaseConfiguration with fixed settings. */
   protected final DatabaseConfiguration dbConfig;
 
+  /** Executes the background tasks of the resource managers and transactions. */
+  protected final DatabaseScheduler scheduler;
+
   /**
    * Constructor.
    *
@@ -60,6 +63,16 @@ public abstract class AbstractLocalDatabase<T extends ResourceManager<? extends
     resourceIDsToResourceNames = Maps.synchronizedBiMap(HashBiMap.create());
     bufferManagers = new ConcurrentHashMap<>();
     transactionManager = new TransactionManagerImpl();
+    scheduler = new DatabaseScheduler(dbConfig.getDatabaseName());
+  }
+
+  /**
+   * Get the scheduler, which executes the background tasks of the resource managers and transactions.
+   *
+   * @return the scheduler
+   */
+  public DatabaseScheduler getScheduler() {
+    return scheduler;
   }
 
   @Override
@@ -0,0 +1,138 @@
+package org.sirix.access;
+
+import org.sirix.exception.SirixThreadedException;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Executes the background tasks of all resource managers and transactions of a database, that is time-based auto
+ * commits of write transactions, the retrieval of the revision history and the read-ahead of record pages. The thread
+ * pool is created lazily, once the first task is submitted, and idle threads are terminated, such that the number of
+ * threads doesn't depend on the number of open resource managers and transactions.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class DatabaseScheduler implements AutoCloseable {
+
+  /** Time after which idle threads are terminated. */
+  private static final long KEEP_ALIVE_SECONDS = 30;
+
+  /** Time to wait for running tasks on close, before they are interrupted. */
+  static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+  /** The name of the database, used for the thread names. */
+  private final String databaseName;
+
+  /** The lazily created executor service. */
+  private volatile ScheduledExecutorService executor;
+
+  /** Determines if the scheduler has been closed. */
+  private boolean isClosed;
+
+  /**
+   * Constructor.
+   *
+   * @param databaseName the name of the database
+   */
+  public DatabaseScheduler(final String databaseName) {
+    this.databaseName = checkNotNull(databaseName);
+  }
+
+  /**
+   * Submit a task, which is executed as soon as a thread is available.
+   *
+   * @param <T> the result type of the task
+   * @param task the task
+   * @return the future of the task
+   */
+  public <T> Future<T> submit(final Callable<T> task) {
+    return getExecutor().submit(checkNotNull(task));
+  }
+
+  /**
+   * Execute a task periodically, until it's cancelled by the returned future.
+   *
+   * @param task the task
+   * @param initialDelay the delay before the first execution
+   * @param period the period between two executions
+   * @param timeUnit the time unit of the delay and the period
+   * @return the future to cancel the task
+   */
+  public ScheduledFuture<?> scheduleAtFixedRate(final Runnable task, final long initialDelay, final long period,
+      final TimeUnit timeUnit) {
+    return getExecutor().scheduleAtFixedRate(checkNotNull(task), initialDelay, period, checkNotNull(timeUnit));
+  }
+
+  private ScheduledExecutorService getExecutor() {
+    ScheduledExecutorService executor = this.executor;
+    if (executor == null) {
+      synchronized (this) {
+        if (isClosed) {
+          throw new IllegalStateException("Scheduler of database " + databaseName + " is already closed!");
+        }
+        executor = this.executor;
+        if (executor == null) {
+          final var threadPoolExecutor = new ScheduledThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
+              new DatabaseThreadFactory(databaseName));
+          threadPoolExecutor.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+          threadPoolExecutor.allowCoreThreadTimeOut(true);
+          threadPoolExecutor.setRemoveOnCancelPolicy(true);
+          this.executor = executor = threadPoolExecutor;
+        }
+      }
+    }
+    return executor;
+  }
+
+  @Override
+  public synchronized void close() {
+    isClosed = true;
+    if (executor == null)
+      return;
+
+    executor.shutdown();
+    try {
+      // Interrupt the tasks, which are still running, such that no thread outlives the database.
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (final InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+      throw new SirixThreadedException(e);
+    } finally {
+      executor = null;
+    }
+  }
+
+  private static final class DatabaseThreadFactory implements ThreadFactory {
+    private final String databaseName;
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    DatabaseThreadFactory(final String databaseName) {
+      this.databaseName = databaseName;
+    }
+
+    @Override
+    public Thread newThread(@Nonnull final Runnable runnable) {
+      final var thread = new Thread(runnable, "Sirix-" + databaseName + "-" + threadNumber.incrementAndGet());
+
+      thread.setPriority(Thread.NORM_PRIORITY);
+      thread.setDaemon(true);
+
+      return thread;
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package org.sirix.access;
 
+import com.google.common.util.concurrent.Striped;
 import org.sirix.access.json.JsonResourceStore;
 import org.sirix.access.xml.XmlResourceStore;
 import org.sirix.api.Database;
@@ -16,7 +17,6 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -42,6 +42,12 @@ public final class Databases {
   /** Central repository of all resource {@code <=>} write semaphore mappings. */
   static final ConcurrentMap<Path, Lock> RESOURCE_WRITE_SEMAPHORES = new ConcurrentHashMap<>();
 
+  /**
+   * Locks to serialize the creation, opening and removal of the same database, whereas operations on different
+   * databases usually don't block each other.
+   */
+  private static final Striped<Lock> DATABASE_LOCKS = Striped.lock(64);
+
   /**
    * Get the database type
    *
@@ -60,7 +66,7 @@ public final class Databases {
    * @return true if creation is valid, false otherwise
    * @throws SirixIOException if something odd happens within the creation process.
    */
-  public static synchronized boolean createXmlDatabase(final DatabaseConfiguration dbConfig) {
+  public static boolean createXmlDatabase(final DatabaseConfiguration dbConfig) {
     return createTheDatabase(dbConfig.setDatabaseType(DatabaseType.XML));
   }
 
@@ -72,11 +78,21 @@ public final class Databases {
    * @return true if creation is valid, false otherwise
    * @throws SirixIOException if something odd happens within the creation process.
    */
-  public static synchronized boolean createJsonDatabase(final DatabaseConfiguration dbConfig) {
+  public static boolean createJsonDatabase(final DatabaseConfiguration dbConfig) {
     return createTheDatabase(dbConfig.setDatabaseType(DatabaseType.JSON));
   }
 
   private static boolean createTheDatabase(final DatabaseConfiguration dbConfig) {
+    final Lock lock = getDatabaseLock(dbConfig.getFile());
+    lock.lock();
+    try {
+      return createDatabaseStructure(dbConfig);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static boolean createDatabaseStructure(final DatabaseConfiguration dbConfig) {
     boolean returnVal = true;
     // if file is existing, skipping
     if (Files.exists(dbConfig.getFile())) {
@@ -133,16 +149,22 @@ public final class Databases {
    * @param dbFile the database at this path should be deleted
    * @throws SirixIOException if Sirix fails to delete the database
    */
-  public static synchronized void removeDatabase(final Path dbFile) throws SirixIOException {
-    // check that database must be closed beforehand
-    if (!DATABASE_SESSIONS.containsKey(dbFile)) {
-      // if file is existing and folder is a sirix-database, delete it
-      if (Files.exists(dbFile)) {
-        // && DatabaseConfiguration.Paths.compareStructure(pConf.getFile()) ==
-        // 0) {
-        // instantiate the database for deletion
-        SirixFiles.recursiveRemove(dbFile);
+  public static void removeDatabase(final Path dbFile) throws SirixIOException {
+    final Lock lock = getDatabaseLock(dbFile);
+    lock.lock();
+    try {
+      // check that database must be closed beforehand
+      if (!DATABASE_SESSIONS.containsKey(dbFile)) {
+        // if file is existing and folder is a sirix-database, delete it
+        if (Files.exists(dbFile)) {
+          // && DatabaseConfiguration.Paths.compareStructure(pConf.getFile()) ==
+          // 0) {
+          // instantiate the database for deletion
+          SirixFiles.recursiveRemove(dbFile);
+        }
       }
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -158,7 +180,7 @@ public final class Databases {
    * @throws NullPointerException if {@code file} is {@code null}
    */
   @SuppressWarnings("unchecked")
-  public static synchronized Database<XmlResourceManager> openXmlDatabase(final Path file, final User user) {
+  public static Database<XmlResourceManager> openXmlDatabase(final Path file, final User user) {
     return (Database<XmlResourceManager>) openDatabase(file, new XmlResourceStore(user), DatabaseType.XML);
   }
 
@@ -174,7 +196,7 @@ public final class Databases {
    * @throws NullPointerException if {@code file} is {@code null}
    */
   @SuppressWarnings("unchecked")
-  public static synchronized Database<JsonResourceManager> openJsonDatabase(final Path file, final User user) {
+  public static Database<JsonResourceManager> openJsonDatabase(final Path file, final User user) {
     return (Database<JsonResourceManager>) openDatabase(file, new JsonResourceStore(user), DatabaseType.JSON);
   }
 
@@ -189,7 +211,7 @@ public final class Databases {
    * @throws NullPointerException if {@code file} is {@code null}
    */
   @SuppressWarnings("unchecked")
-  public static synchronized Database<JsonResourceManager> openJsonDatabase(final Path file) {
+  public static Database<JsonResourceManager> openJsonDatabase(final Path file) {
     return (Database<JsonResourceManager>) openDatabase(file, new JsonResourceStore(), DatabaseType.JSON);
   }
 
@@ -204,7 +226,7 @@ public final class Databases {
    * @throws NullPointerException if {@code file} is {@code null}
    */
   @SuppressWarnings("unchecked")
-  public static synchronized Database<XmlResourceManager> openXmlDatabase(final Path file) {
+  public static Database<XmlResourceManager> openXmlDatabase(final Path file) {
     return (Database<XmlResourceManager>) openDatabase(file, new XmlResourceStore(), DatabaseType.XML);
   }
 
@@ -215,13 +237,23 @@ public final class Databases {
     if (!Files.exists(file)) {
       throw new SirixUsageException("DB could not be opened (since it was not created?) at location", file.toString());
     }
-    final DatabaseConfiguration dbConfig = DatabaseConfiguration.deserialize(file);
-    if (dbConfig == null) {
-      throw new IllegalStateException("Configuration may not be null!");
+    final Lock lock = getDatabaseLock(file);
+    lock.lock();
+    try {
+      final DatabaseConfiguration dbConfig = DatabaseConfiguration.deserialize(file);
+      if (dbConfig == null) {
+        throw new IllegalStateException("Configuration may not be null!");
+      }
+      final Database<?> database = databaseType.createDatabase(dbConfig, store);
+      putDatabase(file.toAbsolutePath(), database);
+      return database;
+    } finally {
+      lock.unlock();
     }
-    final Database<?> database = databaseType.createDatabase(dbConfig, store);
-    putDatabase(file.toAbsolutePath(), database);
-    return database;
+  }
+
+  private static Lock getDatabaseLock(final Path file) {
+    return DATABASE_LOCKS.get(file.toAbsolutePath().normalize());
   }
 
   /**
@@ -230,7 +262,7 @@ public final class Databases {
    * @param dbPath database path
    * @return {@code true}, if database exists, {@code false} otherwise
    */
-  public static synchronized boolean existsDatabase(final Path dbPath) {
+  public static boolean existsDatabase(final Path dbPath) {
     return Files.exists(dbPath) && DatabaseConfiguration.DatabasePaths.compareStructure(dbPath) == 0;
   }
 
@@ -240,10 +272,12 @@ public final class Databases {
    * @param file database file to put into the map
    * @param database database handle to put into the map
    */
-  static synchronized void putDatabase(final Path file, final Database<?> database) {
-    final Set<Database<?>> databases = DATABASE_SESSIONS.getOrDefault(file, new HashSet<>());
-    databases.add(database);
-    DATABASE_SESSIONS.put(file, databases);
+  static void putDatabase(final Path file, final Database<?> database) {
+    DATABASE_SESSIONS.compute(file, (path, databases) -> {
+      final Set<Database<?>> sessions = databases == null ? ConcurrentHashMap.newKeySet() : databases;
+      sessions.add(database);
+      return sessions;
+    });
   }
 
   /**
@@ -251,12 +285,11 @@ public final class Databases {
    *
    * @param file database file to remove
    */
-  static synchronized void removeDatabase(final Path file, final Database<?> database) {
-    final Set<Database<?>> databases = DATABASE_SESSIONS.get(file);
-    databases.remove(database);
-
-    if (databases.isEmpty())
-      DATABASE_SESSIONS.remove(file);
+  static void removeDatabase(final Path file, final Database<?> database) {
+    DATABASE_SESSIONS.computeIfPresent(file, (path, databases) -> {
+      databases.remove(database);
+      return databases.isEmpty() ? null : databases;
+    });
   }
 
   /**
@@ -265,7 +298,7 @@ public final class Databases {
    * @param file the resource file
    * @return {@code true}, if there are any open resource managers, {@code false} otherwise.
    */
-  public static synchronized boolean hasOpenResourceManagers(final Path file) {
+  public static boolean hasOpenResourceManagers(final Path file) {
     final Set<ResourceManager<?, ?>> resourceManagers = RESOURCE_MANAGERS.get(file);
 
     return resourceManagers != null && !resourceManagers.isEmpty();
@@ -3,11 +3,15 @@ package org.sirix.access;
 import org.sirix.api.ResourceManager;
 
 import java.nio.file.Path;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Internal access to the registry of open databases and resource managers. The registry is based on concurrent maps,
+ * such that registering a resource manager of one database doesn't block others.
+ */
 public final class DatabasesInternals {
   private DatabasesInternals() {
     throw new AssertionError();
@@ -23,8 +27,13 @@ public final class DatabasesInternals {
    * @param file resource file to put into the map
    * @param resourceManager resourceManager handle to put into the map
    */
-  public static synchronized void putResourceManager(final Path file, final ResourceManager<?, ?> resourceManager) {
-    Databases.RESOURCE_MANAGERS.computeIfAbsent(file, path -> new HashSet<>()).add(resourceManager);
+  public static void putResourceManager(final Path file, final ResourceManager<?, ?> resourceManager) {
+    Databases.RESOURCE_MANAGERS.compute(file, (path, resourceManagers) -> {
+      final Set<ResourceManager<?, ?>> managers =
+          resourceManagers == null ? ConcurrentHashMap.newKeySet() : resourceManagers;
+      managers.add(resourceManager);
+      return managers;
+    });
   }
 
   /**
@@ -33,16 +42,10 @@ public final class DatabasesInternals {
    * @param file the resource file
    * @param resourceManager manager to remove
    */
-  public static synchronized void removeResourceManager(final Path file, final ResourceManager<?, ?> resourceManager) {
-    final Set<ResourceManager<?, ?>> resourceManagers = Databases.RESOURCE_MANAGERS.get(file);
-
-    if (resourceManagers == null) {
-      return;
-    }
-
-    resourceManagers.remove(resourceManager);
-
-    if (resourceManagers.isEmpty())
-      Databases.RESOURCE_MANAGERS.remove(file);
+  public static void removeResourceManager(final Path file, final ResourceManager<?, ?> resourceManager) {
+    Databases.RESOURCE_MANAGERS.computeIfPresent(file, (path, resourceManagers) -> {
+      resourceManagers.remove(resourceManager);
+      return resourceManagers.isEmpty() ? null : resourceManagers;
+    });
   }
 }
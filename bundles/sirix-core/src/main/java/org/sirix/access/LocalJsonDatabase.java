@@ -72,6 +72,7 @@ public final class LocalJsonDatabase extends AbstractLocalDatabase<JsonResourceM
     isClosed = true;
     resourceStore.close();
     transactionManager.close();
+    scheduler.close();
 
     // Remove from database mapping.
     Databases.removeDatabase(dbConfig.getFile(), this);
@@ -106,7 +107,7 @@ public final class LocalJsonDatabase extends AbstractLocalDatabase<JsonResourceM
     if (!bufferManagers.containsKey(resourceFile))
       bufferManagers.put(resourceFile, new BufferManagerImpl());
 
-    return resourceStore.openResource(this, resourceConfig, bufferManagers.get(resourceFile), resourceFile);
+    return resourceStore.openResource(this, resourceConfig, bufferManagers.get(resourceFile), scheduler, resourceFile);
   }
 
   @Override
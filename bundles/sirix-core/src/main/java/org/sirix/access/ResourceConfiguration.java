@@ -83,7 +83,13 @@ public final class ResourceConfiguration {
     ENCRYPTION_KEY(Paths.get("encryption"), true),
 
     /** Folder to store the update operations. */
-    UPDATE_OPERATIONS(Paths.get("update-operations"), true);
+    UPDATE_OPERATIONS(Paths.get("update-operations"), true),
+
+    /** Folder to store the revisions, in which each record has been changed. */
+    RECORD_CHANGES(Paths.get("changes"), true),
+
+    /** Folder to store the preset dictionary for the compression of text values. */
+    TEXT_COMPRESSION_DICTIONARY(Paths.get("dictionary"), true);
 
     /** Location of the file. */
     private final Path path;
@@ -19,12 +19,13 @@ public interface ResourceStore<R extends ResourceManager<? extends NodeReadOnlyT
    * @param database The database.
    * @param resourceConfig The resource configuration.
    * @param bufferManager The buffer manager.
+   * @param scheduler The scheduler of the database, which executes the background tasks.
    * @param resourceFile The resource to open.
    * @return A resource manager.
    * @throws NullPointerException if one if the arguments is {@code null}
    */
   public R openResource(@Nonnull Database<R> database, @Nonnull ResourceConfiguration resourceConfig,
-      @Nonnull BufferManager bufferManager, @Nonnull Path resourceFile);
+      @Nonnull BufferManager bufferManager, @Nonnull DatabaseScheduler scheduler, @Nonnull Path resourceFile);
 
   boolean hasOpenResourceManager(Path resourceFile);
 
@@ -1,6 +1,7 @@
 package org.sirix.access.json;
 
 import org.sirix.access.AbstractResourceStore;
+import org.sirix.access.DatabaseScheduler;
 import org.sirix.access.DatabasesInternals;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.User;
@@ -44,10 +45,11 @@ public final class JsonResourceStore extends AbstractResourceStore<JsonResourceM
   @Override
   public JsonResourceManager openResource(final @Nonnull Database<JsonResourceManager> database,
       final @Nonnull ResourceConfiguration resourceConfig, final @Nonnull BufferManager bufferManager,
-      final @Nonnull Path resourceFile) {
+      final @Nonnull DatabaseScheduler scheduler, final @Nonnull Path resourceFile) {
     checkNotNull(database);
     checkNotNull(resourceConfig);
     checkNotNull(bufferManager);
+    checkNotNull(scheduler);
     checkNotNull(resourceFile);
 
     return resourceManagers.computeIfAbsent(resourceFile, k -> {
@@ -58,7 +60,7 @@ public final class JsonResourceStore extends AbstractResourceStore<JsonResourceM
 
       // Create the resource manager instance.
       final JsonResourceManager resourceManager = new JsonResourceManagerImpl(database, this, resourceConfig,
-          bufferManager, StorageType.getStorage(resourceConfig), uberPage, writeLock, user);
+          bufferManager, scheduler, StorageType.getStorage(resourceConfig), uberPage, writeLock, user);
 
       // Put it in the databases cache.
       DatabasesInternals.putResourceManager(resourceFile, resourceManager);
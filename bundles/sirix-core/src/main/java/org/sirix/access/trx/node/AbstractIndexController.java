@@ -14,6 +14,7 @@ import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.cas.CASFilter;
 import org.sirix.index.cas.CASFilterRange;
 import org.sirix.index.cas.CASIndex;
+import org.sirix.index.deweyid.DeweyIDIndex;
 import org.sirix.index.name.NameFilter;
 import org.sirix.index.name.NameIndex;
 import org.sirix.index.path.PCRCollector;
@@ -116,6 +117,9 @@ public abstract class AbstractIndexController<R extends NodeReadOnlyTrx & NodeCu
         case NAME:
           listeners.add(createNameIndexListener(nodeWriteTrx.getPageWtx(), indexDef));
           break;
+        case DEWEYID:
+          listeners.add(DeweyIDIndex.createListener(nodeWriteTrx.getPageWtx(), indexDef));
+          break;
         default:
           break;
       }
@@ -4,6 +4,7 @@ import org.brackit.xquery.xdm.DocumentException;
 import org.sirix.access.*;
 import org.sirix.access.trx.node.xml.XmlResourceManagerImpl;
 import org.sirix.access.trx.page.NodePageReadOnlyTrx;
+import org.sirix.access.trx.page.PageFragmentStatistics;
 import org.sirix.access.trx.page.PageTrxFactory;
 import org.sirix.access.trx.page.RevisionRootPageReader;
 import org.sirix.api.*;
@@ -14,9 +15,13 @@ import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
+import org.sirix.index.path.summary.PathSummaryCache;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.io.IOStorage;
+import org.sirix.io.Reader;
 import org.sirix.io.Writer;
+import org.sirix.io.file.FileCompaction;
+import org.sirix.io.file.FileStorage;
 import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.PageKind;
@@ -40,7 +45,9 @@ import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -50,14 +57,14 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     implements ResourceManager<R, W>, InternalResourceManager<R, W> {
 
   /**
-   * Thread pool.
+   * The database.
    */
-  final ExecutorService threadPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  final Database<? extends ResourceManager<R, W>> database;
 
   /**
-   * The database.
+   * Executes background tasks, shared by all resource managers of the database.
    */
-  final Database<? extends ResourceManager<R, W>> database;
+  private final DatabaseScheduler scheduler;
 
   /**
    * Write lock to assure only one exclusive write transaction exists.
@@ -89,6 +96,12 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
    */
   private final Lock commitLock;
 
+  /**
+   * Guards the creation of read-only transactions against a concurrent close. Read-only transactions only share the
+   * lock, thus they are created concurrently.
+   */
+  private final ReadWriteLock closeLock;
+
   /**
    * Resource configuration.
    */
@@ -129,6 +142,26 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
    */
   final User user;
 
+  /**
+   * The index of the records, which have been changed in each revision.
+   */
+  final RecordChangeIndex recordChangeIndex;
+
+  /**
+   * The preset dictionary for the compression of text values.
+   */
+  final TextCompressionDictionary textCompressionDictionary;
+
+  /**
+   * The statistics about the page fragments of the record pages.
+   */
+  final PageFragmentStatistics pageFragmentStatistics;
+
+  /**
+   * The path summary snapshots shared by all path summary readers of a revision.
+   */
+  final PathSummaryCache pathSummaryCache;
+
   /**
    * Package private constructor.
    *
@@ -136,14 +169,16 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
    * @param resourceStore the resource store with which this manager has been created
    * @param resourceConf  {@link DatabaseConfiguration} for general setting about the storage
    * @param bufferManager the cache of in-memory pages shared amongst all resource managers and transactions
+   * @param scheduler the scheduler of the database, which executes the background tasks
    * @throws SirixException if Sirix encounters an exception
    */
   public AbstractResourceManager(final Database<? extends ResourceManager<R, W>> database,
       final @Nonnull ResourceStore<? extends ResourceManager<R, W>> resourceStore,
       final @Nonnull ResourceConfiguration resourceConf, final @Nonnull BufferManager bufferManager,
-      final @Nonnull IOStorage storage, final @Nonnull UberPage uberPage, final @Nonnull Lock writeLock,
+      final @Nonnull DatabaseScheduler scheduler, final @Nonnull IOStorage storage, final @Nonnull UberPage uberPage, final @Nonnull Lock writeLock,
       final @Nullable User user) {
     this.database = checkNotNull(database);
+    this.scheduler = checkNotNull(scheduler);
     this.resourceStore = checkNotNull(resourceStore);
     resourceConfig = checkNotNull(resourceConf);
     this.bufferManager = checkNotNull(bufferManager);
@@ -156,11 +191,18 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     nodeTrxIDCounter = new AtomicLong();
     pageTrxIDCounter = new AtomicLong();
     commitLock = new ReentrantLock(false);
+    closeLock = new ReentrantReadWriteLock();
 
     this.writeLock = checkNotNull(writeLock);
 
     lastCommittedUberPage = new AtomicReference<>(uberPage);
     this.user = user;
+    recordChangeIndex = new RecordChangeIndex(
+        resourceConf.resourcePath.resolve(ResourceConfiguration.ResourcePaths.RECORD_CHANGES.getPath()));
+    textCompressionDictionary = new TextCompressionDictionary(resourceConf.resourcePath.resolve(
+        ResourceConfiguration.ResourcePaths.TEXT_COMPRESSION_DICTIONARY.getPath()));
+    pathSummaryCache = new PathSummaryCache();
+    pageFragmentStatistics = new PageFragmentStatistics();
 
     isClosed = false;
   }
@@ -228,7 +270,7 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     final var revisionInfos = new ArrayList<Future<RevisionInfo>>();
 
     for (int revision = fromRevision; revision > 0 && revision >= toRevision; revision--) {
-      revisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, revision)));
+      revisionInfos.add(scheduler.submit(new RevisionInfoRunnable(this, revision)));
     }
 
     return getResult(revisionInfos);
@@ -242,7 +284,7 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
 
     for (int revision = lastCommittedRevision; revision > 0 && revision > lastCommittedRevision - revisions;
         revision--) {
-      revisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, revision)));
+      revisionInfos.add(scheduler.submit(new RevisionInfoRunnable(this, revision)));
     }
 
     return getResult(revisionInfos);
@@ -274,28 +316,38 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     return commitLock;
   }
 
+  @Override
+  public DatabaseScheduler getScheduler() {
+    return scheduler;
+  }
+
   @Override
   public R beginNodeReadOnlyTrx() {
     return beginNodeReadOnlyTrx(lastCommittedUberPage.get().getRevisionNumber());
   }
 
   @Override
-  public synchronized R beginNodeReadOnlyTrx(@Nonnegative final int revisionKey) {
-    assertAccess(revisionKey);
+  public R beginNodeReadOnlyTrx(@Nonnegative final int revisionKey) {
+    closeLock.readLock().lock();
+    try {
+      assertAccess(revisionKey);
 
-    final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revisionKey);
+      final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revisionKey);
 
-    final Node documentNode = getDocumentNode(pageReadTrx);
+      final Node documentNode = getDocumentNode(pageReadTrx);
 
-    // Create new reader.
-    final R reader = createNodeReadOnlyTrx(nodeTrxIDCounter.incrementAndGet(), pageReadTrx, documentNode);
+      // Create new reader.
+      final R reader = createNodeReadOnlyTrx(nodeTrxIDCounter.incrementAndGet(), pageReadTrx, documentNode);
 
-    // Remember reader for debugging and safe close.
-    if (nodeTrxMap.put(reader.getId(), reader) != null) {
-      throw new SirixUsageException("ID generation is bogus because of duplicate ID.");
-    }
+      // Remember reader for debugging and safe close.
+      if (nodeTrxMap.put(reader.getId(), reader) != null) {
+        throw new SirixUsageException("ID generation is bogus because of duplicate ID.");
+      }
 
-    return reader;
+      return reader;
+    } finally {
+      closeLock.readLock().unlock();
+    }
   }
 
   public abstract R createNodeReadOnlyTrx(long nodeTrxId, PageReadOnlyTrx pageReadTrx, Node documentNode);
@@ -384,14 +436,16 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
 
   @Override
   public synchronized void close() {
-    if (!isClosed) {
-      threadPool.shutdown();
-      try {
-        threadPool.awaitTermination(5, TimeUnit.SECONDS);
-      } catch (InterruptedException e) {
-        throw new IllegalStateException(e);
-      }
+    closeLock.writeLock().lock();
+    try {
+      closeResourceManager();
+    } finally {
+      closeLock.writeLock().unlock();
+    }
+  }
 
+  private void closeResourceManager() {
+    if (!isClosed) {
       // Close all open node transactions.
       for (NodeReadOnlyTrx rtx : nodeTrxMap.values()) {
         if (rtx instanceof XmlNodeTrx) {
@@ -417,6 +471,8 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
       resourceStore.closeResource(resourceConfig.getResource());
 
       storage.close();
+      recordChangeIndex.close();
+      pathSummaryCache.clear();
 
       isClosed = true;
     }
@@ -559,7 +615,7 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
   }
 
   @Override
-  public synchronized boolean isClosed() {
+  public boolean isClosed() {
     return isClosed;
   }
 
@@ -590,11 +646,16 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
   }
 
   @Override
-  public synchronized PathSummaryReader openPathSummary(final @Nonnegative int revision) {
-    assertAccess(revision);
+  public PathSummaryReader openPathSummary(final @Nonnegative int revision) {
+    closeLock.readLock().lock();
+    try {
+      assertAccess(revision);
 
-    final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revision);
-    return PathSummaryReader.getInstance(pageReadTrx, this);
+      final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revision);
+      return PathSummaryReader.getInstance(pageReadTrx, this, pathSummaryCache);
+    } finally {
+      closeLock.readLock().unlock();
+    }
   }
 
   @Override
@@ -608,19 +669,25 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
   }
 
   @Override
-  public synchronized PageReadOnlyTrx beginPageReadOnlyTrx(final @Nonnegative int revision) {
-    assertAccess(revision);
+  public PageReadOnlyTrx beginPageReadOnlyTrx(final @Nonnegative int revision) {
+    closeLock.readLock().lock();
+    try {
+      assertAccess(revision);
 
-    final long currentPageTrxID = pageTrxIDCounter.incrementAndGet();
-    final NodePageReadOnlyTrx pageReadTrx = new NodePageReadOnlyTrx(currentPageTrxID, this, lastCommittedUberPage.get(),
-        revision, storage.createReader(), null, bufferManager, new RevisionRootPageReader());
+      final long currentPageTrxID = pageTrxIDCounter.incrementAndGet();
+      final NodePageReadOnlyTrx pageReadTrx = new NodePageReadOnlyTrx(currentPageTrxID, this,
+          lastCommittedUberPage.get(), revision, storage.createReader(), null, bufferManager,
+          new RevisionRootPageReader());
 
-    // Remember page transaction for debugging and safe close.
-    if (pageTrxMap.put(currentPageTrxID, pageReadTrx) != null) {
-      throw new SirixThreadedException("ID generation is bogus because of duplicate ID.");
-    }
+      // Remember page transaction for debugging and safe close.
+      if (pageTrxMap.put(currentPageTrxID, pageReadTrx) != null) {
+        throw new SirixThreadedException("ID generation is bogus because of duplicate ID.");
+      }
 
-    return pageReadTrx;
+      return pageReadTrx;
+    } finally {
+      closeLock.readLock().unlock();
+    }
   }
 
   @Override
@@ -655,7 +722,7 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
   }
 
   @Override
-  public synchronized Database<?> getDatabase() {
+  public Database<?> getDatabase() {
     assertNotClosed();
 
     return database;
@@ -776,4 +843,82 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
 
     return Optional.ofNullable(user);
   }
+
+  @Override
+  public RecordChangeIndex getRecordChangeIndex() {
+    assertNotClosed();
+
+    return recordChangeIndex;
+  }
+
+  @Override
+  public TextCompressionDictionary getTextCompressionDictionary() {
+    assertNotClosed();
+
+    return textCompressionDictionary;
+  }
+
+  @Override
+  public PageFragmentStatistics getPageFragmentStatistics() {
+    assertNotClosed();
+
+    return pageFragmentStatistics;
+  }
+
+  @Override
+  public void compact(final @Nonnegative int oldestRevisionToRetain) {
+    assertNotClosed();
+    assertAccess(oldestRevisionToRetain);
+
+    if (!(storage instanceof FileStorage)) {
+      throw new UnsupportedOperationException("Only file based storages are compacted.");
+    }
+
+    // Commits are blocked, such that the copy contains all revisions.
+    try {
+      if (!writeLock.tryLock(20, TimeUnit.SECONDS)) {
+        throw new SirixUsageException("No write transaction available, please close the write transaction first.");
+      }
+    } catch (final InterruptedException e) {
+      throw new SirixThreadedException(e);
+    }
+
+    try {
+      final FileCompaction compaction = new FileCompaction((FileStorage) storage);
+      compaction.copy(oldestRevisionToRetain, lastCommittedUberPage.get().getRevisionNumber(),
+          this::beginPageReadOnlyTrx);
+
+      closeLock.writeLock().lock();
+      try {
+        if (!nodeTrxMap.isEmpty() || !pageTrxMap.isEmpty() || !nodePageTrxMap.isEmpty()) {
+          compaction.discard();
+          throw new SirixUsageException("The storage can't be replaced, please close all transactions first.");
+        }
+
+        compaction.swap();
+
+        // The cached pages refer to the keys of the pages in the replaced storage.
+        bufferManager.getRecordPageCache().clear();
+        bufferManager.getUnorderedKeyValuePageCache().clear();
+        bufferManager.getPageCache().clear();
+        bufferManager.getRevisionRootPageCache().clear();
+        pathSummaryCache.clear();
+
+        try (final Reader reader = storage.createReader()) {
+          lastCommittedUberPage.set((UberPage) reader.readUberPageReference().getPage());
+        }
+      } finally {
+        closeLock.writeLock().unlock();
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public PathSummaryCache getPathSummaryCache() {
+    assertNotClosed();
+
+    return pathSummaryCache;
+  }
 }
@@ -21,6 +21,7 @@ import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.cas.CASFilterRange;
 import org.sirix.index.cas.CASFilter;
+import org.sirix.index.deweyid.DeweyIDIndex;
 import org.sirix.index.name.NameFilter;
 import org.sirix.index.path.PCRCollector;
 import org.sirix.index.path.PathFilter;
@@ -142,6 +143,17 @@ public interface IndexController<R extends NodeReadOnlyTrx & NodeCursor, W exten
 
   Iterator<NodeReferences> openCASIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilter filter);
 
+  /**
+   * Open the DeweyID index, which maps the DeweyIDs of the nodes to their node keys.
+   *
+   * @param pageRtx the page read-only transaction
+   * @param indexDef the DeweyID index definition
+   * @return the index
+   */
+  default DeweyIDIndex openDeweyIDIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef) {
+    return DeweyIDIndex.open(pageRtx, indexDef);
+  }
+
   Iterator<NodeReferences> openCASIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilterRange filter);
 
   /**
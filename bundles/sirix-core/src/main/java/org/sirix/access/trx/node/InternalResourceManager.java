@@ -2,11 +2,13 @@ package org.sirix.access.trx.node;
 
 import java.nio.file.Path;
 import java.util.concurrent.locks.Lock;
+import org.sirix.access.DatabaseScheduler;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.NodeTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.api.ResourceManager;
+import org.sirix.index.path.summary.PathSummaryCache;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.UberPage;
 import org.sirix.page.UnorderedKeyValuePage;
@@ -31,6 +33,20 @@ public interface InternalResourceManager<R extends NodeReadOnlyTrx & NodeCursor,
 
   Lock getCommitLock();
 
+  /**
+   * Get the scheduler for background tasks, which is shared by all resource managers of the database.
+   *
+   * @return the scheduler
+   */
+  DatabaseScheduler getScheduler();
+
+  /**
+   * Get the cache of the path summary snapshots, which are shared by all path summary readers of a revision.
+   *
+   * @return the cache
+   */
+  PathSummaryCache getPathSummaryCache();
+
   void setLastCommittedUberPage(UberPage lastUberPage);
 
   void closeWriteTransaction(long transactionID);
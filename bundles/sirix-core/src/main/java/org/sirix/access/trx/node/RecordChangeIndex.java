@@ -0,0 +1,540 @@
+package org.sirix.access.trx.node;
+
+import org.sirix.exception.SirixIOException;
+
+import javax.annotation.Nonnegative;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Persistent index of the revisions, in which each record (node) of a resource has been written. It is updated during
+ * each commit and allows temporal axis to skip revisions, in which a node hasn't been changed, instead of opening a
+ * transaction in every revision.
+ *
+ * <p>
+ * The index is stored in a single file. Slot pages map a record key to the newest block of its postings, that is the
+ * sorted revisions, in which the record has been written. The blocks of a record are chained from the newest to the
+ * oldest block and grow in size, thus a lookup reads the slot and usually a single block. Revisions, which have been
+ * committed before the index existed or without updating the index, are unknown, thus every record might have been
+ * changed in these revisions.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class RecordChangeIndex implements AutoCloseable {
+
+  /** Name of the file, which stores the index. */
+  private static final String CHANGES_FILE = "changes";
+
+  /**
+   * Size of the header (first and last indexed revision, offset of the first slot page and of the newest block of
+   * unknown revisions).
+   */
+  private static final int HEADER_SIZE = 2 * Integer.BYTES + 2 * Long.BYTES;
+
+  /** Number of record keys, which are mapped by a slot page. */
+  private static final int SLOTS_PER_PAGE = 512;
+
+  /** Size of a slot page (offset of the next slot page and the offsets of the newest blocks). */
+  private static final int SLOT_PAGE_SIZE = Long.BYTES + SLOTS_PER_PAGE * Long.BYTES;
+
+  /** Size of the header of a block of postings (offset of the previous block, capacity and number of revisions). */
+  private static final int BLOCK_HEADER_SIZE = Long.BYTES + 2 * Integer.BYTES;
+
+  /** Maximum number of revisions of a block of postings. */
+  private static final int MAX_BLOCK_CAPACITY = 64;
+
+  /** Size of a block of unknown revisions (offset of the previous block, first and last revision). */
+  private static final int GAP_SIZE = Long.BYTES + 2 * Integer.BYTES;
+
+  /** Offset, which denotes that no page or block is referenced. */
+  private static final long NULL_OFFSET = 0;
+
+  /** The directory of the index. */
+  private final Path directory;
+
+  /** Channel to read and write the index. */
+  private FileChannel changes;
+
+  /** The size of the file. */
+  private long size;
+
+  /** The first revision, which has been indexed, or {@code -1}, if no revision has been indexed. */
+  private int firstRevision = -1;
+
+  /** The last revision, which has been indexed. */
+  private int lastRevision = -1;
+
+  /** The offset of the newest block of unknown revisions. */
+  private long gapsOffset = NULL_OFFSET;
+
+  /** The offsets of the slot pages. */
+  private long[] slotPages = new long[0];
+
+  /** The number of slot pages. */
+  private int numberOfSlotPages;
+
+  /** The first and last revision of each range of unknown revisions in ascending order. */
+  private final List<int[]> gaps = new ArrayList<>();
+
+  /** The offset of the previous block of the block, which has been read last. */
+  private long previousBlock;
+
+  /**
+   * Constructor.
+   *
+   * @param directory the directory of the index
+   */
+  public RecordChangeIndex(final Path directory) {
+    this.directory = checkNotNull(directory);
+  }
+
+  /**
+   * Store the revision for the keys of the records, which have been written in the revision. The file is forced to
+   * the storage device once.
+   *
+   * @param revision the revision, which is committed
+   * @param recordKeys the keys of the written records in ascending order
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized void write(final @Nonnegative int revision, final long[] recordKeys) {
+    checkArgument(revision >= 0, "The revision must be >= 0!");
+    checkNotNull(recordKeys);
+    try {
+      open(true);
+
+      if (firstRevision == -1) {
+        firstRevision = revision;
+        lastRevision = revision - 1;
+      }
+
+      // The last revision is indexed again, if its commit has failed afterwards.
+      if (revision < lastRevision) {
+        return;
+      }
+
+      // Mark revisions, which have been committed without updating the index, as unknown.
+      if (revision > lastRevision + 1) {
+        final ByteBuffer gap = ByteBuffer.allocate(GAP_SIZE)
+                                         .putLong(0, gapsOffset)
+                                         .putInt(Long.BYTES, lastRevision + 1)
+                                         .putInt(Long.BYTES + Integer.BYTES, revision - 1);
+        gapsOffset = size;
+        writeFully(changes, gap, size);
+        size += GAP_SIZE;
+        gaps.add(new int[] { lastRevision + 1, revision - 1 });
+      }
+
+      if (recordKeys.length > 0) {
+        allocateSlotPages(recordKeys[recordKeys.length - 1] / SLOTS_PER_PAGE);
+        writePostings(revision, recordKeys);
+      }
+
+      lastRevision = revision;
+      writeHeader();
+
+      // The revision is committed afterwards, thus the index must not lag behind after a crash.
+      changes.force(false);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private void allocateSlotPages(final long lastSlotPage) throws IOException {
+    while (numberOfSlotPages <= lastSlotPage) {
+      final long offset = size;
+      writeFully(changes, ByteBuffer.allocate(SLOT_PAGE_SIZE), offset);
+      size += SLOT_PAGE_SIZE;
+      if (numberOfSlotPages > 0) {
+        writeFully(changes, ByteBuffer.allocate(Long.BYTES).putLong(0, offset), slotPages[numberOfSlotPages - 1]);
+      }
+      if (numberOfSlotPages == slotPages.length) {
+        slotPages = Arrays.copyOf(slotPages, Math.max(8, slotPages.length << 1));
+      }
+      slotPages[numberOfSlotPages++] = offset;
+    }
+  }
+
+  // Each slot page is read and written once, new blocks are appended at the end of the file at once.
+  private void writePostings(final int revision, final long[] recordKeys) throws IOException {
+    final ByteBuffer slots = ByteBuffer.allocate(SLOTS_PER_PAGE * Long.BYTES);
+    final ByteBuffer blockHeader = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+    final ByteBuffer lastPosting = ByteBuffer.allocate(Integer.BYTES);
+    ByteBuffer blocks = ByteBuffer.allocate(BLOCK_HEADER_SIZE + Integer.BYTES);
+
+    int index = 0;
+    while (index < recordKeys.length) {
+      final long slotPage = recordKeys[index] / SLOTS_PER_PAGE;
+      final long slotsOffset = slotPages[(int) slotPage] + Long.BYTES;
+      slots.clear();
+      readFully(changes, slots, slotsOffset);
+      boolean isSlotPageModified = false;
+
+      for (; index < recordKeys.length && recordKeys[index] / SLOTS_PER_PAGE == slotPage; index++) {
+        if (index > 0 && recordKeys[index] == recordKeys[index - 1]) {
+          continue;
+        }
+
+        final int slot = (int) (recordKeys[index] % SLOTS_PER_PAGE) * Long.BYTES;
+        final long head = slots.getLong(slot);
+        int capacity = 1;
+
+        if (head != NULL_OFFSET) {
+          blockHeader.clear();
+          readFully(changes, blockHeader, head);
+          final int headCapacity = blockHeader.getInt(Long.BYTES);
+          final int count = blockHeader.getInt(Long.BYTES + Integer.BYTES);
+
+          lastPosting.clear();
+          readFully(changes, lastPosting, head + BLOCK_HEADER_SIZE + (long) (count - 1) * Integer.BYTES);
+          if (lastPosting.getInt(0) == revision) {
+            continue;
+          }
+
+          if (count < headCapacity) {
+            writeFully(changes, ByteBuffer.allocate(Integer.BYTES).putInt(0, revision),
+                       head + BLOCK_HEADER_SIZE + (long) count * Integer.BYTES);
+            writeFully(changes, ByteBuffer.allocate(Integer.BYTES).putInt(0, count + 1),
+                       head + Long.BYTES + Integer.BYTES);
+            continue;
+          }
+
+          capacity = Math.min(headCapacity << 1, MAX_BLOCK_CAPACITY);
+        }
+
+        final int blockSize = BLOCK_HEADER_SIZE + capacity * Integer.BYTES;
+        if (blocks.remaining() < blockSize) {
+          blocks = ByteBuffer.allocate(Math.max(blocks.capacity() << 1, blocks.position() + blockSize))
+                             .put(blocks.flip());
+        }
+        slots.putLong(slot, size + blocks.position());
+        blocks.putLong(head).putInt(capacity).putInt(1).putInt(revision);
+        blocks.position(blocks.position() + (capacity - 1) * Integer.BYTES);
+        isSlotPageModified = true;
+      }
+
+      if (isSlotPageModified) {
+        slots.clear();
+        writeFully(changes, slots, slotsOffset);
+      }
+    }
+
+    blocks.flip();
+    final int blocksSize = blocks.remaining();
+    writeFully(changes, blocks, size);
+    size += blocksSize;
+  }
+
+  private void writeHeader() throws IOException {
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                                        .putInt(0, firstRevision)
+                                        .putInt(Integer.BYTES, lastRevision)
+                                        .putLong(2 * Integer.BYTES,
+                                                 numberOfSlotPages == 0 ? NULL_OFFSET : slotPages[0])
+                                        .putLong(2 * Integer.BYTES + Long.BYTES, gapsOffset);
+    writeFully(changes, header, 0);
+  }
+
+  /**
+   * Determines if a record might have been written in a revision.
+   *
+   * @param recordKey the record key
+   * @param revision the revision
+   * @return {@code true}, if the record has been written in the revision or if the revision hasn't been indexed,
+   *         {@code false} otherwise
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized boolean hasChanged(final long recordKey, final @Nonnegative int revision) {
+    return getNextRevision(recordKey, revision, revision) != -1;
+  }
+
+  /**
+   * Get all revisions in a range, in which a record might have been written.
+   *
+   * @param recordKey the record key
+   * @param fromRevision the first revision (inclusive)
+   * @param toRevision the last revision (inclusive)
+   * @return the revisions in ascending order
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized int[] getRevisions(final long recordKey, final @Nonnegative int fromRevision,
+      final @Nonnegative int toRevision) {
+    try {
+      final int[] postings = readPostings(recordKey, fromRevision, toRevision);
+      int[] changedRevisions = new int[8];
+      int length = 0;
+      int index = 0;
+      for (int revision = fromRevision; revision <= toRevision; revision++) {
+        revision = nextRevision(postings, index, revision);
+        if (revision == -1 || revision > toRevision) {
+          break;
+        }
+        while (index < postings.length && postings[index] <= revision) {
+          index++;
+        }
+        if (length == changedRevisions.length) {
+          changedRevisions = Arrays.copyOf(changedRevisions, length << 1);
+        }
+        changedRevisions[length++] = revision;
+      }
+      return Arrays.copyOf(changedRevisions, length);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Get the first revision in a range, in which a record might have been written.
+   *
+   * @param recordKey the record key
+   * @param fromRevision the first revision (inclusive)
+   * @param toRevision the last revision (inclusive)
+   * @return the first revision or {@code -1}, if the record hasn't been written in the range
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized int getNextRevision(final long recordKey, final @Nonnegative int fromRevision,
+      final @Nonnegative int toRevision) {
+    if (fromRevision > toRevision) {
+      return -1;
+    }
+    try {
+      final int revision = nextRevision(readPostings(recordKey, fromRevision, toRevision), 0, fromRevision);
+      return revision > toRevision ? -1 : revision;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Get the last revision in a range, in which a record might have been written.
+   *
+   * @param recordKey the record key
+   * @param fromRevision the first revision (inclusive)
+   * @param toRevision the last revision (inclusive)
+   * @return the last revision or {@code -1}, if the record hasn't been written in the range
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized int getPreviousRevision(final long recordKey, final @Nonnegative int fromRevision,
+      final @Nonnegative int toRevision) {
+    if (fromRevision > toRevision) {
+      return -1;
+    }
+    try {
+      open(false);
+      final int unknownRevision = previousUnknownRevision(toRevision);
+      if (unknownRevision == toRevision) {
+        return toRevision;
+      }
+
+      // The blocks are chained from the newest to the oldest block, thus the first match is the last revision.
+      int revision = -1;
+      for (long block = readSlot(recordKey); block != NULL_OFFSET && revision == -1; ) {
+        final int[] postings = readBlock(block);
+        for (int i = postings.length - 1; i >= 0; i--) {
+          if (postings[i] <= toRevision) {
+            revision = postings[i];
+            break;
+          }
+        }
+        block = previousBlock;
+      }
+
+      revision = Math.max(revision, unknownRevision);
+      return revision < fromRevision ? -1 : revision;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  // The first revision >= the given revision, which is either a posting or unknown.
+  private int nextRevision(final int[] postings, int index, final int revision) {
+    while (index < postings.length && postings[index] < revision) {
+      index++;
+    }
+    final int unknownRevision = nextUnknownRevision(revision);
+    return index == postings.length ? unknownRevision : Math.min(postings[index], unknownRevision);
+  }
+
+  // Must be called while holding the lock, as the index is loaded lazily and reset by close().
+  private int nextUnknownRevision(final int revision) {
+    if (firstRevision == -1 || revision < firstRevision || revision > lastRevision) {
+      return revision;
+    }
+    for (final int[] gap : gaps) {
+      if (gap[1] >= revision) {
+        return Math.max(gap[0], revision);
+      }
+    }
+    return lastRevision + 1;
+  }
+
+  private int previousUnknownRevision(final int revision) {
+    if (firstRevision == -1 || revision < firstRevision || revision > lastRevision) {
+      return revision;
+    }
+    for (int i = gaps.size() - 1; i >= 0; i--) {
+      final int[] gap = gaps.get(i);
+      if (gap[0] <= revision) {
+        return Math.min(gap[1], revision);
+      }
+    }
+    return firstRevision - 1;
+  }
+
+  /**
+   * Read the revisions of a record in a range, skipping older blocks.
+   *
+   * @return the revisions in ascending order
+   */
+  private int[] readPostings(final long recordKey, final int fromRevision, final int toRevision) throws IOException {
+    if (!open(false)) {
+      return new int[0];
+    }
+    final List<int[]> blocks = new ArrayList<>();
+    int length = 0;
+    for (long block = readSlot(recordKey); block != NULL_OFFSET; block = previousBlock) {
+      final int[] postings = readBlock(block);
+      if (postings.length > 0 && postings[0] <= toRevision) {
+        blocks.add(postings);
+        length += postings.length;
+      }
+      if (postings.length > 0 && postings[0] <= fromRevision) {
+        break;
+      }
+    }
+    final int[] postings = new int[length];
+    int position = 0;
+    for (int i = blocks.size() - 1; i >= 0; i--) {
+      final int[] block = blocks.get(i);
+      System.arraycopy(block, 0, postings, position, block.length);
+      position += block.length;
+    }
+    return postings;
+  }
+
+  // The offset of the newest block of a record or the null offset.
+  private long readSlot(final long recordKey) throws IOException {
+    if (!open(false) || recordKey < 0 || recordKey / SLOTS_PER_PAGE >= numberOfSlotPages) {
+      return NULL_OFFSET;
+    }
+    final ByteBuffer slot = ByteBuffer.allocate(Long.BYTES);
+    readFully(changes, slot,
+              slotPages[(int) (recordKey / SLOTS_PER_PAGE)] + Long.BYTES + (recordKey % SLOTS_PER_PAGE) * Long.BYTES);
+    return slot.getLong(0);
+  }
+
+  // Revisions, which are newer than the last indexed revision, are ignored, as they might stem from a failed commit.
+  private int[] readBlock(final long offset) throws IOException {
+    final ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+    readFully(changes, header, offset);
+    previousBlock = header.getLong(0);
+    final int count = header.getInt(Long.BYTES + Integer.BYTES);
+    final ByteBuffer postings = ByteBuffer.allocate(count * Integer.BYTES);
+    readFully(changes, postings, offset + BLOCK_HEADER_SIZE);
+    final int[] revisions = new int[count];
+    postings.flip().asIntBuffer().get(revisions);
+    int length = count;
+    while (length > 0 && revisions[length - 1] > lastRevision) {
+      length--;
+    }
+    return length == count ? revisions : Arrays.copyOf(revisions, length);
+  }
+
+  /**
+   * Open the file of the index and load the offsets of the slot pages and the unknown revisions.
+   *
+   * @param create determines if the file should be created, if it doesn't exist
+   * @return {@code true}, if the file is open, {@code false} if it doesn't exist
+   * @throws IOException if an I/O error occurs
+   */
+  private synchronized boolean open(final boolean create) throws IOException {
+    if (changes != null) {
+      return true;
+    }
+    final Path changesFile = directory.resolve(CHANGES_FILE);
+    if (!create && !Files.exists(changesFile)) {
+      return false;
+    }
+    Files.createDirectories(directory);
+    changes = FileChannel.open(changesFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    size = changes.size();
+    firstRevision = -1;
+    lastRevision = -1;
+    gapsOffset = NULL_OFFSET;
+    numberOfSlotPages = 0;
+    gaps.clear();
+
+    if (size < HEADER_SIZE) {
+      size = HEADER_SIZE;
+      return true;
+    }
+
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    readFully(changes, header, 0);
+    firstRevision = header.getInt(0);
+    lastRevision = header.getInt(Integer.BYTES);
+    gapsOffset = header.getLong(2 * Integer.BYTES + Long.BYTES);
+
+    final ByteBuffer next = ByteBuffer.allocate(Long.BYTES);
+    for (long page = header.getLong(2 * Integer.BYTES); page != NULL_OFFSET; ) {
+      if (numberOfSlotPages == slotPages.length) {
+        slotPages = Arrays.copyOf(slotPages, Math.max(8, slotPages.length << 1));
+      }
+      slotPages[numberOfSlotPages++] = page;
+      next.clear();
+      readFully(changes, next, page);
+      page = next.getLong(0);
+    }
+
+    final ByteBuffer gap = ByteBuffer.allocate(GAP_SIZE);
+    for (long offset = gapsOffset; offset != NULL_OFFSET; offset = gap.getLong(0)) {
+      gap.clear();
+      readFully(changes, gap, offset);
+      gaps.add(0, new int[] { gap.getInt(Long.BYTES), gap.getInt(Long.BYTES + Integer.BYTES) });
+    }
+    return true;
+  }
+
+  private static void writeFully(final FileChannel channel, final ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, position);
+      if (read == -1) {
+        throw new IOException("Unexpected end of file.");
+      }
+      position += read;
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    try {
+      if (changes != null) {
+        changes.close();
+        changes = null;
+        firstRevision = -1;
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+}
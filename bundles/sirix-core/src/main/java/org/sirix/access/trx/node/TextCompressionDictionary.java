@@ -0,0 +1,150 @@
+package org.sirix.access.trx.node;
+
+import org.sirix.exception.SirixIOException;
+import org.sirix.utils.Compression;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Preset dictionary for the compression of the text values of a resource. Short and repetitive values barely compress
+ * on their own, but compress well, if the {@link java.util.zip.Deflater} finds matching strings in the dictionary.
+ *
+ * <p>
+ * The dictionary is trained once from the first text values, which are inserted into the resource, and stored in the
+ * resource afterwards. It is never changed, as the values are compressed with it. Values, which have been compressed
+ * before the dictionary has been trained, are still decompressed without it.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class TextCompressionDictionary {
+
+  /** Name of the file, which stores the dictionary. */
+  private static final String DICTIONARY_FILE = "text";
+
+  /** The number of bytes of the sample values, which are needed to train the dictionary. */
+  private static final int SAMPLE_SIZE = 1 << 17;
+
+  /** The maximum number of bytes of a single sample value. */
+  private static final int MAX_SAMPLE_LENGTH = 1 << 8;
+
+  /** The directory of the dictionary. */
+  private final Path directory;
+
+  /** The dictionary or {@code null}, if it hasn't been trained yet. */
+  private volatile byte[] dictionary;
+
+  /** Determines if the dictionary file has been read. */
+  private volatile boolean isLoaded;
+
+  /** The sample values, which have been collected so far. */
+  private List<byte[]> samples;
+
+  /** The number of bytes of the sample values. */
+  private int sampleSize;
+
+  /**
+   * Constructor.
+   *
+   * @param directory the directory of the dictionary
+   */
+  public TextCompressionDictionary(final Path directory) {
+    this.directory = checkNotNull(directory);
+  }
+
+  /**
+   * Get the dictionary.
+   *
+   * @return the dictionary or {@code null}, if it hasn't been trained yet
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public @Nullable byte[] get() {
+    if (!isLoaded) {
+      load();
+    }
+    return dictionary;
+  }
+
+  private synchronized void load() {
+    if (isLoaded) {
+      return;
+    }
+
+    final Path file = directory.resolve(DICTIONARY_FILE);
+    try {
+      if (Files.exists(file)) {
+        dictionary = Files.readAllBytes(file);
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+    isLoaded = true;
+  }
+
+  /**
+   * Sample a text value, which is inserted into the resource, as long as the dictionary hasn't been trained. Once
+   * enough bytes have been sampled, the dictionary is trained and stored.
+   *
+   * @param value the uncompressed text value
+   * @return the dictionary to compress the value with or {@code null}, if it hasn't been trained yet
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public @Nullable byte[] sample(final byte[] value) {
+    checkNotNull(value);
+    final byte[] dictionary = get();
+    return dictionary != null ? dictionary : addSample(value);
+  }
+
+  private synchronized byte[] addSample(final byte[] value) {
+    if (dictionary != null) {
+      return dictionary;
+    }
+
+    if (samples == null) {
+      samples = new ArrayList<>();
+    }
+
+    final byte[] sample = Arrays.copyOf(value, Math.min(value.length, MAX_SAMPLE_LENGTH));
+    samples.add(sample);
+    sampleSize += sample.length;
+
+    if (sampleSize < SAMPLE_SIZE) {
+      return null;
+    }
+
+    final byte[] trainedDictionary = Compression.trainDictionary(samples, Compression.MAX_DICTIONARY_SIZE);
+    samples = null;
+    sampleSize = 0;
+    store(trainedDictionary);
+    dictionary = trainedDictionary;
+    return trainedDictionary;
+  }
+
+  /**
+   * Durably store the dictionary, before any value is compressed with it.
+   */
+  private void store(final byte[] trainedDictionary) {
+    try {
+      // Resources, which have been created before dictionaries have been introduced, lack the directory.
+      Files.createDirectories(directory);
+      final Path tempFile = directory.resolve(DICTIONARY_FILE + ".tmp");
+      Files.write(tempFile, trainedDictionary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+          StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+      Files.move(tempFile, directory.resolve(DICTIONARY_FILE), StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+}
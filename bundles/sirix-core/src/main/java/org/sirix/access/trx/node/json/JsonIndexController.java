@@ -12,6 +12,7 @@ import org.sirix.index.IndexBuilder;
 import org.sirix.index.IndexDef;
 import org.sirix.index.Indexes;
 import org.sirix.index.cas.json.JsonCASIndexImpl;
+import org.sirix.index.deweyid.DeweyIDIndex;
 import org.sirix.index.name.json.JsonNameIndexImpl;
 import org.sirix.index.path.PathFilter;
 import org.sirix.index.path.json.JsonPCRCollector;
@@ -72,6 +73,9 @@ public final class JsonIndexController extends AbstractIndexController<JsonNodeR
         case NAME:
           indexBuilders.add(createNameIndexBuilder(nodeWriteTrx.getPageWtx(), indexDef));
           break;
+        case DEWEYID:
+          indexBuilders.add(DeweyIDIndex.createJsonBuilder(nodeWriteTrx.getPageWtx(), indexDef));
+          break;
         default:
           break;
       }
@@ -2,6 +2,7 @@ package org.sirix.access.trx.node.json;
 
 import com.google.common.hash.HashFunction;
 import org.brackit.xquery.atomic.QNm;
+import org.sirix.access.trx.node.TextCompressionDictionary;
 import org.sirix.api.PageTrx;
 import org.sirix.index.path.summary.PathNode;
 import org.sirix.node.NodeKind;
@@ -39,6 +40,9 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
   /** {@link PageTrx} implementation. */
   private final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx;
 
+  /** The preset dictionary for the compression of text values. */
+  private final TextCompressionDictionary textCompressionDictionary;
+
   /**
    * Constructor.
    *
@@ -49,6 +53,8 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
       final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx) {
     this.hashFunction = checkNotNull(hashFunction);
     this.pageWriteTrx = checkNotNull(pageWriteTrx);
+
+    textCompressionDictionary = pageWriteTrx.getResourceManager().getTextCompressionDictionary();
   }
 
   @Override
@@ -126,10 +132,13 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
     final NodeDelegate nodeDel = new NodeDelegate(pageWriteTrx.getActualRevisionRootPage().getMaxNodeKey() + 1,
         parentKey, hashFunction, null, revision, id);
     final boolean compression = doCompress && value.length > 10;
+    final byte[] dictionary = compression
+        ? textCompressionDictionary.sample(value)
+        : null;
     final byte[] compressedValue = compression
-        ? Compression.compress(value, Deflater.HUFFMAN_ONLY)
+        ? Compression.compress(value, Deflater.HUFFMAN_ONLY, dictionary)
         : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression, dictionary);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     return (StringNode) pageWriteTrx.createEntry(nodeDel.getNodeKey(), new StringNode(valDel, structDel),
@@ -175,10 +184,13 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
     final NodeDelegate nodeDel = new NodeDelegate(pageWriteTrx.getActualRevisionRootPage().getMaxNodeKey() + 1,
                                                   parentKey, hashFunction, null, revision, id);
     final boolean compression = doCompress && value.length > 40;
+    final byte[] dictionary = compression
+        ? textCompressionDictionary.sample(value)
+        : null;
     final byte[] compressedValue = compression
-        ? Compression.compress(value, Deflater.BEST_COMPRESSION)
+        ? Compression.compress(value, Deflater.BEST_COMPRESSION, dictionary)
         : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression, dictionary);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), Fixed.NULL_NODE_KEY.getStandardProperty(), Fixed.NULL_NODE_KEY.getStandardProperty(), 0, 0);
     return (ObjectStringNode) pageWriteTrx.createEntry(nodeDel.getNodeKey(), new ObjectStringNode(valDel, structDel),
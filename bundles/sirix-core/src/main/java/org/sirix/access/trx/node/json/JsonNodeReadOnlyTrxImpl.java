@@ -36,7 +36,6 @@ import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -60,6 +59,11 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadTrx<JsonNodeR
    */
   private boolean isClosed;
 
+  /**
+   * The result of a successful move, which is reused for every move of the cursor.
+   */
+  private final Move<JsonNodeReadOnlyTrx> moved = Move.moved(this);
+
   /**
    * Constructor.
    *
@@ -159,27 +163,24 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadTrx<JsonNodeR
   public Move<JsonNodeReadOnlyTrx> moveTo(long nodeKey) {
     assertNotClosed();
 
-    // Remember old node and fetch new one.
-    final ImmutableNode oldNode = currentNode;
-    Optional<? extends DataRecord> newNode;
+    // Node keys are never negative.
+    if (nodeKey < 0) {
+      return Move.notMoved();
+    }
+
+    final DataRecord newNode;
     try {
-      // Immediately return node from item list if node key negative.
-      if (nodeKey < 0) {
-        newNode = Optional.empty();
-      } else {
-        newNode = pageReadOnlyTrx.getRecord(nodeKey, PageKind.RECORDPAGE, -1);
-      }
+      newNode = pageReadOnlyTrx.getRecordOrNull(nodeKey, PageKind.RECORDPAGE, -1);
     } catch (final SirixIOException e) {
-      newNode = Optional.empty();
+      return Move.notMoved();
     }
 
-    if (newNode.isPresent()) {
-      currentNode = (Node) newNode.get();
-      return Move.moved(this);
-    } else {
-      currentNode = oldNode;
+    if (newNode == null) {
       return Move.notMoved();
     }
+
+    currentNode = (Node) newNode;
+    return moved;
   }
 
   @Override
@@ -51,7 +51,6 @@ import org.sirix.diff.DiffTuple;
 import org.sirix.diff.JsonDiffSerializer;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
-import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.index.path.summary.PathSummaryWriter;
@@ -85,9 +84,7 @@ import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -140,10 +137,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
   private final HashType hashType;
 
   /**
-   * Scheduled executor service.
+   * The periodic auto commit, if a maximum time between commits is set, {@code null} otherwise.
    */
-  private final ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(1,
-      new JsonNodeTrxThreadFactory());
+  private final ScheduledFuture<?> autoCommit;
 
   /**
    * {@link InternalJsonNodeReadOnlyTrx} reference.
@@ -258,7 +254,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     this.modificationCount = 0L;
 
     if (maxTime > 0) {
-      threadPool.scheduleAtFixedRate(this::commit, maxTime, maxTime, timeUnit);
+      autoCommit = resourceManager.getScheduler().scheduleAtFixedRate(this::commit, maxTime, maxTime, timeUnit);
+    } else {
+      autoCommit = null;
     }
 
     // Synchronize commit and other public methods if needed.
@@ -1097,6 +1095,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
         // Remove text value.
         removeValue();
 
+        // Remove object, array or null node.
+        removeStructure();
+
         // Then remove node.
         pageWriteTrx.removeEntry(currentNode.getNodeKey(), PageKind.RECORDPAGE, -1);
       }
@@ -1106,6 +1107,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
         removeName();
       } else {
         removeValue();
+        removeStructure();
       }
 
       // Adapt hashes and neighbour nodes as well as the name from the NamePage mapping if it's not a text node.
@@ -1167,6 +1169,26 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     }
   }
 
+  /**
+   * Notify the index listeners about the removal of a node, which neither has a name nor a value (an object, an array
+   * or a null node).
+   */
+  private void removeStructure() {
+    final var currentNode = getCurrentNode();
+    switch (currentNode.getKind()) {
+      case ARRAY:
+        indexController.notifyChange(ChangeType.DELETE, currentNode, ((ArrayNode) currentNode).getPathNodeKey());
+        break;
+      case OBJECT:
+      case NULL_VALUE:
+      case OBJECT_NULL_VALUE:
+        indexController.notifyChange(ChangeType.DELETE, currentNode, -1);
+        break;
+      // $CASES-OMITTED$
+      default:
+    }
+  }
+
   /**
    * Remove a name from the {@link NamePage} reference and the path summary if needed.
    *
@@ -1431,12 +1453,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
         pathSummaryWriter = null;
         nodeFactory = null;
 
-        // Shutdown pool.
-        threadPool.shutdown();
-        try {
-          threadPool.awaitTermination(2, TimeUnit.SECONDS);
-        } catch (final InterruptedException e) {
-          throw new SirixThreadedException(e);
+        // Stop the auto commit.
+        if (autoCommit != null) {
+          autoCommit.cancel(false);
         }
       }
     } finally {
@@ -1542,6 +1561,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     nodeReadOnlyTrx.assertNotClosed();
     modificationCount++;
     intermediateCommitIfRequired();
+    // No records of the modified pages are referenced between two modifications.
+    getPageWtx().getLog().evict();
   }
 
   // ////////////////////////////////////////////////////////////
@@ -1826,16 +1847,4 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       moveTo(nodeKey);
     }
   }
-
-  private static final class JsonNodeTrxThreadFactory implements ThreadFactory {
-    @Override
-    public Thread newThread(@Nonnull final Runnable runnable) {
-      final var thread = new Thread(runnable, "JsonNodeTrxCommitThread");
-
-      thread.setPriority(Thread.NORM_PRIORITY);
-      thread.setDaemon(false);
-
-      return thread;
-    }
-  }
 }
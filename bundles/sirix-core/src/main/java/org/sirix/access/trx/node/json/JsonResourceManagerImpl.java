@@ -22,6 +22,7 @@
 package org.sirix.access.trx.node.json;
 
 import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.DatabaseScheduler;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.User;
 import org.sirix.access.json.JsonResourceStore;
@@ -69,6 +70,7 @@ public final class JsonResourceManagerImpl extends AbstractResourceManager<JsonN
    * @param resourceStore the resource store with which this manager has been created
    * @param resourceConf {@link DatabaseConfiguration} for general setting about the storage
    * @param bufferManager the cache of in-memory pages shared amongst all node transactions
+   * @param scheduler the scheduler of the database, which executes the background tasks
    * @param storage the storage itself, used for I/O
    * @param uberPage the UberPage, which is the main entry point into a resource
    * @param writeLock the write lock, which ensures, that only a single read-write transaction is
@@ -77,8 +79,9 @@ public final class JsonResourceManagerImpl extends AbstractResourceManager<JsonN
    */
   public JsonResourceManagerImpl(final Database<JsonResourceManager> database,
       final @Nonnull JsonResourceStore resourceStore, final @Nonnull ResourceConfiguration resourceConf,
-      final @Nonnull BufferManager bufferManager, final @Nonnull IOStorage storage, final @Nonnull UberPage uberPage, final @Nonnull Lock writeLock, final @Nullable User user) {
-    super(database, resourceStore, resourceConf, bufferManager, storage, uberPage, writeLock, user);
+      final @Nonnull BufferManager bufferManager, final @Nonnull DatabaseScheduler scheduler,
+      final @Nonnull IOStorage storage, final @Nonnull UberPage uberPage, final @Nonnull Lock writeLock, final @Nullable User user) {
+    super(database, resourceStore, resourceConf, bufferManager, scheduler, storage, uberPage, writeLock, user);
 
     rtxIndexControllers = new ConcurrentHashMap<>();
     wtxIndexControllers = new ConcurrentHashMap<>();
@@ -114,7 +117,7 @@ public final class JsonResourceManagerImpl extends AbstractResourceManager<JsonN
 
   @SuppressWarnings("unchecked")
   @Override
-  public synchronized JsonIndexController getRtxIndexController(final int revision) {
+  public JsonIndexController getRtxIndexController(final int revision) {
     return rtxIndexControllers.computeIfAbsent(revision, unused -> createIndexController(revision));
   }
 
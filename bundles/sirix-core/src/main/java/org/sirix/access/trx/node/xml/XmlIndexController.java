@@ -11,6 +11,7 @@ import org.sirix.index.IndexBuilder;
 import org.sirix.index.IndexDef;
 import org.sirix.index.Indexes;
 import org.sirix.index.cas.xml.XmlCASIndexImpl;
+import org.sirix.index.deweyid.DeweyIDIndex;
 import org.sirix.index.name.xml.XmlNameIndexImpl;
 import org.sirix.index.path.PathFilter;
 import org.sirix.index.path.summary.PathSummaryReader;
@@ -81,6 +82,9 @@ public final class XmlIndexController extends AbstractIndexController<XmlNodeRea
         case NAME:
           indexBuilders.add(createNameIndexBuilder(nodeWriteTrx.getPageWtx(), indexDef));
           break;
+        case DEWEYID:
+          indexBuilders.add(DeweyIDIndex.createXmlBuilder(nodeWriteTrx.getPageWtx(), indexDef));
+          break;
         default:
           break;
       }
@@ -3,6 +3,7 @@ package org.sirix.access.trx.node.xml;
 import com.google.common.collect.HashBiMap;
 import com.google.common.hash.HashFunction;
 import org.brackit.xquery.atomic.QNm;
+import org.sirix.access.trx.node.TextCompressionDictionary;
 import org.sirix.api.PageTrx;
 import org.sirix.index.path.summary.PathNode;
 import org.sirix.node.NodeKind;
@@ -38,6 +39,9 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
   /** {@link PageTrx} implementation. */
   private final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx;
 
+  /** The preset dictionary for the compression of text values. */
+  private final TextCompressionDictionary textCompressionDictionary;
+
   /** The hash function used for hashing nodes. */
   private final HashFunction hashFunction;
 
@@ -54,6 +58,7 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
     this.pageWriteTrx.createNameKey("xs:untyped", NodeKind.ELEMENT);
     this.pageWriteTrx.createNameKey("xs:untyped", NodeKind.PROCESSING_INSTRUCTION);
     this.hashFunction = checkNotNull(hashFunction);
+    textCompressionDictionary = pageWriteTrx.getResourceManager().getTextCompressionDictionary();
   }
 
   @Override
@@ -114,10 +119,13 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
     final NodeDelegate nodeDel = new NodeDelegate(pageWriteTrx.getActualRevisionRootPage().getMaxNodeKey() + 1,
         parentKey, hashFunction, null, revision, id);
     final boolean compression = isCompressed && value.length > 10;
+    final byte[] dictionary = compression
+        ? textCompressionDictionary.sample(value)
+        : null;
     final byte[] compressedValue = compression
-        ? Compression.compress(value, Deflater.HUFFMAN_ONLY)
+        ? Compression.compress(value, Deflater.HUFFMAN_ONLY, dictionary)
         : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression, dictionary);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     return (TextNode) pageWriteTrx.createEntry(nodeDel.getNodeKey(), new TextNode(valDel, structDel),
@@ -190,10 +198,13 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
     final NodeDelegate nodeDel = new NodeDelegate(pageWriteTrx.getActualRevisionRootPage().getMaxNodeKey() + 1,
         parentKey, hashFunction, null, revision, id);
     final boolean compression = isCompressed && value.length > 10;
+    final byte[] dictionary = compression
+        ? textCompressionDictionary.sample(value)
+        : null;
     final byte[] compressedValue = compression
-        ? Compression.compress(value, Deflater.HUFFMAN_ONLY)
+        ? Compression.compress(value, Deflater.HUFFMAN_ONLY, dictionary)
         : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression, dictionary);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     return (CommentNode) pageWriteTrx.createEntry(nodeDel.getNodeKey(), new CommentNode(valDel, structDel),
@@ -83,6 +83,9 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadTrx<XmlNodeRea
   /** The transaction-ID. */
   private final long trxId;
 
+  /** The result of a successful move, which is reused for every move of the cursor. */
+  private final Move<XmlNodeReadOnlyTrx> moved = Move.moved(this);
+
   /**
    * Constructor.
    *
@@ -116,31 +119,24 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadTrx<XmlNodeRea
   public Move<XmlNodeReadOnlyTrx> moveTo(final long nodeKey) {
     assertNotClosed();
 
-    // Remember old node and fetch new one.
-    final ImmutableXmlNode oldNode = (ImmutableXmlNode) currentNode;
-    Optional<? extends DataRecord> newNode;
+    final DataRecord newNode;
     try {
       // Immediately return node from item list if node key negative.
       if (nodeKey < 0) {
-        if (itemList.size() > 0) {
-          newNode = itemList.getItem(nodeKey);
-        } else {
-          newNode = Optional.empty();
-        }
+        newNode = itemList.size() > 0 ? itemList.getItem(nodeKey).orElse(null) : null;
       } else {
-        newNode = getPageTransaction().getRecord(nodeKey, PageKind.RECORDPAGE, -1);
+        newNode = getPageTransaction().getRecordOrNull(nodeKey, PageKind.RECORDPAGE, -1);
       }
     } catch (final SirixIOException e) {
-      newNode = Optional.empty();
+      return Move.notMoved();
     }
 
-    if (newNode.isPresent()) {
-      currentNode = (ImmutableXmlNode) newNode.get();
-      return Move.moved(this);
-    } else {
-      currentNode = oldNode;
+    if (newNode == null) {
       return Move.notMoved();
     }
+
+    currentNode = (ImmutableXmlNode) newNode;
+    return moved;
   }
 
   @Override
@@ -39,7 +39,6 @@ import org.sirix.axis.IncludeSelf;
 import org.sirix.axis.PostOrderAxis;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
-import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.index.path.summary.PathSummaryWriter;
@@ -75,8 +74,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -115,9 +113,8 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
   /** Hash kind of Structure. */
   private final HashType hashType;
 
-  /** Scheduled executor service. */
-  private final ScheduledExecutorService threadPool =
-      Executors.newScheduledThreadPool(1);
+  /** The periodic auto commit, if a maximum time between commits is set, {@code null} otherwise. */
+  private final ScheduledFuture<?> autoCommit;
 
   /** {@link InternalXmlNodeReadOnlyTrx} reference. */
   final InternalXmlNodeReadOnlyTrx nodeReadOnlyTrx;
@@ -205,7 +202,9 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
     this.modificationCount = 0L;
 
     if (maxTime > 0) {
-      threadPool.scheduleAtFixedRate(this::commit, maxTime, maxTime, timeUnit);
+      autoCommit = resourceManager.getScheduler().scheduleAtFixedRate(this::commit, maxTime, maxTime, timeUnit);
+    } else {
+      autoCommit = null;
     }
 
     // Synchronize commit and other public methods if needed.
@@ -1560,12 +1559,9 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
         pathSummaryWriter = null;
         nodeFactory = null;
 
-        // Shutdown pool.
-        threadPool.shutdown();
-        try {
-          threadPool.awaitTermination(2, TimeUnit.SECONDS);
-        } catch (final InterruptedException e) {
-          throw new SirixThreadedException(e);
+        // Stop the auto commit.
+        if (autoCommit != null) {
+          autoCommit.cancel(false);
         }
       }
     } finally {
@@ -1690,6 +1686,8 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
     nodeReadOnlyTrx.assertNotClosed();
     modificationCount++;
     intermediateCommitIfRequired();
+    // No records of the modified pages are referenced between two modifications.
+    pageTrx.getLog().evict();
   }
 
   // ////////////////////////////////////////////////////////////
@@ -1,8 +1,11 @@
 package org.sirix.access.trx.page;
 
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.sirix.access.trx.node.CommitCredentials;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.ResourceManager;
@@ -12,6 +15,7 @@ import org.sirix.io.Reader;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.CASPage;
+import org.sirix.page.DeweyIDMappingPage;
 import org.sirix.page.IndirectPage;
 import org.sirix.page.NamePage;
 import org.sirix.page.PageKind;
@@ -81,6 +85,11 @@ public abstract class AbstractForwardingPageReadOnlyTrx extends ForwardingObject
     return delegate().getCASPage(revisionRoot);
   }
 
+  @Override
+  public DeweyIDMappingPage getDeweyIDPage(@Nonnull RevisionRootPage revisionRoot) throws SirixIOException {
+    return delegate().getDeweyIDPage(revisionRoot);
+  }
+
   @Override
   public NamePage getNamePage(RevisionRootPage revisionRoot) throws SirixIOException {
     return delegate().getNamePage(revisionRoot);
@@ -102,6 +111,16 @@ public abstract class AbstractForwardingPageReadOnlyTrx extends ForwardingObject
     return delegate().getRecord(key, page, index);
   }
 
+  @Override
+  public DataRecord getRecordOrNull(@Nonnegative long key, @Nonnull PageKind page, @Nonnegative int index) {
+    return delegate().getRecordOrNull(key, page, index);
+  }
+
+  @Override
+  public Spliterator<DataRecord> scan(PageKind pageKind, int index, @Nullable Set<NodeKind> nodeKinds) {
+    return delegate().scan(pageKind, index, nodeKinds);
+  }
+
   @Override
   public long pageKey(@Nonnegative long recordKey) {
     return delegate().pageKey(recordKey);
@@ -51,6 +51,7 @@ import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 /**
  * Page read-only transaction. The only thing shared amongst transactions is the resource manager.
@@ -118,6 +119,28 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
    */
   private RecordPage mostRecentlyReadRecordPage;
 
+  /**
+   * Number of slots of the record page cache (a power of two).
+   */
+  private static final int RECORD_PAGE_CACHE_SIZE = 32;
+
+  /**
+   * Direct-mapped cache of recently read record pages, such that the indirect pages don't have to be traversed again
+   * (only used, if the transaction doesn't modify pages).
+   */
+  private final RecordPage[] recordPageCache = new RecordPage[RECORD_PAGE_CACHE_SIZE];
+
+  /**
+   * The page transactions, which have been opened for splits of scans started on this transaction.
+   */
+  private final List<PageReadOnlyTrx> scanTrxs = new ArrayList<>();
+
+  /**
+   * Reads the next record pages ahead, once record pages are accessed sequentially (only used, if the transaction
+   * doesn't modify pages), or {@code null}, if no record page has been read yet.
+   */
+  private RecordPageReadAhead readAhead;
+
   /**
    * Standard constructor.
    *
@@ -208,16 +231,21 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
   @Override
   public Optional<DataRecord> getRecord(final long nodeKey, final PageKind pageKind, final @Nonnegative int index) {
+    return Optional.ofNullable(getRecordOrNull(nodeKey, pageKind, index));
+  }
+
+  @Override
+  public DataRecord getRecordOrNull(final long nodeKey, final PageKind pageKind, final @Nonnegative int index) {
     checkNotNull(pageKind);
     assertNotClosed();
 
     if (nodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
-      return Optional.empty();
+      return null;
     }
 
     final long recordPageKey = pageKey(nodeKey);
 
-    final Optional<Page> page;
+    final Page page;
 
     switch (pageKind) {
       case RECORDPAGE:
@@ -225,14 +253,20 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       case PATHPAGE:
       case CASPAGE:
       case NAMEPAGE:
-        page = getRecordPage(new IndexLogKey(pageKind, recordPageKey, index, revisionNumber));
+      case DEWEYIDPAGE:
+        page = getRecordPage(pageKind, recordPageKey, index);
         break;
       // $CASES-OMITTED$
       default:
         throw new IllegalStateException();
     }
 
-    return page.map(thePage -> ((UnorderedKeyValuePage) thePage).getValue(nodeKey)).flatMap(this::checkItemIfDeleted);
+    if (page == null) {
+      return null;
+    }
+
+    final DataRecord record = ((UnorderedKeyValuePage) page).getValue(nodeKey);
+    return record instanceof DeletedNode ? null : record;
   }
 
   /**
@@ -329,6 +363,19 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return (CASPage) getPage(revisionRoot.getCASPageReference());
   }
 
+  @Override
+  public DeweyIDMappingPage getDeweyIDPage(final RevisionRootPage revisionRoot) {
+    assertNotClosed();
+    final PageReference reference = revisionRoot.getDeweyIDPageReference();
+    if (reference.getPage() == null && reference.getKey() == Constants.NULL_ID_LONG
+        && reference.getLogKey() == Constants.NULL_ID_INT
+        && reference.getPersistentLogKey() == Constants.NULL_ID_LONG) {
+      // Revisions, which have been committed before the page has been introduced, don't reference it.
+      reference.setPage(new DeweyIDMappingPage());
+    }
+    return (DeweyIDMappingPage) getPage(reference);
+  }
+
   /**
    * Set the page if it is not set already.
    *
@@ -356,48 +403,124 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
   public <K extends Comparable<? super K>, V extends DataRecord, T extends KeyValuePage<K, V>> Optional<Page> getRecordPage(
       final IndexLogKey indexLogKey) {
     assertNotClosed();
-    checkArgument(indexLogKey.getRecordPageKey() >= 0, "recordPageKey must not be negative!");
+    return Optional.ofNullable(getRecordPage(checkNotNull(indexLogKey.getIndexType()), indexLogKey.getRecordPageKey(),
+        indexLogKey.getIndex()));
+  }
+
+  /**
+   * Get a record page.
+   *
+   * @param pageKind      the kind of page
+   * @param recordPageKey the key of the record page
+   * @param index         the index number
+   * @return the record page or {@code null}, if it doesn't exist
+   */
+  private Page getRecordPage(final PageKind pageKind, final long recordPageKey, final int index) {
+    checkArgument(recordPageKey >= 0, "recordPageKey must not be negative!");
+
+    final Page cachedPage = getCachedRecordPage(pageKind, recordPageKey, index);
 
-    if (isMostRecentlyReadPage(indexLogKey)) {
-      return Optional.of(mostRecentlyReadRecordPage.getPage());
-      //      final var page = mResourceBufferManager.getUnorderedKeyValuePageCache().get(indexLogKey);
-      //
-      //      if (page != null) {
-      //        return Optional.of(page);
-      //      }
+    if (cachedPage != null) {
+      return cachedPage;
     }
 
-    final Optional<PageReference> pageReferenceToRecordPage = getLeafPageReference(
-        checkNotNull(indexLogKey.getRecordPageKey()), indexLogKey.getIndex(), checkNotNull(indexLogKey.getIndexType()));
+    if (pageKind == PageKind.RECORDPAGE && trxIntentLog == null) {
+      if (readAhead == null) {
+        readAhead = new RecordPageReadAhead(this);
+      }
+      readAhead.moveTo(recordPageKey);
+    }
+
+    final Optional<PageReference> pageReferenceToRecordPage = getLeafPageReference(recordPageKey, index, pageKind);
 
     if (!pageReferenceToRecordPage.isPresent()) {
-      return Optional.empty();
+      return null;
+    }
+
+    return loadRecordPage(pageReferenceToRecordPage.get(), pageKind, recordPageKey, index);
+  }
+
+  /**
+   * Get a record page, whose leaf page reference has already been looked up in the indirect page tree.
+   *
+   * @param reference     the reference to the record page
+   * @param pageKind      the kind of page
+   * @param recordPageKey the key of the record page
+   * @param index         the index number
+   * @return the record page or {@code null}, if it doesn't exist
+   */
+  Page getRecordPage(final PageReference reference, final PageKind pageKind, final long recordPageKey,
+      final int index) {
+    assertNotClosed();
+
+    final Page cachedPage = getCachedRecordPage(pageKind, recordPageKey, index);
+
+    if (cachedPage != null) {
+      return cachedPage;
+    }
+
+    return loadRecordPage(reference, pageKind, recordPageKey, index);
+  }
+
+  /**
+   * Load a record page and put it into the record page cache of the resource, if it isn't cached yet.
+   *
+   * @param pageKind      the kind of page
+   * @param recordPageKey the key of the record page
+   * @param index         the index number
+   */
+  void loadRecordPageIntoCache(final PageKind pageKind, final long recordPageKey, final int index) {
+    assertNotClosed();
+    assert trxIntentLog == null;
+
+    final Optional<PageReference> reference = getLeafPageReference(recordPageKey, index, pageKind);
+
+    if (reference.isPresent() && (reference.get().getKey() != Constants.NULL_ID_LONG
+        || reference.get().getPage() != null)) {
+      loadRecordPage(reference.get(), pageKind, recordPageKey, index);
+    }
+  }
+
+  private Page getCachedRecordPage(final PageKind pageKind, final long recordPageKey, final int index) {
+    if (mostRecentlyReadRecordPage != null && mostRecentlyReadRecordPage.matches(pageKind, recordPageKey, index)) {
+      return mostRecentlyReadRecordPage.getPage();
     }
 
+    // The pages of other transactions might be modified, thus only the pages of read-only transactions are cached.
+    if (trxIntentLog == null) {
+      final RecordPage cachedRecordPage = recordPageCache[recordPageCacheSlot(pageKind, recordPageKey, index)];
+
+      if (cachedRecordPage != null && cachedRecordPage.matches(pageKind, recordPageKey, index)) {
+        mostRecentlyReadRecordPage = cachedRecordPage;
+        return cachedRecordPage.getPage();
+      }
+    }
+
+    return null;
+  }
+
+  private <K extends Comparable<? super K>, V extends DataRecord, T extends KeyValuePage<K, V>> Page loadRecordPage(
+      final PageReference reference, final PageKind pageKind, final long recordPageKey, final int index) {
     // Try to get from resource buffer manager.
     if (trxIntentLog == null) {
-      final var page = pageReferenceToRecordPage.get().getPage();
+      final var page = reference.getPage();
 
       if (page != null) {
-        mostRecentlyReadRecordPage = new RecordPage(indexLogKey.getIndex(), indexLogKey.getIndexType(),
-            indexLogKey.getRecordPageKey(), page);
-        return Optional.of(page);
+        return rememberRecordPage(pageKind, recordPageKey, index, page);
       }
 
-      final Page recordPageFromBuffer = resourceBufferManager.getRecordPageCache().get(pageReferenceToRecordPage.get());
+      final Page recordPageFromBuffer = resourceBufferManager.getRecordPageCache().get(reference);
 
       if (recordPageFromBuffer != null) {
-        mostRecentlyReadRecordPage = new RecordPage(indexLogKey.getIndex(), indexLogKey.getIndexType(),
-            indexLogKey.getRecordPageKey(), recordPageFromBuffer);
-        return Optional.of(recordPageFromBuffer);
+        return rememberRecordPage(pageKind, recordPageKey, index, recordPageFromBuffer);
       }
     }
 
     // Load list of page "fragments" from persistent storage.
-    final List<T> pages = getPageFragments(pageReferenceToRecordPage.get());
+    final List<T> pages = getPageFragments(reference);
 
     if (pages.isEmpty()) {
-      return Optional.empty();
+      return null;
     }
 
     final int mileStoneRevision = resourceConfig.numberOfRevisionsToRestore;
@@ -405,22 +528,98 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     final Page completePage = revisioning.combineRecordPages(pages, mileStoneRevision, this);
 
     if (trxIntentLog == null) {
-      resourceBufferManager.getRecordPageCache().put(pageReferenceToRecordPage.get(), completePage);
+      resourceBufferManager.getRecordPageCache().put(reference, completePage);
       //      mResourceBufferManager.getUnorderedKeyValuePageCache().put(indexLogKey, completePage);
-      pageReferenceToRecordPage.get().setPage(completePage);
+      reference.setPage(completePage);
+    }
+
+    return rememberRecordPage(pageKind, recordPageKey, index, completePage);
+  }
+
+  private Page rememberRecordPage(final PageKind pageKind, final long recordPageKey, final int index,
+      final Page page) {
+    mostRecentlyReadRecordPage = new RecordPage(index, pageKind, recordPageKey, page);
+
+    if (trxIntentLog == null) {
+      recordPageCache[recordPageCacheSlot(pageKind, recordPageKey, index)] = mostRecentlyReadRecordPage;
     }
 
-    mostRecentlyReadRecordPage = new RecordPage(indexLogKey.getIndex(), indexLogKey.getIndexType(),
-        indexLogKey.getRecordPageKey(), completePage);
+    return page;
+  }
+
+  private static int recordPageCacheSlot(final PageKind pageKind, final long recordPageKey, final int index) {
+    // Consecutive record pages of the same index are mapped to consecutive slots.
+    final long hash = recordPageKey + 31L * (31L * pageKind.ordinal() + index);
+    return (int) hash & (RECORD_PAGE_CACHE_SIZE - 1);
+  }
+
+  @Override
+  public Spliterator<DataRecord> scan(final PageKind pageKind, final int index,
+      final @Nullable Set<NodeKind> nodeKinds) {
+    assertNotClosed();
+    checkNotNull(pageKind);
+    checkState(trxIntentLog == null, "Scans are only supported by read-only page transactions.");
+
+    final long maxRecordKey = getMaxRecordKey(pageKind, index);
+    final long fence = maxRecordKey < 0 ? 0 : pageKey(maxRecordKey) + 1;
+    return new RecordPageSpliterator(this, this, pageKind, index, nodeKinds, 0, fence);
+  }
+
+  private long getMaxRecordKey(final PageKind pageKind, final int index) {
+    // $CASES-OMITTED$
+    return switch (pageKind) {
+      case RECORDPAGE -> rootPage.getMaxNodeKey();
+      case CASPAGE -> getCASPage(rootPage).getMaxNodeKey(index);
+      case PATHPAGE -> getPathPage(rootPage).getMaxNodeKey(index);
+      case NAMEPAGE -> getNamePage(rootPage).getMaxNodeKey(index);
+      case DEWEYIDPAGE -> getDeweyIDPage(rootPage).getMaxNodeKey(index);
+      case PATHSUMMARYPAGE -> getPathSummaryPage(rootPage).getMaxNodeKey(index);
+      default -> throw new IllegalStateException(
+          "Only defined for node, path summary, text value and attribute value pages!");
+    };
+  }
+
+  /**
+   * Get the buffer manager of the resource, which caches the reconstructed pages.
+   *
+   * @return the buffer manager
+   */
+  BufferManager getBufferManager() {
+    return resourceBufferManager;
+  }
+
+  /**
+   * Begin a page transaction on the same revision for a split of a scan. The transaction is closed by
+   * {@link #closeScanTrx(NodePageReadOnlyTrx)} or at the latest, once this transaction is closed.
+   *
+   * @return the page transaction
+   */
+  NodePageReadOnlyTrx beginScanTrx() {
+    assertNotClosed();
 
-    return Optional.of(completePage);
+    final var pageTrx = (NodePageReadOnlyTrx) resourceManager.beginPageReadOnlyTrx(revisionNumber);
+
+    synchronized (scanTrxs) {
+      scanTrxs.add(pageTrx);
+    }
+
+    return pageTrx;
   }
 
-  private boolean isMostRecentlyReadPage(IndexLogKey indexLogKey) {
-    return mostRecentlyReadRecordPage != null
-        && mostRecentlyReadRecordPage.getRecordPageKey() == indexLogKey.getRecordPageKey()
-        && mostRecentlyReadRecordPage.getIndex() == indexLogKey.getIndex()
-        && mostRecentlyReadRecordPage.getPageKind() == indexLogKey.getIndexType();
+  /**
+   * Close a page transaction, which has been started by {@link #beginScanTrx()}, once it isn't used anymore.
+   *
+   * @param scanTrx the page transaction
+   */
+  void closeScanTrx(final NodePageReadOnlyTrx scanTrx) {
+    final boolean isRemoved;
+    synchronized (scanTrxs) {
+      isRemoved = scanTrxs.remove(scanTrx);
+    }
+
+    if (isRemoved) {
+      scanTrx.close();
+    }
   }
 
   final Optional<PageReference> getLeafPageReference(final @Nonnegative long recordPageKey, final int indexNumber,
@@ -453,18 +652,18 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       pages.addAll(getPreviousPageFragments(page));
     }
 
+    resourceManager.getPageFragmentStatistics().recordReconstruction(pages.size());
+
     return pages;
   }
 
   private <K extends Comparable<? super K>, V extends DataRecord, T extends KeyValuePage<K, V>> List<T> getPreviousPageFragments(
       T page) {
+    // The fragments are read by this transaction, which deserializes the records of the fragments on demand, that is
+    // only the records, which haven't been overwritten by newer fragments.
     return page.getPreviousReferenceKeys()
                .stream()
-               .map(pageFragmentKey -> {
-                 try (final var pageTrx = resourceManager.beginPageReadOnlyTrx(pageFragmentKey.getRevision())) {
-                   return (T) pageTrx.getReader().read(new PageReference().setKey(pageFragmentKey.getKey()), pageTrx);
-                 }
-               })
+               .map(pageFragmentKey -> (T) pageReader.read(new PageReference().setKey(pageFragmentKey.getKey()), this))
                .sorted(Comparator.<T, Integer>comparing(currentPage -> currentPage.getRevision()).reversed())
                .collect(Collectors.toList());
   }
@@ -494,6 +693,9 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       case NAMEPAGE:
         ref = getNamePage(revisionRoot).getIndirectPageReference(index);
         break;
+      case DEWEYIDPAGE:
+        ref = getDeweyIDPage(revisionRoot).getIndirectPageReference(index);
+        break;
       case PATHSUMMARYPAGE:
         ref = getPathSummaryPage(revisionRoot).getIndirectPageReference(index);
         break;
@@ -612,6 +814,9 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       case NAMEPAGE:
         maxLevel = getNamePage(currentRevisionRootPage).getCurrentMaxLevelOfIndirectPages(index);
         break;
+      case DEWEYIDPAGE:
+        maxLevel = getDeweyIDPage(currentRevisionRootPage).getCurrentMaxLevelOfIndirectPages(index);
+        break;
       case PATHSUMMARYPAGE:
         maxLevel = getPathSummaryPage(currentRevisionRootPage).getCurrentMaxLevelOfIndirectPages(index);
         break;
@@ -644,6 +849,18 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     if (!isClosed) {
       pageReader.close();
 
+      mostRecentlyReadRecordPage = null;
+      Arrays.fill(recordPageCache, null);
+
+      if (readAhead != null) {
+        readAhead.close();
+      }
+
+      synchronized (scanTrxs) {
+        scanTrxs.forEach(PageReadOnlyTrx::close);
+        scanTrxs.clear();
+      }
+
       if (!resourceManager.getNodeReadTrxByTrxId(trxId).isPresent())
         resourceManager.closePageReadTransaction(trxId);
 
@@ -702,6 +919,10 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       this.page = page;
     }
 
+    public boolean matches(PageKind pageKind, long recordPageKey, int index) {
+      return this.recordPageKey == recordPageKey && this.index == index && this.pageKind == pageKind;
+    }
+
     public int getIndex() {
       return index;
     }
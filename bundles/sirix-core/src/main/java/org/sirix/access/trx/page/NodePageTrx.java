@@ -52,8 +52,12 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -121,6 +125,16 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
    */
   private final boolean isBoundToNodeTrx;
 
+  /**
+   * The keys of the records, which have been written in this transaction (for the record change index).
+   */
+  private final RecordKeys changedRecordKeys = new RecordKeys();
+
+  /**
+   * The keys of the path nodes, which have been created, modified or removed in this revision.
+   */
+  private final Set<Long> changedPathNodeKeys = new HashSet<>();
+
   /**
    * Constructor.
    *
@@ -172,6 +186,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
 
     final long recordPageKey = pageRtx.pageKey(recordKey);
     final PageContainer cont = prepareRecordPage(recordPageKey, index, pageKind);
+    rememberChange(recordKey, pageKind);
 
     DataRecord record = ((UnorderedKeyValuePage) cont.getModified()).getValue(recordKey);
     if (record == null) {
@@ -211,6 +226,11 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
         final NamePage namePage = ((NamePage) newRevisionRootPage.getNamePageReference().getPage());
         recordKey = namePage.incrementAndGetMaxNodeKey(index);
       }
+      case DEWEYIDPAGE -> {
+        final DeweyIDMappingPage deweyIDPage =
+            ((DeweyIDMappingPage) newRevisionRootPage.getDeweyIDPageReference().getPage());
+        recordKey = deweyIDPage.incrementAndGetMaxNodeKey(index);
+      }
       default -> throw new IllegalStateException();
     }
 
@@ -219,6 +239,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
     @SuppressWarnings("unchecked")
     final KeyValuePage<Long, DataRecord> modified = (KeyValuePage<Long, DataRecord>) cont.getModified();
     modified.setEntry(key, record);
+    rememberChange(key, pageKind);
     return record;
   }
 
@@ -234,6 +255,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
           new NodeDelegate(nodeToDel.getNodeKey(), -1, null, null, pageRtx.getRevisionNumber(), null));
       ((UnorderedKeyValuePage) cont.getModified()).setEntry(delNode.getNodeKey(), delNode);
       ((UnorderedKeyValuePage) cont.getComplete()).setEntry(delNode.getNodeKey(), delNode);
+      rememberChange(recordKey, pageKind);
     } else {
       throw new IllegalStateException("Node not found!");
     }
@@ -260,6 +282,20 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
     }
   }
 
+  @Override
+  public DataRecord getRecordOrNull(final @Nonnegative long recordKey, @Nonnull final PageKind pageKind,
+      final @Nonnegative int index) {
+    // Records might be modified in the transaction intent log.
+    return getRecord(recordKey, pageKind, index).orElse(null);
+  }
+
+  @Override
+  public Spliterator<DataRecord> scan(final PageKind pageKind, final int index,
+      final @Nullable Set<NodeKind> nodeKinds) {
+    // Records of the transaction intent log aren't visible in the record pages of the base revision.
+    throw new IllegalStateException("Scans are only supported by read-only page transactions.");
+  }
+
   @Override
   public String getName(final int nameKey, @Nonnull final NodeKind nodeKind) {
     pageRtx.assertNotClosed();
@@ -339,6 +375,17 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
     // Recursively write indirectly referenced pages.
     uberPage.commit(this);
 
+    // Store the changed records before the new revision gets visible.
+    pageRtx.resourceManager.getRecordChangeIndex().write(revision, changedRecordKeys.toSortedArray());
+    changedRecordKeys.clear();
+
+    if (representRevision < revision) {
+      pageRtx.resourceManager.getPathSummaryCache()
+                             .putChanges(revision, representRevision,
+                                         changedPathNodeKeys.stream().mapToLong(Long::longValue).toArray());
+    }
+    changedPathNodeKeys.clear();
+
     uberPageReference.setPage(uberPage);
     pageWriter.writeUberPageReference(uberPageReference);
     uberPageReference.setPage(null);
@@ -383,6 +430,8 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
   public UberPage rollback() {
     pageRtx.assertNotClosed();
     log.truncate();
+    changedRecordKeys.clear();
+    changedPathNodeKeys.clear();
     return (UberPage) pageWriter.read(pageWriter.readUberPageReference(), pageRtx);
   }
 
@@ -405,6 +454,15 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
     }
   }
 
+  // Only changes of nodes are tracked, not of index structures.
+  private void rememberChange(final long recordKey, final PageKind pageKind) {
+    if (pageKind == PageKind.RECORDPAGE) {
+      changedRecordKeys.add(recordKey);
+    } else if (pageKind == PageKind.PATHSUMMARYPAGE) {
+      changedPathNodeKeys.add(recordKey);
+    }
+  }
+
   /**
    * Prepare record page.
    *
@@ -442,7 +500,8 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
 
       // $CASES-OMITTED$
       switch (pageKind) {
-        case RECORDPAGE, PATHSUMMARYPAGE, PATHPAGE, CASPAGE, NAMEPAGE -> appendLogRecord(reference, pageContainer);
+        case RECORDPAGE, PATHSUMMARYPAGE, PATHPAGE, CASPAGE, NAMEPAGE, DEWEYIDPAGE -> appendLogRecord(reference,
+            pageContainer);
         default -> throw new IllegalStateException("Page kind not known!");
       }
     }
@@ -508,4 +567,54 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
     return pageRtx.getCommitCredentials();
   }
 
+  /**
+   * Unboxed record keys, which are sorted and deduplicated whenever the buffer is full, as records are usually
+   * written multiple times in a transaction.
+   */
+  private static final class RecordKeys {
+    /** The record keys, of which the first {@code size} are used. */
+    private long[] keys = new long[64];
+
+    /** The number of record keys. */
+    private int size;
+
+    /** The number of leading record keys, which are sorted and unique. */
+    private int sortedSize;
+
+    void add(final long recordKey) {
+      if (size == keys.length) {
+        compact();
+        // Grow, if less than half of the buffer has been freed.
+        if (size > keys.length >> 1) {
+          keys = Arrays.copyOf(keys, keys.length << 1);
+        }
+      }
+      keys[size++] = recordKey;
+    }
+
+    long[] toSortedArray() {
+      compact();
+      return Arrays.copyOf(keys, size);
+    }
+
+    void clear() {
+      size = 0;
+      sortedSize = 0;
+    }
+
+    private void compact() {
+      if (sortedSize == size) {
+        return;
+      }
+      Arrays.sort(keys, 0, size);
+      int unique = 0;
+      for (int i = 0; i < size; i++) {
+        if (unique == 0 || keys[unique - 1] != keys[i]) {
+          keys[unique++] = keys[i];
+        }
+      }
+      size = unique;
+      sortedSize = unique;
+    }
+  }
 }
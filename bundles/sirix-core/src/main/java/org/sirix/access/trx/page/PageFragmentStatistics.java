@@ -0,0 +1,112 @@
+package org.sirix.access.trx.page;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Statistics about the page fragments of the record pages of a resource, that is how many fragments have to be read
+ * to reconstruct a record page and how often a full dump of a record page is written instead of a fragment, which only
+ * holds the modified records. The statistics are collected since the resource manager has been opened and are updated
+ * concurrently by all transactions of the resource.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class PageFragmentStatistics {
+
+  /** The number of record pages, which have been reconstructed from their fragments. */
+  private final LongAdder reconstructedPages = new LongAdder();
+
+  /** The number of fragments, which have been read to reconstruct the record pages. */
+  private final LongAdder fragmentsRead = new LongAdder();
+
+  /** The number of fragments written as full dumps. */
+  private final LongAdder fullDumps = new LongAdder();
+
+  /** The number of fragments written, which only hold the modified records. */
+  private final LongAdder incrementalFragments = new LongAdder();
+
+  /**
+   * Record the reconstruction of a record page.
+   *
+   * @param numberOfFragments the number of fragments, which have been read
+   */
+  public void recordReconstruction(final int numberOfFragments) {
+    checkArgument(numberOfFragments > 0, "numberOfFragments must be > 0!");
+    reconstructedPages.increment();
+    fragmentsRead.add(numberOfFragments);
+  }
+
+  /**
+   * Record, that a record page is prepared for modification.
+   *
+   * @param isFullDump {@code true}, if the page is written as a full dump, {@code false}, if only the modified records
+   *        are written
+   */
+  public void recordWrite(final boolean isFullDump) {
+    if (isFullDump) {
+      fullDumps.increment();
+    } else {
+      incrementalFragments.increment();
+    }
+  }
+
+  /**
+   * Get the number of record pages, which have been reconstructed from their fragments.
+   *
+   * @return the number of reconstructed record pages
+   */
+  public long getReconstructedPages() {
+    return reconstructedPages.sum();
+  }
+
+  /**
+   * Get the number of fragments, which have been read to reconstruct the record pages.
+   *
+   * @return the number of fragments read
+   */
+  public long getFragmentsRead() {
+    return fragmentsRead.sum();
+  }
+
+  /**
+   * Get the average number of fragments, which have been read to reconstruct a record page.
+   *
+   * @return the average number of fragments read per page or {@code 0}, if no page has been reconstructed yet
+   */
+  public double getAverageFragmentsRead() {
+    final long pages = reconstructedPages.sum();
+    return pages == 0 ? 0 : (double) fragmentsRead.sum() / pages;
+  }
+
+  /**
+   * Get the number of fragments written as full dumps.
+   *
+   * @return the number of full dumps
+   */
+  public long getFullDumps() {
+    return fullDumps.sum();
+  }
+
+  /**
+   * Get the number of fragments written, which only hold the modified records.
+   *
+   * @return the number of incremental fragments
+   */
+  public long getIncrementalFragments() {
+    return incrementalFragments.sum();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("reconstructedPages", getReconstructedPages())
+                      .add("fragmentsRead", getFragmentsRead())
+                      .add("fullDumps", getFullDumps())
+                      .add("incrementalFragments", getIncrementalFragments())
+                      .toString();
+  }
+}
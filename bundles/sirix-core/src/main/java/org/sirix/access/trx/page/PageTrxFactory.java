@@ -156,6 +156,11 @@ public final class PageTrxFactory {
         log.put(newRevisionRootPage.getPathPageReference(), PageContainer.getInstance(pathPage, pathPage));
       }
 
+      if (PageContainer.emptyInstance().equals(log.get(newRevisionRootPage.getDeweyIDPageReference(), pageRtx))) {
+        final Page deweyIDPage = pageRtx.getDeweyIDPage(newRevisionRootPage);
+        log.put(newRevisionRootPage.getDeweyIDPageReference(), PageContainer.getInstance(deweyIDPage, deweyIDPage));
+      }
+
       final Page indirectPage =
           pageRtx.dereferenceIndirectPageReference(newRevisionRootPage.getIndirectPageReference());
       log.put(newRevisionRootPage.getIndirectPageReference(), PageContainer.getInstance(indirectPage, indirectPage));
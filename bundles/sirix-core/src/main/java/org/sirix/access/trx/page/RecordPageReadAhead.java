@@ -0,0 +1,179 @@
+package org.sirix.access.trx.page;
+
+import org.sirix.page.PageKind;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Adaptive read-ahead of the record pages of a read-only page transaction. Once the transaction moves to consecutive
+ * record pages (for instance during a traversal in document order or a serialization of a document, which has been
+ * stored in preorder), the next record pages are loaded and reconstructed in the background and put into the record
+ * page cache of the resource. The number of pages read ahead is doubled as long as the access stays sequential and is
+ * reset on the first random access.
+ *
+ * <p>
+ * The pages are read by a separate page transaction on the same revision, which is used by one background task at a
+ * time, as page transactions must not be shared between threads. Read-ahead is only an optimization, thus pages are
+ * simply not prefetched if the previous task is still running. Once the read-ahead is closed, the running task is
+ * awaited, such that the page transaction of the task can be closed safely.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+final class RecordPageReadAhead {
+
+  /** The number of consecutive record page moves, after which pages are read ahead. */
+  private static final int SEQUENTIAL_THRESHOLD = 2;
+
+  /** The initial number of record pages to read ahead. */
+  private static final int MIN_WINDOW = 2;
+
+  /** The maximum number of record pages to read ahead. */
+  private static final int MAX_WINDOW = 32;
+
+  /** The page transaction, whose accesses are tracked. */
+  private final NodePageReadOnlyTrx pageTrx;
+
+  /** The key of the last accessed record page. */
+  private long lastPageKey = -1;
+
+  /** The number of consecutive record page moves. */
+  private int sequentialCount;
+
+  /** The current number of record pages to read ahead. */
+  private int window = MIN_WINDOW;
+
+  /** The exclusive upper bound of the record page keys, which have been read ahead. */
+  private long prefetchedUpTo;
+
+  /** The page transaction of the background task or {@code null}, if it hasn't been opened yet. */
+  private NodePageReadOnlyTrx prefetchTrx;
+
+  /** The future of the running background task or {@code null}. */
+  private Future<?> task;
+
+  /** Determines if a background task is running. */
+  private boolean isRunning;
+
+  /** Determines if the read-ahead has been closed. */
+  private volatile boolean isClosed;
+
+  /**
+   * Constructor.
+   *
+   * @param pageTrx the page transaction, whose accesses are tracked
+   */
+  RecordPageReadAhead(final NodePageReadOnlyTrx pageTrx) {
+    this.pageTrx = pageTrx;
+  }
+
+  /**
+   * Notify the read-ahead, that the page transaction moves to a record page, which isn't cached by the transaction.
+   *
+   * @param recordPageKey the key of the record page
+   */
+  void moveTo(final long recordPageKey) {
+    if (recordPageKey == lastPageKey) {
+      return;
+    }
+
+    if (recordPageKey == lastPageKey + 1) {
+      sequentialCount++;
+    } else {
+      sequentialCount = 0;
+      window = MIN_WINDOW;
+      prefetchedUpTo = recordPageKey + 1;
+    }
+    lastPageKey = recordPageKey;
+
+    if (sequentialCount < SEQUENTIAL_THRESHOLD) {
+      return;
+    }
+
+    prefetchedUpTo = Math.max(prefetchedUpTo, recordPageKey + 1);
+
+    // Read the next pages ahead, once half of the pages, which have been read ahead, have been consumed.
+    if (prefetchedUpTo - recordPageKey > window / 2) {
+      return;
+    }
+
+    final long maxPageKey = pageTrx.pageKey(pageTrx.getActualRevisionRootPage().getMaxNodeKey());
+    final long from = prefetchedUpTo;
+    final long to = Math.min(recordPageKey + 1 + window, maxPageKey + 1);
+
+    if (from < to && submit(from, to)) {
+      prefetchedUpTo = to;
+      window = Math.min(window << 1, MAX_WINDOW);
+    }
+  }
+
+  private synchronized boolean submit(final long from, final long to) {
+    if (isClosed || isRunning) {
+      return false;
+    }
+
+    if (prefetchTrx == null) {
+      prefetchTrx = pageTrx.beginScanTrx();
+    }
+
+    isRunning = true;
+    try {
+      task = pageTrx.resourceManager.getScheduler().submit(() -> {
+        prefetch(from, to);
+        return null;
+      });
+    } catch (final IllegalStateException | RejectedExecutionException e) {
+      // The database is closed or its scheduler has already been shut down.
+      isRunning = false;
+      notifyAll();
+      return false;
+    }
+    return true;
+  }
+
+  private void prefetch(final long from, final long to) {
+    try {
+      for (long recordPageKey = from; recordPageKey < to && !isClosed; recordPageKey++) {
+        prefetchTrx.loadRecordPageIntoCache(PageKind.RECORDPAGE, recordPageKey, -1);
+      }
+    } catch (final RuntimeException e) {
+      // Read-ahead is only an optimization, the page is read on demand otherwise.
+    } finally {
+      synchronized (this) {
+        isRunning = false;
+        task = null;
+        notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Stop reading ahead and wait until the running background task, if any, has finished. It stops after the record
+   * page, which it currently reads. The page transaction of the background task is closed by the page transaction,
+   * which is tracked, afterwards.
+   */
+  synchronized void close() {
+    isClosed = true;
+
+    // The task never runs, if it hasn't been started yet.
+    if (task != null && task.cancel(false)) {
+      isRunning = false;
+      task = null;
+    }
+
+    boolean isInterrupted = false;
+    while (isRunning) {
+      try {
+        wait();
+      } catch (final InterruptedException e) {
+        isInterrupted = true;
+      }
+    }
+
+    if (isInterrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,271 @@
+package org.sirix.access.trx.page;
+
+import org.sirix.node.DeletedNode;
+import org.sirix.node.NodeKind;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.IndirectPage;
+import org.sirix.page.PageKind;
+import org.sirix.page.PageReference;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
+
+import javax.annotation.Nullable;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the records of an index in a revision, which are returned in the order of their keys.
+ * The indirect page tree is traversed depth-first, that is the indirect page, which references the record pages, is
+ * looked up once for all of its record pages and subtrees without any record pages are skipped altogether.
+ *
+ * <p>
+ * A split covers a range of record page keys and uses its own page transaction, as page transactions must not be
+ * shared between threads. The page transaction of a split is closed, once the split is exhausted, or otherwise once
+ * the page transaction, on which the scan has been started, is closed.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+final class RecordPageSpliterator implements Spliterator<DataRecord> {
+
+  /** The page transaction, on which the scan has been started and which closes the transactions of the splits. */
+  private final NodePageReadOnlyTrx scanTrx;
+
+  /** The page transaction of this split. */
+  private final NodePageReadOnlyTrx pageTrx;
+
+  /** The page kind of the index. */
+  private final PageKind pageKind;
+
+  /** The index number. */
+  private final int index;
+
+  /** The kinds of records to return or {@code null} to return all records. */
+  private final Set<NodeKind> nodeKinds;
+
+  /** The exponents of the number of record pages referenced by an indirect page of each level. */
+  private final int[] inpLevelPageCountExp;
+
+  /** The exponent of the number of references of an indirect page. */
+  private final int referenceCountExp;
+
+  /** The record page key of the next record page to read. */
+  private long pageKey;
+
+  /** The exclusive upper bound of the record page keys of this split. */
+  private long fence;
+
+  /** The indirect page, which references the record pages, or {@code null}. */
+  private IndirectPage leafParent;
+
+  /** The record page key of the first record page referenced by {@link #leafParent} shifted by the exponent. */
+  private long leafParentKey;
+
+  /** The current record page or {@code null}. */
+  private UnorderedKeyValuePage recordPage;
+
+  /** The offset of the next record in the current record page. */
+  private int recordOffset;
+
+  /**
+   * Constructor.
+   *
+   * @param scanTrx the page transaction, on which the scan has been started
+   * @param pageTrx the page transaction to read the pages with
+   * @param pageKind the page kind of the index
+   * @param index the index number
+   * @param nodeKinds the kinds of records to return or {@code null} to return all records
+   * @param pageKey the record page key to start with
+   * @param fence the exclusive upper bound of the record page keys
+   */
+  RecordPageSpliterator(final NodePageReadOnlyTrx scanTrx, final NodePageReadOnlyTrx pageTrx, final PageKind pageKind,
+      final int index, final @Nullable Set<NodeKind> nodeKinds, final long pageKey, final long fence) {
+    this.scanTrx = scanTrx;
+    this.pageTrx = pageTrx;
+    this.pageKind = pageKind;
+    this.index = index;
+    this.nodeKinds = nodeKinds;
+    this.pageKey = pageKey;
+    this.fence = fence;
+    inpLevelPageCountExp = pageTrx.getUberPage().getPageCountExp(pageKind);
+    referenceCountExp = inpLevelPageCountExp[inpLevelPageCountExp.length - 2];
+  }
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super DataRecord> action) {
+    while (true) {
+      while (recordPage != null && recordOffset < Constants.NDP_NODE_COUNT) {
+        final long recordKey = (recordPage.getPageKey() << Constants.NDP_NODE_COUNT_EXPONENT) + recordOffset++;
+        final DataRecord record = recordPage.getValue(recordKey);
+
+        if (record != null && !(record instanceof DeletedNode) && (nodeKinds == null || nodeKinds.contains(
+            record.getKind()))) {
+          action.accept(record);
+          return true;
+        }
+      }
+
+      if (!moveToNextRecordPage()) {
+        // Exhausted, the page transaction isn't used anymore.
+        pageKey = fence;
+        if (pageTrx != scanTrx) {
+          scanTrx.closeScanTrx(pageTrx);
+        }
+        return false;
+      }
+    }
+  }
+
+  private boolean moveToNextRecordPage() {
+    recordPage = null;
+
+    while (pageKey < fence) {
+      final PageReference reference = nextLeafReference();
+
+      if (reference == null) {
+        return false;
+      }
+
+      final long currentPageKey = pageKey++;
+
+      if (reference.getKey() == Constants.NULL_ID_LONG && reference.getPage() == null) {
+        continue;
+      }
+
+      final Page page = pageTrx.getRecordPage(reference, pageKind, currentPageKey, index);
+
+      if (page != null) {
+        recordPage = (UnorderedKeyValuePage) page;
+        recordOffset = 0;
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Get the reference to the record page with the smallest key, which is greater than or equal to {@link #pageKey}
+   * and which exists in the indirect page tree. {@link #pageKey} is set to the key of the record page.
+   *
+   * @return the reference or {@code null}, if no such record page exists in the range of this split
+   */
+  private PageReference nextLeafReference() {
+    final int offsetMask = (1 << referenceCountExp) - 1;
+
+    while (pageKey < fence) {
+      if (leafParent != null && (pageKey >>> referenceCountExp) == leafParentKey) {
+        final int offset = leafParent.nextOffset((int) (pageKey & offsetMask));
+
+        if (offset != -1) {
+          pageKey = (leafParentKey << referenceCountExp) | offset;
+          return pageKey < fence ? leafParent.getReference(offset) : null;
+        }
+
+        pageKey = (leafParentKey + 1) << referenceCountExp;
+      }
+
+      leafParent = null;
+      moveToLeafParent();
+    }
+
+    return null;
+  }
+
+  /**
+   * Descend from the root of the indirect page tree to the indirect page, which references the record page denoted by
+   * {@link #pageKey}. If the record page doesn't exist, {@link #pageKey} is moved forward to the next subtree, which
+   * might contain record pages.
+   */
+  private void moveToLeafParent() {
+    final int height = inpLevelPageCountExp.length;
+    final int rootLevel = height - pageTrx.getCurrentMaxIndirectPageTreeLevel(pageKind, index, null);
+    final int offsetMask = (1 << referenceCountExp) - 1;
+
+    PageReference reference = pageTrx.getPageReference(pageTrx.getActualRevisionRootPage(), pageKind, index);
+
+    for (int level = rootLevel; level < height; level++) {
+      final IndirectPage indirectPage = pageTrx.dereferenceIndirectPageReference(reference);
+
+      if (indirectPage == null) {
+        skipSubtree(level, rootLevel);
+        return;
+      }
+
+      if (level == height - 1) {
+        leafParent = indirectPage;
+        leafParentKey = pageKey >>> referenceCountExp;
+        return;
+      }
+
+      final int offset = (int) ((pageKey >>> inpLevelPageCountExp[level]) & offsetMask);
+      final int nextOffset = indirectPage.nextOffset(offset);
+
+      if (nextOffset == -1) {
+        skipSubtree(level, rootLevel);
+        return;
+      }
+
+      if (nextOffset != offset) {
+        // Move to the first record page of the next existing subtree.
+        final int subtreeExp = inpLevelPageCountExp[level] + referenceCountExp;
+        final long subtreeStart = subtreeExp >= Long.SIZE - 1 ? 0 : (pageKey >>> subtreeExp) << subtreeExp;
+        pageKey = subtreeStart | ((long) nextOffset << inpLevelPageCountExp[level]);
+      }
+
+      reference = indirectPage.getReference(nextOffset);
+    }
+  }
+
+  /**
+   * Move {@link #pageKey} behind the subtree of the indirect page of the given level, which contains no more record
+   * pages.
+   */
+  private void skipSubtree(final int level, final int rootLevel) {
+    final int subtreeExp = inpLevelPageCountExp[level] + referenceCountExp;
+
+    if (level == rootLevel || subtreeExp >= Long.SIZE - 1) {
+      pageKey = fence;
+    } else {
+      pageKey = ((pageKey >>> subtreeExp) + 1) << subtreeExp;
+    }
+  }
+
+  @Override
+  public Spliterator<DataRecord> trySplit() {
+    final long remaining = fence - pageKey;
+
+    // The records of a partially consumed record page must precede the records of the split.
+    if (recordPage != null || remaining < 2) {
+      return null;
+    }
+
+    // Split at the boundary of the record pages of an indirect page if possible.
+    long mid = pageKey + (remaining >>> 1);
+    final long alignedMid = (mid >>> referenceCountExp) << referenceCountExp;
+
+    if (alignedMid > pageKey) {
+      mid = alignedMid;
+    }
+
+    // The split covers the prefix of the range, as the records are ordered.
+    final var prefix =
+        new RecordPageSpliterator(scanTrx, scanTrx.beginScanTrx(), pageKind, index, nodeKinds, pageKey, mid);
+    pageKey = mid;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    final long remainingRecords = (fence - pageKey) << Constants.NDP_NODE_COUNT_EXPONENT;
+    return remainingRecords < 0 ? Long.MAX_VALUE : remainingRecords;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+  }
+}
@@ -35,6 +35,11 @@ import org.sirix.cache.TransactionIntentLog;
  */
 public interface TransactionIntentLogFactory {
 
+  /**
+   * The system property to override the memory budget of the page containers of a log with (in bytes).
+   */
+  String MAX_IN_MEMORY_BYTES_PROPERTY = "sirix.intentLog.maxInMemoryBytes";
+
   /**
    * Create a new transaction intent log
    * 
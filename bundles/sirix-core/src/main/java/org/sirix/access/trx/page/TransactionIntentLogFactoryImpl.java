@@ -31,14 +31,7 @@ import org.sirix.access.ResourceConfiguration;
 import org.sirix.cache.PersistentFileCache;
 import org.sirix.cache.TransactionIntentLog;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
-import org.sirix.io.file.FileWriter;
-import org.sirix.page.PagePersister;
-import org.sirix.page.SerializationType;
 
-import java.io.IOException;
-import java.io.RandomAccessFile;
-import java.io.UncheckedIOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 /**
@@ -47,35 +40,35 @@ import java.nio.file.Path;
  */
 final class TransactionIntentLogFactoryImpl implements TransactionIntentLogFactory {
 
+  /**
+   * Upper bound of the memory budget of a log.
+   */
+  private static final long MAX_IN_MEMORY_BYTES = 128L << 20;
+
   /**
    * Package private constructor.
    */
   public TransactionIntentLogFactoryImpl() {
   }
 
+  /**
+   * The memory budget of the page containers of a log: an eighth of the maximum heap size, but at most 128 MB, unless
+   * it is set by the system property {@link #MAX_IN_MEMORY_BYTES_PROPERTY}.
+   */
+  private static long maxInMemoryBytes() {
+    return Long.getLong(MAX_IN_MEMORY_BYTES_PROPERTY,
+        Math.min(MAX_IN_MEMORY_BYTES, Runtime.getRuntime().maxMemory() / 8));
+  }
+
   @Override
   public TransactionIntentLog createTrxIntentLog(final ResourceConfiguration resourceConfig) {
     final Path logFile = resourceConfig.getResource()
                                        .resolve(ResourceConfiguration.ResourcePaths.TRANSACTION_INTENT_LOG.getPath())
                                        .resolve("intent-log");
 
-    try {
-      if (Files.exists(logFile)) {
-        Files.delete(logFile);
-        Files.createFile(logFile);
-      }
-
-      final RandomAccessFile file = new RandomAccessFile(logFile.toFile(), "rw");
-
-      final FileWriter fileWriter = new FileWriter(file, null,
-          new ByteHandlePipeline(resourceConfig.byteHandlePipeline), SerializationType.TRANSACTION_INTENT_LOG,
-          new PagePersister());
-
-      final PersistentFileCache persistentFileCache = new PersistentFileCache(fileWriter);
+    final PersistentFileCache persistentFileCache =
+        new PersistentFileCache(logFile, new ByteHandlePipeline(resourceConfig.byteHandlePipeline));
 
-      return new TransactionIntentLog(persistentFileCache, 1 << 11);
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
-    }
+    return new TransactionIntentLog(persistentFileCache, maxInMemoryBytes());
   }
 }
@@ -144,6 +144,7 @@ public final class TreeModifierImpl implements TreeModifier {
       case CASPAGE -> pageRtx.getCASPage(revisionRoot).setOrCreateReference(index, pageReference);
       case PATHPAGE -> pageRtx.getPathPage(revisionRoot).setOrCreateReference(index, pageReference);
       case NAMEPAGE -> pageRtx.getNamePage(revisionRoot).setOrCreateReference(index, pageReference);
+      case DEWEYIDPAGE -> pageRtx.getDeweyIDPage(revisionRoot).setOrCreateReference(index, pageReference);
       case PATHSUMMARYPAGE -> pageRtx.getPathSummaryPage(revisionRoot).setOrCreateReference(index, pageReference);
       default -> throw new IllegalStateException(
           "Only defined for node, path summary, text value and attribute value pages!");
@@ -159,6 +160,7 @@ public final class TreeModifierImpl implements TreeModifier {
       case CASPAGE -> pageRtx.getCASPage(revisionRoot).incrementAndGetCurrentMaxLevelOfIndirectPages(index);
       case PATHPAGE -> pageRtx.getPathPage(revisionRoot).incrementAndGetCurrentMaxLevelOfIndirectPages(index);
       case NAMEPAGE -> pageRtx.getNamePage(revisionRoot).incrementAndGetCurrentMaxLevelOfIndirectPages(index);
+      case DEWEYIDPAGE -> pageRtx.getDeweyIDPage(revisionRoot).incrementAndGetCurrentMaxLevelOfIndirectPages(index);
       case PATHSUMMARYPAGE -> pageRtx.getPathSummaryPage(revisionRoot)
                                      .incrementAndGetCurrentMaxLevelOfIndirectPages(index);
       default -> throw new IllegalStateException(
@@ -7,6 +7,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import javax.annotation.Nonnull;
 import org.sirix.access.AbstractResourceStore;
+import org.sirix.access.DatabaseScheduler;
 import org.sirix.access.DatabasesInternals;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.User;
@@ -42,10 +43,11 @@ public final class XmlResourceStore extends AbstractResourceStore<XmlResourceMan
   @Override
   public XmlResourceManager openResource(final @Nonnull Database<XmlResourceManager> database,
       final @Nonnull ResourceConfiguration resourceConfig, final @Nonnull BufferManager bufferManager,
-      final @Nonnull Path resourceFile) {
+      final @Nonnull DatabaseScheduler scheduler, final @Nonnull Path resourceFile) {
     checkNotNull(database);
     checkNotNull(resourceConfig);
     checkNotNull(bufferManager);
+    checkNotNull(scheduler);
     checkNotNull(resourceFile);
 
     return resourceManagers.computeIfAbsent(resourceFile, k -> {
@@ -56,7 +58,7 @@ public final class XmlResourceStore extends AbstractResourceStore<XmlResourceMan
 
       // Create the resource manager instance.
       final XmlResourceManager resourceManager = new XmlResourceManagerImpl(database, this, resourceConfig,
-          bufferManager, StorageType.getStorage(resourceConfig), uberPage, writeLock, user);
+          bufferManager, scheduler, StorageType.getStorage(resourceConfig), uberPage, writeLock, user);
 
       // Put it in the databases cache.
       DatabasesInternals.putResourceManager(resourceFile, resourceManager);
@@ -12,7 +12,10 @@ import org.sirix.page.interfaces.Page;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
 
 /**
  * Interface for reading pages.
@@ -61,6 +64,47 @@ public interface PageReadOnlyTrx extends AutoCloseable {
    */
   Optional<? extends DataRecord> getRecord(final @Nonnegative long key, final PageKind pageKind, final int index);
 
+  /**
+   * Get a record from persistent storage without wrapping it into an {@link Optional}, which is used by cursors and
+   * axis on their hot paths.
+   *
+   * @param key the unique record-ID
+   * @param pageKind the page kind from which to fetch the record
+   * @param index the index number
+   * @return the record or {@code null}, if it doesn't exist or has been deleted
+   * @throws SirixIOException if an I/O error occurred
+   */
+  default DataRecord getRecordOrNull(final @Nonnegative long key, final PageKind pageKind, final int index) {
+    return getRecord(key, pageKind, index).orElse(null);
+  }
+
+  /**
+   * Scan all records of an index in the order of their keys, that is the physical order of the record pages. The
+   * indirect pages are traversed depth-first, such that no page is looked up more than once, which is much cheaper
+   * for analytical queries than traversing the tree structure. The spliterator can be split for parallel streams, in
+   * which case each split uses its own page transaction on the same revision, which is closed once the split is
+   * exhausted or at the latest together with this transaction. Only supported by read-only page transactions.
+   *
+   * @param pageKind the page kind of the index
+   * @param index the index number
+   * @param nodeKinds the kinds of records to return or {@code null} to return all records
+   * @return a spliterator over the records, which must not be used after this transaction is closed
+   * @throws IllegalStateException if the transaction is a write transaction
+   */
+  Spliterator<DataRecord> scan(PageKind pageKind, int index, @Nullable Set<NodeKind> nodeKinds);
+
+  /**
+   * Scan all records of an index in the order of their keys.
+   *
+   * @param pageKind the page kind of the index
+   * @param index the index number
+   * @return a spliterator over the records
+   * @see #scan(PageKind, int, Set)
+   */
+  default Spliterator<DataRecord> scan(PageKind pageKind, int index) {
+    return scan(pageKind, index, null);
+  }
+
   /**
    * Current reference to actual revision-root page.
    *
@@ -179,6 +223,15 @@ public interface PageReadOnlyTrx extends AutoCloseable {
    */
   CASPage getCASPage(@Nonnull RevisionRootPage revisionRoot);
 
+  /**
+   * Get the {@link DeweyIDMappingPage} associated with the current revision root.
+   *
+   * @param revisionRoot {@link RevisionRootPage} for which to get the {@link DeweyIDMappingPage}
+   * @return DeweyIDMappingPage the associated DEWEYIDPAGE
+   * @throws SirixIOException if an I/O error occurs
+   */
+  DeweyIDMappingPage getDeweyIDPage(@Nonnull RevisionRootPage revisionRoot);
+
   /**
    * Get the {@link PathSummaryPage} associated with the current revision root.
    *
@@ -24,7 +24,10 @@ package org.sirix.api;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.IndexController;
+import org.sirix.access.trx.node.RecordChangeIndex;
+import org.sirix.access.trx.node.TextCompressionDictionary;
 import org.sirix.access.trx.node.xml.XmlIndexController;
+import org.sirix.access.trx.page.PageFragmentStatistics;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.exception.SirixException;
@@ -303,4 +306,38 @@ public interface ResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W exten
 
   Optional<User> getUser();
 
+  /**
+   * Get the index of the records, which have been changed in each revision.
+   *
+   * @return the record change index
+   */
+  RecordChangeIndex getRecordChangeIndex();
+
+  /**
+   * Get the preset dictionary for the compression of text values.
+   *
+   * @return the text compression dictionary
+   */
+  TextCompressionDictionary getTextCompressionDictionary();
+
+  /**
+   * Get the statistics about the page fragments of the record pages.
+   *
+   * @return the page fragment statistics
+   */
+  PageFragmentStatistics getPageFragmentStatistics();
+
+  /**
+   * Compact the storage of the resource, such that the pages, which aren't reachable from any revision anymore, are
+   * removed and the pages of each revision are stored close to each other. Readers aren't blocked while the pages are
+   * copied, but commits are. Afterwards, no transaction must be open, as the copied pages replace the current
+   * storage.
+   *
+   * @param oldestRevisionToRetain the oldest revision to retain, older revisions are dropped and refer to this
+   *        revision afterwards
+   * @throws SirixUsageException if a transaction is still open, once the pages have been copied
+   * @throws UnsupportedOperationException if the storage isn't file based
+   */
+  void compact(@Nonnegative int oldestRevisionToRetain);
+
 }
@@ -0,0 +1,379 @@
+package org.sirix.axis.concurrent;
+
+import org.sirix.access.trx.node.HashType;
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.NodeTrx;
+import org.sirix.api.ResourceManager;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.settings.Fixed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * <p>
+ * A {@link Spliterator} over the node keys of the descendants of a node in document order, just like the
+ * {@link org.sirix.axis.DescendantAxis}. The subtree is split by children: a subtree is split into its root and the
+ * subtrees of its children, which are divided into two consecutive ranges with about the same number of nodes
+ * (based on the stored descendant counts, if the resource stores hashes, otherwise on the child counts).
+ * </p>
+ * <p>
+ * Each split traverses its subtrees with its own read-only transaction on the same revision, thus the node keys can
+ * be computed in parallel by a {@link LongStream}. The transactions are closed, once the stream is closed.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class DescendantSpliterator implements Spliterator.OfLong {
+
+  /** The minimum number of nodes of a split. */
+  private static final long MIN_SPLIT_SIZE = 1 << 10;
+
+  /** The transactions and the resource, which are shared by all splits. */
+  private final Context context;
+
+  /** The node keys, which are returned before the subtrees (the roots of split subtrees). */
+  private long[] leadingKeys;
+
+  /** The number of leading node keys. */
+  private int leadingCount;
+
+  /** The index of the next leading node key. */
+  private int leadingIndex;
+
+  /** The roots of the subtrees to traverse. */
+  private long[] roots;
+
+  /** The (estimated) number of nodes of the subtrees. */
+  private long[] weights;
+
+  /** The index of the next subtree root. */
+  private int from;
+
+  /** The exclusive end index of the subtree roots. */
+  private int to;
+
+  /** The cursor of this split or {@code null}, if it hasn't been opened yet. */
+  private NodeCursor cursor;
+
+  /** The root of the subtree, which is currently traversed. */
+  private long currentRoot;
+
+  /**
+   * Constructor.
+   *
+   * @param context the shared context of all splits
+   * @param leadingKeys the node keys, which are returned before the subtrees
+   * @param leadingCount the number of leading node keys
+   * @param roots the roots of the subtrees to traverse
+   * @param weights the (estimated) number of nodes of the subtrees
+   * @param from the index of the first subtree root
+   * @param to the exclusive end index of the subtree roots
+   */
+  private DescendantSpliterator(final Context context, final long[] leadingKeys, final int leadingCount,
+      final long[] roots, final long[] weights, final int from, final int to) {
+    this.context = context;
+    this.leadingKeys = leadingKeys;
+    this.leadingCount = leadingCount;
+    this.roots = roots;
+    this.weights = weights;
+    this.from = from;
+    this.to = to;
+    currentRoot = Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  /**
+   * Create a stream of the node keys of the descendants of the current node of a read-only transaction in document
+   * order. The stream must be closed to close the transactions of the splits.
+   *
+   * @param rtx the read-only transaction, which is located at the start node
+   * @param includeSelf determines if the start node is included or not
+   * @param parallel determines if the node keys are computed in parallel
+   * @return the stream of node keys
+   * @throws IllegalArgumentException if {@code rtx} is a write transaction, whose changes aren't visible to other
+   *         transactions
+   */
+  public static LongStream stream(final NodeReadOnlyTrx rtx, final IncludeSelf includeSelf, final boolean parallel) {
+    checkArgument(!(rtx instanceof NodeTrx), "Only read-only transactions are supported.");
+    return stream(rtx.getResourceManager(), rtx.getRevisionNumber(), rtx.getNodeKey(), includeSelf, parallel);
+  }
+
+  /**
+   * Create a stream of the node keys of the descendants of a node in document order. The stream must be closed to
+   * close the transactions of the splits.
+   *
+   * @param resourceManager the resource manager to open the read-only transactions with
+   * @param revision the revision to read
+   * @param startKey the node key of the start node
+   * @param includeSelf determines if the start node is included or not
+   * @param parallel determines if the node keys are computed in parallel
+   * @return the stream of node keys
+   */
+  public static LongStream stream(final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+      final int revision, final long startKey, final IncludeSelf includeSelf, final boolean parallel) {
+    final var spliterator = create(resourceManager, revision, startKey, includeSelf);
+    return StreamSupport.longStream(spliterator, parallel).onClose(spliterator::close);
+  }
+
+  /**
+   * Create a spliterator over the node keys of the descendants of a node in document order. The spliterator must be
+   * closed by {@link #close()} to close the transactions of all its splits.
+   *
+   * @param resourceManager the resource manager to open the read-only transactions with
+   * @param revision the revision to read
+   * @param startKey the node key of the start node
+   * @param includeSelf determines if the start node is included or not
+   * @return the spliterator
+   */
+  static DescendantSpliterator create(
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager, final int revision,
+      final long startKey, final IncludeSelf includeSelf) {
+    checkNotNull(includeSelf);
+    final var context = new Context(checkNotNull(resourceManager), revision);
+    final var spliterator = new DescendantSpliterator(context, new long[0], 0, new long[0], new long[0], 0, 0);
+    final NodeCursor cursor = spliterator.getCursor();
+
+    if (cursor.moveTo(startKey).hasMoved()) {
+      if (includeSelf == IncludeSelf.YES) {
+        spliterator.roots = new long[] { startKey };
+        spliterator.weights = new long[] { context.getWeight(cursor) };
+        spliterator.to = 1;
+      } else {
+        spliterator.addChildren(cursor);
+      }
+    }
+
+    return spliterator;
+  }
+
+  /**
+   * Close the transactions of this spliterator and of all its splits.
+   */
+  void close() {
+    context.close();
+  }
+
+  private NodeCursor getCursor() {
+    if (cursor == null) {
+      cursor = context.beginCursor();
+    }
+    return cursor;
+  }
+
+  /**
+   * Replace the subtrees by the subtrees of the children of the current node of the cursor.
+   */
+  private void addChildren(final NodeCursor cursor) {
+    final int childCount = (int) Math.min(((NodeReadOnlyTrx) cursor).getChildCount(), Integer.MAX_VALUE - 8);
+    long[] childKeys = new long[Math.max(childCount, 1)];
+    long[] childWeights = new long[childKeys.length];
+    int count = 0;
+
+    if (cursor.moveToFirstChild().hasMoved()) {
+      do {
+        if (count == childKeys.length) {
+          // Child counts aren't stored for all node kinds.
+          childKeys = Arrays.copyOf(childKeys, count * 2);
+          childWeights = Arrays.copyOf(childWeights, count * 2);
+        }
+        childKeys[count] = cursor.getNodeKey();
+        childWeights[count] = context.getWeight(cursor);
+        count++;
+      } while (cursor.moveToRightSibling().hasMoved());
+    }
+
+    roots = childKeys;
+    weights = childWeights;
+    from = 0;
+    to = count;
+  }
+
+  @Override
+  public boolean tryAdvance(final LongConsumer action) {
+    if (leadingIndex < leadingCount) {
+      action.accept(leadingKeys[leadingIndex++]);
+      return true;
+    }
+
+    final NodeCursor cursor;
+
+    if (currentRoot == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      if (from == to) {
+        return false;
+      }
+
+      // Start the traversal of the next subtree.
+      currentRoot = roots[from++];
+      cursor = getCursor();
+      cursor.moveTo(currentRoot);
+      action.accept(currentRoot);
+      return true;
+    }
+
+    cursor = getCursor();
+
+    // Always follow first child if there is one.
+    if (cursor.moveToFirstChild().hasMoved()) {
+      action.accept(cursor.getNodeKey());
+      return true;
+    }
+
+    // Then follow the right sibling of the node or of the nearest ancestor within the subtree.
+    while (cursor.getNodeKey() != currentRoot) {
+      if (cursor.moveToRightSibling().hasMoved()) {
+        action.accept(cursor.getNodeKey());
+        return true;
+      }
+      cursor.moveToParent();
+    }
+
+    currentRoot = Fixed.NULL_NODE_KEY.getStandardProperty();
+    return tryAdvance(action);
+  }
+
+  @Override
+  public Spliterator.OfLong trySplit() {
+    // The traversal of a subtree can't be split and at most a few splits per thread are reasonable.
+    if (currentRoot != Fixed.NULL_NODE_KEY.getStandardProperty() || !context.isSplitAllowed()) {
+      return null;
+    }
+
+    // Split a single subtree into its root and the subtrees of its children.
+    while (to - from == 1 && isLarge(weights[from])) {
+      final long root = roots[from];
+      final NodeCursor cursor = getCursor();
+      cursor.moveTo(root);
+
+      if (!cursor.hasFirstChild()) {
+        break;
+      }
+
+      if (leadingCount == leadingKeys.length) {
+        leadingKeys = Arrays.copyOf(leadingKeys, Math.max(4, leadingCount * 2));
+      }
+      leadingKeys[leadingCount++] = root;
+      addChildren(cursor);
+    }
+
+    if (to - from < 2 || !isLarge(sumOfWeights(from, to) >>> 1)) {
+      return null;
+    }
+
+    // Find the index, which divides the subtrees into two ranges with about the same number of nodes.
+    final long half = sumOfWeights(from, to) >>> 1;
+    int mid = from;
+    long sum = 0;
+    while (mid < to - 1 && sum + weights[mid] <= half) {
+      sum += weights[mid++];
+    }
+    if (mid == from) {
+      mid++;
+    }
+
+    context.split();
+
+    // The prefix is returned, as the node keys are ordered.
+    final var prefix = new DescendantSpliterator(context, Arrays.copyOfRange(leadingKeys, leadingIndex, leadingCount),
+        leadingCount - leadingIndex, roots, weights, from, mid);
+    leadingKeys = new long[0];
+    leadingCount = 0;
+    leadingIndex = 0;
+    from = mid;
+    return prefix;
+  }
+
+  private boolean isLarge(final long weight) {
+    // Without descendant counts the sizes of the subtrees are unknown.
+    return !context.hasDescendantCounts || weight >= MIN_SPLIT_SIZE;
+  }
+
+  private long sumOfWeights(final int from, final int to) {
+    long sum = 0;
+    for (int i = from; i < to; i++) {
+      sum += weights[i];
+    }
+    return sum;
+  }
+
+  @Override
+  public long estimateSize() {
+    return (leadingCount - leadingIndex) + sumOfWeights(from, to);
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+  }
+
+  /**
+   * The resource, the revision and the transactions of all splits.
+   */
+  private static final class Context implements AutoCloseable {
+    /** The maximum number of splits. */
+    private static final int MAX_SPLITS = ForkJoinPool.getCommonPoolParallelism() * 4;
+
+    /** The resource manager. */
+    private final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager;
+
+    /** The revision to read. */
+    private final int revision;
+
+    /** Determines if the descendant counts are stored. */
+    private final boolean hasDescendantCounts;
+
+    /** The transactions of all splits. */
+    private final List<NodeReadOnlyTrx> trxs;
+
+    /** The number of splits. */
+    private final AtomicInteger splits;
+
+    Context(final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager, final int revision) {
+      this.resourceManager = resourceManager;
+      this.revision = revision;
+      hasDescendantCounts = resourceManager.getResourceConfig().hashType != HashType.NONE;
+      trxs = new ArrayList<>();
+      splits = new AtomicInteger();
+    }
+
+    NodeCursor beginCursor() {
+      final NodeReadOnlyTrx rtx = resourceManager.beginNodeReadOnlyTrx(revision);
+      synchronized (trxs) {
+        trxs.add(rtx);
+      }
+      return (NodeCursor) rtx;
+    }
+
+    long getWeight(final NodeCursor cursor) {
+      final var rtx = (NodeReadOnlyTrx) cursor;
+      return 1 + (hasDescendantCounts ? rtx.getDescendantCount() : rtx.getChildCount());
+    }
+
+    boolean isSplitAllowed() {
+      return splits.get() < MAX_SPLITS;
+    }
+
+    void split() {
+      splits.incrementAndGet();
+    }
+
+    @Override
+    public void close() {
+      synchronized (trxs) {
+        trxs.forEach(NodeReadOnlyTrx::close);
+        trxs.clear();
+      }
+    }
+  }
+}
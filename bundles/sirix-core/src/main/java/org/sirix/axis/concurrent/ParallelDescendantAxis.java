@@ -0,0 +1,272 @@
+package org.sirix.axis.concurrent;
+
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.NodeTrx;
+import org.sirix.axis.AbstractAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.exception.SirixThreadedException;
+import org.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * <p>
+ * Iterates over the descendants of a node in document order, just like the {@link org.sirix.axis.DescendantAxis}.
+ * Once the axis is first used, the subtree is divided into consecutive splits by a {@link DescendantSpliterator},
+ * which are traversed in parallel by several read-only transactions on the same revision. Each split hands its node
+ * keys in chunks over a bounded queue, such that only a few chunks per split are buffered. The cursor is moved to the
+ * node keys of the splits one after the other, while the following splits are traversed in the background.
+ * </p>
+ * <p>
+ * Only read-only transactions are supported, as the changes of a write transaction aren't visible to other
+ * transactions. An axis, which is abandoned before it is done, should be reset to stop the background traversals and
+ * to close their transactions.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class ParallelDescendantAxis extends AbstractAxis {
+
+  /** {@link LogWrapper} reference. */
+  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(ParallelDescendantAxis.class));
+
+  /** The maximum number of node keys of a chunk. */
+  private static final int CHUNK_SIZE = 1 << 10;
+
+  /** The maximum number of buffered chunks of a split. */
+  private static final int MAX_BUFFERED_CHUNKS = 4;
+
+  /** Marks the end of the node keys of a split. */
+  private static final long[] END_OF_SPLIT = new long[0];
+
+  /** The spliterator, which is divided into the splits, or {@code null}, if the traversal hasn't been started. */
+  private DescendantSpliterator spliterator;
+
+  /** Traverses the splits in the background. */
+  private ExecutorService executor;
+
+  /** The queues of the chunks of the remaining splits in document order. */
+  private Deque<BlockingQueue<long[]>> splits;
+
+  /** The first failure of a background traversal. */
+  private AtomicReference<RuntimeException> failure;
+
+  /** The current chunk or {@code null}. */
+  private long[] chunk;
+
+  /** The index of the next node key in the current chunk. */
+  private int index;
+
+  /**
+   * Constructor initializing internal state.
+   *
+   * @param rtx the read-only transaction to iterate with
+   */
+  public <R extends NodeReadOnlyTrx & NodeCursor> ParallelDescendantAxis(final R rtx) {
+    this(rtx, IncludeSelf.NO);
+  }
+
+  /**
+   * Constructor initializing internal state.
+   *
+   * @param rtx the read-only transaction to iterate with
+   * @param includeSelf determines if current node is included or not
+   */
+  public <R extends NodeReadOnlyTrx & NodeCursor> ParallelDescendantAxis(final R rtx, final IncludeSelf includeSelf) {
+    super(rtx, includeSelf);
+    checkArgument(!(rtx instanceof NodeTrx), "Only read-only transactions are supported.");
+  }
+
+  @Override
+  public void reset(final long nodeKey) {
+    super.reset(nodeKey);
+    stop();
+  }
+
+  @Override
+  protected long nextKey() {
+    if (splits == null) {
+      start();
+    }
+
+    while (true) {
+      if (chunk != null && index < chunk.length) {
+        return chunk[index++];
+      }
+
+      if (splits.isEmpty()) {
+        stop();
+        return done();
+      }
+
+      try {
+        chunk = splits.peek().take();
+        index = 0;
+      } catch (final InterruptedException e) {
+        stop();
+        Thread.currentThread().interrupt();
+        throw new SirixThreadedException(e);
+      }
+
+      if (chunk == END_OF_SPLIT) {
+        splits.poll();
+        chunk = null;
+
+        final RuntimeException e = failure.get();
+        if (e != null) {
+          stop();
+          throw e;
+        }
+      }
+    }
+  }
+
+  private void start() {
+    final NodeReadOnlyTrx rtx = getTrx();
+    spliterator = DescendantSpliterator.create(rtx.getResourceManager(), rtx.getRevisionNumber(), getStartKey(),
+        isSelfIncluded());
+
+    final List<Spliterator.OfLong> parts = new ArrayList<>();
+    split(spliterator, parts);
+
+    executor = Executors.newFixedThreadPool(Math.min(parts.size(), Runtime.getRuntime().availableProcessors()),
+        runnable -> {
+          final Thread thread = new Thread(runnable, "sirix-parallel-descendant-axis");
+          thread.setDaemon(true);
+          return thread;
+        });
+    splits = new ArrayDeque<>(parts.size());
+    failure = new AtomicReference<>();
+
+    // The splits are traversed in document order, as the executor starts the tasks in the order of submission.
+    for (final Spliterator.OfLong part : parts) {
+      final BlockingQueue<long[]> chunks = new ArrayBlockingQueue<>(MAX_BUFFERED_CHUNKS);
+      splits.add(chunks);
+      executor.submit(new ChunkProducer(part, chunks, failure));
+    }
+  }
+
+  // Divide the spliterator into consecutive splits in document order.
+  private static void split(final Spliterator.OfLong spliterator, final List<Spliterator.OfLong> parts) {
+    final Spliterator.OfLong prefix = spliterator.trySplit();
+
+    if (prefix == null) {
+      parts.add(spliterator);
+      return;
+    }
+
+    split(prefix, parts);
+    split(spliterator, parts);
+  }
+
+  // Stop the background traversals and close their transactions.
+  private void stop() {
+    if (executor != null) {
+      executor.shutdownNow();
+      try {
+        // The traversals stop at the next chunk, which is handed over.
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+          LOGGER.warn("The traversals of the splits haven't been stopped.");
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      executor = null;
+    }
+
+    if (spliterator != null) {
+      spliterator.close();
+      spliterator = null;
+    }
+
+    splits = null;
+    chunk = null;
+    index = 0;
+  }
+
+  /**
+   * Traverses a split and hands its node keys over in chunks.
+   */
+  private static final class ChunkProducer implements Runnable, LongConsumer {
+    /** The split to traverse. */
+    private final Spliterator.OfLong split;
+
+    /** The queue of the chunks of the split. */
+    private final BlockingQueue<long[]> chunks;
+
+    /** The first failure of a traversal. */
+    private final AtomicReference<RuntimeException> failure;
+
+    /** The current chunk. */
+    private long[] chunk;
+
+    /** The number of node keys in the current chunk. */
+    private int count;
+
+    private ChunkProducer(final Spliterator.OfLong split, final BlockingQueue<long[]> chunks,
+        final AtomicReference<RuntimeException> failure) {
+      this.split = split;
+      this.chunks = chunks;
+      this.failure = failure;
+      chunk = new long[CHUNK_SIZE];
+    }
+
+    @Override
+    public void run() {
+      try {
+        split.forEachRemaining(this);
+
+        if (count > 0) {
+          chunks.put(Arrays.copyOf(chunk, count));
+        }
+      } catch (final InterruptedException e) {
+        // The axis has been reset or is done.
+        return;
+      } catch (final RuntimeException e) {
+        if (Thread.currentThread().isInterrupted()) {
+          return;
+        }
+        failure.compareAndSet(null, e);
+      }
+
+      try {
+        chunks.put(END_OF_SPLIT);
+      } catch (final InterruptedException e) {
+        // The axis has been reset or is done.
+      }
+    }
+
+    @Override
+    public void accept(final long nodeKey) {
+      chunk[count++] = nodeKey;
+
+      if (count == CHUNK_SIZE) {
+        try {
+          chunks.put(chunk);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new SirixThreadedException(e);
+        }
+        chunk = new long[CHUNK_SIZE];
+        count = 0;
+      }
+    }
+  }
+}
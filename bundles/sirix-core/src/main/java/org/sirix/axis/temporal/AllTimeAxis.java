@@ -32,6 +32,9 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
   /** Determines if node has been found before and now has been deleted. */
   private boolean mHasMoved;
 
+  /** Determines which revisions are visited. */
+  private final RevisionFilter mRevisionFilter;
+
   /**
    * Constructor.
    *
@@ -39,7 +42,20 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
    * @param rtx the read only transactional cursor
    */
   public AllTimeAxis(final ResourceManager<R, W> resourceManager, final R rtx) {
+    this(resourceManager, rtx, RevisionFilter.ALL);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager the resource manager
+   * @param rtx the read only transactional cursor
+   * @param revisionFilter determines if all revisions or only the revisions, in which the node has been changed,
+   *        are visited
+   */
+  public AllTimeAxis(final ResourceManager<R, W> resourceManager, final R rtx, final RevisionFilter revisionFilter) {
     mResourceManager = checkNotNull(resourceManager);
+    mRevisionFilter = checkNotNull(revisionFilter);
     mRevision = 1;
     mNodeKey = rtx.getNodeKey();
   }
@@ -47,6 +63,16 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
   @Override
   protected R computeNext() {
     while (mRevision <= mResourceManager.getMostRecentRevisionNumber()) {
+      if (mRevisionFilter == RevisionFilter.CHANGED) {
+        final int changedRevision = mResourceManager.getRecordChangeIndex()
+                                                    .getNextRevision(mNodeKey, mRevision,
+                                                                     mResourceManager.getMostRecentRevisionNumber());
+        if (changedRevision == -1) {
+          break;
+        }
+        mRevision = changedRevision;
+      }
+
       final Optional<R> optionalRtx = mResourceManager.getNodeReadTrxByRevisionNumber(mRevision);
 
       final R rtx;
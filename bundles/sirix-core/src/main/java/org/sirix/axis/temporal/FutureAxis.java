@@ -31,6 +31,9 @@ public final class FutureAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
   /** Node key to lookup and retrieve. */
   private long mNodeKey;
 
+  /** Determines which revisions are visited. */
+  private final RevisionFilter mRevisionFilter;
+
   /**
    * Constructor.
    *
@@ -49,6 +52,21 @@ public final class FutureAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
    * @param includeSelf determines if current revision must be included or not
    */
   public FutureAxis(final ResourceManager<R, W> resourceManager, final R rtx, final IncludeSelf includeSelf) {
+    this(resourceManager, rtx, includeSelf, RevisionFilter.ALL);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager the resource manager
+   * @param rtx the transactional read only cursor
+   * @param includeSelf determines if current revision must be included or not
+   * @param revisionFilter determines if all revisions or only the revisions, in which the node has been changed,
+   *        are visited
+   */
+  public FutureAxis(final ResourceManager<R, W> resourceManager, final R rtx, final IncludeSelf includeSelf,
+      final RevisionFilter revisionFilter) {
+    mRevisionFilter = checkNotNull(revisionFilter);
     mResourceManager = checkNotNull(resourceManager);
     mNodeKey = rtx.getNodeKey();
     mRevision = checkNotNull(includeSelf) == IncludeSelf.YES
@@ -58,8 +76,15 @@ public final class FutureAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
 
   @Override
   protected R computeNext() {
+    final int mostRecentRevision = mResourceManager.getMostRecentRevisionNumber();
+    if (mRevisionFilter == RevisionFilter.CHANGED && mRevision <= mostRecentRevision) {
+      final int changedRevision =
+          mResourceManager.getRecordChangeIndex().getNextRevision(mNodeKey, mRevision, mostRecentRevision);
+      mRevision = changedRevision == -1 ? mostRecentRevision + 1 : changedRevision;
+    }
+
     // != a little bit faster?
-    if (mRevision <= mResourceManager.getMostRecentRevisionNumber()) {
+    if (mRevision <= mostRecentRevision) {
       final Optional<R> optionalRtx = mResourceManager.getNodeReadTrxByRevisionNumber(mRevision);
 
       final R rtx;
@@ -31,6 +31,9 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
   /** Node key to lookup and retrieve. */
   private long mNodeKey;
 
+  /** Determines which revisions are visited. */
+  private final RevisionFilter mRevisionFilter;
+
   /**
    * Constructor.
    *
@@ -49,6 +52,21 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    * @param includeSelf determines if current revision must be included or not
    */
   public PastAxis(final ResourceManager<R, W> resourceManager, final R rtx, final IncludeSelf includeSelf) {
+    this(resourceManager, rtx, includeSelf, RevisionFilter.ALL);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager the resource manager
+   * @param rtx the transactional read only cursor
+   * @param includeSelf determines if current revision must be included or not
+   * @param revisionFilter determines if all revisions or only the revisions, in which the node has been changed,
+   *        are visited
+   */
+  public PastAxis(final ResourceManager<R, W> resourceManager, final R rtx, final IncludeSelf includeSelf,
+      final RevisionFilter revisionFilter) {
+    mRevisionFilter = checkNotNull(revisionFilter);
     mResourceManager = checkNotNull(resourceManager);
     mRevision = 0;
     mNodeKey = rtx.getNodeKey();
@@ -59,6 +77,11 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
 
   @Override
   protected R computeNext() {
+    if (mRevisionFilter == RevisionFilter.CHANGED && mRevision > 0) {
+      final int changedRevision = mResourceManager.getRecordChangeIndex().getPreviousRevision(mNodeKey, 1, mRevision);
+      mRevision = changedRevision == -1 ? 0 : changedRevision;
+    }
+
     if (mRevision > 0) {
       final Optional<R> optionalRtx = mResourceManager.getNodeReadTrxByRevisionNumber(mRevision);
 
@@ -0,0 +1,19 @@
+package org.sirix.axis.temporal;
+
+/**
+ * Determines which revisions a temporal axis visits.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public enum RevisionFilter {
+  /** Every revision, in which the node exists. */
+  ALL,
+
+  /**
+   * Only revisions, in which the node has been written, according to the
+   * {@link org.sirix.access.trx.node.RecordChangeIndex}. Unchanged revisions are skipped without opening a
+   * transaction.
+   */
+  CHANGED
+}
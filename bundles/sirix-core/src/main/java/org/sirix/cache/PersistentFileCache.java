@@ -1,67 +1,234 @@
 package org.sirix.cache;
 
-import static com.google.common.base.Preconditions.checkNotNull;
 import org.sirix.api.PageReadOnlyTrx;
-import org.sirix.io.Writer;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
-import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.SerializationType;
 import org.sirix.page.interfaces.Page;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Stores the page containers, which are evicted from the {@link TransactionIntentLog}, in memory-mapped segments of a
+ * file. Thus, the evicted pages are kept outside of the Java heap, whereas the operating system decides if they reside
+ * in the page cache or have to be written to disk.
+ *
+ * <p>
+ * An entry consists of the length and the serialized bytes of the modified page followed by the length and the bytes
+ * of the complete page, whereas the length is {@code -1}, if both pages are the same instance. The entries are only
+ * appended until the log is truncated.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
 public final class PersistentFileCache implements AutoCloseable {
-  /** Write to a persistent file. */
-  private final Writer writer;
 
-  public PersistentFileCache(final Writer writer) {
-    this.writer = checkNotNull(writer);
+  /** Size of a memory-mapped segment of the file (64 MB). */
+  private static final int SEGMENT_SIZE = 1 << 26;
+
+  /** Length of the complete page of an entry, if it is the same as the modified page. */
+  private static final int SAME_PAGE = -1;
+
+  /** The channel to map the segments of the file. */
+  private final FileChannel channel;
+
+  /** The byte handler pipeline (for instance compression) of the resource. */
+  private final ByteHandler byteHandler;
+
+  /** Transforms pages into byte-arrays and back. */
+  private final PagePersister pagePersister;
+
+  /** The mapped segments of the file, which are mapped lazily. */
+  private final List<MappedByteBuffer> segments;
+
+  /** The position, at which the next entry is appended. */
+  private long position;
+
+  /**
+   * Constructor.
+   *
+   * @param file the file, which backs the mapped segments (existing content is discarded)
+   * @param byteHandler the byte handler pipeline to serialize the pages
+   * @throws SirixIOException if the file can't be opened
+   */
+  public PersistentFileCache(final Path file, final ByteHandler byteHandler) {
+    checkNotNull(file);
+    this.byteHandler = checkNotNull(byteHandler);
+    pagePersister = new PagePersister();
+    segments = new ArrayList<>();
+    try {
+      channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
   }
 
-  public PageContainer get(PageReference reference, final PageReadOnlyTrx pageReadTrx) {
+  /**
+   * Get the page container, which has been stored for a page reference.
+   *
+   * @param reference the page reference, which stores the persistent log key of the entry
+   * @param pageReadTrx the page read-only transaction to deserialize the pages
+   * @return the page container or {@link PageContainer#emptyInstance()}, if no entry has been stored
+   */
+  public PageContainer get(final PageReference reference, final PageReadOnlyTrx pageReadTrx) {
     checkNotNull(pageReadTrx);
 
-    if (reference.getPersistentLogKey() < 0)
+    final long offset = reference.getPersistentLogKey();
+
+    if (offset < 0)
       return PageContainer.emptyInstance();
 
-    final Page modifiedPage = writer.read(reference, pageReadTrx);
-    final Page completePage;
+    try {
+      final int modifiedLength = readInt(offset);
+      final Page modifiedPage = deserialize(read(offset + Integer.BYTES, modifiedLength), pageReadTrx);
 
-    if (modifiedPage instanceof KeyValuePage) {
-      final long peristKey = reference.getPersistentLogKey();
-      reference.setPersistentLogKey(peristKey + reference.getLength());
-      completePage = writer.read(reference, pageReadTrx);
-      reference.setPersistentLogKey(peristKey);
-    } else {
-      completePage = modifiedPage;
-    }
+      final long completeOffset = offset + Integer.BYTES + modifiedLength;
+      final int completeLength = readInt(completeOffset);
+      final Page completePage = completeLength == SAME_PAGE
+          ? modifiedPage
+          : deserialize(read(completeOffset + Integer.BYTES, completeLength), pageReadTrx);
 
-    return PageContainer.getInstance(completePage, modifiedPage);
+      return PageContainer.getInstance(completePage, modifiedPage);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
   }
 
-  public PersistentFileCache put(PageReference reference, PageContainer container) {
-    reference.setPage(container.getModified());
-    writer.write(reference);
+  /**
+   * Store a page container and remember the offset of the entry in the page reference. The page of the reference is
+   * reset afterwards.
+   *
+   * @param reference the page reference of the container
+   * @param container the page container to store
+   * @return this cache instance
+   */
+  public PersistentFileCache put(final PageReference reference, final PageContainer container) {
+    final Page modifiedPage = container.getModified();
+    final Page completePage = container.getComplete();
+
+    try {
+      final byte[] modifiedBytes = serialize(modifiedPage);
+      final byte[] completeBytes = completePage == modifiedPage ? null : serialize(completePage);
+
+      final long offset = position;
+      writeInt(position, modifiedBytes.length);
+      write(position + Integer.BYTES, modifiedBytes);
+      position += Integer.BYTES + modifiedBytes.length;
+
+      if (completeBytes == null) {
+        writeInt(position, SAME_PAGE);
+        position += Integer.BYTES;
+      } else {
+        writeInt(position, completeBytes.length);
+        write(position + Integer.BYTES, completeBytes);
+        position += Integer.BYTES + completeBytes.length;
+      }
 
-    if (container.getModified() instanceof KeyValuePage) {
-      final long offset = reference.getPersistentLogKey();
-      int length = reference.getLength();
-      reference.setPage(container.getComplete());
-      writer.write(reference);
-      length += reference.getLength();
       reference.setPersistentLogKey(offset);
-      reference.setLength(length);
+      reference.setLength((int) (position - offset));
+      reference.setPage(null);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
     }
 
-    reference.setPage(null);
-
     return this;
   }
 
+  /**
+   * Discard all entries. The mapped segments are reused for new entries.
+   *
+   * @return this cache instance
+   */
   public PersistentFileCache truncate() {
-    writer.truncate();
+    position = 0;
     return this;
   }
 
+  private byte[] serialize(final Page page) throws IOException {
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final DataOutputStream dataOutput = new DataOutputStream(byteHandler.serialize(output))) {
+      pagePersister.serializePage(dataOutput, page, SerializationType.TRANSACTION_INTENT_LOG);
+      dataOutput.flush();
+      return output.toByteArray();
+    }
+  }
+
+  private Page deserialize(final byte[] bytes, final PageReadOnlyTrx pageReadTrx) throws IOException {
+    final DataInputStream input = new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(bytes)));
+    return pagePersister.deserializePage(input, pageReadTrx, SerializationType.TRANSACTION_INTENT_LOG);
+  }
+
+  private void writeInt(final long position, final int value) throws IOException {
+    write(position, ByteBuffer.allocate(Integer.BYTES).putInt(value).array());
+  }
+
+  private int readInt(final long position) throws IOException {
+    return ByteBuffer.wrap(read(position, Integer.BYTES)).getInt();
+  }
+
+  // Entries may span several segments.
+  private void write(long position, final byte[] bytes) throws IOException {
+    int written = 0;
+    while (written < bytes.length) {
+      final int segmentOffset = (int) (position % SEGMENT_SIZE);
+      final int length = Math.min(bytes.length - written, SEGMENT_SIZE - segmentOffset);
+      segment(position).duplicate().position(segmentOffset).put(bytes, written, length);
+      written += length;
+      position += length;
+    }
+  }
+
+  private byte[] read(long position, final int length) throws IOException {
+    final byte[] bytes = new byte[length];
+    int read = 0;
+    while (read < length) {
+      final int segmentOffset = (int) (position % SEGMENT_SIZE);
+      final int segmentLength = Math.min(length - read, SEGMENT_SIZE - segmentOffset);
+      segment(position).duplicate().position(segmentOffset).get(bytes, read, segmentLength);
+      read += segmentLength;
+      position += segmentLength;
+    }
+    return bytes;
+  }
+
+  private MappedByteBuffer segment(final long position) throws IOException {
+    final int index = (int) (position / SEGMENT_SIZE);
+    while (segments.size() <= index) {
+      segments.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) segments.size() * SEGMENT_SIZE, SEGMENT_SIZE));
+    }
+    return segments.get(index);
+  }
+
+  /**
+   * Close the file. Java doesn't provide a supported way to unmap a {@link MappedByteBuffer}, thus the segments are
+   * only unmapped, once they are garbage collected. The references to them are dropped, such that they can be
+   * collected, and they are never accessed again, as the cache can't be used after it has been closed. The mappings
+   * keep the address space and the pages in the operating system page cache until then, but no heap memory.
+   */
   @Override
   public void close() {
-    writer.close();
+    segments.clear();
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
   }
 }
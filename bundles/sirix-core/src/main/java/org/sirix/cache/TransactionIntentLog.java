@@ -4,23 +4,53 @@ import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.page.*;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.Page;
 import org.sirix.settings.Constants;
 
-import javax.annotation.Nullable;
 import java.util.*;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
- * The transaction intent log, used for logging everything a write transaction changes.
+ * The transaction intent log, used for logging everything a write transaction changes. The page containers are kept
+ * in memory up to a budget of their estimated size. Beyond that, the least recently used containers are evicted to
+ * memory-mapped segments of a file.
  *
  * @author Johannes Lichtenberger <a href="mailto:lichtenberger.johannes@gmail.com">mail</a>
  */
 public final class TransactionIntentLog implements AutoCloseable {
 
   /**
-   * The collection to hold the maps.
+   * Estimated in-memory size of a page without its records and references.
+   */
+  private static final long PAGE_SIZE_ESTIMATE = 256;
+
+  /**
+   * Estimated in-memory size of a record (node) in a key/value page.
+   */
+  private static final long RECORD_SIZE_ESTIMATE = 128;
+
+  /**
+   * Estimated in-memory size of a page reference.
+   */
+  private static final long REFERENCE_SIZE_ESTIMATE = 64;
+
+  /**
+   * Fraction of the memory budget, down to which entries are evicted once the budget is exceeded.
+   */
+  private static final double LOW_WATERMARK = 0.75;
+
+  /**
+   * The collection to hold the maps, in access order (least recently used first).
    */
   private final Map<PageReference, PageContainer> map;
 
+  /**
+   * The estimated in-memory sizes of the page containers in the map.
+   */
+  private final Map<PageReference, Long> weights;
+
   /**
    * Maps in-memory key to persistent key and vice versa.
    */
@@ -31,6 +61,16 @@ public final class TransactionIntentLog implements AutoCloseable {
    */
   private final PersistentFileCache secondCache;
 
+  /**
+   * The maximum estimated size of the page containers kept in memory.
+   */
+  private final long maxInMemoryBytes;
+
+  /**
+   * The estimated size of the page containers kept in memory.
+   */
+  private long inMemoryBytes;
+
   /**
    * The log key.
    */
@@ -39,59 +79,91 @@ public final class TransactionIntentLog implements AutoCloseable {
   /**
    * Creates a new transaction intent log.
    *
-   * @param secondCache         the reference to the second {@link Cache} where the data is stored when it
-   *                            gets removed from the first one.
-   * @param maxInMemoryCapacity the maximum size of the in-memory map
+   * @param secondCache      the reference to the second {@link Cache} where the data is stored when it
+   *                         gets removed from the first one.
+   * @param maxInMemoryBytes the maximum estimated size in bytes of the page containers kept in memory
    */
-  public TransactionIntentLog(final PersistentFileCache secondCache, final int maxInMemoryCapacity) {
+  public TransactionIntentLog(final PersistentFileCache secondCache, final long maxInMemoryBytes) {
     // Assertion instead of checkNotNull(...).
     assert secondCache != null;
+    checkArgument(maxInMemoryBytes > 0, "The memory budget must be positive!");
     logKey = 0;
     this.secondCache = secondCache;
-    mapToPersistentLogKey = HashBiMap.create(maxInMemoryCapacity >> 1);
-    map = new LinkedHashMap<>(maxInMemoryCapacity >> 1) {
-      private static final long serialVersionUID = 1;
-
-      @Override
-      protected boolean removeEldestEntry(final @Nullable Map.Entry<PageReference, PageContainer> eldest) {
-        if (size() > maxInMemoryCapacity) {
-          int i = 0;
-          final var iter = map.entrySet().iterator();
-          final int size = size();
-          while (iter.hasNext() && i < (size / 2)) {
-            final Map.Entry<PageReference, PageContainer> entry = iter.next();
-
-            if (isImportant(entry))
-              continue;
-
-            i++;
-            final PageReference key = entry.getKey();
-            assert key.getLogKey() != Constants.NULL_ID_INT;
-            PageContainer value = entry.getValue();
-
-            if (value != null) {
-              iter.remove();
-              TransactionIntentLog.this.secondCache.put(key, value);
-              value = null;
-              mapToPersistentLogKey.put(key.getLogKey(), key.getPersistentLogKey());
-            }
-          }
-        }
-        return false;
-      }
+    this.maxInMemoryBytes = maxInMemoryBytes;
+    mapToPersistentLogKey = HashBiMap.create();
+    map = new LinkedHashMap<>(16, 0.75f, true);
+    weights = new HashMap<>();
+  }
 
-      private boolean isImportant(Map.Entry<PageReference, PageContainer> eldest) {
-        final var page = eldest.getValue().getComplete();
-        if (page instanceof RevisionRootPage || page instanceof NamePage || page instanceof CASPage
-            || page instanceof PathPage || page instanceof PathSummaryPage || page instanceof UberPage) {
-          return true;
-        } else if (page instanceof UnorderedKeyValuePage) {
-          var dataPage = (UnorderedKeyValuePage) page;
-          return dataPage.getPageKind() != PageKind.RECORDPAGE;
-        }
-        return false;
-      }
-    };
+  /**
+   * Evicts the least recently used page containers to the second cache, once the memory budget is exceeded, until the
+   * estimated size drops below the low watermark. Pages, which are needed on each access of the tries (for instance
+   * revision root pages), and the most recently used container are never evicted.
+   *
+   * <p>
+   * The records of the page containers are modified in place, thus an evicted container must not be referenced
+   * anymore by the write transaction. The log therefore never evicts on its own: the method must only be called
+   * between two modifications of a node transaction, where intermediate commits are done as well.
+   * </p>
+   */
+  public void evict() {
+    if (inMemoryBytes <= maxInMemoryBytes)
+      return;
+
+    final long lowWatermark = (long) (maxInMemoryBytes * LOW_WATERMARK);
+    final var iter = map.entrySet().iterator();
+    int remaining = map.size();
+    while (iter.hasNext() && inMemoryBytes > lowWatermark && remaining-- > 1) {
+      final Map.Entry<PageReference, PageContainer> entry = iter.next();
+
+      if (isImportant(entry.getValue()))
+        continue;
+
+      final PageReference key = entry.getKey();
+      assert key.getLogKey() != Constants.NULL_ID_INT;
+      final PageContainer value = entry.getValue();
+
+      // Remove the key before it is modified by the second cache, as its hash code changes.
+      iter.remove();
+      inMemoryBytes -= weights.remove(key);
+      secondCache.put(key, value);
+      mapToPersistentLogKey.put(key.getLogKey(), key.getPersistentLogKey());
+    }
+  }
+
+  private static boolean isImportant(final PageContainer container) {
+    final var page = container.getComplete();
+    if (page instanceof RevisionRootPage || page instanceof NamePage || page instanceof CASPage
+        || page instanceof PathPage || page instanceof PathSummaryPage || page instanceof DeweyIDMappingPage
+        || page instanceof UberPage) {
+      return true;
+    } else if (page instanceof UnorderedKeyValuePage) {
+      var dataPage = (UnorderedKeyValuePage) page;
+      return dataPage.getPageKind() != PageKind.RECORDPAGE;
+    }
+    return false;
+  }
+
+  /**
+   * Estimates the in-memory size of a page container.
+   *
+   * @param container the page container
+   * @return the estimated size in bytes
+   */
+  private static long weigh(final PageContainer container) {
+    final Page complete = container.getComplete();
+    final Page modified = container.getModified();
+    return complete == modified ? weigh(complete) : weigh(complete) + weigh(modified);
+  }
+
+  private static long weigh(final Page page) {
+    if (page == null)
+      return 0;
+    if (page instanceof OverflowPage)
+      return PAGE_SIZE_ESTIMATE;
+    if (page instanceof KeyValuePage)
+      return PAGE_SIZE_ESTIMATE + ((KeyValuePage<?, ?>) page).size() * RECORD_SIZE_ESTIMATE;
+    return PAGE_SIZE_ESTIMATE + page.getReferences().size() * REFERENCE_SIZE_ESTIMATE;
   }
 
   /**
@@ -103,7 +175,13 @@ public final class TransactionIntentLog implements AutoCloseable {
    */
   public PageContainer get(final PageReference key, final PageReadOnlyTrx pageRtx) {
     PageContainer value = map.get(key);
-    if (value == null) {
+    if (value != null) {
+      // Records might have been added to the page since it has been put into the log.
+      if (value.getModified() instanceof KeyValuePage) {
+        final long weight = weigh(value);
+        inMemoryBytes += weight - weights.put(key, weight);
+      }
+    } else {
       if (key.getLogKey() != Constants.NULL_ID_INT) {
         final Long persistentKey = mapToPersistentLogKey.get(key.getLogKey());
         if (persistentKey != null)
@@ -121,19 +199,23 @@ public final class TransactionIntentLog implements AutoCloseable {
   }
 
   /**
-   * Adds an entry to this cache. If the cache is full, the LRU (least recently used) entry is
-   * dropped.
+   * Adds an entry to this cache. The entries are evicted to the second cache by {@link #evict()}.
    *
    * @param key   the key with which the specified value is to be associated
    * @param value a value to be associated with the specified key
    */
   public void put(final PageReference key, final PageContainer value) {
-    map.remove(key);
+    if (map.remove(key) != null)
+      inMemoryBytes -= weights.remove(key);
 
     key.setKey(Constants.NULL_ID_LONG);
     key.setLogKey(logKey++);
     key.setPersistentLogKey(Constants.NULL_ID_LONG);
     map.put(key, value);
+
+    final long weight = weigh(value);
+    weights.put(key, weight);
+    inMemoryBytes += weight;
   }
 
   /**
@@ -142,7 +224,8 @@ public final class TransactionIntentLog implements AutoCloseable {
    * @param key the key with which the specified value is to be associated
    */
   public void remove(final PageReference key) {
-    map.remove(key);
+    if (map.remove(key) != null)
+      inMemoryBytes -= weights.remove(key);
     mapToPersistentLogKey.remove(key.getLogKey());
   }
 
@@ -152,6 +235,8 @@ public final class TransactionIntentLog implements AutoCloseable {
   public void clear() {
     logKey = 0;
     map.clear();
+    weights.clear();
+    inMemoryBytes = 0;
   }
 
   /**
@@ -163,6 +248,15 @@ public final class TransactionIntentLog implements AutoCloseable {
     return map.size();
   }
 
+  /**
+   * Returns the estimated size of the page containers kept in memory.
+   *
+   * @return the estimated size in bytes
+   */
+  public long usedBytes() {
+    return inMemoryBytes;
+  }
+
   /**
    * Returns a {@code Collection} that contains a copy of all cache entries.
    *
@@ -192,15 +286,19 @@ public final class TransactionIntentLog implements AutoCloseable {
    * @return this log instance
    */
   public TransactionIntentLog truncate() {
-    secondCache.close();
+    secondCache.truncate();
     mapToPersistentLogKey.clear();
     map.clear();
+    weights.clear();
+    inMemoryBytes = 0;
     return this;
   }
 
   @Override
   public void close() {
     map.clear();
+    weights.clear();
+    inMemoryBytes = 0;
     secondCache.close();
   }
 }
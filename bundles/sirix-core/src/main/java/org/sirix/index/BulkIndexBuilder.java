@@ -0,0 +1,14 @@
+package org.sirix.index;
+
+/**
+ * An index builder, which buffers the index entries during the traversal of a revision and writes the remaining
+ * entries, once the traversal is finished.
+ *
+ * @author Johannes Lichtenberger
+ */
+public interface BulkIndexBuilder {
+  /**
+   * Called by {@link IndexBuilder}, once all nodes have been visited.
+   */
+  void finish();
+}
@@ -32,6 +32,7 @@ public final class IndexBuilder {
         rtx.acceptVisitor(builder);
       }
     }
+    finish(builders);
     rtx.moveTo(nodeKey);
   }
 
@@ -51,7 +52,16 @@ public final class IndexBuilder {
         rtx.acceptVisitor(builder);
       }
     }
+    finish(builders);
     rtx.moveTo(nodeKey);
   }
 
+  // Write the buffered index entries.
+  private static void finish(final Set<?> builders) {
+    for (final Object builder : builders) {
+      if (builder instanceof BulkIndexBuilder) {
+        ((BulkIndexBuilder) builder).finish();
+      }
+    }
+  }
 }
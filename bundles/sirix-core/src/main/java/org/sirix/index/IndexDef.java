@@ -33,6 +33,8 @@ public final class IndexDef implements Materializable {
 
   private static final QNm ID_ATTRIBUTE = new QNm("id");
 
+  private static final QNm STRUCTURE_ATTRIBUTE = new QNm("structure");
+
   public static final QNm INDEX_TAG = new QNm("index");
 
   private IndexType type;
@@ -43,6 +45,9 @@ public final class IndexDef implements Materializable {
   // for CAS indexes
   private Type contentType;
 
+  // the data structure, which stores the index entries
+  private IndexStructure structure = IndexStructure.AVL_TREE;
+
   // populated when index is built
   private int id;
 
@@ -58,9 +63,18 @@ public final class IndexDef implements Materializable {
    * Name index.
    */
   IndexDef(final Set<QNm> included, final Set<QNm> excluded, final int indexDefNo) {
+    this(included, excluded, IndexStructure.AVL_TREE, indexDefNo);
+  }
+
+  /**
+   * Name index, stored in the given data structure.
+   */
+  IndexDef(final Set<QNm> included, final Set<QNm> excluded, final IndexStructure structure,
+      final int indexDefNo) {
     type = IndexType.NAME;
     this.included.addAll(included);
     this.excluded.addAll(excluded);
+    this.structure = checkNotNull(structure);
     id = indexDefNo;
   }
 
@@ -68,8 +82,16 @@ public final class IndexDef implements Materializable {
    * Path index.
    */
   IndexDef(final Set<Path<QNm>> paths, final int indexDefNo) {
+    this(paths, IndexStructure.AVL_TREE, indexDefNo);
+  }
+
+  /**
+   * Path index, stored in the given data structure.
+   */
+  IndexDef(final Set<Path<QNm>> paths, final IndexStructure structure, final int indexDefNo) {
     type = IndexType.PATH;
     this.paths.addAll(paths);
+    this.structure = checkNotNull(structure);
     id = indexDefNo;
   }
 
@@ -78,10 +100,28 @@ public final class IndexDef implements Materializable {
    */
   IndexDef(final Type contentType, final Set<Path<QNm>> paths, final boolean unique,
       final int indexDefNo) {
+    this(contentType, paths, unique, IndexStructure.AVL_TREE, indexDefNo);
+  }
+
+  /**
+   * CAS index, stored in the given data structure.
+   */
+  IndexDef(final Type contentType, final Set<Path<QNm>> paths, final boolean unique,
+      final IndexStructure structure, final int indexDefNo) {
     type = IndexType.CAS;
     this.contentType = checkNotNull(contentType);
     this.paths.addAll(paths);
     this.unique = unique;
+    this.structure = checkNotNull(structure);
+    id = indexDefNo;
+  }
+
+  /**
+   * DeweyID index, which is always stored in a B+-tree.
+   */
+  IndexDef(final int indexDefNo) {
+    type = IndexType.DEWEYID;
+    structure = IndexStructure.BPLUS_TREE;
     id = indexDefNo;
   }
 
@@ -97,6 +137,10 @@ public final class IndexDef implements Materializable {
       tmp.attribute(CONTENT_TYPE_ATTRIBUTE, new Una(contentType.toString()));
     }
 
+    if (structure != IndexStructure.AVL_TREE) {
+      tmp.attribute(STRUCTURE_ATTRIBUTE, new Una(structure.toString()));
+    }
+
     if (unique) {
       tmp.attribute(UNIQUE_ATTRIBUTE, new Una(Boolean.toString(unique)));
     }
@@ -173,6 +217,11 @@ public final class IndexDef implements Materializable {
       unique = (Boolean.valueOf(attribute.getValue().stringValue()));
     }
 
+    attribute = root.getAttribute(STRUCTURE_ATTRIBUTE);
+    if (attribute != null) {
+      structure = IndexStructure.valueOf(attribute.getValue().stringValue());
+    }
+
     final Stream<? extends Node<?>> children = root.getChildren();
 
     try {
@@ -234,10 +283,18 @@ public final class IndexDef implements Materializable {
     return type == IndexType.PATH;
   }
 
+  public boolean isDeweyIDIndex() {
+    return type == IndexType.DEWEYID;
+  }
+
   public boolean isUnique() {
     return unique;
   }
 
+  public IndexStructure getStructure() {
+    return structure;
+  }
+
   public int getID() {
     return id;
   }
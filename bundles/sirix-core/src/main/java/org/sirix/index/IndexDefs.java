@@ -37,6 +37,21 @@ public final class IndexDefs {
     return new IndexDef(type, paths, unique, indexDefNo);
   }
 
+  /**
+   * Create a CAS {@link IndexDef} instance, which is stored in the given data structure.
+   *
+   * @param unique determine if it's unique
+   * @param optType an optional type
+   * @param paths the paths to index
+   * @param structure the data structure, which stores the index entries
+   * @return a new {@link IndexDef} instance
+   */
+  public static IndexDef createCASIdxDef(final boolean unique, final Type optType, final Set<Path<QNm>> paths,
+      final IndexStructure structure, final int indexDefNo) {
+    final Type type = optType == null ? Type.STR : optType;
+    return new IndexDef(type, paths, unique, structure, indexDefNo);
+  }
+
   /**
    * Create a path {@link IndexDef}.
    *
@@ -47,6 +62,27 @@ public final class IndexDefs {
     return new IndexDef(paths, indexDefNo);
   }
 
+  /**
+   * Create a path {@link IndexDef}, which is stored in the given data structure.
+   *
+   * @param paths the paths to index
+   * @param structure the data structure, which stores the index entries
+   * @return a new path {@link IndexDef} instance
+   */
+  public static IndexDef createPathIdxDef(final Set<Path<QNm>> paths, final IndexStructure structure,
+      final int indexDefNo) {
+    return new IndexDef(paths, structure, indexDefNo);
+  }
+
+  /**
+   * Create a DeweyID {@link IndexDef}, which maps the DeweyIDs of all nodes to their node keys.
+   *
+   * @return a new DeweyID {@link IndexDef} instance
+   */
+  public static IndexDef createDeweyIDIdxDef(final int indexDefNo) {
+    return new IndexDef(indexDefNo);
+  }
+
   public enum NameIndexType {
     JSON,
 
@@ -54,11 +90,25 @@ public final class IndexDefs {
   }
 
   public static IndexDef createNameIdxDef(final int indexDefNo, final NameIndexType type) {
+    return createNameIdxDef(indexDefNo, type, IndexStructure.AVL_TREE);
+  }
+
+  /**
+   * Create a name {@link IndexDef}, which indexes all names and is stored in the given data structure.
+   *
+   * @param type the type of the resource
+   * @param structure the data structure, which stores the index entries
+   * @return a new name {@link IndexDef} instance
+   */
+  public static IndexDef createNameIdxDef(final int indexDefNo, final NameIndexType type,
+      final IndexStructure structure) {
     switch (type) {
       case JSON:
-        return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo);
+        return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), structure,
+            PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo);
       case XML:
-        return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo);
+        return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), structure,
+            PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo);
       default:
         throw new IllegalStateException("Type " + type + " not known.");
     }
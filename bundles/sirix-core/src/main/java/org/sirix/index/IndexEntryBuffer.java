@@ -0,0 +1,363 @@
+package org.sirix.index;
+
+import com.google.common.collect.AbstractIterator;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.avltree.keyvalue.CASValue;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.Utils;
+
+import javax.annotation.Nonnegative;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Buffers the index entries, which are collected while an index is built, sorted by key. Once the maximum number of
+ * node references is buffered, the entries are spilled as a sorted run to a temporary file. The node references are
+ * counted instead of the keys, as a single key might reference a huge number of nodes. Once the traversal is finished, the
+ * runs and the remaining entries are merged and written in ascending key order in one pass, such that the node keys of
+ * a key are added at once and the index tree is able to build all its nodes bottom-up.
+ *
+ * @author Johannes Lichtenberger
+ *
+ * @param <K> the key
+ */
+public final class IndexEntryBuffer<K extends Comparable<? super K>> {
+
+  /** The default maximum number of buffered node references. */
+  public static final int DEFAULT_MAX_NODE_REFERENCES = 1 << 18;
+
+  /** Serializes the keys of path indexes, that is the path class records. */
+  public static final KeySerializer<Long> PCR_KEY_SERIALIZER = new KeySerializer<>() {
+    @Override
+    public void serialize(final DataOutput sink, final Long key) throws IOException {
+      Utils.putVarLong(sink, key);
+    }
+
+    @Override
+    public Long deserialize(final DataInput source) throws IOException {
+      return Utils.getVarLong(source);
+    }
+  };
+
+  /** Serializes the keys of CAS indexes. */
+  public static final KeySerializer<CASValue> CAS_KEY_SERIALIZER = new KeySerializer<>() {
+    @Override
+    public void serialize(final DataOutput sink, final CASValue key) throws IOException {
+      CASValue.serialize(sink, key);
+    }
+
+    @Override
+    public CASValue deserialize(final DataInput source) throws IOException {
+      return CASValue.deserialize(source);
+    }
+  };
+
+  /** Serializes the keys of DeweyID indexes. */
+  public static final KeySerializer<SirixDeweyID> DEWEYID_KEY_SERIALIZER = new KeySerializer<>() {
+    @Override
+    public void serialize(final DataOutput sink, final SirixDeweyID key) throws IOException {
+      final byte[] deweyIDBytes = key.toBytes();
+      sink.writeInt(deweyIDBytes.length);
+      sink.write(deweyIDBytes);
+    }
+
+    @Override
+    public SirixDeweyID deserialize(final DataInput source) throws IOException {
+      final byte[] deweyIDBytes = new byte[source.readInt()];
+      source.readFully(deweyIDBytes);
+      return new SirixDeweyID(deweyIDBytes);
+    }
+  };
+
+  /** Writes the buffered entries. */
+  private final IndexTreeWriter<K, NodeReferences> indexTreeWriter;
+
+  /** Serializes the keys of the spilled runs. */
+  private final KeySerializer<K> keySerializer;
+
+  /** The maximum number of buffered node references. */
+  private final int maxNodeReferences;
+
+  /** The buffered entries. */
+  private final TreeMap<K, NodeReferences> entries;
+
+  /** The number of buffered node references of all entries. */
+  private int numberOfNodeReferences;
+
+  /** The files of the spilled runs. */
+  private final List<Path> runs;
+
+  /**
+   * Serializes the keys of the spilled runs.
+   *
+   * @param <K> the key
+   */
+  public interface KeySerializer<K> {
+    /**
+     * Serialize a key.
+     *
+     * @param sink the output to write the key to
+     * @param key the key
+     * @throws IOException if an I/O error occurs
+     */
+    void serialize(DataOutput sink, K key) throws IOException;
+
+    /**
+     * Deserialize a key.
+     *
+     * @param source the input to read the key from
+     * @return the key
+     * @throws IOException if an I/O error occurs
+     */
+    K deserialize(DataInput source) throws IOException;
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param indexTreeWriter writes the buffered entries
+   * @param keySerializer serializes the keys of the spilled runs
+   */
+  public IndexEntryBuffer(final IndexTreeWriter<K, NodeReferences> indexTreeWriter,
+      final KeySerializer<K> keySerializer) {
+    this(indexTreeWriter, keySerializer, DEFAULT_MAX_NODE_REFERENCES);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param indexTreeWriter writes the buffered entries
+   * @param keySerializer serializes the keys of the spilled runs
+   * @param maxNodeReferences the maximum number of buffered node references
+   */
+  public IndexEntryBuffer(final IndexTreeWriter<K, NodeReferences> indexTreeWriter,
+      final KeySerializer<K> keySerializer, final @Nonnegative int maxNodeReferences) {
+    checkArgument(maxNodeReferences > 0, "maxNodeReferences must be > 0!");
+    this.indexTreeWriter = checkNotNull(indexTreeWriter);
+    this.keySerializer = checkNotNull(keySerializer);
+    this.maxNodeReferences = maxNodeReferences;
+    entries = new TreeMap<>();
+    runs = new ArrayList<>();
+  }
+
+  /**
+   * Add a node key to the references of a key.
+   *
+   * @param key the key
+   * @param nodeKey the node key
+   * @throws SirixIOException if the entries can't be spilled
+   */
+  public void add(final K key, final @Nonnegative long nodeKey) {
+    final NodeReferences nodeReferences = entries.computeIfAbsent(key, unused -> new NodeReferences());
+
+    if (!nodeReferences.isPresent(nodeKey)) {
+      nodeReferences.addNodeKey(nodeKey);
+      numberOfNodeReferences++;
+
+      if (numberOfNodeReferences >= maxNodeReferences) {
+        spill();
+      }
+    }
+  }
+
+  /**
+   * Write all entries, that is the spilled runs merged with the buffered entries.
+   *
+   * @throws SirixIOException if the spilled runs can't be read
+   */
+  public void flush() {
+    try {
+      if (runs.isEmpty()) {
+        if (!entries.isEmpty()) {
+          indexTreeWriter.addAll(entries.entrySet().iterator());
+        }
+        return;
+      }
+
+      spill();
+      final MergeIterator mergedEntries = new MergeIterator();
+      try {
+        indexTreeWriter.addAll(mergedEntries);
+      } finally {
+        mergedEntries.close();
+      }
+    } finally {
+      entries.clear();
+      numberOfNodeReferences = 0;
+      deleteRuns();
+    }
+  }
+
+  /**
+   * Get the number of spilled runs, which haven't been merged yet.
+   *
+   * @return the number of spilled runs
+   */
+  int getNumberOfRuns() {
+    return runs.size();
+  }
+
+  // Write the buffered entries as a sorted run.
+  private void spill() {
+    if (entries.isEmpty()) {
+      return;
+    }
+    try {
+      final Path run = Files.createTempFile("sirix-index-", ".run");
+      runs.add(run);
+      try (final DataOutputStream output =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+        output.writeInt(entries.size());
+        for (final Map.Entry<K, NodeReferences> entry : entries.entrySet()) {
+          keySerializer.serialize(output, entry.getKey());
+          final Set<Long> nodeKeys = entry.getValue().getNodeKeys();
+          output.writeInt(nodeKeys.size());
+          for (final long nodeKey : nodeKeys) {
+            Utils.putVarLong(output, nodeKey);
+          }
+        }
+      }
+    } catch (final IOException e) {
+      deleteRuns();
+      throw new SirixIOException(e);
+    }
+    entries.clear();
+    numberOfNodeReferences = 0;
+  }
+
+  private void deleteRuns() {
+    for (final Path run : runs) {
+      try {
+        Files.deleteIfExists(run);
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+    runs.clear();
+  }
+
+  /**
+   * Reads the entries of a spilled run one after the other.
+   */
+  private final class Run implements Comparable<Run> {
+    /** The input of the run. */
+    private final DataInputStream input;
+
+    /** The number of entries, which haven't been read yet. */
+    private int remaining;
+
+    /** The current key. */
+    private K key;
+
+    /** The node keys of the current key. */
+    private Set<Long> nodeKeys;
+
+    private Run(final Path run) throws IOException {
+      input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)));
+      remaining = input.readInt();
+    }
+
+    /**
+     * Read the next entry.
+     *
+     * @return {@code true}, if an entry has been read, {@code false}, if the run is exhausted
+     */
+    private boolean next() throws IOException {
+      if (remaining == 0) {
+        return false;
+      }
+      remaining--;
+      key = keySerializer.deserialize(input);
+      final int size = input.readInt();
+      nodeKeys = new HashSet<>(size);
+      for (int i = 0; i < size; i++) {
+        nodeKeys.add(Utils.getVarLong(input));
+      }
+      return true;
+    }
+
+    @Override
+    public int compareTo(final Run other) {
+      return key.compareTo(other.key);
+    }
+  }
+
+  /**
+   * Merges the sorted runs, whereas the node keys of a key, which is stored in several runs, are combined.
+   */
+  private final class MergeIterator extends AbstractIterator<Map.Entry<K, NodeReferences>> implements AutoCloseable {
+    /** The runs ordered by their current key. */
+    private final PriorityQueue<Run> queue;
+
+    /** All runs. */
+    private final List<Run> openRuns;
+
+    private MergeIterator() {
+      queue = new PriorityQueue<>(runs.size());
+      openRuns = new ArrayList<>(runs.size());
+      try {
+        for (final Path path : runs) {
+          final Run run = new Run(path);
+          openRuns.add(run);
+          if (run.next()) {
+            queue.add(run);
+          }
+        }
+      } catch (final IOException e) {
+        close();
+        throw new SirixIOException(e);
+      }
+    }
+
+    @Override
+    protected Map.Entry<K, NodeReferences> computeNext() {
+      if (queue.isEmpty()) {
+        return endOfData();
+      }
+      try {
+        final K key = queue.peek().key;
+        final Set<Long> nodeKeys = new HashSet<>();
+        while (!queue.isEmpty() && queue.peek().key.compareTo(key) == 0) {
+          final Run run = queue.poll();
+          nodeKeys.addAll(run.nodeKeys);
+          if (run.next()) {
+            queue.add(run);
+          }
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(key, new NodeReferences(nodeKeys));
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+
+    @Override
+    public void close() {
+      for (final Run run : openRuns) {
+        try {
+          run.input.close();
+        } catch (final IOException e) {
+          throw new SirixIOException(e);
+        }
+      }
+    }
+  }
+}
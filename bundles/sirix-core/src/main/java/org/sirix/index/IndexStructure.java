@@ -0,0 +1,44 @@
+package org.sirix.index;
+
+import org.sirix.api.PageTrx;
+import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.avltree.interfaces.References;
+import org.sirix.index.bplustree.BPlusTreeWriter;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.UnorderedKeyValuePage;
+
+/**
+ * The data structure, which stores the entries of an index.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum IndexStructure {
+  /** Balanced binary search tree, one key per record. */
+  AVL_TREE {
+    @Override
+    public <K extends Comparable<? super K>, V extends References> IndexTreeWriter<K, V> createWriter(
+        final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, final IndexType type, final int index) {
+      return AVLTreeWriter.getInstance(pageWriteTrx, type, index);
+    }
+  },
+
+  /** B+-tree with many keys per record and linked leaves for range scans. */
+  BPLUS_TREE {
+    @Override
+    public <K extends Comparable<? super K>, V extends References> IndexTreeWriter<K, V> createWriter(
+        final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, final IndexType type, final int index) {
+      return BPlusTreeWriter.getInstance(pageWriteTrx, type, index);
+    }
+  };
+
+  /**
+   * Create a new writer for an index of this structure.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param type type of index
+   * @param index the index number
+   * @return new writer instance
+   */
+  public abstract <K extends Comparable<? super K>, V extends References> IndexTreeWriter<K, V> createWriter(
+      PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, IndexType type, int index);
+}
@@ -0,0 +1,57 @@
+package org.sirix.index;
+
+import org.sirix.index.avltree.interfaces.References;
+
+import javax.annotation.Nonnegative;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Writer of an index tree, which maps keys to node key references.
+ *
+ * @author Johannes Lichtenberger
+ *
+ * @param <K> the key to search for or insert
+ * @param <V> the value
+ */
+public interface IndexTreeWriter<K extends Comparable<? super K>, V extends References> {
+  /**
+   * Adds a node key to the references of the specified key, or creates a new index entry, if the key isn't indexed
+   * yet.
+   *
+   * @param key token to be indexed
+   * @param nodeKey the node key to add
+   * @param emptyValue supplies new (empty) references, if the key isn't indexed yet
+   * @return indexed node key references
+   */
+  V addNodeKey(K key, @Nonnegative long nodeKey, Supplier<V> emptyValue);
+
+  /**
+   * Adds the node keys of many index entries at once. The entries must be sorted in ascending key order and each key
+   * must occur only once, such that an implementation is able to build the tree in a single pass.
+   *
+   * @param sortedEntries the entries in ascending key order
+   */
+  void addAll(Iterator<? extends Map.Entry<K, V>> sortedEntries);
+
+  /**
+   * Remove a node key from the references of the specified key.
+   *
+   * @param key the key for which to search the value
+   * @param nodeKey the nodeKey to remove from the value
+   * @return {@code true}, if the node key has been removed, {@code false} otherwise
+   */
+  boolean remove(K key, @Nonnegative long nodeKey);
+
+  /**
+   * Finds the specified key in the index and returns its value.
+   *
+   * @param key key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
+   *         value hasn't been found)
+   */
+  Optional<V> get(K key, SearchMode mode);
+}
@@ -13,5 +13,8 @@ public enum IndexType {
   CAS,
 
   /** Name index. */
-  NAME;
+  NAME,
+
+  /** DeweyID to node key mapping index. */
+  DEWEYID;
 }
@@ -165,6 +165,15 @@ public final class Indexes implements Materializable {
     return Optional.empty();
   }
 
+  public Optional<IndexDef> findDeweyIDIndex() {
+    for (final IndexDef index : indexes) {
+      if (index.isDeweyIDIndex()) {
+        return Optional.of(index);
+      }
+    }
+    return Optional.empty();
+  }
+
   public int getNrOfIndexDefsWithType(final IndexType type) {
     checkNotNull(type);
     int nr = 0;
@@ -5,6 +5,7 @@ import org.sirix.api.NodeCursor;
 import org.sirix.api.PageTrx;
 import org.sirix.cache.PageContainer;
 import org.sirix.exception.SirixIOException;
+import org.sirix.index.IndexTreeWriter;
 import org.sirix.index.IndexType;
 import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
@@ -20,7 +21,10 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -34,7 +38,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * @param <V> the value
  */
 public final class AVLTreeWriter<K extends Comparable<? super K>, V extends References>
-    extends AbstractForwardingNodeCursor {
+    extends AbstractForwardingNodeCursor implements IndexTreeWriter<K, V> {
   /** Logger. */
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(AVLTreeWriter.class));
 
@@ -178,6 +182,58 @@ public final class AVLTreeWriter<K extends Comparable<? super K>, V extends Refe
     }
   }
 
+  /**
+   * Adds a node key to the references of the specified key, or creates a new index entry, if the key isn't indexed
+   * yet. In contrast to {@link #index(Comparable, References, MoveCursor)} the stored references are updated in place,
+   * thus the existing node keys don't have to be copied and compared for every added node key. Only the record itself
+   * is copied once per transaction, when its page is prepared for modification.
+   *
+   * @param key token to be indexed
+   * @param nodeKey the node key to add
+   * @param emptyValue supplies new (empty) references, if the key isn't indexed yet
+   * @return indexed node key references
+   * @throws SirixIOException if an I/O error occurs
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public V addNodeKey(final K key, final @Nonnegative long nodeKey, final Supplier<V> emptyValue) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    final Optional<V> searchedValue = mAVLTreeReader.get(checkNotNull(key), SearchMode.EQUAL);
+    if (searchedValue.isPresent()) {
+      if (searchedValue.get().contains(nodeKey)) {
+        return searchedValue.get();
+      }
+      final AVLNode<K, V> node = (AVLNode<K, V>) mPageWriteTrx.prepareEntryForModification(
+          mAVLTreeReader.getNodeKey(), mAVLTreeReader.mPageKind, mAVLTreeReader.mIndex);
+      node.getValue().addNodeKey(nodeKey);
+      return node.getValue();
+    }
+
+    // The cursor is placed on the node, which becomes the parent of the new node.
+    final V value = emptyValue.get();
+    value.addNodeKey(nodeKey);
+    return index(key, value, MoveCursor.NO_MOVE);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void addAll(final Iterator<? extends Map.Entry<K, V>> sortedEntries) {
+    while (sortedEntries.hasNext()) {
+      final Map.Entry<K, V> entry = sortedEntries.next();
+      final Optional<V> searchedValue = mAVLTreeReader.get(checkNotNull(entry.getKey()), SearchMode.EQUAL);
+      if (searchedValue.isPresent()) {
+        final AVLNode<K, V> node = (AVLNode<K, V>) mPageWriteTrx.prepareEntryForModification(
+            mAVLTreeReader.getNodeKey(), mAVLTreeReader.mPageKind, mAVLTreeReader.mIndex);
+        for (final long nodeKey : entry.getValue().getNodeKeys()) {
+          node.getValue().addNodeKey(nodeKey);
+        }
+      } else {
+        // The cursor is placed on the node, which becomes the parent of the new node.
+        index(entry.getKey(), entry.getValue(), MoveCursor.NO_MOVE);
+      }
+    }
+  }
+
   /**
    * Get the new maximum node key.
    *
@@ -208,6 +264,7 @@ public final class AVLTreeWriter<K extends Comparable<? super K>, V extends Refe
    * @param nodeKey the nodeKey to remove from the value
    * @throws SirixIOException if an I/O error occured
    */
+  @Override
   public boolean remove(final K key, final @Nonnegative long nodeKey) {
     checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
     final Optional<V> searchedValue = mAVLTreeReader.get(checkNotNull(key), SearchMode.EQUAL);
@@ -479,6 +536,7 @@ public final class AVLTreeWriter<K extends Comparable<? super K>, V extends Refe
    * @return {@link Optional} reference (with the found value, or a reference which indicates that the
    *         value hasn't been found)
    */
+  @Override
   public Optional<V> get(final K key, final SearchMode mode) {
     return mAVLTreeReader.get(checkNotNull(key), checkNotNull(mode));
   }
@@ -5,14 +5,23 @@ import com.google.common.base.Objects;
 import com.google.common.collect.ComparisonChain;
 import org.brackit.xquery.QueryException;
 import org.brackit.xquery.atomic.Atomic;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.module.Namespaces;
 import org.brackit.xquery.xdm.Type;
 import org.sirix.exception.SirixException;
 import org.sirix.index.AtomicUtil;
+import org.sirix.settings.Constants;
 import org.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import static org.sirix.node.Utils.getVarLong;
+import static org.sirix.node.Utils.putVarLong;
 
 /**
  * Value representing a text value, attribute value, element QName or any other byte encoded value.
@@ -125,4 +134,56 @@ public final class CASValue implements Comparable<CASValue> {
   public Type getType() {
     return type;
   }
+
+  /**
+   * Serialize a value, for instance as the key of an index entry.
+   *
+   * @param sink the output to write the value to
+   * @param key the value
+   * @throws IOException if an I/O error occurs
+   */
+  public static void serialize(final DataOutput sink, final CASValue key) throws IOException {
+    final byte[] value = key.getValue();
+    sink.writeInt(value.length);
+    sink.write(value);
+    final byte[] type = key.getType().toString().getBytes(Constants.DEFAULT_ENCODING);
+    sink.writeInt(type.length);
+    sink.write(type);
+    putVarLong(sink, key.getPathNodeKey());
+  }
+
+  /**
+   * Deserialize a value, which has been written by {@link #serialize(DataOutput, CASValue)}.
+   *
+   * @param source the input to read the value from
+   * @return the value
+   * @throws IOException if an I/O error occurs
+   */
+  public static CASValue deserialize(final DataInput source) throws IOException {
+    final byte[] value = new byte[source.readInt()];
+    source.readFully(value);
+    final byte[] type = new byte[source.readInt()];
+    source.readFully(type);
+    final long pathNodeKey = getVarLong(source);
+    final Type atomicType = resolveType(new String(type, Constants.DEFAULT_ENCODING));
+    return new CASValue(AtomicUtil.fromBytes(value, atomicType), atomicType, pathNodeKey);
+  }
+
+  /**
+   * Resolve a built-in type by its name.
+   *
+   * @param s the name of the type including the prefix
+   * @return the type
+   * @throws IllegalStateException if the type is unknown
+   */
+  public static Type resolveType(final String s) {
+    final QNm name =
+        new QNm(Namespaces.XS_NSURI, Namespaces.XS_PREFIX, s.substring(Namespaces.XS_PREFIX.length() + 1));
+    for (final Type type : Type.builtInTypes) {
+      if (type.getName().getLocalName().equals(name.getLocalName())) {
+        return type;
+      }
+    }
+    throw new IllegalStateException("Unknown content type: " + name);
+  }
 }
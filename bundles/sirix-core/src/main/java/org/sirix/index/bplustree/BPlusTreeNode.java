@@ -0,0 +1,332 @@
+package org.sirix.index.bplustree;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import org.sirix.index.avltree.interfaces.References;
+import org.sirix.node.AbstractForwardingNode;
+import org.sirix.node.NodeKind;
+import org.sirix.node.delegates.NodeDelegate;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * B+-tree node, which stores many sorted keys in one record. Leaf nodes store the value of each key and are linked
+ * to their neighbours, inner nodes store the keys of their children (one more than keys).
+ *
+ * @author Johannes Lichtenberger
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public final class BPlusTreeNode<K extends Comparable<? super K>, V extends References>
+    extends AbstractForwardingNode {
+
+  /** Maximum number of keys stored in one node, before the node is split. */
+  public static final int MAX_KEYS = 128;
+
+  /**
+   * Maximum number of node references stored in one leaf node, before the node is split. The node references dominate
+   * the serialized size of a leaf node, thus leaf nodes with a few keys, which reference many nodes, are split as well.
+   * A single key is never split, though.
+   */
+  public static final int MAX_NODE_REFERENCES = 1 << 12;
+
+  /** The kind of node (depending on the key type). */
+  private final NodeKind kind;
+
+  /** Determines if the node is a leaf node. */
+  private final boolean isLeaf;
+
+  /** The sorted keys. */
+  private final List<K> keys;
+
+  /** The values, one per key (leaf nodes only). */
+  private final List<V> values;
+
+  /** The node keys of the children, one more than keys (inner nodes only). */
+  private final List<Long> children;
+
+  /** Node key of the previous leaf node. */
+  private long previousLeafKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+
+  /** Node key of the next leaf node. */
+  private long nextLeafKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+
+  /** {@link NodeDelegate} reference. */
+  private final NodeDelegate nodeDelegate;
+
+  /**
+   * Constructor.
+   *
+   * @param kind the kind of node
+   * @param isLeaf determines if the node is a leaf node
+   * @param keys the sorted keys
+   * @param values the values of a leaf node, one per key, otherwise an empty list
+   * @param children the children of an inner node, one more than keys, otherwise an empty list
+   * @param nodeDelegate the used node delegate
+   */
+  public BPlusTreeNode(final NodeKind kind, final boolean isLeaf, final List<K> keys, final List<V> values,
+      final List<Long> children, final NodeDelegate nodeDelegate) {
+    this.kind = checkNotNull(kind);
+    this.isLeaf = isLeaf;
+    this.keys = checkNotNull(keys);
+    this.values = checkNotNull(values);
+    this.children = checkNotNull(children);
+    this.nodeDelegate = checkNotNull(nodeDelegate);
+    checkArgument(isLeaf ? values.size() == keys.size() : children.size() == keys.size() + 1 || keys.isEmpty(),
+        "Number of keys doesn't match the number of values or children!");
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return kind;
+  }
+
+  @Override
+  protected NodeDelegate delegate() {
+    return nodeDelegate;
+  }
+
+  /**
+   * Determines if the node is a leaf node.
+   *
+   * @return {@code true}, if it is a leaf node, {@code false} if it is an inner node
+   */
+  public boolean isLeaf() {
+    return isLeaf;
+  }
+
+  public int getKeyCount() {
+    return keys.size();
+  }
+
+  public K getKey(final int index) {
+    return keys.get(index);
+  }
+
+  public V getValue(final int index) {
+    return values.get(index);
+  }
+
+  public long getChildKey(final int index) {
+    return children.get(index);
+  }
+
+  public List<K> getKeys() {
+    return Collections.unmodifiableList(keys);
+  }
+
+  public List<V> getValues() {
+    return Collections.unmodifiableList(values);
+  }
+
+  public List<Long> getChildKeys() {
+    return Collections.unmodifiableList(children);
+  }
+
+  /**
+   * Get the number of node references of all values of a leaf node.
+   *
+   * @return the number of node references
+   */
+  public int getNumberOfNodeReferences() {
+    int numberOfNodeReferences = 0;
+    for (final V value : values) {
+      numberOfNodeReferences += value.getNodeKeys().size();
+    }
+    return numberOfNodeReferences;
+  }
+
+  /**
+   * Determines if the node has to be split, that is if it stores too many keys, or if it is a leaf node with more than
+   * one key, whose values store too many node references.
+   *
+   * @return {@code true}, if the node has to be split, {@code false} otherwise
+   */
+  public boolean isOverfull() {
+    return keys.size() > MAX_KEYS
+        || (isLeaf && keys.size() > 1 && getNumberOfNodeReferences() > MAX_NODE_REFERENCES);
+  }
+
+  public long getPreviousLeafKey() {
+    return previousLeafKey;
+  }
+
+  public long getNextLeafKey() {
+    return nextLeafKey;
+  }
+
+  public boolean hasPreviousLeaf() {
+    return previousLeafKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  public boolean hasNextLeaf() {
+    return nextLeafKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  public void setPreviousLeafKey(final long previousLeafKey) {
+    this.previousLeafKey = previousLeafKey;
+  }
+
+  public void setNextLeafKey(final long nextLeafKey) {
+    this.nextLeafKey = nextLeafKey;
+  }
+
+  /**
+   * Search for a key.
+   *
+   * @param key the key to search for
+   * @return the index of the key, if it is stored, otherwise {@code (-(insertion point) - 1)}
+   */
+  public int search(final K key) {
+    return Collections.binarySearch(keys, key);
+  }
+
+  /**
+   * Get the index of the child, whose subtree contains the given key.
+   *
+   * @param key the key to search for
+   * @return the index of the child
+   */
+  public int getChildIndex(final K key) {
+    final int index = search(key);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  /**
+   * Get the index of the first key, which is greater than or equal to the given key according to the comparator. In
+   * inner nodes it is the index of the child, which contains the first such key, if any.
+   *
+   * @param key the key to search for
+   * @param comparator the comparator, which might only compare parts of the keys
+   * @return the index of the first key, which is not lower than the given key or the number of keys, if all keys are
+   *         lower
+   */
+  public int lowerBound(final K key, final Comparator<? super K> comparator) {
+    int low = 0;
+    int high = keys.size();
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (comparator.compare(keys.get(middle), key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Insert a new entry into a leaf node.
+   *
+   * @param index the index of the new entry
+   * @param key the key
+   * @param value the value
+   */
+  void insertEntry(final int index, final K key, final V value) {
+    assert isLeaf;
+    keys.add(index, key);
+    values.add(index, value);
+  }
+
+  /**
+   * Insert a separator key and the node key of its right child into an inner node.
+   *
+   * @param leftChildKey the node key of the already stored left child of the separator key
+   * @param key the separator key
+   * @param rightChildKey the node key of the new right child
+   */
+  void insertChild(final long leftChildKey, final K key, final long rightChildKey) {
+    assert !isLeaf;
+    final int index = children.indexOf(leftChildKey);
+    assert index >= 0 : "Left child not found!";
+    keys.add(index, key);
+    children.add(index + 1, rightChildKey);
+  }
+
+  /**
+   * Move the upper half of the entries of this leaf node to the given (empty) node. If the node stores too many keys,
+   * the keys are halved, otherwise the node references.
+   *
+   * @param rightNode the new right neighbour
+   * @return the separator key, that is the first key of the right neighbour
+   */
+  K moveUpperHalfOfEntriesTo(final BPlusTreeNode<K, V> rightNode) {
+    assert isLeaf && rightNode.isLeaf && rightNode.keys.isEmpty() && keys.size() > 1;
+    final int middle = keys.size() > MAX_KEYS ? keys.size() / 2 : getMiddleOfNodeReferences();
+    final List<K> upperKeys = keys.subList(middle, keys.size());
+    final List<V> upperValues = values.subList(middle, values.size());
+    rightNode.keys.addAll(upperKeys);
+    rightNode.values.addAll(upperValues);
+    upperKeys.clear();
+    upperValues.clear();
+    return rightNode.keys.get(0);
+  }
+
+  // Get the index of the first entry, whose preceding entries store at least half of the node references, whereas both
+  // halves keep at least one entry.
+  private int getMiddleOfNodeReferences() {
+    final int halfOfNodeReferences = getNumberOfNodeReferences() / 2;
+    int numberOfNodeReferences = 0;
+    int middle = 0;
+    while (middle < keys.size() - 1 && (middle == 0 || numberOfNodeReferences < halfOfNodeReferences)) {
+      numberOfNodeReferences += values.get(middle).getNodeKeys().size();
+      middle++;
+    }
+    return middle;
+  }
+
+  /**
+   * Move the upper half of the keys and children of this inner node to the given (empty) node.
+   *
+   * @param rightNode the new right neighbour
+   * @return the separator key, which is removed from both nodes and has to be inserted into the parent
+   */
+  K moveUpperHalfOfChildrenTo(final BPlusTreeNode<K, V> rightNode) {
+    assert !isLeaf && !rightNode.isLeaf && rightNode.keys.isEmpty();
+    final int middle = keys.size() / 2;
+    final K separatorKey = keys.get(middle);
+    final List<K> upperKeys = keys.subList(middle + 1, keys.size());
+    final List<Long> upperChildren = children.subList(middle + 1, children.size());
+    rightNode.keys.addAll(upperKeys);
+    rightNode.children.addAll(upperChildren);
+    upperKeys.clear();
+    upperChildren.clear();
+    keys.remove(middle);
+    return separatorKey;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(nodeDelegate.getNodeKey());
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (obj instanceof BPlusTreeNode) {
+      final BPlusTreeNode<?, ?> other = (BPlusTreeNode<?, ?>) obj;
+      return this.nodeDelegate.getNodeKey() == other.nodeDelegate.getNodeKey();
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("node delegate", nodeDelegate)
+                      .add("leaf", isLeaf)
+                      .add("keys", keys)
+                      .add("values", values)
+                      .add("children", children)
+                      .add("previous leaf", previousLeafKey)
+                      .add("next leaf", nextLeafKey)
+                      .toString();
+  }
+}
@@ -0,0 +1,326 @@
+package org.sirix.index.bplustree;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Maps;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.avltree.interfaces.References;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.page.PageKind;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Reads a B+-tree index. In contrast to the {@link org.sirix.index.avltree.AVLTreeReader} a node stores up to
+ * {@link BPlusTreeNode#MAX_KEYS} keys and the leaf nodes are linked, such that range scans simply follow the leaf
+ * nodes instead of traversing the whole tree.
+ *
+ * @author Johannes Lichtenberger
+ *
+ * @param <K> the key to search for
+ * @param <V> the value
+ */
+public final class BPlusTreeReader<K extends Comparable<? super K>, V extends References> {
+
+  /** {@link PageReadOnlyTrx} for persistent storage. */
+  final PageReadOnlyTrx pageReadTrx;
+
+  /** Page kind. */
+  final PageKind pageKind;
+
+  /** Index number. */
+  final int index;
+
+  /**
+   * Get a new instance.
+   *
+   * @param <K> key instance which extends comparable
+   * @param <V> value
+   *
+   * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param type type of index
+   * @param index index
+   * @return new tree instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> BPlusTreeReader<K, V> getInstance(
+      final PageReadOnlyTrx pageReadTrx, final IndexType type, final @Nonnegative int index) {
+    return new BPlusTreeReader<>(pageReadTrx, type, index);
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param type kind of index
+   * @param index the index number
+   */
+  private BPlusTreeReader(final PageReadOnlyTrx pageReadTrx, final IndexType type, final int index) {
+    this.pageReadTrx = checkNotNull(pageReadTrx);
+    switch (type) {
+      case PATH:
+        pageKind = PageKind.PATHPAGE;
+        break;
+      case CAS:
+        pageKind = PageKind.CASPAGE;
+        break;
+      case NAME:
+        pageKind = PageKind.NAMEPAGE;
+        break;
+      case DEWEYID:
+        pageKind = PageKind.DEWEYIDPAGE;
+        break;
+      default:
+        throw new IllegalStateException();
+    }
+    this.index = index;
+  }
+
+  /**
+   * Get the document node of the index, which stores the root node key as its first child key and the number of
+   * index entries as its descendant count.
+   *
+   * @return the document node
+   */
+  StructNode getDocumentNode() {
+    final Optional<? extends DataRecord> document =
+        pageReadTrx.getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), pageKind, index);
+    return (StructNode) document.orElseThrow(
+        () -> new IllegalStateException("Node couldn't be fetched from persistent storage!"));
+  }
+
+  /**
+   * Get a node of the tree.
+   *
+   * @param nodeKey the node key
+   * @return the node
+   */
+  @SuppressWarnings("unchecked")
+  BPlusTreeNode<K, V> getBPlusTreeNode(final long nodeKey) {
+    final Optional<? extends DataRecord> node = pageReadTrx.getRecord(nodeKey, pageKind, index);
+    return (BPlusTreeNode<K, V>) node.orElseThrow(
+        () -> new IllegalStateException("Node " + nodeKey + " couldn't be fetched from persistent storage!"));
+  }
+
+  /**
+   * Descend from the root to the leaf node, which contains the specified key, if it is indexed.
+   *
+   * @param key the key to search for
+   * @param path if not {@code null}, the inner nodes on the path are pushed onto this stack
+   * @return the leaf node, or {@code null} if the tree is empty
+   */
+  @Nullable
+  BPlusTreeNode<K, V> findLeaf(final K key, final @Nullable Deque<BPlusTreeNode<K, V>> path) {
+    final StructNode document = getDocumentNode();
+    if (!document.hasFirstChild()) {
+      return null;
+    }
+    BPlusTreeNode<K, V> node = getBPlusTreeNode(document.getFirstChildKey());
+    while (!node.isLeaf()) {
+      if (path != null) {
+        path.push(node);
+      }
+      node = getBPlusTreeNode(node.getChildKey(node.getChildIndex(key)));
+    }
+    return node;
+  }
+
+  /**
+   * Descend from the root to the leaf node, which contains the first key, which is greater than or equal to the
+   * specified key according to the comparator.
+   *
+   * @param key the key to search for, or {@code null} to descend to the leftmost leaf node
+   * @param comparator the comparator, which might only compare parts of the keys
+   * @return the leaf node, or {@code null} if the tree is empty
+   */
+  @Nullable
+  private BPlusTreeNode<K, V> findFirstLeaf(final @Nullable K key, final Comparator<? super K> comparator) {
+    final StructNode document = getDocumentNode();
+    if (!document.hasFirstChild()) {
+      return null;
+    }
+    BPlusTreeNode<K, V> node = getBPlusTreeNode(document.getFirstChildKey());
+    while (!node.isLeaf()) {
+      node = getBPlusTreeNode(node.getChildKey(key == null ? 0 : node.lowerBound(key, comparator)));
+    }
+    return node;
+  }
+
+  /**
+   * Finds the specified key in the index and returns its value. For all search modes besides
+   * {@link SearchMode#EQUAL} the value of the nearest key, which satisfies the search mode, is returned.
+   *
+   * @param key key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
+   *         value hasn't been found)
+   */
+  public Optional<V> get(final K key, final SearchMode mode) {
+    checkNotNull(key);
+    switch (checkNotNull(mode)) {
+      case EQUAL: {
+        final BPlusTreeNode<K, V> leaf = findLeaf(key, null);
+        if (leaf == null) {
+          return Optional.empty();
+        }
+        final int index = leaf.search(key);
+        return index >= 0 ? Optional.of(leaf.getValue(index)) : Optional.empty();
+      }
+      case GREATER:
+      case GREATER_OR_EQUAL: {
+        final Iterator<Map.Entry<K, V>> entries = range(key, mode == SearchMode.GREATER_OR_EQUAL, null, false);
+        return entries.hasNext() ? Optional.of(entries.next().getValue()) : Optional.empty();
+      }
+      case LOWER:
+      case LOWER_OR_EQUAL:
+        return getLower(key, mode == SearchMode.LOWER_OR_EQUAL);
+      default:
+        throw new IllegalStateException();
+    }
+  }
+
+  // Get the value of the greatest key, which is lower than (or equal to) the given key.
+  private Optional<V> getLower(final K key, final boolean includeKey) {
+    BPlusTreeNode<K, V> leaf = findLeaf(key, null);
+    if (leaf == null) {
+      return Optional.empty();
+    }
+    final int searchIndex = leaf.search(key);
+    int index;
+    if (searchIndex >= 0) {
+      index = includeKey ? searchIndex : searchIndex - 1;
+    } else {
+      index = -searchIndex - 2;
+    }
+    while (index < 0) {
+      if (!leaf.hasPreviousLeaf()) {
+        return Optional.empty();
+      }
+      leaf = getBPlusTreeNode(leaf.getPreviousLeafKey());
+      index = leaf.getKeyCount() - 1;
+    }
+    return Optional.of(leaf.getValue(index));
+  }
+
+  /**
+   * Get all entries in ascending key order, whose keys are in the specified range.
+   *
+   * @param from the lower bound, or {@code null} if the range is unbounded to the left
+   * @param includeFrom determines if the lower bound itself is included
+   * @param to the upper bound, or {@code null} if the range is unbounded to the right
+   * @param includeTo determines if the upper bound itself is included
+   * @return an iterator over the entries in the range
+   */
+  public Iterator<Map.Entry<K, V>> range(final @Nullable K from, final boolean includeFrom, final @Nullable K to,
+      final boolean includeTo) {
+    final Predicate<K> isInRange;
+    if (to == null) {
+      isInRange = key -> true;
+    } else {
+      isInRange = key -> {
+        final int c = key.compareTo(to);
+        return c < 0 || (c == 0 && includeTo);
+      };
+    }
+    return range(from, Comparator.naturalOrder(), includeFrom, isInRange);
+  }
+
+  /**
+   * Get all entries in ascending key order starting at the first key, which is greater than (or equal to) the lower
+   * bound according to the comparator, until the first key, which isn't in range anymore.
+   *
+   * @param from the lower bound, or {@code null} if the range is unbounded to the left
+   * @param comparator the comparator to search the lower bound, which might only compare parts of the keys
+   * @param includeFrom determines if keys, which are equal to the lower bound according to the comparator, are
+   *        included
+   * @param isInRange determines if a key is still in range, thus the iteration stops at the first key, for which it
+   *        returns {@code false}
+   * @return an iterator over the entries in the range
+   */
+  public Iterator<Map.Entry<K, V>> range(final @Nullable K from, final Comparator<? super K> comparator,
+      final boolean includeFrom, final Predicate<? super K> isInRange) {
+    return new RangeIterator(from, checkNotNull(comparator), includeFrom, checkNotNull(isInRange));
+  }
+
+  /**
+   * Returns the number of index entries.
+   *
+   * @return number of index entries
+   */
+  public long size() {
+    return getDocumentNode().getDescendantCount();
+  }
+
+  /**
+   * Iterates over the entries in a key range by following the linked leaf nodes.
+   */
+  private final class RangeIterator extends AbstractIterator<Map.Entry<K, V>> {
+    /** The lower bound or {@code null}. */
+    private final K from;
+
+    /** The comparator to compare keys with the lower bound. */
+    private final Comparator<? super K> comparator;
+
+    /** Determines if keys, which are equal to the lower bound, are skipped. */
+    private boolean skipFrom;
+
+    /** Determines if a key is in range. */
+    private final Predicate<? super K> isInRange;
+
+    /** The current leaf node. */
+    private BPlusTreeNode<K, V> leaf;
+
+    /** Index of the next entry in the current leaf node. */
+    private int index;
+
+    private RangeIterator(final @Nullable K from, final Comparator<? super K> comparator, final boolean includeFrom,
+        final Predicate<? super K> isInRange) {
+      this.from = from;
+      this.comparator = comparator;
+      this.isInRange = isInRange;
+      skipFrom = from != null && !includeFrom;
+      leaf = findFirstLeaf(from, comparator);
+      if (leaf != null && from != null) {
+        index = leaf.lowerBound(from, comparator);
+      }
+    }
+
+    @Override
+    protected Map.Entry<K, V> computeNext() {
+      while (leaf != null) {
+        if (index >= leaf.getKeyCount()) {
+          leaf = leaf.hasNextLeaf() ? getBPlusTreeNode(leaf.getNextLeafKey()) : null;
+          index = 0;
+          continue;
+        }
+        final K key = leaf.getKey(index);
+        if (skipFrom) {
+          if (comparator.compare(key, from) == 0) {
+            index++;
+            continue;
+          }
+          skipFrom = false;
+        }
+        if (!isInRange.test(key)) {
+          leaf = null;
+          break;
+        }
+        final V value = leaf.getValue(index);
+        index++;
+        return Maps.immutableEntry(key, value);
+      }
+      return endOfData();
+    }
+  }
+}
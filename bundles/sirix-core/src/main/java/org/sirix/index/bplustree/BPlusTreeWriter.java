@@ -0,0 +1,389 @@
+package org.sirix.index.bplustree;
+
+import org.sirix.api.PageTrx;
+import org.sirix.cache.PageContainer;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.IndexTreeWriter;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.avltree.interfaces.References;
+import org.sirix.node.NodeKind;
+import org.sirix.node.delegates.NodeDelegate;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.page.CASPage;
+import org.sirix.page.DeweyIDMappingPage;
+import org.sirix.page.NamePage;
+import org.sirix.page.PageReference;
+import org.sirix.page.PathPage;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.settings.Fixed;
+import org.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes a B+-tree index. Keys are inserted into the leaf nodes, full nodes are split and the separator keys are
+ * propagated upwards. Removing node keys doesn't merge underfull nodes, as index entries are usually only removed, if
+ * the indexed nodes are removed.
+ *
+ * @author Johannes Lichtenberger
+ *
+ * @param <K> the key to search for or insert
+ * @param <V> the value
+ */
+public final class BPlusTreeWriter<K extends Comparable<? super K>, V extends References>
+    implements IndexTreeWriter<K, V> {
+  /** Logger. */
+  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(BPlusTreeWriter.class));
+
+  /** {@link BPlusTreeReader} instance. */
+  private final BPlusTreeReader<K, V> reader;
+
+  /** {@link PageTrx} instance. */
+  private final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx;
+
+  /** The kind of the tree nodes. */
+  private final NodeKind nodeKind;
+
+  /**
+   * Private constructor.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param type type of index
+   * @param index the index number
+   */
+  private BPlusTreeWriter(final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, final IndexType type,
+      final @Nonnegative int index) {
+    try {
+      final RevisionRootPage revisionRootPage = pageWriteTrx.getActualRevisionRootPage();
+      final PageReference reference;
+      switch (type) {
+        case PATH:
+          // Create path index tree if needed.
+          final PathPage pathPage = pageWriteTrx.getPathPage(revisionRootPage);
+          reference = revisionRootPage.getPathPageReference();
+          pageWriteTrx.appendLogRecord(reference, PageContainer.getInstance(pathPage, pathPage));
+          pathPage.createPathIndexTree(pageWriteTrx, index, pageWriteTrx.getLog());
+          break;
+        case CAS:
+          // Create CAS index tree if needed.
+          final CASPage casPage = pageWriteTrx.getCASPage(revisionRootPage);
+          reference = revisionRootPage.getCASPageReference();
+          pageWriteTrx.appendLogRecord(reference, PageContainer.getInstance(casPage, casPage));
+          casPage.createCASIndexTree(pageWriteTrx, index, pageWriteTrx.getLog());
+          break;
+        case NAME:
+          // Create name index tree if needed.
+          final NamePage namePage = pageWriteTrx.getNamePage(revisionRootPage);
+          reference = revisionRootPage.getNamePageReference();
+          pageWriteTrx.appendLogRecord(reference, PageContainer.getInstance(namePage, namePage));
+          namePage.createNameIndexTree(pageWriteTrx, index, pageWriteTrx.getLog());
+          break;
+        case DEWEYID:
+          // Create DeweyID index tree if needed.
+          final DeweyIDMappingPage deweyIDPage = pageWriteTrx.getDeweyIDPage(revisionRootPage);
+          reference = revisionRootPage.getDeweyIDPageReference();
+          pageWriteTrx.appendLogRecord(reference, PageContainer.getInstance(deweyIDPage, deweyIDPage));
+          deweyIDPage.createDeweyIDIndexTree(pageWriteTrx, index, pageWriteTrx.getLog());
+          break;
+        default:
+          // Must not happen.
+      }
+    } catch (final SirixIOException e) {
+      LOGGER.error(e.getMessage(), e);
+    }
+    switch (type) {
+      case PATH:
+        nodeKind = NodeKind.PATHBPLUSTREE;
+        break;
+      case CAS:
+        nodeKind = NodeKind.CASBPLUSTREE;
+        break;
+      case NAME:
+        nodeKind = NodeKind.NAMEBPLUSTREE;
+        break;
+      case DEWEYID:
+        nodeKind = NodeKind.DEWEYIDMAPPING;
+        break;
+      default:
+        throw new IllegalStateException();
+    }
+    reader = BPlusTreeReader.getInstance(pageWriteTrx, type, index);
+    this.pageWriteTrx = pageWriteTrx;
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param type type of index
+   * @param index the index number
+   * @return new tree instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> BPlusTreeWriter<K, V> getInstance(
+      final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, final IndexType type, final int index) {
+    return new BPlusTreeWriter<>(pageWriteTrx, type, index);
+  }
+
+  /**
+   * Get the {@link BPlusTreeReader} used to navigate.
+   *
+   * @return {@link BPlusTreeReader} reference
+   */
+  public BPlusTreeReader<K, V> getReader() {
+    return reader;
+  }
+
+  @Override
+  public V addNodeKey(final K key, final @Nonnegative long nodeKey, final Supplier<V> emptyValue) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    checkNotNull(key);
+    final Deque<BPlusTreeNode<K, V>> path = new ArrayDeque<>();
+    final BPlusTreeNode<K, V> leaf = reader.findLeaf(key, path);
+
+    if (leaf == null) {
+      // Index is empty.. create root node.
+      final V value = newValue(emptyValue, nodeKey);
+      final ArrayList<K> keys = new ArrayList<>();
+      final ArrayList<V> values = new ArrayList<>();
+      keys.add(key);
+      values.add(value);
+      final BPlusTreeNode<K, V> treeRoot = createNode(true, keys, values, new ArrayList<>());
+      final StructNode document = prepareDocumentForModification();
+      document.setFirstChildKey(treeRoot.getNodeKey());
+      document.incrementChildCount();
+      document.incrementDescendantCount();
+      return value;
+    }
+
+    final int index = leaf.search(key);
+    if (index >= 0) {
+      if (leaf.getValue(index).contains(nodeKey)) {
+        return leaf.getValue(index);
+      }
+      final BPlusTreeNode<K, V> modifiedLeaf = prepareForModification(leaf.getNodeKey());
+      final V value = modifiedLeaf.getValue(index);
+      value.addNodeKey(nodeKey);
+
+      if (modifiedLeaf.isOverfull()) {
+        split(modifiedLeaf, path);
+      }
+      return value;
+    }
+
+    final V value = newValue(emptyValue, nodeKey);
+    final BPlusTreeNode<K, V> modifiedLeaf = prepareForModification(leaf.getNodeKey());
+    modifiedLeaf.insertEntry(-index - 1, key, value);
+    prepareDocumentForModification().incrementDescendantCount();
+
+    if (modifiedLeaf.isOverfull()) {
+      split(modifiedLeaf, path);
+    }
+    return value;
+  }
+
+  /**
+   * Adds the sorted entries. If the tree is still empty, the leaf nodes are filled one after the other, until they
+   * store either the maximum number of keys or of node references, and the inner nodes are built bottom-up afterwards,
+   * thus no node has to be searched or split.
+   *
+   * @param sortedEntries the entries in ascending key order
+   */
+  @Override
+  public void addAll(final Iterator<? extends Map.Entry<K, V>> sortedEntries) {
+    if (reader.getDocumentNode().hasFirstChild()) {
+      while (sortedEntries.hasNext()) {
+        final Map.Entry<K, V> entry = sortedEntries.next();
+        // A new key is inserted with all its node keys at once, as the entry value is used as the new value.
+        for (final long nodeKey : entry.getValue().getNodeKeys()) {
+          addNodeKey(entry.getKey(), nodeKey, entry::getValue);
+        }
+      }
+      return;
+    }
+
+    // Fill the leaf nodes.
+    List<Long> childKeys = new ArrayList<>();
+    List<K> firstKeys = new ArrayList<>();
+    BPlusTreeNode<K, V> leaf = null;
+    int numberOfLeafNodeReferences = 0;
+    long numberOfEntries = 0;
+    K previousKey = null;
+    while (sortedEntries.hasNext()) {
+      final Map.Entry<K, V> entry = sortedEntries.next();
+      checkArgument(previousKey == null || previousKey.compareTo(entry.getKey()) < 0,
+          "Entries must be sorted in ascending key order and each key must occur only once!");
+      final int numberOfNodeReferences = entry.getValue().getNodeKeys().size();
+      if (leaf == null || leaf.getKeyCount() == BPlusTreeNode.MAX_KEYS
+          || numberOfLeafNodeReferences + numberOfNodeReferences > BPlusTreeNode.MAX_NODE_REFERENCES) {
+        final BPlusTreeNode<K, V> newLeaf = createNode(true, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        if (leaf != null) {
+          leaf.setNextLeafKey(newLeaf.getNodeKey());
+          newLeaf.setPreviousLeafKey(leaf.getNodeKey());
+        }
+        childKeys.add(newLeaf.getNodeKey());
+        firstKeys.add(entry.getKey());
+        leaf = newLeaf;
+        numberOfLeafNodeReferences = 0;
+      }
+      leaf.insertEntry(leaf.getKeyCount(), entry.getKey(), entry.getValue());
+      numberOfLeafNodeReferences += numberOfNodeReferences;
+      previousKey = entry.getKey();
+      numberOfEntries++;
+    }
+
+    if (childKeys.isEmpty()) {
+      return;
+    }
+
+    // Build the inner nodes level by level, the first key of each subtree is the separator key in its parent. The
+    // children are distributed evenly, such that no inner node is left with a single child and no separator key.
+    while (childKeys.size() > 1) {
+      final int numberOfChildren = childKeys.size();
+      final int numberOfParents = (numberOfChildren + BPlusTreeNode.MAX_KEYS) / (BPlusTreeNode.MAX_KEYS + 1);
+      final List<Long> parentKeys = new ArrayList<>(numberOfParents);
+      final List<K> parentFirstKeys = new ArrayList<>(numberOfParents);
+      int start = 0;
+      for (int i = 0; i < numberOfParents; i++) {
+        final int end = (int) ((long) numberOfChildren * (i + 1) / numberOfParents);
+        final BPlusTreeNode<K, V> parent = createNode(false, new ArrayList<>(firstKeys.subList(start + 1, end)),
+            new ArrayList<>(), new ArrayList<>(childKeys.subList(start, end)));
+        parentKeys.add(parent.getNodeKey());
+        parentFirstKeys.add(firstKeys.get(start));
+        start = end;
+      }
+      childKeys = parentKeys;
+      firstKeys = parentFirstKeys;
+    }
+
+    final StructNode document = prepareDocumentForModification();
+    document.setFirstChildKey(childKeys.get(0));
+    document.incrementChildCount();
+    document.setDescendantCount(document.getDescendantCount() + numberOfEntries);
+  }
+
+  // Create a new value, which references the given node key.
+  private V newValue(final Supplier<V> emptyValue, final long nodeKey) {
+    final V value = emptyValue.get();
+    value.addNodeKey(nodeKey);
+    return value;
+  }
+
+  /**
+   * Split an overfull node and insert the separator keys into the ancestor nodes, which are split in turn, if they are
+   * full, too.
+   *
+   * @param node the full node, which must already be prepared for modification
+   * @param path the inner nodes on the path from the root to the node
+   */
+  private void split(BPlusTreeNode<K, V> node, final Deque<BPlusTreeNode<K, V>> path) {
+    while (node.isOverfull()) {
+      final BPlusTreeNode<K, V> rightNode = createNode(node.isLeaf(), new ArrayList<>(), new ArrayList<>(),
+          new ArrayList<>());
+      final K separatorKey;
+      if (node.isLeaf()) {
+        separatorKey = node.moveUpperHalfOfEntriesTo(rightNode);
+        if (node.hasNextLeaf()) {
+          prepareForModification(node.getNextLeafKey()).setPreviousLeafKey(rightNode.getNodeKey());
+        }
+        rightNode.setNextLeafKey(node.getNextLeafKey());
+        rightNode.setPreviousLeafKey(node.getNodeKey());
+        node.setNextLeafKey(rightNode.getNodeKey());
+      } else {
+        separatorKey = node.moveUpperHalfOfChildrenTo(rightNode);
+      }
+
+      if (path.isEmpty()) {
+        // The root node has been split.. create a new root node.
+        final ArrayList<K> keys = new ArrayList<>();
+        final ArrayList<Long> children = new ArrayList<>();
+        keys.add(separatorKey);
+        children.add(node.getNodeKey());
+        children.add(rightNode.getNodeKey());
+        final BPlusTreeNode<K, V> treeRoot = createNode(false, keys, new ArrayList<>(), children);
+        prepareDocumentForModification().setFirstChildKey(treeRoot.getNodeKey());
+        return;
+      }
+
+      final BPlusTreeNode<K, V> parent = prepareForModification(path.pop().getNodeKey());
+      parent.insertChild(node.getNodeKey(), separatorKey, rightNode.getNodeKey());
+      node = parent;
+    }
+  }
+
+  @Override
+  public boolean remove(final K key, final @Nonnegative long nodeKey) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    final BPlusTreeNode<K, V> leaf = reader.findLeaf(checkNotNull(key), null);
+    if (leaf == null) {
+      return false;
+    }
+    final int index = leaf.search(key);
+    if (index < 0 || !leaf.getValue(index).contains(nodeKey)) {
+      return false;
+    }
+    return prepareForModification(leaf.getNodeKey()).getValue(index).removeNodeKey(nodeKey);
+  }
+
+  @Override
+  public Optional<V> get(final K key, final SearchMode mode) {
+    return reader.get(key, mode);
+  }
+
+  // Create and store a new tree node.
+  @SuppressWarnings("unchecked")
+  private BPlusTreeNode<K, V> createNode(final boolean isLeaf, final ArrayList<K> keys, final ArrayList<V> values,
+      final ArrayList<Long> children) {
+    final long nodeKey = getNewNodeKey(pageWriteTrx.getActualRevisionRootPage());
+    return (BPlusTreeNode<K, V>) pageWriteTrx.createEntry(nodeKey,
+        new BPlusTreeNode<>(nodeKind, isLeaf, keys, values, children,
+            new NodeDelegate(nodeKey, Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), null, null, 0, null)),
+        reader.pageKind, reader.index);
+  }
+
+  @SuppressWarnings("unchecked")
+  private BPlusTreeNode<K, V> prepareForModification(final long nodeKey) {
+    return (BPlusTreeNode<K, V>) pageWriteTrx.prepareEntryForModification(nodeKey, reader.pageKind, reader.index);
+  }
+
+  private StructNode prepareDocumentForModification() {
+    return (StructNode) pageWriteTrx.prepareEntryForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+        reader.pageKind, reader.index);
+  }
+
+  /**
+   * Get the new maximum node key.
+   *
+   * @param root the current {@link RevisionRootPage}
+   * @return the new maximum node key
+   */
+  private long getNewNodeKey(final RevisionRootPage root) {
+    switch (reader.pageKind) {
+      case PATHPAGE:
+        return pageWriteTrx.getPathPage(root).getMaxNodeKey(reader.index) + 1;
+      case CASPAGE:
+        return pageWriteTrx.getCASPage(root).getMaxNodeKey(reader.index) + 1;
+      case NAMEPAGE:
+        return pageWriteTrx.getNamePage(root).getMaxNodeKey(reader.index) + 1;
+      case DEWEYIDPAGE:
+        return pageWriteTrx.getDeweyIDPage(root).getMaxNodeKey(reader.index) + 1;
+      // $CASES-OMITTED$
+      default:
+        throw new IllegalStateException();
+    }
+  }
+}
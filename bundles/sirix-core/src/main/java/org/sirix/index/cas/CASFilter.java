@@ -77,9 +77,19 @@ public final class CASFilter implements Filter {
   public <K extends Comparable<? super K>> boolean filter(final AVLNode<K, NodeReferences> node) {
     final K key = node.getKey();
     if (key instanceof CASValue) {
-      final CASValue casValue = (CASValue) key;
-      return pathFilter.filter(node) && (this.key == null || mode.compare(this.key, casValue.getAtomicValue()) == 0);
+      return filter((CASValue) key);
     }
     return true;
   }
+
+  /**
+   * Filter the key.
+   *
+   * @param casValue the key to filter
+   * @return {@code true} if the key has been filtered, {@code false} otherwise
+   */
+  public boolean filter(final CASValue casValue) {
+    return pathFilter.filter(casValue.getPathNodeKey()) && (key == null
+        || mode.compare(key, casValue.getAtomicValue()) == 0);
+  }
 }
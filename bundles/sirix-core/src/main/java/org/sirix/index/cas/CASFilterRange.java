@@ -61,16 +61,53 @@ public final class CASFilterRange implements Filter {
     mIncMax = incMax;
   }
 
+  public Set<Long> getPCRs() {
+    return mPathFilter.getPCRs();
+  }
+
+  /**
+   * Determines if all paths are filtered (no specific paths are given).
+   *
+   * @return {@code true}, if all paths are filtered, {@code false} otherwise
+   */
+  public boolean isGenericPath() {
+    return mPaths.isEmpty();
+  }
+
+  public Atomic getMin() {
+    return mMin;
+  }
+
+  public Atomic getMax() {
+    return mMax;
+  }
+
+  public boolean isMinIncluded() {
+    return mIncMin;
+  }
+
+  public boolean isMaxIncluded() {
+    return mIncMax;
+  }
+
   @Override
   public <K extends Comparable<? super K>> boolean filter(final AVLNode<K, NodeReferences> node) {
     final K key = node.getKey();
     if (key instanceof CASValue) {
-      final CASValue casValue = (CASValue) key;
-      final boolean filtered = mPathFilter.filter(node);
+      return filter((CASValue) key);
+    }
+    return false;
+  }
 
-      if (filtered) {
-        return inRange(AtomicUtil.toType(casValue.getAtomicValue(), casValue.getType()));
-      }
+  /**
+   * Filter the key.
+   *
+   * @param casValue the key to filter
+   * @return {@code true} if the key has been filtered, {@code false} otherwise
+   */
+  public boolean filter(final CASValue casValue) {
+    if (mPathFilter.filter(casValue.getPathNodeKey())) {
+      return inRange(AtomicUtil.toType(casValue.getAtomicValue(), casValue.getType()));
     }
     return false;
   }
@@ -2,6 +2,7 @@ package org.sirix.index.cas;
 
 import com.google.common.collect.Iterators;
 import org.brackit.xquery.atomic.Atomic;
+import org.brackit.xquery.xdm.Type;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.PageReadOnlyTrx;
@@ -9,11 +10,13 @@ import org.sirix.api.PageTrx;
 import org.sirix.index.ChangeListener;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexFilterAxis;
+import org.sirix.index.IndexStructure;
 import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.AVLNode;
 import org.sirix.index.avltree.AVLTreeReader;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusTreeReader;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.UnorderedKeyValuePage;
@@ -21,6 +24,7 @@ import org.sirix.settings.Fixed;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx & NodeCursor> {
   B createBuilder(R rtx, PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, PathSummaryReader pathSummaryReader,
@@ -30,6 +34,10 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
       IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageReadTrx, IndexDef indexDef, CASFilterRange filter) {
+    if (indexDef.getStructure() == IndexStructure.BPLUS_TREE) {
+      return openBPlusTreeIndex(pageReadTrx, indexDef, filter);
+    }
+
     final AVLTreeReader<CASValue, NodeReferences> reader =
         AVLTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
 
@@ -40,6 +48,10 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
   }
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageReadTrx, IndexDef indexDef, CASFilter filter) {
+    if (indexDef.getStructure() == IndexStructure.BPLUS_TREE) {
+      return openBPlusTreeIndex(pageReadTrx, indexDef, filter);
+    }
+
     final AVLTreeReader<CASValue, NodeReferences> reader =
         AVLTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
 
@@ -99,6 +111,70 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
     }
   }
 
+  private Iterator<NodeReferences> openBPlusTreeIndex(PageReadOnlyTrx pageReadTrx, IndexDef indexDef,
+      CASFilterRange filter) {
+    final BPlusTreeReader<CASValue, NodeReferences> reader =
+        BPlusTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
+
+    if (filter.isGenericPath()) {
+      return filterValues(reader.range(null, false, null, false), filter::filter);
+    }
+
+    // Scan the range of each requested PCR in ascending order, as the entries are sorted by PCR first.
+    final Type type = indexDef.getContentType();
+    final List<Long> pcrs = new ArrayList<>(filter.getPCRs());
+    Collections.sort(pcrs);
+    final Iterator<Iterator<Map.Entry<CASValue, NodeReferences>>> ranges = Iterators.transform(pcrs.iterator(),
+        pcr -> reader.range(new CASValue(filter.getMin(), type, pcr), filter.isMinIncluded(),
+            new CASValue(filter.getMax(), type, pcr), filter.isMaxIncluded()));
+
+    return filterValues(Iterators.concat(ranges), filter::filter);
+  }
+
+  private Iterator<NodeReferences> openBPlusTreeIndex(PageReadOnlyTrx pageReadTrx, IndexDef indexDef,
+      CASFilter filter) {
+    final BPlusTreeReader<CASValue, NodeReferences> reader =
+        BPlusTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
+
+    if (filter == null) {
+      return Iterators.transform(reader.range(null, false, null, false), Map.Entry::getValue);
+    }
+
+    final Set<Long> pcrsRequested = filter.getPCRs();
+    final Atomic atomic = filter.getKey();
+
+    if (pcrsRequested.size() != 1 || atomic == null) {
+      return filterValues(reader.range(null, false, null, false), filter::filter);
+    }
+
+    final long pcr = pcrsRequested.iterator().next();
+    final SearchMode mode = filter.getMode();
+    final CASValue value = new CASValue(atomic, indexDef.getContentType(), pcr);
+
+    switch (mode) {
+      case EQUAL:
+        return reader.get(value, mode)
+                     .map(references -> Iterators.forArray(references))
+                     .orElse(Collections.emptyIterator());
+      case GREATER:
+      case GREATER_OR_EQUAL:
+        return filterValues(reader.range(value, Comparator.naturalOrder(), mode == SearchMode.GREATER_OR_EQUAL,
+            key -> key.getPathNodeKey() == pcr), filter::filter);
+      case LOWER:
+      case LOWER_OR_EQUAL:
+        // Start at the first entry of the PCR and stop at the first entry, which doesn't satisfy the search mode.
+        return filterValues(reader.range(value, Comparator.comparingLong(CASValue::getPathNodeKey), true,
+            key -> key.getPathNodeKey() == pcr && mode.compare(atomic, key.getAtomicValue()) == 0), filter::filter);
+      default:
+        throw new IllegalStateException();
+    }
+  }
+
+  private Iterator<NodeReferences> filterValues(Iterator<Map.Entry<CASValue, NodeReferences>> entries,
+      Predicate<CASValue> filter) {
+    return Iterators.transform(Iterators.filter(entries, entry -> filter.test(entry.getKey())), Map.Entry::getValue);
+  }
+
   private Function<AVLNode<CASValue, NodeReferences>, Iterator<NodeReferences>> findFirstNodeWithMatchingPCRAndAtomicValue(
       CASFilter filter, AVLTreeReader<CASValue, NodeReferences> reader, SearchMode mode, CASValue value) {
     return node -> {
@@ -3,51 +3,54 @@ package org.sirix.index.cas;
 import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.atomic.Str;
 import org.brackit.xquery.util.path.Path;
+import org.brackit.xquery.util.path.PathException;
 import org.brackit.xquery.xdm.Type;
 import org.sirix.access.trx.node.xml.XmlIndexController.ChangeType;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixRuntimeException;
 import org.sirix.index.AtomicUtil;
-import org.sirix.index.SearchMode;
-import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.IndexTreeWriter;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.index.path.IndexedPCRs;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
-import java.util.Optional;
 import java.util.Set;
 
 public final class CASIndexListener {
 
-  private final AVLTreeWriter<CASValue, NodeReferences> mAVLTreeWriter;
+  private final IndexTreeWriter<CASValue, NodeReferences> mIndexTreeWriter;
   private final PathSummaryReader mPathSummaryReader;
-  private final Set<Path<QNm>> mPaths;
+  private final IndexedPCRs mIndexedPCRs;
   private final Type mType;
 
   public CASIndexListener(final PathSummaryReader pathSummaryReader,
-      final AVLTreeWriter<CASValue, NodeReferences> avlTreeWriter, final Set<Path<QNm>> paths, final Type type) {
+      final IndexTreeWriter<CASValue, NodeReferences> indexTreeWriter, final Set<Path<QNm>> paths, final Type type) {
     mPathSummaryReader = pathSummaryReader;
-    mAVLTreeWriter = avlTreeWriter;
-    mPaths = paths;
+    mIndexTreeWriter = indexTreeWriter;
+    mIndexedPCRs = new IndexedPCRs(paths, pathSummaryReader);
     mType = type;
   }
 
   public void listen(final ChangeType type, final ImmutableNode node, final long pathNodeKey, final Str value) {
     assert mPathSummaryReader.moveTo(pathNodeKey).hasMoved();
-    switch (type) {
-      case INSERT:
-        if (mPathSummaryReader.getPCRsForPaths(mPaths, false).contains(pathNodeKey)) {
-          insert(node, pathNodeKey, value);
-        }
-        break;
-      case DELETE:
-        if (mPathSummaryReader.getPCRsForPaths(mPaths, false).contains(pathNodeKey)) {
-          mAVLTreeWriter.remove(new CASValue(value, mType, pathNodeKey), node.getNodeKey());
-        }
-        break;
-      default:
+    try {
+      switch (type) {
+        case INSERT:
+          if (mIndexedPCRs.contains(pathNodeKey)) {
+            insert(node, pathNodeKey, value);
+          }
+          break;
+        case DELETE:
+          if (mIndexedPCRs.contains(pathNodeKey)) {
+            mIndexTreeWriter.remove(new CASValue(value, mType, pathNodeKey), node.getNodeKey());
+          }
+          break;
+        default:
+      }
+    } catch (final PathException e) {
+      throw new SirixIOException(e);
     }
   }
 
@@ -60,17 +63,7 @@ public final class CASIndexListener {
     }
 
     if (isOfType) {
-      final CASValue indexValue = new CASValue(value, mType, pathNodeKey);
-      final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(indexValue, SearchMode.EQUAL);
-      if (textReferences.isPresent()) {
-        setNodeReferences(node, new NodeReferences(textReferences.get().getNodeKeys()), indexValue);
-      } else {
-        setNodeReferences(node, new NodeReferences(), indexValue);
-      }
+      mIndexTreeWriter.addNodeKey(new CASValue(value, mType, pathNodeKey), node.getNodeKey(), NodeReferences::new);
     }
   }
-
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final CASValue indexValue) {
-    mAVLTreeWriter.index(indexValue, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
-  }
 }
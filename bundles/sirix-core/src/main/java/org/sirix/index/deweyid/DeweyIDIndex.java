@@ -0,0 +1,150 @@
+package org.sirix.index.deweyid;
+
+import com.google.common.collect.Iterators;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.PageTrx;
+import org.sirix.api.visitor.JsonNodeVisitor;
+import org.sirix.api.visitor.XmlNodeVisitor;
+import org.sirix.index.ChangeListener;
+import org.sirix.index.IndexDef;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusTreeReader;
+import org.sirix.index.bplustree.BPlusTreeWriter;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.UnorderedKeyValuePage;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Index, which maps the DeweyIDs of the nodes of a revision to their node keys. The index is stored in a B+-tree,
+ * whose keys are sorted in document order, such that the nodes of a subtree are stored in a contiguous key range.
+ * Thus, document order sorting as well as ancestor/descendant checks of index results are possible without
+ * navigating in the tree.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class DeweyIDIndex {
+
+  /** Reads the index entries. */
+  private final BPlusTreeReader<SirixDeweyID, NodeReferences> reader;
+
+  private DeweyIDIndex(final BPlusTreeReader<SirixDeweyID, NodeReferences> reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Open a DeweyID index for reading.
+   *
+   * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param indexDef the index definition
+   * @return the index
+   */
+  public static DeweyIDIndex open(final PageReadOnlyTrx pageReadTrx, final IndexDef indexDef) {
+    checkArgument(indexDef.getType() == IndexType.DEWEYID, "The index definition must be a DeweyID index!");
+    return new DeweyIDIndex(BPlusTreeReader.getInstance(checkNotNull(pageReadTrx), IndexType.DEWEYID,
+        indexDef.getID()));
+  }
+
+  /**
+   * Create a listener, which keeps the index up-to-date.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param indexDef the index definition
+   * @return the listener
+   */
+  public static ChangeListener createListener(final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx,
+      final IndexDef indexDef) {
+    return new DeweyIDIndexListener(BPlusTreeWriter.getInstance(pageWriteTrx, IndexType.DEWEYID, indexDef.getID()));
+  }
+
+  /**
+   * Create a builder, which indexes the nodes of an existing XML revision.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param indexDef the index definition
+   * @return the builder
+   */
+  public static XmlNodeVisitor createXmlBuilder(final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx,
+      final IndexDef indexDef) {
+    return new XmlDeweyIDIndexBuilder(createBuilder(pageWriteTrx, indexDef));
+  }
+
+  /**
+   * Create a builder, which indexes the nodes of an existing JSON revision.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param indexDef the index definition
+   * @return the builder
+   */
+  public static JsonNodeVisitor createJsonBuilder(final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx,
+      final IndexDef indexDef) {
+    return new JsonDeweyIDIndexBuilder(createBuilder(pageWriteTrx, indexDef));
+  }
+
+  private static DeweyIDIndexBuilder createBuilder(final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx,
+      final IndexDef indexDef) {
+    return new DeweyIDIndexBuilder(BPlusTreeWriter.getInstance(pageWriteTrx, IndexType.DEWEYID, indexDef.getID()));
+  }
+
+  /**
+   * Get the node key of the node with the given DeweyID.
+   *
+   * @param deweyID the DeweyID
+   * @return the node key, or {@link Optional#empty()}, if no node with the DeweyID exists
+   */
+  public Optional<Long> getNodeKey(final SirixDeweyID deweyID) {
+    return reader.get(checkNotNull(deweyID), SearchMode.EQUAL)
+                 .flatMap(references -> references.getNodeKeys().stream().findFirst());
+  }
+
+  /**
+   * Get the DeweyIDs and node keys of all descendants of the node with the given DeweyID in document order.
+   *
+   * @param deweyID the DeweyID of the subtree root
+   * @return an iterator over the DeweyIDs and node keys of the descendants
+   */
+  public Iterator<Map.Entry<SirixDeweyID, Long>> getDescendants(final SirixDeweyID deweyID) {
+    checkNotNull(deweyID);
+    return toNodeKeys(reader.range(deweyID, Comparator.naturalOrder(), false, deweyID::isAncestorOf));
+  }
+
+  /**
+   * Get the DeweyIDs and node keys of all nodes in a range of DeweyIDs in document order.
+   *
+   * @param from the lower bound, or {@code null} if the range starts at the first node
+   * @param includeFrom determines if the lower bound itself is included
+   * @param to the upper bound, or {@code null} if the range ends at the last node
+   * @param includeTo determines if the upper bound itself is included
+   * @return an iterator over the DeweyIDs and node keys in the range
+   */
+  public Iterator<Map.Entry<SirixDeweyID, Long>> getRange(final SirixDeweyID from, final boolean includeFrom,
+      final SirixDeweyID to, final boolean includeTo) {
+    return toNodeKeys(reader.range(from, includeFrom, to, includeTo));
+  }
+
+  /**
+   * Returns the number of indexed nodes.
+   *
+   * @return number of indexed nodes
+   */
+  public long size() {
+    return reader.size();
+  }
+
+  private static Iterator<Map.Entry<SirixDeweyID, Long>> toNodeKeys(
+      final Iterator<Map.Entry<SirixDeweyID, NodeReferences>> entries) {
+    return Iterators.concat(Iterators.transform(entries,
+        entry -> Iterators.transform(entry.getValue().getNodeKeys().iterator(),
+            nodeKey -> Map.entry(entry.getKey(), nodeKey))));
+  }
+}
@@ -0,0 +1,53 @@
+package org.sirix.index.deweyid;
+
+import org.sirix.api.visitor.VisitResult;
+import org.sirix.api.visitor.VisitResultType;
+import org.sirix.index.IndexEntryBuffer;
+import org.sirix.index.IndexTreeWriter;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.immutable.ImmutableNode;
+
+/**
+ * Builds the DeweyID index for an existing revision. As the nodes are visited in document order, the DeweyIDs are
+ * mostly added in ascending order, such that the buffered entries are appended to the B+-tree.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class DeweyIDIndexBuilder {
+
+  private final IndexEntryBuffer<SirixDeweyID> indexEntryBuffer;
+
+  /**
+   * Constructor.
+   *
+   * @param indexTreeWriter writes the index entries
+   */
+  public DeweyIDIndexBuilder(final IndexTreeWriter<SirixDeweyID, NodeReferences> indexTreeWriter) {
+    indexEntryBuffer = new IndexEntryBuffer<>(indexTreeWriter, IndexEntryBuffer.DEWEYID_KEY_SERIALIZER);
+  }
+
+  /**
+   * Add the DeweyID of a node to the index.
+   *
+   * @param node the node
+   * @return {@link VisitResultType#CONTINUE}
+   */
+  public VisitResult process(final ImmutableNode node) {
+    final SirixDeweyID deweyID = node.getDeweyID();
+
+    if (deweyID != null) {
+      indexEntryBuffer.add(deweyID, node.getNodeKey());
+    }
+
+    return VisitResultType.CONTINUE;
+  }
+
+  /**
+   * Write the buffered index entries, once all nodes have been processed.
+   */
+  public void finish() {
+    indexEntryBuffer.flush();
+  }
+}
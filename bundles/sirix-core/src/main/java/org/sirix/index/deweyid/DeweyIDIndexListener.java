@@ -0,0 +1,52 @@
+package org.sirix.index.deweyid;
+
+import org.sirix.access.trx.node.xml.XmlIndexController.ChangeType;
+import org.sirix.index.ChangeListener;
+import org.sirix.index.IndexTreeWriter;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.immutable.ImmutableNode;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Keeps the DeweyID index up-to-date, while nodes are inserted and removed. Nodes without a DeweyID (if DeweyIDs
+ * aren't stored for the resource) are ignored.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class DeweyIDIndexListener implements ChangeListener {
+
+  private final IndexTreeWriter<SirixDeweyID, NodeReferences> indexTreeWriter;
+
+  /**
+   * Constructor.
+   *
+   * @param indexTreeWriter writes the index entries
+   */
+  public DeweyIDIndexListener(final IndexTreeWriter<SirixDeweyID, NodeReferences> indexTreeWriter) {
+    this.indexTreeWriter = checkNotNull(indexTreeWriter);
+  }
+
+  @Override
+  public void listen(final ChangeType type, @Nonnull final ImmutableNode node, final long pathNodeKey) {
+    final SirixDeweyID deweyID = node.getDeweyID();
+
+    if (deweyID == null) {
+      return;
+    }
+
+    switch (type) {
+      case INSERT:
+        indexTreeWriter.addNodeKey(deweyID, node.getNodeKey(), NodeReferences::new);
+        break;
+      case DELETE:
+        indexTreeWriter.remove(deweyID, node.getNodeKey());
+        break;
+      default:
+    }
+  }
+}
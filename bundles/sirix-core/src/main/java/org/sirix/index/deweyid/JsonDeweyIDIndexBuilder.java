@@ -0,0 +1,81 @@
+package org.sirix.index.deweyid;
+
+import org.sirix.access.trx.node.json.AbstractJsonNodeVisitor;
+import org.sirix.api.visitor.VisitResult;
+import org.sirix.index.BulkIndexBuilder;
+import org.sirix.node.immutable.json.*;
+
+/**
+ * Builds a DeweyID index of a JSON resource.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+final class JsonDeweyIDIndexBuilder extends AbstractJsonNodeVisitor implements BulkIndexBuilder {
+
+  private final DeweyIDIndexBuilder indexBuilderDelegate;
+
+  JsonDeweyIDIndexBuilder(final DeweyIDIndexBuilder indexBuilderDelegate) {
+    this.indexBuilderDelegate = indexBuilderDelegate;
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableArrayNode node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableObjectNode node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableObjectKeyNode node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableObjectBooleanNode node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableBooleanNode node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableStringNode node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableNumberNode node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableNullNode node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableObjectStringNode node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableObjectNumberNode node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableObjectNullNode node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public void finish() {
+    indexBuilderDelegate.finish();
+  }
+}
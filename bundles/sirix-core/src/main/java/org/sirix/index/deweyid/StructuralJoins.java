@@ -0,0 +1,216 @@
+package org.sirix.index.deweyid;
+
+import org.sirix.node.SirixDeweyID;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Stack-based structural joins of node lists, which are sorted in document order by their DeweyIDs. The joins only
+ * compare DeweyIDs, thus the relationship of index results (for instance the nodes found in a CAS index and their
+ * ancestors) is determined without navigating in the tree. Each join processes both inputs in a single pass and the
+ * results are again sorted in document order, such that joins can be chained.
+ *
+ * <p>
+ * The ancestor/descendant joins follow the Stack-Tree algorithms of Al-Khalifa et al., "Structural Joins: A
+ * Primitive for Efficient XML Query Pattern Matching".
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class StructuralJoins {
+
+  /**
+   * Private constructor.
+   */
+  private StructuralJoins() {
+    throw new AssertionError("May never be instantiated!");
+  }
+
+  /**
+   * Sort nodes in document order.
+   *
+   * @param <T> the type of the nodes
+   * @param nodes the nodes to sort
+   * @param deweyID function to get the DeweyID of a node
+   * @return the nodes in document order
+   */
+  public static <T> List<T> sort(final Collection<T> nodes, final Function<? super T, SirixDeweyID> deweyID) {
+    final List<T> sortedNodes = new ArrayList<>(nodes);
+    sortedNodes.sort(Comparator.comparing(deweyID));
+    return sortedNodes;
+  }
+
+  /**
+   * Get all nodes, which have at least one descendant in the list of descendants.
+   *
+   * @param <T> the type of the nodes
+   * @param ancestors the ancestor candidates in document order
+   * @param descendants the descendants in document order
+   * @param deweyID function to get the DeweyID of a node
+   * @return the ancestor candidates, which have at least one descendant, in document order
+   */
+  public static <T> List<T> ancestors(final List<T> ancestors, final List<T> descendants,
+      final Function<? super T, SirixDeweyID> deweyID) {
+    checkNotNull(deweyID);
+    final boolean[] hasDescendant = new boolean[ancestors.size()];
+    // The indexes of the ancestor candidates on the current path from the root.
+    final Deque<Integer> stack = new ArrayDeque<>();
+
+    int i = 0;
+    for (final T descendant : descendants) {
+      final SirixDeweyID descendantID = deweyID.apply(descendant);
+
+      // Push all ancestor candidates, which precede the descendant in document order.
+      while (i < ancestors.size() && deweyID.apply(ancestors.get(i)).compareTo(descendantID) < 0) {
+        popNonAncestors(ancestors, stack, hasDescendant, deweyID.apply(ancestors.get(i)), deweyID);
+        stack.push(i++);
+      }
+
+      popNonAncestors(ancestors, stack, hasDescendant, descendantID, deweyID);
+
+      if (!stack.isEmpty()) {
+        // The ancestors below the top of the stack are marked, once the top is popped.
+        hasDescendant[stack.peek()] = true;
+      }
+    }
+
+    popNonAncestors(ancestors, stack, hasDescendant, null, deweyID);
+
+    final List<T> result = new ArrayList<>();
+    for (int j = 0; j < hasDescendant.length; j++) {
+      if (hasDescendant[j]) {
+        result.add(ancestors.get(j));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get all nodes, which have at least one ancestor in the list of ancestors.
+   *
+   * @param <T> the type of the nodes
+   * @param ancestors the ancestors in document order
+   * @param descendants the descendant candidates in document order
+   * @param deweyID function to get the DeweyID of a node
+   * @return the descendant candidates, which have at least one ancestor, in document order
+   */
+  public static <T> List<T> descendants(final List<T> ancestors, final List<T> descendants,
+      final Function<? super T, SirixDeweyID> deweyID) {
+    checkNotNull(deweyID);
+    final Deque<SirixDeweyID> stack = new ArrayDeque<>();
+    final List<T> result = new ArrayList<>();
+
+    int i = 0;
+    for (final T descendant : descendants) {
+      final SirixDeweyID descendantID = deweyID.apply(descendant);
+
+      while (i < ancestors.size() && deweyID.apply(ancestors.get(i)).compareTo(descendantID) < 0) {
+        final SirixDeweyID ancestorID = deweyID.apply(ancestors.get(i++));
+        while (!stack.isEmpty() && !stack.peek().isAncestorOf(ancestorID)) {
+          stack.pop();
+        }
+        stack.push(ancestorID);
+      }
+
+      while (!stack.isEmpty() && !stack.peek().isAncestorOf(descendantID)) {
+        stack.pop();
+      }
+
+      if (!stack.isEmpty()) {
+        result.add(descendant);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get the nodes, which are contained in both lists.
+   *
+   * @param <T> the type of the nodes
+   * @param first the first list in document order
+   * @param second the second list in document order
+   * @param deweyID function to get the DeweyID of a node
+   * @return the nodes of the first list, which are contained in the second list, in document order
+   */
+  public static <T> List<T> intersect(final List<T> first, final List<T> second,
+      final Function<? super T, SirixDeweyID> deweyID) {
+    checkNotNull(deweyID);
+    final List<T> result = new ArrayList<>();
+    int i = 0;
+    int j = 0;
+    while (i < first.size() && j < second.size()) {
+      final int comparison = deweyID.apply(first.get(i)).compareTo(deweyID.apply(second.get(j)));
+      if (comparison < 0) {
+        i++;
+      } else if (comparison > 0) {
+        j++;
+      } else {
+        result.add(first.get(i));
+        i++;
+        j++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Merge lists of nodes, whereas duplicate nodes are only added once.
+   *
+   * @param <T> the type of the nodes
+   * @param lists the lists in document order
+   * @param deweyID function to get the DeweyID of a node
+   * @return all nodes in document order
+   */
+  public static <T> List<T> union(final List<List<T>> lists, final Function<? super T, SirixDeweyID> deweyID) {
+    checkNotNull(deweyID);
+    List<T> result = new ArrayList<>();
+    for (final List<T> list : lists) {
+      result = union(result, list, deweyID);
+    }
+    return result;
+  }
+
+  private static <T> List<T> union(final List<T> first, final List<T> second,
+      final Function<? super T, SirixDeweyID> deweyID) {
+    final List<T> result = new ArrayList<>(first.size() + second.size());
+    int i = 0;
+    int j = 0;
+    while (i < first.size() && j < second.size()) {
+      final int comparison = deweyID.apply(first.get(i)).compareTo(deweyID.apply(second.get(j)));
+      if (comparison < 0) {
+        result.add(first.get(i++));
+      } else if (comparison > 0) {
+        result.add(second.get(j++));
+      } else {
+        result.add(first.get(i++));
+        j++;
+      }
+    }
+    result.addAll(first.subList(i, first.size()));
+    result.addAll(second.subList(j, second.size()));
+    return result;
+  }
+
+  /**
+   * Pop all ancestor candidates from the stack, which aren't ancestors of the given node. If a popped candidate has a
+   * descendant, the candidate below it has one as well.
+   */
+  private static <T> void popNonAncestors(final List<T> ancestors, final Deque<Integer> stack,
+      final boolean[] hasDescendant, final SirixDeweyID node, final Function<? super T, SirixDeweyID> deweyID) {
+    while (!stack.isEmpty() && (node == null || !deweyID.apply(ancestors.get(stack.peek())).isAncestorOf(node))) {
+      final int popped = stack.pop();
+      if (hasDescendant[popped] && !stack.isEmpty()) {
+        hasDescendant[stack.peek()] = true;
+      }
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package org.sirix.index.deweyid;
+
+import org.sirix.access.trx.node.xml.AbstractXmlNodeVisitor;
+import org.sirix.api.visitor.VisitResult;
+import org.sirix.index.BulkIndexBuilder;
+import org.sirix.node.immutable.xml.ImmutableAttributeNode;
+import org.sirix.node.immutable.xml.ImmutableComment;
+import org.sirix.node.immutable.xml.ImmutableElement;
+import org.sirix.node.immutable.xml.ImmutableNamespace;
+import org.sirix.node.immutable.xml.ImmutablePI;
+import org.sirix.node.immutable.xml.ImmutableText;
+
+/**
+ * Builds a DeweyID index of an XML resource.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+final class XmlDeweyIDIndexBuilder extends AbstractXmlNodeVisitor implements BulkIndexBuilder {
+
+  private final DeweyIDIndexBuilder indexBuilderDelegate;
+
+  XmlDeweyIDIndexBuilder(final DeweyIDIndexBuilder indexBuilderDelegate) {
+    this.indexBuilderDelegate = indexBuilderDelegate;
+  }
+
+  @Override
+  public VisitResult visit(final ImmutablePI node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableComment node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableElement node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableAttributeNode node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableNamespace node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableText node) {
+    return indexBuilderDelegate.process(node);
+  }
+
+  @Override
+  public void finish() {
+    indexBuilderDelegate.finish();
+  }
+}
@@ -34,7 +34,16 @@ public final class NameFilter implements Filter {
     if (!(node.getKey() instanceof QNm))
       throw new IllegalStateException("Key is not of type QNm!");
 
-    final QNm name = (QNm) node.getKey();
+    return filter((QNm) node.getKey());
+  }
+
+  /**
+   * Filter the name.
+   *
+   * @param name the name to filter
+   * @return {@code true} if the name has been filtered, {@code false} otherwise
+   */
+  public boolean filter(final QNm name) {
     final boolean included = (includes.isEmpty() || includes.contains(name));
     final boolean excluded = (!excludes.isEmpty() && excludes.contains(name));
 
@@ -1,13 +1,10 @@
 package org.sirix.index.name;
 
-import java.util.Optional;
 import java.util.Set;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
-import org.sirix.index.SearchMode;
-import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.IndexTreeWriter;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 import org.sirix.utils.LogWrapper;
@@ -18,13 +15,13 @@ public final class NameIndexBuilder {
 
   public Set<QNm> mIncludes;
   public Set<QNm> mExcludes;
-  public AVLTreeWriter<QNm, NodeReferences> mAVLTreeWriter;
+  public IndexTreeWriter<QNm, NodeReferences> mIndexTreeWriter;
 
   public NameIndexBuilder(final Set<QNm> includes, final Set<QNm> excludes,
-      final AVLTreeWriter<QNm, NodeReferences> avlTreeWriter) {
+      final IndexTreeWriter<QNm, NodeReferences> indexTreeWriter) {
     mIncludes = includes;
     mExcludes = excludes;
-    mAVLTreeWriter = avlTreeWriter;
+    mIndexTreeWriter = indexTreeWriter;
   }
 
   public VisitResultType build(QNm name, ImmutableNode node) {
@@ -35,19 +32,12 @@ public final class NameIndexBuilder {
       return VisitResultType.CONTINUE;
     }
 
-    final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(name, SearchMode.EQUAL);
-
     try {
-      textReferences.ifPresentOrElse(nodeReferences -> setNodeReferences(node, nodeReferences, name),
-          () -> setNodeReferences(node, new NodeReferences(), name));
+      mIndexTreeWriter.addNodeKey(name, node.getNodeKey(), NodeReferences::new);
     } catch (final SirixIOException e) {
       LOGGER.error(e.getMessage(), e);
     }
 
     return VisitResultType.CONTINUE;
   }
-
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final QNm name) {
-    mAVLTreeWriter.index(name, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
-  }
 }
@@ -5,7 +5,6 @@ import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexType;
-import org.sirix.index.avltree.AVLTreeWriter;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.UnorderedKeyValuePage;
@@ -17,9 +16,10 @@ public final class NameIndexBuilderFactory {
     final var includes = checkNotNull(indexDefinition.getIncluded());
     final var excludes = checkNotNull(indexDefinition.getExcluded());
     assert indexDefinition.getType() == IndexType.NAME;
-    final var avlTreeWriter = AVLTreeWriter.<QNm, NodeReferences>getInstance(pageWriteTrx, indexDefinition.getType(),
-        indexDefinition.getID());
+    final var indexTreeWriter = indexDefinition.getStructure()
+                                               .<QNm, NodeReferences>createWriter(pageWriteTrx,
+                                                   indexDefinition.getType(), indexDefinition.getID());
 
-    return new NameIndexBuilder(includes, excludes, avlTreeWriter);
+    return new NameIndexBuilder(includes, excludes, indexTreeWriter);
   }
 }
@@ -0,0 +1,57 @@
+package org.sirix.index.path;
+
+import java.util.List;
+import java.util.Set;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.util.path.Path;
+import org.brackit.xquery.util.path.PathException;
+import org.sirix.index.path.summary.PathSummaryReader;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The path class records (PCRs) of the paths of an index, which are resolved once through the path cache of the path
+ * summary and are kept up-to-date by the path summary writer, such that they don't have to be recomputed for every
+ * inserted or deleted node.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class IndexedPCRs {
+
+  private final PathSummaryReader pathSummaryReader;
+
+  private final Set<Path<QNm>> paths;
+
+  private List<Set<Long>> pcrsForPaths;
+
+  /**
+   * Constructor.
+   *
+   * @param paths the indexed paths
+   * @param pathSummaryReader the path summary of the write transaction
+   */
+  public IndexedPCRs(final Set<Path<QNm>> paths, final PathSummaryReader pathSummaryReader) {
+    this.paths = checkNotNull(paths);
+    this.pathSummaryReader = checkNotNull(pathSummaryReader);
+  }
+
+  /**
+   * Determines if the given path class record is indexed.
+   *
+   * @param pathNodeKey the path class record
+   * @return {@code true}, if one of the indexed paths matches the PCR, {@code false} otherwise
+   * @throws PathException if parsing a path fails
+   */
+  public boolean contains(final long pathNodeKey) throws PathException {
+    if (pcrsForPaths == null) {
+      pcrsForPaths = pathSummaryReader.getCachedPCRsForPaths(paths);
+    }
+    for (final Set<Long> pcrs : pcrsForPaths) {
+      if (pcrs.contains(pathNodeKey)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
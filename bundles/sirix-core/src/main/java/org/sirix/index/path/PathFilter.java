@@ -68,10 +68,6 @@ public final class PathFilter implements Filter {
    */
   @Override
   public <K extends Comparable<? super K>> boolean filter(final AVLNode<K, NodeReferences> node) {
-    if (mGenericPath) {
-      return true;
-    }
-
     final K key = node.getKey();
 
     long pcr;
@@ -82,6 +78,20 @@ public final class PathFilter implements Filter {
     else
       throw new IllegalStateException();
 
+    return filter(pcr);
+  }
+
+  /**
+   * Filter the path class record.
+   *
+   * @param pcr the path class record to filter
+   * @return {@code true} if the PCR has been filtered, {@code false} otherwise
+   */
+  public boolean filter(final long pcr) {
+    if (mGenericPath) {
+      return true;
+    }
+
     if (pcr > mMaxKnownPCR) {
       final PCRValue pcrValue = mPCRCollector.getPCRsForPaths(mPaths);
       mMaxKnownPCR = pcrValue.getMaxPCR();
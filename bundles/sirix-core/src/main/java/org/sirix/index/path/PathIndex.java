@@ -1,6 +1,7 @@
 package org.sirix.index.path;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.sirix.api.PageReadOnlyTrx;
@@ -9,10 +10,12 @@ import org.sirix.index.ChangeListener;
 import org.sirix.index.Filter;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexFilterAxis;
+import org.sirix.index.IndexStructure;
 import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.AVLNode;
 import org.sirix.index.avltree.AVLTreeReader;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusTreeReader;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.UnorderedKeyValuePage;
@@ -29,6 +32,10 @@ public interface PathIndex<B, L extends ChangeListener> {
 
   default Iterator<NodeReferences> openIndex(final PageReadOnlyTrx pageRtx, final IndexDef indexDef,
       final PathFilter filter) {
+    if (indexDef.getStructure() == IndexStructure.BPLUS_TREE) {
+      return openBPlusTreeIndex(pageRtx, indexDef, filter);
+    }
+
     final AVLTreeReader<Long, NodeReferences> reader =
         AVLTreeReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
 
@@ -46,4 +53,25 @@ public interface PathIndex<B, L extends ChangeListener> {
       return new IndexFilterAxis<>(iter, setFilter);
     }
   }
+
+  private Iterator<NodeReferences> openBPlusTreeIndex(final PageReadOnlyTrx pageRtx, final IndexDef indexDef,
+      final PathFilter filter) {
+    final BPlusTreeReader<Long, NodeReferences> reader =
+        BPlusTreeReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
+
+    if (filter != null && filter.getPCRs().size() == 1) {
+      final Optional<NodeReferences> optionalNodeReferences =
+          reader.get(filter.getPCRs().iterator().next(), SearchMode.EQUAL);
+      return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
+    }
+
+    final Iterator<Map.Entry<Long, NodeReferences>> entries = reader.range(null, false, null, false);
+
+    if (filter == null) {
+      return Iterators.transform(entries, Map.Entry::getValue);
+    }
+
+    return Iterators.transform(Iterators.filter(entries, entry -> filter.filter(entry.getKey())),
+        Map.Entry::getValue);
+  }
 }
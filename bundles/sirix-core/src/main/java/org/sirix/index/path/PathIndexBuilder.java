@@ -1,6 +1,5 @@
 package org.sirix.index.path;
 
-import java.util.Optional;
 import java.util.Set;
 import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.util.path.Path;
@@ -8,9 +7,8 @@ import org.brackit.xquery.util.path.PathException;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
-import org.sirix.index.SearchMode;
-import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.IndexEntryBuffer;
+import org.sirix.index.IndexTreeWriter;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
@@ -25,25 +23,20 @@ public final class PathIndexBuilder {
 
   private final PathSummaryReader pathSummaryReader;
 
-  private final AVLTreeWriter<Long, NodeReferences> avlTreeWriter;
+  private final IndexEntryBuffer<Long> indexEntryBuffer;
 
-  public PathIndexBuilder(final AVLTreeWriter<Long, NodeReferences> avlTreeWriter,
+  public PathIndexBuilder(final IndexTreeWriter<Long, NodeReferences> indexTreeWriter,
       final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths) {
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
-    this.avlTreeWriter = avlTreeWriter;
+    indexEntryBuffer = new IndexEntryBuffer<>(indexTreeWriter, IndexEntryBuffer.PCR_KEY_SERIALIZER);
   }
 
   public VisitResult process(final ImmutableNode node, final long pathNodeKey) {
     try {
       final long PCR = pathNodeKey;
       if (pathSummaryReader.getPCRsForPaths(paths, true).contains(PCR) || paths.isEmpty()) {
-        final Optional<NodeReferences> textReferences = avlTreeWriter.get(PCR, SearchMode.EQUAL);
-        if (textReferences.isPresent()) {
-          setNodeReferences(node, textReferences.get(), PCR);
-        } else {
-          setNodeReferences(node, new NodeReferences(), PCR);
-        }
+        indexEntryBuffer.add(PCR, node.getNodeKey());
       }
     } catch (final PathException | SirixIOException e) {
       LOGGER.error(e.getMessage(), e);
@@ -51,9 +44,11 @@ public final class PathIndexBuilder {
     return VisitResultType.CONTINUE;
   }
 
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final long pathNodeKey)
-      throws SirixIOException {
-    avlTreeWriter.index(pathNodeKey, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+  /**
+   * Write the buffered index entries, once all nodes have been processed.
+   */
+  public void finish() {
+    indexEntryBuffer.flush();
   }
 
 }
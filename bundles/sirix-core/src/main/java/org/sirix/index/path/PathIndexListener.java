@@ -1,30 +1,27 @@
 package org.sirix.index.path;
 
-import java.util.Optional;
 import java.util.Set;
 import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.util.path.Path;
 import org.brackit.xquery.util.path.PathException;
 import org.sirix.access.trx.node.xml.XmlIndexController.ChangeType;
 import org.sirix.exception.SirixIOException;
-import org.sirix.index.SearchMode;
-import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.IndexTreeWriter;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
 public final class PathIndexListener {
 
-  private final AVLTreeWriter<Long, NodeReferences> avlTreeWriter;
+  private final IndexTreeWriter<Long, NodeReferences> indexTreeWriter;
   private final PathSummaryReader pathSummaryReader;
-  private final Set<Path<QNm>> paths;
+  private final IndexedPCRs indexedPCRs;
 
   public PathIndexListener(final Set<Path<QNm>> paths, final PathSummaryReader pathSummaryReader,
-      final AVLTreeWriter<Long, NodeReferences> avlTreeWriter) {
-    this.avlTreeWriter = avlTreeWriter;
+      final IndexTreeWriter<Long, NodeReferences> indexTreeWriter) {
+    this.indexTreeWriter = indexTreeWriter;
     this.pathSummaryReader = pathSummaryReader;
-    this.paths = paths;
+    indexedPCRs = new IndexedPCRs(paths, pathSummaryReader);
   }
 
   public void listen(final ChangeType type, final ImmutableNode node, final long pathNodeKey) {
@@ -32,18 +29,13 @@ public final class PathIndexListener {
     try {
       switch (type) {
         case INSERT:
-          if (pathSummaryReader.getPCRsForPaths(paths, false).contains(pathNodeKey)) {
-            final Optional<NodeReferences> textReferences = avlTreeWriter.get(pathNodeKey, SearchMode.EQUAL);
-            if (textReferences.isPresent()) {
-              setNodeReferences(node, textReferences.get(), pathNodeKey);
-            } else {
-              setNodeReferences(node, new NodeReferences(), pathNodeKey);
-            }
+          if (indexedPCRs.contains(pathNodeKey)) {
+            indexTreeWriter.addNodeKey(pathNodeKey, node.getNodeKey(), NodeReferences::new);
           }
           break;
         case DELETE:
-          if (pathSummaryReader.getPCRsForPaths(paths, false).contains(pathNodeKey)) {
-            avlTreeWriter.remove(pathNodeKey, node.getNodeKey());
+          if (indexedPCRs.contains(pathNodeKey)) {
+            indexTreeWriter.remove(pathNodeKey, node.getNodeKey());
           }
           break;
         default:
@@ -53,8 +45,4 @@ public final class PathIndexListener {
     }
   }
 
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final long pathNodeKey)
-      throws SirixIOException {
-    avlTreeWriter.index(pathNodeKey, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
-  }
 }
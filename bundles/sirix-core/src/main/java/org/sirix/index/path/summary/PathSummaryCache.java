@@ -0,0 +1,106 @@
+package org.sirix.index.path.summary;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.sirix.api.PageReadOnlyTrx;
+
+import javax.annotation.Nonnegative;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Cache of the immutable path summary snapshots of a resource, one per revision, which are shared by all read-only
+ * {@link PathSummaryReader}s of a revision. Instead of traversing the whole path summary, the snapshot of a revision
+ * is derived from the snapshot of its base revision, if it's still cached and the path nodes changed by the commit
+ * are known.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class PathSummaryCache {
+
+  /** Maximum number of cached snapshots. */
+  private static final int MAX_SNAPSHOTS = 16;
+
+  /** Maximum number of revisions, for which the changed path nodes are remembered. */
+  private static final int MAX_CHANGES = 128;
+
+  /** The snapshots by revision. */
+  private final Cache<Integer, PathSummaryData> snapshots;
+
+  /** The changed path nodes by revision. */
+  private final Cache<Integer, Changes> changes;
+
+  /**
+   * Constructor.
+   */
+  public PathSummaryCache() {
+    snapshots = Caffeine.newBuilder().maximumSize(MAX_SNAPSHOTS).build();
+    changes = Caffeine.newBuilder().maximumSize(MAX_CHANGES).build();
+  }
+
+  /**
+   * Remember the path nodes, which have been created, modified or removed during a commit.
+   *
+   * @param revision     the committed revision
+   * @param baseRevision the revision, on which the committed revision is based
+   * @param pathNodeKeys the keys of the changed path nodes
+   */
+  public void putChanges(final @Nonnegative int revision, final @Nonnegative int baseRevision,
+      final long[] pathNodeKeys) {
+    checkArgument(baseRevision < revision, "The base revision must be less than the committed revision.");
+    checkNotNull(pathNodeKeys);
+
+    // Revisions might have been truncated, thus snapshots of the committed or later revisions are outdated.
+    snapshots.asMap().keySet().removeIf(cachedRevision -> cachedRevision >= revision);
+    changes.asMap().keySet().removeIf(cachedRevision -> cachedRevision > revision);
+    changes.put(revision, new Changes(baseRevision, pathNodeKeys));
+  }
+
+  /**
+   * Get the snapshot of the revision of a page reader.
+   *
+   * @param pageReadTrx the page reader
+   * @param builder     builds the snapshot by traversing the path summary, if it can't be derived
+   * @return the snapshot
+   */
+  PathSummaryData get(final PageReadOnlyTrx pageReadTrx, final Supplier<PathSummaryData> builder) {
+    final int revision = pageReadTrx.getRevisionNumber();
+    return snapshots.get(revision, unused -> {
+      final Changes changesOfRevision = changes.getIfPresent(revision);
+      if (changesOfRevision != null) {
+        final PathSummaryData base = snapshots.getIfPresent(changesOfRevision.baseRevision);
+        if (base != null) {
+          return base.apply(pageReadTrx, changesOfRevision.pathNodeKeys);
+        }
+      }
+      return builder.get();
+    });
+  }
+
+  /**
+   * Remove all snapshots.
+   */
+  public void clear() {
+    snapshots.invalidateAll();
+    changes.invalidateAll();
+  }
+
+  /**
+   * The path nodes changed in a revision.
+   */
+  private static final class Changes {
+    /** The revision, on which the changes are based. */
+    private final int baseRevision;
+
+    /** The keys of the changed path nodes. */
+    private final long[] pathNodeKeys;
+
+    Changes(final int baseRevision, final long[] pathNodeKeys) {
+      this.baseRevision = baseRevision;
+      this.pathNodeKeys = pathNodeKeys;
+    }
+  }
+}
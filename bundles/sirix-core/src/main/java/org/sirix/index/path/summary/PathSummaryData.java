@@ -0,0 +1,125 @@
+package org.sirix.index.path.summary;
+
+import org.brackit.xquery.atomic.QNm;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.page.PageKind;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the path node mappings of a revision, which is shared by all read-only
+ * {@link PathSummaryReader}s of the revision.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+final class PathSummaryData {
+
+  /** Mapping of a path node key to the path node/document root node. */
+  private final Map<Long, StructNode> pathNodeMapping;
+
+  /** Mapping of a {@link QNm} to a set of path nodes. */
+  private final Map<QNm, Set<PathNode>> qnmMapping;
+
+  /** Mapping of a path node key to the name of the path node. */
+  private final Map<Long, QNm> nameMapping;
+
+  private PathSummaryData(final Map<Long, StructNode> pathNodeMapping, final Map<QNm, Set<PathNode>> qnmMapping,
+      final Map<Long, QNm> nameMapping) {
+    this.pathNodeMapping = Collections.unmodifiableMap(pathNodeMapping);
+    this.qnmMapping = Collections.unmodifiableMap(qnmMapping);
+    this.nameMapping = nameMapping;
+  }
+
+  /**
+   * Create a snapshot from the mappings of a path summary reader, which has traversed the path summary.
+   *
+   * @param pathNodeMapping mapping of a path node key to the path node/document root node
+   * @param qnmMapping      mapping of a {@link QNm} to a set of path nodes
+   * @return the snapshot
+   */
+  static PathSummaryData of(final Map<Long, StructNode> pathNodeMapping,
+      final Map<QNm, Set<PathNode>> qnmMapping) {
+    final Map<QNm, Set<PathNode>> qnms = new HashMap<>(qnmMapping.size());
+    final Map<Long, QNm> names = new HashMap<>(pathNodeMapping.size());
+    for (final Map.Entry<QNm, Set<PathNode>> entry : qnmMapping.entrySet()) {
+      qnms.put(entry.getKey(), Collections.unmodifiableSet(new HashSet<>(entry.getValue())));
+      for (final PathNode node : entry.getValue()) {
+        names.put(node.getNodeKey(), entry.getKey());
+      }
+    }
+    return new PathSummaryData(new HashMap<>(pathNodeMapping), qnms, names);
+  }
+
+  /**
+   * Derive the snapshot of a revision from this snapshot of its base revision. Only the mappings of the given path
+   * nodes, which have been created, modified or removed in the revision, are changed.
+   *
+   * @param pageReadTrx  the page reader of the revision
+   * @param pathNodeKeys the keys of the changed path nodes
+   * @return the snapshot of the revision
+   */
+  PathSummaryData apply(final PageReadOnlyTrx pageReadTrx, final long[] pathNodeKeys) {
+    final Map<Long, StructNode> nodes = new HashMap<>(pathNodeMapping);
+    final Map<QNm, Set<PathNode>> qnms = new HashMap<>(qnmMapping);
+    final Map<Long, QNm> names = new HashMap<>(nameMapping);
+
+    // The name sets are copied once, when they're changed for the first time.
+    final Map<QNm, Set<PathNode>> changedQnms = new HashMap<>();
+
+    for (final long pathNodeKey : pathNodeKeys) {
+      nodes.remove(pathNodeKey);
+      final QNm oldName = names.remove(pathNodeKey);
+      if (oldName != null) {
+        copyOnWrite(qnms, changedQnms, oldName).removeIf(node -> node.getNodeKey() == pathNodeKey);
+      }
+
+      final Optional<? extends DataRecord> record = pageReadTrx.getRecord(pathNodeKey, PageKind.PATHSUMMARYPAGE, 0);
+      if (record.isEmpty()) {
+        // Removed in the revision.
+        continue;
+      }
+
+      nodes.put(pathNodeKey, (StructNode) record.get());
+      if (record.get() instanceof PathNode) {
+        final PathNode node = (PathNode) record.get();
+        final QNm name = PathSummaryReader.getName(pageReadTrx, node);
+        names.put(pathNodeKey, name);
+        copyOnWrite(qnms, changedQnms, name).add(node);
+      }
+    }
+
+    for (final Map.Entry<QNm, Set<PathNode>> entry : changedQnms.entrySet()) {
+      if (entry.getValue().isEmpty()) {
+        qnms.remove(entry.getKey());
+      } else {
+        qnms.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
+      }
+    }
+
+    return new PathSummaryData(nodes, qnms, names);
+  }
+
+  private static Set<PathNode> copyOnWrite(final Map<QNm, Set<PathNode>> qnms,
+      final Map<QNm, Set<PathNode>> changedQnms, final QNm name) {
+    return changedQnms.computeIfAbsent(name, unused -> {
+      final Set<PathNode> pathNodes = qnms.get(name);
+      return pathNodes == null ? new HashSet<>() : new HashSet<>(pathNodes);
+    });
+  }
+
+  Map<Long, StructNode> getPathNodeMapping() {
+    return pathNodeMapping;
+  }
+
+  Map<QNm, Set<PathNode>> getQNmMapping() {
+    return qnmMapping;
+  }
+}
@@ -86,9 +86,11 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    *
    * @param pageReadTrx     page reader
    * @param resourceManager {@link ResourceManager} reference
+   * @param data            the shared snapshot of the revision or {@code null}, if the mappings have to be built
    */
   private PathSummaryReader(final PageReadOnlyTrx pageReadTrx,
-      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+      final PathSummaryData data) {
     pathCache = new HashMap<>();
     this.pageReadTrx = pageReadTrx;
     isClosed = false;
@@ -102,6 +104,13 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
       throw new IllegalStateException("Node couldn't be fetched from persistent storage!");
     }
 
+    if (data != null) {
+      pathNodeMapping = data.getPathNodeMapping();
+      qnmMapping = data.getQNmMapping();
+      mInit = false;
+      return;
+    }
+
     pathNodeMapping = new HashMap<>();
     qnmMapping = new HashMap<>();
     boolean first = true;
@@ -145,7 +154,29 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    */
   public static PathSummaryReader getInstance(final PageReadOnlyTrx pageReadTrx,
       final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
-    return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager));
+    return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager), null);
+  }
+
+  /**
+   * Get a new read-only path summary reader instance, which shares the path node mappings of the revision with all
+   * other readers of the revision through the given cache.
+   *
+   * @param pageReadTrx     the {@link PageReadOnlyTrx} instance
+   * @param resourceManager the {@link ResourceManager} instance
+   * @param cache           the cache of the path summary snapshots of the resource
+   * @return new path summary reader instance
+   */
+  public static PathSummaryReader getInstance(final PageReadOnlyTrx pageReadTrx,
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+      final PathSummaryCache cache) {
+    checkNotNull(pageReadTrx);
+    checkNotNull(resourceManager);
+    final PathSummaryData data = cache.get(pageReadTrx, () -> {
+      // The reader only traverses the path summary, thus it must not be closed (the page trx is still used).
+      final PathSummaryReader reader = new PathSummaryReader(pageReadTrx, resourceManager, null);
+      return PathSummaryData.of(reader.pathNodeMapping, reader.qnmMapping);
+    });
+    return new PathSummaryReader(pageReadTrx, resourceManager, data);
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
@@ -155,9 +186,35 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
 
   // package private, only used in writer to keep the mapping always up-to-date
   StructNode removeMapping(final @Nonnegative long pathNodeKey) {
+    for (final Set<Long> pcrs : pathCache.values()) {
+      pcrs.remove(pathNodeKey);
+    }
     return pathNodeMapping.remove(pathNodeKey);
   }
 
+  // package private, only used in writer to keep the cached PCR sets always up-to-date
+  void putPathCacheMapping(final PathNode node) {
+    if (pathCache.isEmpty()) {
+      return;
+    }
+    final Path<QNm> nodePath = node.getPath(this);
+    for (final Map.Entry<Path<QNm>, Set<Long>> entry : pathCache.entrySet()) {
+      if (isMatching(entry.getKey(), node, nodePath)) {
+        entry.getValue().add(node.getNodeKey());
+      }
+    }
+  }
+
+  // package private, only used in writer to keep the cached PCR sets always up-to-date (the path of path nodes
+  // might have changed, thus the sets are recomputed in place, such that references held by listeners stay valid)
+  void resetPathCache() {
+    for (final Map.Entry<Path<QNm>, Set<Long>> entry : pathCache.entrySet()) {
+      final Set<Long> pcrs = entry.getValue();
+      pcrs.clear();
+      computePCRsForPath(entry.getKey(), pcrs);
+    }
+  }
+
   // package private, only used in writer to keep the mapping always up-to-date
   void putQNameMapping(final PathNode node, final QNm name) {
     final Set<PathNode> pathNodes = qnmMapping.get(name) == null ? new HashSet<>() : qnmMapping.get(name);
@@ -321,51 +378,106 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    * @throws SirixException if anything went wrong
    */
   public Set<Long> getPCRsForPath(final Path<QNm> path, final boolean useCache) throws PathException {
-    final Set<Long> pcrSet;
     if (useCache) {
-      if (pathCache.containsKey(path) && pathCache.get(path) != null) {
-        return pathCache.get(path);
-      } else {
-        pcrSet = new HashSet<>();
+      final Set<Long> cachedPCRs = pathCache.get(path);
+      if (cachedPCRs != null) {
+        return cachedPCRs;
       }
-    } else {
-      pcrSet = new HashSet<>();
     }
 
-    final boolean isAttributePattern = path.isAttribute();
-    final int pathLength = path.getLength();
+    final Set<Long> pcrSet = new HashSet<>();
+    computePCRsForPath(path, pcrSet);
+    if (useCache) {
+      pathCache.put(path, pcrSet);
+    }
+    return pcrSet;
+  }
 
-    final long nodeKey = currentNode.getNodeKey();
-    moveToDocumentRoot();
-    for (final Axis axis = new DescendantAxis(this); axis.hasNext(); ) {
-      axis.next();
-      final PathNode node = this.getPathNode();
+  /**
+   * Get the PCR sets for the specified paths, which are kept up-to-date, whenever path nodes are added or removed
+   * through the {@link PathSummaryWriter}. The returned sets must not be modified.
+   *
+   * @param expressions the paths to lookup
+   * @return the PCR sets, one for each path
+   * @throws PathException if parsing a path fails
+   */
+  public List<Set<Long>> getCachedPCRsForPaths(final Collection<Path<QNm>> expressions) throws PathException {
+    assertNotClosed();
+    final List<Set<Long>> pcrs = new ArrayList<>(expressions.size());
+    for (final Path<QNm> path : expressions) {
+      pcrs.add(getPCRsForPath(path, true));
+    }
+    return pcrs;
+  }
 
-      if (node == null) {
-        continue;
+  private void computePCRsForPath(final Path<QNm> path, final Set<Long> pcrSet) {
+    final long nodeKey = currentNode.getNodeKey();
+    for (final PathNode node : getCandidates(path)) {
+      if (isMatching(path, node, node.getPath(this))) {
+        pcrSet.add(node.getNodeKey());
       }
+    }
+    moveTo(nodeKey);
+  }
 
-      if (node.getLevel() < pathLength) {
-        continue;
+  /**
+   * Get the path nodes, which might match the path. If the last step of the path denotes a name, only the path nodes
+   * with this local name are looked up in the name index, such that the work is proportional to the number of
+   * matching names instead of the number of path nodes. Otherwise (for wildcards and array steps) all path nodes are
+   * candidates.
+   *
+   * @param path the path
+   * @return the candidate path nodes
+   */
+  private Collection<PathNode> getCandidates(final Path<QNm> path) {
+    final var steps = path.steps();
+    final var lastStep = steps.isEmpty() ? null : steps.get(steps.size() - 1);
+    final QNm lastName =
+        lastStep == null || lastStep.getAxis() == Path.Axis.CHILD_ARRAY ? null : lastStep.getValue();
+
+    if (lastName != null && lastName.getLocalName() != null && !"*".equals(lastName.getLocalName())) {
+      final List<PathNode> pathNodes = new ArrayList<>();
+      if (pageReadTrx.getResourceManager() instanceof JsonResourceManager) {
+        // Object key names are escaped in paths and don't have a prefix or namespace.
+        final Set<PathNode> pathNodesWithName =
+            qnmMapping.get(new QNm(lastName.getLocalName().replace("\\/", "/")));
+        if (pathNodesWithName != null) {
+          pathNodes.addAll(pathNodesWithName);
+        }
+      } else {
+        // The namespace is resolved by the path matching.
+        for (final Map.Entry<QNm, Set<PathNode>> entry : qnmMapping.entrySet()) {
+          if (lastName.getLocalName().equals(entry.getKey().getLocalName())) {
+            pathNodes.addAll(entry.getValue());
+          }
+        }
       }
+      return pathNodes;
+    }
 
-      if (isAttributePattern ^ (node.getPathKind() == NodeKind.ATTRIBUTE)) {
-        continue;
+    final List<PathNode> pathNodes = new ArrayList<>(pathNodeMapping.size());
+    for (final StructNode node : pathNodeMapping.values()) {
+      if (node instanceof PathNode) {
+        pathNodes.add((PathNode) node);
       }
+    }
+    return pathNodes;
+  }
 
-      try {
-        if (path.matches(node.getPath(this))) {
-          pcrSet.add(node.getNodeKey());
-        }
-      } catch (Exception e) {
-        System.out.println();
-      }
+  private static boolean isMatching(final Path<QNm> path, final PathNode node, final Path<QNm> nodePath) {
+    if (node.getLevel() < path.getLength()) {
+      return false;
     }
-    moveTo(nodeKey);
-    if (useCache) {
-      pathCache.put(path, pcrSet);
+
+    if (path.isAttribute() ^ (node.getPathKind() == NodeKind.ATTRIBUTE)) {
+      return false;
+    }
+
+    try {
+      return path.matches(nodePath);
+    } catch (final PathException e) {
+      return false;
     }
-    return pcrSet;
   }
 
   @Override
@@ -533,22 +645,31 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
   public QNm getName() {
     assertNotClosed();
     if (currentNode instanceof NameNode) {
-      final int uriKey = ((NameNode) currentNode).getURIKey();
-      final String uri = uriKey == -1 || pageReadTrx.getResourceManager() instanceof JsonResourceManager
-          ? ""
-          : pageReadTrx.getName(((NameNode) currentNode).getURIKey(), NodeKind.NAMESPACE);
-      final int prefixKey = ((NameNode) currentNode).getPrefixKey();
-      final String prefix =
-          prefixKey == -1 ? "" : pageReadTrx.getName(prefixKey, ((PathNode) currentNode).getPathKind());
-      final int localNameKey = ((NameNode) currentNode).getLocalNameKey();
-      final String localName =
-          localNameKey == -1 ? "" : pageReadTrx.getName(localNameKey, ((PathNode) currentNode).getPathKind());
-      return new QNm(uri, prefix, localName);
+      return getName(pageReadTrx, (PathNode) currentNode);
     } else {
       return null;
     }
   }
 
+  /**
+   * Get the name of a path node.
+   *
+   * @param pageReadTrx the page reader of the revision
+   * @param node        the path node
+   * @return the name of the path node
+   */
+  static QNm getName(final PageReadOnlyTrx pageReadTrx, final PathNode node) {
+    final int uriKey = node.getURIKey();
+    final String uri = uriKey == -1 || pageReadTrx.getResourceManager() instanceof JsonResourceManager
+        ? ""
+        : pageReadTrx.getName(uriKey, NodeKind.NAMESPACE);
+    final int prefixKey = node.getPrefixKey();
+    final String prefix = prefixKey == -1 ? "" : pageReadTrx.getName(prefixKey, node.getPathKind());
+    final int localNameKey = node.getLocalNameKey();
+    final String localName = localNameKey == -1 ? "" : pageReadTrx.getName(localNameKey, node.getPathKind());
+    return new QNm(uri, prefix, localName);
+  }
+
   @Override
   public int keyForName(final String pName) {
     assertNotClosed();
@@ -194,6 +194,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     adaptForInsert(node, InsertPos.ASFIRSTCHILD, PageKind.PATHSUMMARYPAGE);
     pathSummaryReader.moveTo(node.getNodeKey());
     pathSummaryReader.putQNameMapping(node, name);
+    pathSummaryReader.putPathCacheMapping(node);
 
     return this;
   }
@@ -280,6 +281,11 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
           pathNode.setPrefixKey(prefixKey);
           pathNode.setLocalNameKey(localNameKey);
           pathNode.setURIKey(uriKey);
+          pathSummaryReader.putMapping(pathNode.getNodeKey(), pathNode);
+
+          // The paths of the renamed path node and its descendants changed.
+          pathSummaryReader.resetPathCache();
+          pathSummaryReader.moveTo(oldPathNodeKey);
         }
       }
     } else {
@@ -2,11 +2,12 @@ package org.sirix.index.path.xml;
 
 import org.sirix.access.trx.node.xml.AbstractXmlNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.index.BulkIndexBuilder;
 import org.sirix.index.path.PathIndexBuilder;
 import org.sirix.node.immutable.xml.ImmutableAttributeNode;
 import org.sirix.node.immutable.xml.ImmutableElement;
 
-public final class XmlPathIndexBuilder extends AbstractXmlNodeVisitor {
+public final class XmlPathIndexBuilder extends AbstractXmlNodeVisitor implements BulkIndexBuilder {
 
   private final PathIndexBuilder mPathIndexBuilder;
 
@@ -24,4 +25,8 @@ public final class XmlPathIndexBuilder extends AbstractXmlNodeVisitor {
     return mPathIndexBuilder.process(node, node.getPathNodeKey());
   }
 
+  @Override
+  public void finish() {
+    mPathIndexBuilder.finish();
+  }
 }
@@ -0,0 +1,289 @@
+package org.sirix.io.file;
+
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.Reader;
+import org.sirix.io.bytepipe.ByteHandlePipeline;
+import org.sirix.page.OverflowPage;
+import org.sirix.page.PageFragmentKeyImpl;
+import org.sirix.page.PagePersister;
+import org.sirix.page.PageReference;
+import org.sirix.page.SerializationType;
+import org.sirix.page.UberPage;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.Page;
+import org.sirix.page.interfaces.PageFragmentKey;
+import org.sirix.settings.Constants;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.IntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Compaction of the append-only data file of a resource. As pages are never overwritten, the data file holds all
+ * intermediate versions of the pages, for instance the revision root pages and indirect pages, which have been
+ * written by every commit, even though only the uber page of the most recent revision is reachable.
+ *
+ * <p>
+ * The compaction copies the pages, which are reachable from the revisions to retain, into a new pair of data and
+ * revisions files. The pages are written contiguously in the order of the revisions and within a revision in the
+ * order of their keys, such that the pages of a revision are stored close to each other. Pages shared by several
+ * revisions are copied once. Revisions older than the oldest revision to retain are dropped, that is their numbers
+ * refer to the oldest retained revision afterwards.
+ * </p>
+ *
+ * <p>
+ * The copy only reads the current files, thus readers aren't blocked, whereas the new files replace the current files
+ * in a separate step, once no transaction reads the current files anymore. If the replacement is interrupted, it is
+ * completed, once the storage is opened again.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class FileCompaction {
+
+  /** The suffix of the files, which are written by the compaction. */
+  private static final String SUFFIX = ".compacted";
+
+  /** The storage to compact. */
+  private final FileStorage storage;
+
+  /** The compacted data file. */
+  private final Path dataFile;
+
+  /** The compacted revisions file. */
+  private final Path revisionsFile;
+
+  /** The references to the copied pages by the keys of the pages in the current data file. */
+  private final Map<Long, PageReference> copiedPages;
+
+  /**
+   * Constructor.
+   *
+   * @param storage the storage to compact
+   */
+  public FileCompaction(final FileStorage storage) {
+    this.storage = checkNotNull(storage);
+    dataFile = compactedFile(storage.getDataFilePath());
+    revisionsFile = compactedFile(storage.getRevisionFilePath());
+    copiedPages = new HashMap<>();
+  }
+
+  private static Path compactedFile(final Path file) {
+    return file.resolveSibling(file.getFileName() + SUFFIX);
+  }
+
+  /**
+   * Copy the pages of the revisions to retain into new data and revisions files.
+   *
+   * @param oldestRevisionToRetain the oldest revision to retain, older revisions are dropped
+   * @param mostRecentRevision the most recent revision of the resource
+   * @param pageReadTrxs opens the page transactions on a revision to deserialize the pages with, which are closed
+   *        once the revision is copied
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public void copy(final int oldestRevisionToRetain, final int mostRecentRevision,
+      final IntFunction<PageReadOnlyTrx> pageReadTrxs) {
+    checkArgument(oldestRevisionToRetain >= 0 && oldestRevisionToRetain <= mostRecentRevision,
+        "oldestRevisionToRetain must be >= 0 and <= %s!", mostRecentRevision);
+    checkNotNull(pageReadTrxs);
+    discard();
+
+    final long[] revisionRootPageKeys = readRevisionRootPageKeys(mostRecentRevision);
+    final long[] compactedRevisionRootPageKeys = new long[mostRecentRevision + 1];
+    boolean isCopied = false;
+
+    try {
+      // The revisions file is created first, as the data file without the revisions file marks an interrupted swap.
+      final RandomAccessFile compactedRevisionsFile = new RandomAccessFile(revisionsFile.toFile(), "rw");
+      final RandomAccessFile compactedDataFile = new RandomAccessFile(dataFile.toFile(), "rw");
+
+      try (final Reader reader = storage.createReader();
+          final FileWriter writer = new FileWriter(compactedDataFile, compactedRevisionsFile,
+              new ByteHandlePipeline(storage.getByteHandler()), SerializationType.DATA, new PagePersister())) {
+        for (int revision = oldestRevisionToRetain; revision <= mostRecentRevision; revision++) {
+          try (final PageReadOnlyTrx pageReadTrx = pageReadTrxs.apply(revision)) {
+            compactedRevisionRootPageKeys[revision] =
+                copy(revisionRootPageKeys[revision], reader, writer, pageReadTrx).getKey();
+          }
+        }
+
+        // The dropped revisions refer to the oldest retained revision.
+        final PageReference oldestRetainedRevisionRootPage =
+            copiedPages.get(revisionRootPageKeys[oldestRevisionToRetain]);
+        for (int revision = 0; revision < oldestRevisionToRetain; revision++) {
+          compactedRevisionRootPageKeys[revision] = oldestRetainedRevisionRootPage.getKey();
+          copiedPages.put(revisionRootPageKeys[revision], oldestRetainedRevisionRootPage);
+        }
+
+        // The tree of the uber page references the revision root pages, which have already been copied.
+        final UberPage uberPage = (UberPage) reader.readUberPageReference().getPage();
+        copyReferences(uberPage, reader, writer, null);
+        uberPage.removePreviousUberPageKey();
+        final PageReference uberPageReference = new PageReference();
+        uberPageReference.setPage(uberPage);
+        writer.writeUberPageReference(uberPageReference);
+
+        // The writer appends the keys of the revision root pages in the order, in which they have been written, but
+        // the keys of the dropped revisions have to be stored as well.
+        compactedRevisionsFile.setLength(0);
+        compactedRevisionsFile.seek(0);
+        for (final long revisionRootPageKey : compactedRevisionRootPageKeys) {
+          compactedRevisionsFile.writeLong(revisionRootPageKey);
+        }
+
+        compactedDataFile.getChannel().force(true);
+        compactedRevisionsFile.getChannel().force(true);
+      }
+
+      isCopied = true;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    } finally {
+      copiedPages.clear();
+
+      if (!isCopied) {
+        discard();
+      }
+    }
+  }
+
+  private long[] readRevisionRootPageKeys(final int mostRecentRevision) {
+    final long[] revisionRootPageKeys = new long[mostRecentRevision + 1];
+    try (final RandomAccessFile file = new RandomAccessFile(storage.getRevisionFilePath().toFile(), "r")) {
+      for (int revision = 0; revision <= mostRecentRevision; revision++) {
+        revisionRootPageKeys[revision] = file.readLong();
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+    return revisionRootPageKeys;
+  }
+
+  /**
+   * Copy a page and all pages it references, which haven't been copied yet. The referenced pages are written first,
+   * as the page has to store their new keys.
+   *
+   * @return the reference to the copied page
+   */
+  private PageReference copy(final long key, final Reader reader, final FileWriter writer,
+      final PageReadOnlyTrx pageReadTrx) {
+    final PageReference copiedPage = copiedPages.get(key);
+    if (copiedPage != null) {
+      return copiedPage;
+    }
+
+    final Page page = reader.read(new PageReference().setKey(key), pageReadTrx);
+
+    if (page instanceof KeyValuePage) {
+      copyFragments((KeyValuePage<?, ?>) page, reader, writer, pageReadTrx);
+    } else if (!(page instanceof OverflowPage)) {
+      copyReferences(page, reader, writer, pageReadTrx);
+    }
+
+    final PageReference reference = new PageReference();
+    reference.setPage(page);
+    writer.write(reference);
+    reference.setPage(null);
+    copiedPages.put(key, reference);
+    return reference;
+  }
+
+  private void copyReferences(final Page page, final Reader reader, final FileWriter writer,
+      final PageReadOnlyTrx pageReadTrx) {
+    for (final PageReference reference : page.getReferences()) {
+      if (reference != null && reference.getKey() != Constants.NULL_ID_LONG) {
+        update(reference, copy(reference.getKey(), reader, writer, pageReadTrx));
+      }
+    }
+  }
+
+  private void copyFragments(final KeyValuePage<?, ?> page, final Reader reader, final FileWriter writer,
+      final PageReadOnlyTrx pageReadTrx) {
+    for (final Entry<?, PageReference> entry : page.referenceEntrySet()) {
+      final PageReference reference = entry.getValue();
+      update(reference, copy(reference.getKey(), reader, writer, pageReadTrx));
+    }
+
+    final List<PageFragmentKey> previousReferenceKeys = page.getPreviousReferenceKeys();
+    if (!previousReferenceKeys.isEmpty()) {
+      final List<PageFragmentKey> copiedReferenceKeys = new ArrayList<>(previousReferenceKeys.size());
+      for (final PageFragmentKey pageFragmentKey : previousReferenceKeys) {
+        copiedReferenceKeys.add(new PageFragmentKeyImpl(pageFragmentKey.getRevision(),
+            copy(pageFragmentKey.getKey(), reader, writer, pageReadTrx).getKey()));
+      }
+      page.setPreviousReferenceKeys(copiedReferenceKeys);
+    }
+  }
+
+  private static void update(final PageReference reference, final PageReference copiedPage) {
+    reference.setKey(copiedPage.getKey());
+    reference.setHash(copiedPage.getHash());
+  }
+
+  /**
+   * Replace the current data and revisions files with the compacted files. No transaction must read the current files
+   * and no transaction must write to them.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public void swap() {
+    try {
+      // The revisions file is moved first, as the data file without the revisions file marks an interrupted swap.
+      Files.move(revisionsFile, storage.getRevisionFilePath(), StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+      Files.move(dataFile, storage.getDataFilePath(), StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Delete the compacted files, for instance if they can't replace the current files.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public void discard() {
+    try {
+      // The data file is deleted first, as the data file without the revisions file marks an interrupted swap.
+      Files.deleteIfExists(dataFile);
+      Files.deleteIfExists(revisionsFile);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Complete a swap, which has been interrupted, or delete the files of an interrupted compaction.
+   *
+   * @param storage the storage
+   * @throws SirixIOException if an I/O error occurs
+   */
+  static void recover(final FileStorage storage) {
+    final var compaction = new FileCompaction(storage);
+
+    if (Files.exists(compaction.dataFile) && !Files.exists(compaction.revisionsFile)) {
+      try {
+        Files.move(compaction.dataFile, storage.getDataFilePath(), StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    } else {
+      compaction.discard();
+    }
+  }
+}
@@ -27,7 +27,6 @@ import org.sirix.io.Reader;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
-import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.PagePersister;
 import org.sirix.page.SerializationType;
 
@@ -65,6 +64,7 @@ public final class FileStorage implements IOStorage {
     assert resourceConfig != null : "resourceConfig must not be null!";
     file = resourceConfig.resourcePath;
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
+    FileCompaction.recover(this);
   }
 
   @Override
@@ -116,7 +116,7 @@ public final class FileStorage implements IOStorage {
    *
    * @return the path for this data file
    */
-  private Path getDataFilePath() {
+  Path getDataFilePath() {
     return file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(FILENAME);
   }
 
@@ -125,7 +125,7 @@ public final class FileStorage implements IOStorage {
    *
    * @return the concrete storage for this database
    */
-  private Path getRevisionFilePath() {
+  Path getRevisionFilePath() {
     return file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
                .resolve(REVISIONS_FILENAME);
   }
@@ -141,7 +141,7 @@ public final class FileStorage implements IOStorage {
   }
 
   @Override
-  public ByteHandler getByteHandler() {
+  public ByteHandlePipeline getByteHandler() {
     return byteHandlerPipeline;
   }
 }
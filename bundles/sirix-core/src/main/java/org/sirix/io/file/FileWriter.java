@@ -22,6 +22,7 @@
 package org.sirix.io.file;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -92,6 +93,8 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
     UberPage uberPage = (UberPage) reader.readUberPageReference().getPage();
 
     while (uberPage.getRevisionNumber() != revision) {
+      checkState(uberPage.getPreviousUberPageKey() >= 0,
+          "Revision %s has been removed by a compaction of the data file.", revision);
       uberPage = (UberPage) reader.read(
           new PageReference().setKey(uberPage.getPreviousUberPageKey()), null);
       if (uberPage.getRevisionNumber() == revision) {
@@ -25,7 +25,6 @@ import com.google.common.collect.HashBiMap;
 import com.google.common.hash.HashFunction;
 import org.brackit.xquery.atomic.Atomic;
 import org.brackit.xquery.atomic.QNm;
-import org.brackit.xquery.module.Namespaces;
 import org.brackit.xquery.xdm.Type;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.HashType;
@@ -34,6 +33,7 @@ import org.sirix.index.AtomicUtil;
 import org.sirix.index.avltree.AVLNode;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusTreeNode;
 import org.sirix.index.path.summary.PathNode;
 import org.sirix.node.delegates.NameNodeDelegate;
 import org.sirix.node.delegates.NodeDelegate;
@@ -157,7 +157,8 @@ public enum NodeKind implements NodePersistenter {
       final boolean isCompressed = source.readByte() == (byte) 1;
       final byte[] vals = new byte[source.readInt()];
       source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel =
+          new ValueNodeDelegate(nodeDel, vals, isCompressed, getTextCompressionDictionary(isCompressed, pageReadTrx));
 
       final String uri = pageReadTrx.getName(nameDel.getURIKey(), NodeKind.NAMESPACE);
       final int prefixKey = nameDel.getPrefixKey();
@@ -236,7 +237,8 @@ public enum NodeKind implements NodePersistenter {
       final boolean isCompressed = source.readByte() == (byte) 1;
       final byte[] vals = new byte[source.readInt()];
       source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel =
+          new ValueNodeDelegate(nodeDel, vals, isCompressed, getTextCompressionDictionary(isCompressed, pageReadTrx));
 
       // Struct delegate.
       final long nodeKey = nodeDel.getNodeKey();
@@ -285,7 +287,8 @@ public enum NodeKind implements NodePersistenter {
       final boolean isCompressed = source.readByte() == (byte) 1;
       final byte[] vals = new byte[source.readInt()];
       source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel =
+          new ValueNodeDelegate(nodeDel, vals, isCompressed, getTextCompressionDictionary(isCompressed, pageReadTrx));
 
       // Returning an instance.
       return new PINode(hashCode, structDel, nameDel, valDel, pageReadTrx);
@@ -321,7 +324,8 @@ public enum NodeKind implements NodePersistenter {
       final boolean isCompressed = source.readByte() == (byte) 1;
       final byte[] vals = new byte[source.readInt()];
       source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel =
+          new ValueNodeDelegate(nodeDel, vals, isCompressed, getTextCompressionDictionary(isCompressed, pageReadTrx));
 
       // Struct delegate.
       final long nodeKey = nodeDel.getNodeKey();
@@ -605,7 +609,7 @@ public enum NodeKind implements NodePersistenter {
           nodeKeys.add(key);
         }
       }
-      final Type atomicType = resolveType(new String(type, Constants.DEFAULT_ENCODING));
+      final Type atomicType = CASValue.resolveType(new String(type, Constants.DEFAULT_ENCODING));
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegateWithoutIDs(source, recordID, pageReadTrx);
@@ -671,17 +675,6 @@ public enum NodeKind implements NodePersistenter {
         ResourceConfiguration resourceConfig) throws IOException {
       throw new UnsupportedOperationException();
     }
-
-    private Type resolveType(final String s) {
-      final QNm name = new QNm(Namespaces.XS_NSURI, Namespaces.XS_PREFIX,
-          s.substring(Namespaces.XS_PREFIX.length() + 1));
-      for (final Type type : Type.builtInTypes) {
-        if (type.getName().getLocalName().equals(name.getLocalName())) {
-          return type;
-        }
-      }
-      throw new IllegalStateException("Unknown content type: " + name);
-    }
   },
 
   /**
@@ -811,18 +804,106 @@ public enum NodeKind implements NodePersistenter {
     }
   },
 
-  /** Node includes a deweyID &lt;=&gt; nodeKey mapping. */
-  DEWEYIDMAPPING((byte) 23, DeweyIDMappingNode.class) {
+  /**
+   * Node kind is a CAS-B+-tree node.
+   */
+  CASBPLUSTREE((byte) 50, BPlusTreeNode.class) {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
-        final PageReadOnlyTrx pageReadTrx) {
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      return deserializeBPlusTreeNode(this, source, recordID, pageReadTrx, CASValue::deserialize);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      serializeBPlusTreeNode(sink, record, CASValue::serialize);
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) throws IOException {
       throw new UnsupportedOperationException();
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+    public void serializeDeweyID(DataOutput sink, NodeKind nodeKind, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) throws IOException {
       throw new UnsupportedOperationException();
     }
+  },
+
+  /**
+   * Node kind is a PATH-B+-tree node.
+   */
+  PATHBPLUSTREE((byte) 51, BPlusTreeNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      return deserializeBPlusTreeNode(this, source, recordID, pageReadTrx, Utils::getVarLong);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      NodeKind.<Long>serializeBPlusTreeNode(sink, record, Utils::putVarLong);
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) throws IOException {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, NodeKind nodeKind, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) throws IOException {
+      throw new UnsupportedOperationException();
+    }
+  },
+
+  /**
+   * Node kind is a NAME-B+-tree node.
+   */
+  NAMEBPLUSTREE((byte) 52, BPlusTreeNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      return deserializeBPlusTreeNode(this, source, recordID, pageReadTrx, NodeKind::readQNm);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      serializeBPlusTreeNode(sink, record, NodeKind::writeQNm);
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) throws IOException {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, NodeKind nodeKind, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) throws IOException {
+      throw new UnsupportedOperationException();
+    }
+  },
+
+  /** Node includes a deweyID &lt;=&gt; nodeKey mapping. */
+  DEWEYIDMAPPING((byte) 23, BPlusTreeNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      return deserializeBPlusTreeNode(this, source, recordID, pageReadTrx, NodeKind::readDeweyIDKey);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      serializeBPlusTreeNode(sink, record, NodeKind::writeDeweyIDKey);
+    }
 
     @Override
     public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
@@ -998,7 +1079,8 @@ public enum NodeKind implements NodePersistenter {
       final boolean isCompressed = source.readByte() == (byte) 1;
       final byte[] vals = new byte[source.readInt()];
       source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel =
+          new ValueNodeDelegate(nodeDel, vals, isCompressed, getTextCompressionDictionary(isCompressed, pageReadTrx));
 
       // Struct delegate.
       final StructNodeDelegate structDelegate = new StructNodeDelegate(nodeDel,
@@ -1245,7 +1327,8 @@ public enum NodeKind implements NodePersistenter {
       final boolean isCompressed = source.readByte() == (byte) 1;
       final byte[] vals = new byte[source.readInt()];
       source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel =
+          new ValueNodeDelegate(nodeDel, vals, isCompressed, getTextCompressionDictionary(isCompressed, pageReadTrx));
 
       // Struct delegate.
       final StructNodeDelegate structDel = deserializeStructDel(this, nodeDel, source,
@@ -1731,6 +1814,143 @@ public enum NodeKind implements NodePersistenter {
     }
   }
 
+  /**
+   * Reads the key of an index entry.
+   *
+   * @param <K> the key type
+   */
+  @FunctionalInterface
+  private interface KeyReader<K> {
+    K read(DataInput source) throws IOException;
+  }
+
+  /**
+   * Writes the key of an index entry.
+   *
+   * @param <K> the key type
+   */
+  @FunctionalInterface
+  private interface KeyWriter<K> {
+    void write(DataOutput sink, K key) throws IOException;
+  }
+
+  private static SirixDeweyID readDeweyIDKey(final DataInput source) throws IOException {
+    final byte[] deweyIDBytes = new byte[source.readInt()];
+    source.readFully(deweyIDBytes);
+    return new SirixDeweyID(deweyIDBytes);
+  }
+
+  private static void writeDeweyIDKey(final DataOutput sink, final SirixDeweyID key) throws IOException {
+    final byte[] deweyIDBytes = key.toBytes();
+    sink.writeInt(deweyIDBytes.length);
+    sink.write(deweyIDBytes);
+  }
+
+  private static QNm readQNm(final DataInput source) throws IOException {
+    final byte[] nspBytes = new byte[source.readInt()];
+    source.readFully(nspBytes);
+    final byte[] prefixBytes = new byte[source.readInt()];
+    source.readFully(prefixBytes);
+    final byte[] localNameBytes = new byte[source.readInt()];
+    source.readFully(localNameBytes);
+    return new QNm(new String(nspBytes, Constants.DEFAULT_ENCODING),
+        new String(prefixBytes, Constants.DEFAULT_ENCODING), new String(localNameBytes, Constants.DEFAULT_ENCODING));
+  }
+
+  private static void writeQNm(final DataOutput sink, final QNm key) throws IOException {
+    final byte[] nspBytes = key.getNamespaceURI().getBytes(Constants.DEFAULT_ENCODING);
+    sink.writeInt(nspBytes.length);
+    sink.write(nspBytes);
+    final byte[] prefixBytes = key.getPrefix().getBytes(Constants.DEFAULT_ENCODING);
+    sink.writeInt(prefixBytes.length);
+    sink.write(prefixBytes);
+    final byte[] localNameBytes = key.getLocalName().getBytes(Constants.DEFAULT_ENCODING);
+    sink.writeInt(localNameBytes.length);
+    sink.write(localNameBytes);
+  }
+
+  private static NodeReferences readNodeReferences(final DataInput source) throws IOException {
+    final int keySize = source.readInt();
+    final Set<Long> nodeKeys = new HashSet<>(keySize);
+    if (keySize > 0) {
+      long key = getVarLong(source);
+      nodeKeys.add(key);
+      for (int i = 1; i < keySize; i++) {
+        key += getVarLong(source);
+        nodeKeys.add(key);
+      }
+    }
+    return new NodeReferences(nodeKeys);
+  }
+
+  private static void writeNodeReferences(final DataOutput sink, final NodeReferences references)
+      throws IOException {
+    // Store in a list and sort the list to write the differences of the node keys.
+    final List<Long> listNodeKeys = new ArrayList<>(references.getNodeKeys());
+    Collections.sort(listNodeKeys);
+    sink.writeInt(listNodeKeys.size());
+    long previousNodeKey = 0;
+    for (final long nodeKey : listNodeKeys) {
+      putVarLong(sink, nodeKey - previousNodeKey);
+      previousNodeKey = nodeKey;
+    }
+  }
+
+  private static <K extends Comparable<? super K>> BPlusTreeNode<K, NodeReferences> deserializeBPlusTreeNode(
+      final NodeKind kind, final DataInput source, final @Nonnegative long recordID,
+      final PageReadOnlyTrx pageReadTrx, final KeyReader<K> keyReader) throws IOException {
+    final boolean isLeaf = source.readBoolean();
+    final int keyCount = source.readInt();
+    final List<K> keys = new ArrayList<>(keyCount + 1);
+    for (int i = 0; i < keyCount; i++) {
+      keys.add(keyReader.read(source));
+    }
+    final List<NodeReferences> values = new ArrayList<>(isLeaf ? keyCount + 1 : 0);
+    final List<Long> children = new ArrayList<>(isLeaf ? 0 : keyCount + 2);
+    long previousLeafKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+    long nextLeafKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+    if (isLeaf) {
+      for (int i = 0; i < keyCount; i++) {
+        values.add(readNodeReferences(source));
+      }
+      previousLeafKey = getVarLong(source) - 1;
+      nextLeafKey = getVarLong(source) - 1;
+    } else {
+      for (int i = 0; i <= keyCount; i++) {
+        children.add(getVarLong(source));
+      }
+    }
+    final NodeDelegate nodeDel = deserializeNodeDelegateWithoutIDs(source, recordID, pageReadTrx);
+    final BPlusTreeNode<K, NodeReferences> node = new BPlusTreeNode<>(kind, isLeaf, keys, values, children, nodeDel);
+    node.setPreviousLeafKey(previousLeafKey);
+    node.setNextLeafKey(nextLeafKey);
+    return node;
+  }
+
+  private static <K extends Comparable<? super K>> void serializeBPlusTreeNode(final DataOutput sink,
+      final DataRecord record, final KeyWriter<K> keyWriter) throws IOException {
+    @SuppressWarnings("unchecked")
+    final BPlusTreeNode<K, NodeReferences> node = (BPlusTreeNode<K, NodeReferences>) record;
+    sink.writeBoolean(node.isLeaf());
+    sink.writeInt(node.getKeyCount());
+    for (final K key : node.getKeys()) {
+      keyWriter.write(sink, key);
+    }
+    if (node.isLeaf()) {
+      for (final NodeReferences value : node.getValues()) {
+        writeNodeReferences(sink, value);
+      }
+      // Store the leaf keys incremented by one, such that a missing leaf (-1) is stored as 0 in a single byte.
+      putVarLong(sink, node.getPreviousLeafKey() + 1);
+      putVarLong(sink, node.getNextLeafKey() + 1);
+    } else {
+      for (final long childKey : node.getChildKeys()) {
+        putVarLong(sink, childKey);
+      }
+    }
+    serializeDelegate(node.getNodeDelegate(), sink);
+  }
+
   private static final BigInteger getHash(final DataInput source, final PageReadOnlyTrx pageReadTrx)
       throws IOException {
     final BigInteger hashCode;
@@ -1741,6 +1961,13 @@ public enum NodeKind implements NodePersistenter {
     return hashCode;
   }
 
+  private static byte[] getTextCompressionDictionary(final boolean isCompressed,
+      final PageReadOnlyTrx pageReadTrx) {
+    return isCompressed
+        ? pageReadTrx.getResourceManager().getTextCompressionDictionary().get()
+        : null;
+  }
+
   private static final NodeDelegate deserializeNodeDelegateWithoutIDs(final DataInput source,
       final @Nonnegative long recordID, final PageReadOnlyTrx pageReadTrx) throws IOException {
     final long nodeKey = recordID;
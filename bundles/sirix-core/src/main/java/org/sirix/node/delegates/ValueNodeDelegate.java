@@ -51,6 +51,12 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
   /** Determines if input has been compressed. */
   private boolean mCompressed;
 
+  /** The preset dictionary of the compressed value or {@code null}. */
+  private final byte[] mDictionary;
+
+  /** The decompressed value, once it has been decompressed, or {@code null}. */
+  private volatile byte[] mDecompressedValue;
+
   /**
    * Constructor
    *
@@ -59,11 +65,25 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
    * @param compressed compress value or not
    */
   public ValueNodeDelegate(final NodeDelegate nodeDel, final byte[] val, final boolean compressed) {
+    this(nodeDel, val, compressed, null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param nodeDel {@link NodeDelegate} reference
+   * @param val the value
+   * @param compressed compress value or not
+   * @param dictionary the preset dictionary to compress and decompress the value with or {@code null}
+   */
+  public ValueNodeDelegate(final NodeDelegate nodeDel, final byte[] val, final boolean compressed,
+      final @Nullable byte[] dictionary) {
     assert nodeDel != null : "nodeDel must not be null!";
     assert val != null : "val must not be null!";
     mDelegate = nodeDel;
     mValue = val;
     mCompressed = compressed;
+    mDictionary = dictionary;
   }
 
   @Override
@@ -81,11 +101,23 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>
+   * The decompressed value is cached and returned without a copy, as it is read for each hash and string conversion.
+   * </p>
+   */
   @Override
   public byte[] getRawValue() {
-    return mCompressed
-        ? Compression.decompress(mValue)
-        : mValue;
+    if (!mCompressed) {
+      return mValue;
+    }
+    // The node is cached in its record page, thus the value is decompressed only once.
+    if (mDecompressedValue == null) {
+      mDecompressedValue = Compression.decompress(mValue, mDictionary);
+    }
+    return mDecompressedValue;
   }
 
   @Override
@@ -108,8 +140,11 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
         ? true
         : false;
     mValue = mCompressed
-        ? Compression.compress(value, Deflater.DEFAULT_COMPRESSION)
+        ? Compression.compress(value, Deflater.DEFAULT_COMPRESSION, mDictionary)
         : value;
+    mDecompressedValue = mCompressed
+        ? value
+        : null;
   }
 
   /**
@@ -128,6 +163,7 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
    */
   public void setCompressed(final boolean compressed) {
     mCompressed = compressed;
+    mDecompressedValue = null;
   }
 
   @Override
@@ -31,7 +31,8 @@ package org.sirix.node.interfaces;
  */
 public interface ValueNode extends Node {
   /**
-   * Return a byte array representation of the item's value.
+   * Return a byte array representation of the item's value. The array might be shared with the node, which is
+   * cached in its record page, thus it must not be modified.
    * 
    * @return the value of the node
    */
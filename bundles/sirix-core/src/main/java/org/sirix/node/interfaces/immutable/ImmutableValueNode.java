@@ -8,7 +8,8 @@ package org.sirix.node.interfaces.immutable;
  */
 public interface ImmutableValueNode {
   /**
-   * Return a byte array representation of the node value.
+   * Return a byte array representation of the node value. The array might be shared with the node, which is
+   * cached in its record page, thus it must not be modified.
    * 
    * @return the value of the node
    */
@@ -81,6 +81,32 @@ public final class IndirectPage extends AbstractForwardingPage {
     return false;
   }
 
+  /**
+   * Get the page reference of the given offset without creating it.
+   *
+   * @param offset offset of page reference
+   * @return {@link PageReference} at given offset or {@code null}, if it doesn't exist
+   */
+  public PageReference getReference(int offset) {
+    if (delegate instanceof ReferencesPage4) {
+      return ((ReferencesPage4) delegate).getReference(offset);
+    }
+    return ((BitmapReferencesPage) delegate).getReference(offset);
+  }
+
+  /**
+   * Get the smallest offset of an existing page reference, which is greater than or equal to the given offset.
+   *
+   * @param fromOffset the offset to start from
+   * @return the offset or {@code -1}, if no such page reference exists
+   */
+  public int nextOffset(int fromOffset) {
+    if (delegate instanceof ReferencesPage4) {
+      return ((ReferencesPage4) delegate).nextOffset(fromOffset);
+    }
+    return ((BitmapReferencesPage) delegate).nextOffset(fromOffset);
+  }
+
   @Override
   public PageReference getOrCreateReference(int offset) {
     PageReference reference = super.getOrCreateReference(offset);
@@ -265,6 +265,28 @@ public enum PageKind {
     public @Nonnull Page getInstance(Page page, @Nonnull PageReadOnlyTrx pageReadTrx) {
       return new PathPage();
     }
+  },
+
+  /**
+   * {@link DeweyIDMappingPage}.
+   */
+  DEWEYIDPAGE((byte) 11, DeweyIDMappingPage.class) {
+    @Override
+    void serializePage(DataOutput sink, @Nonnull Page page, @Nonnull SerializationType type) throws IOException {
+      sink.writeByte(DEWEYIDPAGE.mId);
+      page.serialize(sink, type);
+    }
+
+    @Override
+    Page deserializePage(DataInput source, @Nonnull PageReadOnlyTrx pageReadTrx, @Nonnull SerializationType type)
+        throws IOException {
+      return new DeweyIDMappingPage(source, type);
+    }
+
+    @Override
+    public @Nonnull Page getInstance(Page page, @Nonnull PageReadOnlyTrx pageReadTrx) {
+      return new DeweyIDMappingPage();
+    }
   };
 
   /** Mapping of keys -> page */
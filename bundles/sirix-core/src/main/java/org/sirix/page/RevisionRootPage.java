@@ -64,6 +64,9 @@ public final class RevisionRootPage extends AbstractForwardingPage {
   /** Offset of path page reference. */
   private static final int PATH_REFERENCE_OFFSET = 4;
 
+  /** Offset of DeweyID page reference. */
+  private static final int DEWEYID_REFERENCE_OFFSET = 5;
+
   /** Last allocated node key. */
   private long maxNodeKey;
 
@@ -85,15 +88,19 @@ public final class RevisionRootPage extends AbstractForwardingPage {
   /** The user, which committed or is probably committing the revision. */
   private User user;
 
+  /** Determines if the page has been read from the data file, thus the timestamp of the revision is kept. */
+  private boolean isCommitted;
+
   /**
    * Create revision root page.
    */
   public RevisionRootPage() {
-    delegate = new BitmapReferencesPage(5);
+    delegate = new BitmapReferencesPage(6);
     getOrCreateReference(PATH_SUMMARY_REFERENCE_OFFSET).setPage(new PathSummaryPage());
     getOrCreateReference(NAME_REFERENCE_OFFSET).setPage(new NamePage());
     getOrCreateReference(CAS_REFERENCE_OFFSET).setPage(new CASPage());
     getOrCreateReference(PATH_REFERENCE_OFFSET).setPage(new PathPage());
+    getOrCreateReference(DEWEYID_REFERENCE_OFFSET).setPage(new DeweyIDMappingPage());
     revision = Constants.UBP_ROOT_REVISION_NUMBER;
     maxNodeKey = -1L;
     currentMaxLevelOfIndirectPages = 1;
@@ -105,7 +112,7 @@ public final class RevisionRootPage extends AbstractForwardingPage {
    * @param in input stream
    */
   protected RevisionRootPage(final DataInput in, final SerializationType type) throws IOException {
-    delegate = new BitmapReferencesPage(5, in, type);
+    delegate = new BitmapReferencesPage(6, in, type);
     revision = in.readInt();
     maxNodeKey = in.readLong();
     revisionTimestamp = in.readLong();
@@ -121,6 +128,7 @@ public final class RevisionRootPage extends AbstractForwardingPage {
     } else {
       user = null;
     }
+    isCommitted = type == SerializationType.DATA;
   }
 
   /**
@@ -158,6 +166,15 @@ public final class RevisionRootPage extends AbstractForwardingPage {
     return getOrCreateReference(CAS_REFERENCE_OFFSET);
   }
 
+  /**
+   * Get DeweyID page reference.
+   *
+   * @return DeweyID page reference
+   */
+  public PageReference getDeweyIDPageReference() {
+    return getOrCreateReference(DEWEYID_REFERENCE_OFFSET);
+  }
+
   /**
    * Get name page reference.
    *
@@ -234,7 +251,10 @@ public final class RevisionRootPage extends AbstractForwardingPage {
 
   @Override
   public void serialize(final DataOutput out, final SerializationType type) throws IOException {
-    revisionTimestamp = Instant.now().toEpochMilli();
+    // The page is only written again, once the data file is compacted.
+    if (!isCommitted) {
+      revisionTimestamp = Instant.now().toEpochMilli();
+    }
     delegate.serialize(checkNotNull(out), checkNotNull(type));
     out.writeInt(revision);
     out.writeLong(maxNodeKey);
@@ -273,6 +293,7 @@ public final class RevisionRootPage extends AbstractForwardingPage {
                       .add("pathSummaryPage", getOrCreateReference(PATH_SUMMARY_REFERENCE_OFFSET))
                       .add("pathPage", getOrCreateReference(PATH_REFERENCE_OFFSET))
                       .add("CASPage", getOrCreateReference(CAS_REFERENCE_OFFSET))
+                      .add("deweyIDPage", getOrCreateReference(DEWEYID_REFERENCE_OFFSET))
                       .add("nodePage", getOrCreateReference(INDIRECT_REFERENCE_OFFSET))
                       .toString();
   }
@@ -134,6 +134,13 @@ public final class UberPage extends AbstractForwardingPage {
     return mPreviousUberPageKey;
   }
 
+  /**
+   * Remove the key of the previous uber page, as the previous uber pages have been removed from the storage.
+   */
+  public void removePreviousUberPageKey() {
+    mPreviousUberPageKey = -1;
+  }
+
   /**
    * Get indirect page reference.
    *
@@ -234,6 +241,9 @@ public final class UberPage extends AbstractForwardingPage {
     final var pathPage = rootPage.getPathPageReference().getPage();
     log.put(rootPage.getPathPageReference(), PageContainer.getInstance(pathPage, pathPage));
 
+    final var deweyIDPage = rootPage.getDeweyIDPageReference().getPage();
+    log.put(rootPage.getDeweyIDPageReference(), PageContainer.getInstance(deweyIDPage, deweyIDPage));
+
     final var pathSummaryPage = rootPage.getPathSummaryPageReference().getPage();
     log.put(rootPage.getPathSummaryPageReference(), PageContainer.getInstance(pathSummaryPage, pathSummaryPage));
 
@@ -255,6 +265,7 @@ public final class UberPage extends AbstractForwardingPage {
       case PATHPAGE:
       case CASPAGE:
       case NAMEPAGE:
+      case DEWEYIDPAGE:
       case RECORDPAGE:
         inpLevelPageCountExp = Constants.INP_LEVEL_PAGE_COUNT_EXPONENT;
         break;
@@ -83,6 +83,17 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
    */
   private final Map<Long, byte[]> slots;
 
+  /**
+   * Serialized records, which have been read from storage, but haven't been deserialized yet.
+   */
+  private final Map<Long, byte[]> serializedRecords;
+
+  /**
+   * The offsets of the slots, which are filled by records or references to overlong records, or {@code null}, if
+   * it has to be computed.
+   */
+  private BitSet slotBitmap;
+
   /**
    * Dewey IDs which have to be serialized.
    */
@@ -119,6 +130,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     recordPageKey = pageToClone.recordPageKey;
     records = pageToClone.records;
     slots = pageToClone.slots;
+    serializedRecords = pageToClone.serializedRecords;
     deweyIDs = pageToClone.deweyIDs;
     pageReadTrx = pageTrx;
     pageKind = pageToClone.pageKind;
@@ -148,6 +160,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     this.recordPageKey = recordPageKey;
     records = new LinkedHashMap<>();
     slots = new LinkedHashMap<>();
+    serializedRecords = new LinkedHashMap<>();
     this.pageReadTrx = pageReadTrx;
     this.pageKind = pageKind;
     resourceConfig = pageReadTrx.getResourceManager().getResourceConfig();
@@ -201,7 +214,9 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     final var entriesBitmap = SerializationType.deserializeBitSet(in);
     final var overlongEntriesBitmap = SerializationType.deserializeBitSet(in);
 
+    // The records are deserialized on demand, as records of page fragments might be overwritten by newer fragments.
     final int normalEntrySize = in.readInt();
+    serializedRecords = new LinkedHashMap<>(normalEntrySize);
     var setBit = -1;
     for (int index = 0; index < normalEntrySize; index++) {
       setBit = entriesBitmap.nextSetBit(setBit + 1);
@@ -210,9 +225,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       final int dataSize = in.readInt();
       final byte[] data = new byte[dataSize];
       in.readFully(data);
-      final DataRecord record = recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)), key,
-          null, this.pageReadTrx);
-      records.put(key, record);
+      serializedRecords.put(key, data);
     }
 
     final int overlongEntrySize = in.readInt();
@@ -238,6 +251,12 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       previousPageRefKeys = List.of();
     }
     pageKind = PageKind.getKind(in.readByte());
+
+    slotBitmap = entriesBitmap;
+    slotBitmap.or(overlongEntriesBitmap);
+    for (final Long key : records.keySet()) {
+      slotBitmap.set(pageReadTrx.recordPageOffset(key));
+    }
   }
 
   private void deserializeRecordAndPutIntoMap(DataInput in, SirixDeweyID deweyId) {
@@ -263,6 +282,9 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
   public DataRecord getValue(final Long key) {
     assert key != null : "key must not be null!";
     DataRecord record = records.get(key);
+    if (record == null && !serializedRecords.isEmpty()) {
+      record = deserializeRecord(key);
+    }
     if (record == null) {
       byte[] data;
       try {
@@ -286,15 +308,77 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     return record;
   }
 
+  private DataRecord deserializeRecord(final Long key) {
+    final byte[] data = serializedRecords.remove(key);
+    if (data == null) {
+      return null;
+    }
+    try {
+      final DataRecord record =
+          recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)), key, null, pageReadTrx);
+      records.put(key, record);
+      return record;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private void deserializeRecords() {
+    if (!serializedRecords.isEmpty()) {
+      for (final Long key : new ArrayList<>(serializedRecords.keySet())) {
+        deserializeRecord(key);
+      }
+    }
+  }
+
   @Override
   public void setEntry(final Long key, @Nonnull final DataRecord value) {
     assert value != null : "record must not be null!";
     addedReferences = false;
+    serializedRecords.remove(key);
+    // The record is serialized again, once the page is serialized.
+    slots.remove(key);
     records.put(key, value);
+    slotBitmap = null;
+  }
+
+  @Override
+  public BitSet getSlotBitmap() {
+    if (slotBitmap == null) {
+      slotBitmap = new BitSet(Constants.NDP_NODE_COUNT);
+      for (final Long key : records.keySet()) {
+        slotBitmap.set(pageReadTrx.recordPageOffset(key));
+      }
+      for (final Long key : serializedRecords.keySet()) {
+        slotBitmap.set(pageReadTrx.recordPageOffset(key));
+      }
+      for (final Long key : references.keySet()) {
+        slotBitmap.set(pageReadTrx.recordPageOffset(key));
+      }
+    }
+    return slotBitmap;
+  }
+
+  @Override
+  public void copySlotTo(final int offset, final KeyValuePage<Long, DataRecord> page) {
+    final long key = recordPageKey * Constants.NDP_NODE_COUNT + offset;
+    DataRecord record = records.get(key);
+    if (record == null) {
+      record = deserializeRecord(key);
+    }
+    if (record != null) {
+      page.setEntry(key, record);
+    }
+    final PageReference reference = references.get(key);
+    if (reference != null) {
+      page.setPageReference(key, reference);
+    }
   }
 
   @Override
   public void serialize(final DataOutput out, final SerializationType type) throws IOException {
+    // Records, which haven't been deserialized, are written as they have been read.
+    slots.putAll(serializedRecords);
     if (!addedReferences) {
       addReferences();
     }
@@ -388,6 +472,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   @Override
   public String toString() {
+    deserializeRecords();
     final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this).add("pagekey", recordPageKey);
     for (final DataRecord record : records.values()) {
       helper.add("record", record);
@@ -400,11 +485,13 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   @Override
   public Set<Entry<Long, DataRecord>> entrySet() {
+    deserializeRecords();
     return records.entrySet();
   }
 
   @Override
   public int hashCode() {
+    deserializeRecords();
     return Objects.hashCode(recordPageKey, records, references);
   }
 
@@ -412,6 +499,8 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
   public boolean equals(final @Nullable Object obj) {
     if (obj instanceof UnorderedKeyValuePage) {
       final UnorderedKeyValuePage other = (UnorderedKeyValuePage) obj;
+      deserializeRecords();
+      other.deserializeRecords();
       return recordPageKey == other.recordPageKey && Objects.equal(records, other.records) && Objects.equal(references,
           other.references);
     }
@@ -426,6 +515,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
   @Override
   public <K extends Comparable<? super K>, V extends DataRecord, S extends KeyValuePage<K, V>> void commit(
       @Nonnull PageTrx<K, V, S> pageWriteTrx) {
+    deserializeRecords();
     if (!addedReferences) {
       try {
         addReferences();
@@ -506,6 +596,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   @Override
   public Collection<DataRecord> values() {
+    deserializeRecords();
     return records.values();
   }
 
@@ -538,13 +629,14 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   @Override
   public int size() {
-    return records.size() + references.size();
+    return records.size() + serializedRecords.size() + references.size();
   }
 
   @Override
   public void setPageReference(final Long key, @Nonnull final PageReference reference) {
     assert key != null;
     references.put(key, reference);
+    slotBitmap = null;
   }
 
   @Override
@@ -563,6 +655,11 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     return previousPageRefKeys;
   }
 
+  @Override
+  public void setPreviousReferenceKeys(final List<PageFragmentKey> previousReferenceKeys) {
+    previousPageRefKeys = new ArrayList<>(previousReferenceKeys);
+  }
+
   @Override
   public int getRevision() {
     return revision;
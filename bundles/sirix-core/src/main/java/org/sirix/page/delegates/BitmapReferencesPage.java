@@ -143,6 +143,26 @@ public final class BitmapReferencesPage implements Page {
     return (BitSet) bitmap.clone();
   }
 
+  /**
+   * Get the page reference of the given offset without creating it.
+   *
+   * @param offset offset of page reference
+   * @return {@link PageReference} at given offset or {@code null}, if it doesn't exist
+   */
+  public PageReference getReference(final @Nonnegative int offset) {
+    return bitmap.get(offset) ? references.get(index(offset)) : null;
+  }
+
+  /**
+   * Get the smallest offset of an existing page reference, which is greater than or equal to the given offset.
+   *
+   * @param fromOffset the offset to start from
+   * @return the offset or {@code -1}, if no such page reference exists
+   */
+  public int nextOffset(final @Nonnegative int fromOffset) {
+    return bitmap.nextSetBit(fromOffset);
+  }
+
   /**
    * Get page reference of given offset.
    *
@@ -99,6 +99,37 @@ public final class ReferencesPage4 implements Page {
     return references;
   }
 
+  /**
+   * Get the page reference of the given offset without creating it.
+   *
+   * @param offset offset of page reference
+   * @return {@link PageReference} at given offset or {@code null}, if it doesn't exist
+   */
+  public PageReference getReference(final @Nonnegative int offset) {
+    for (int i = 0, count = offsets.size(); i < count; i++) {
+      if (offsets.get(i) == offset) {
+        return references.get(i);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Get the smallest offset of an existing page reference, which is greater than or equal to the given offset.
+   *
+   * @param fromOffset the offset to start from
+   * @return the offset or {@code -1}, if no such page reference exists
+   */
+  public int nextOffset(final @Nonnegative int fromOffset) {
+    int nextOffset = -1;
+    for (final short offset : offsets) {
+      if (offset >= fromOffset && (nextOffset == -1 || offset < nextOffset)) {
+        nextOffset = offset;
+      }
+    }
+    return nextOffset;
+  }
+
   /**
    * Get page reference of given offset.
    *
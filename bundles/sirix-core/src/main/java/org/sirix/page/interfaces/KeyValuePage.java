@@ -1,5 +1,6 @@
 package org.sirix.page.interfaces;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map.Entry;
@@ -71,6 +72,23 @@ public interface KeyValuePage<K extends Comparable<? super K>, V extends DataRec
 
   PageReference getPageReference(K key);
 
+  /**
+   * Get the offsets of the slots, which are filled by records or by references to overlong records. The records of a
+   * page, which has been read from storage, don't have to be deserialized to determine the slots.
+   *
+   * @return the bitmap of the filled slots, which must not be modified
+   */
+  BitSet getSlotBitmap();
+
+  /**
+   * Copy the record and the reference to the overlong record of a slot to another page. The record is deserialized,
+   * if it hasn't been deserialized yet.
+   *
+   * @param offset the offset of the slot
+   * @param page the page to copy the slot to
+   */
+  void copySlotTo(int offset, KeyValuePage<K, V> page);
+
   /**
    * Create a new instance.
    *
@@ -111,5 +129,13 @@ public interface KeyValuePage<K extends Comparable<? super K>, V extends DataRec
    */
   List<PageFragmentKey> getPreviousReferenceKeys();
 
+  /**
+   * Set the keys of the previous versions / page fragments of the page, for instance once the fragments have been
+   * moved to other offsets of the storage.
+   *
+   * @param previousReferenceKeys the keys of the previous versions / page fragments of the page
+   */
+  void setPreviousReferenceKeys(List<PageFragmentKey> previousReferenceKeys);
+
   int getRevision();
 }
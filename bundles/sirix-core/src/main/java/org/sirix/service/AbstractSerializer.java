@@ -4,13 +4,22 @@ import org.sirix.api.*;
 import org.sirix.api.visitor.NodeVisitor;
 import org.sirix.axis.visitor.VisitorDescendantAxis;
 import org.sirix.exception.SirixException;
+import org.sirix.exception.SirixIOException;
+import org.sirix.exception.SirixThreadedException;
 import org.sirix.settings.Constants;
 
 import javax.annotation.Nonnegative;
+import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -37,6 +46,12 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
   /** Optional visitor. */
   protected final NodeVisitor visitor;
 
+  /** Maximum number of revisions, which are serialized concurrently. */
+  private int maxConcurrentRevisions;
+
+  /** Creates the serializers of single revisions and emits their output, if revisions are serialized concurrently. */
+  private ConcurrentSerialization<? extends AbstractSerializer<R, W>> concurrentSerialization;
+
   /**
    * Constructor.
    *
@@ -54,6 +69,7 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
     initialize(revision, revisions);
     this.resMgr = checkNotNull(resMgr);
     startNodeKey = 0;
+    maxConcurrentRevisions = 1;
   }
 
   /**
@@ -74,6 +90,24 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
     initialize(revision, revisions);
     this.resMgr = checkNotNull(resMgr);
     startNodeKey = key;
+    maxConcurrentRevisions = 1;
+  }
+
+  /**
+   * Constructor for a serializer of a single revision, which is used for the concurrent serialization of multiple
+   * revisions. The serializer starts in the state of the given serializer after the start of the document has been
+   * emitted.
+   *
+   * @param serializer the serializer, which serializes all revisions
+   * @param visitor optional visitor
+   */
+  protected AbstractSerializer(final AbstractSerializer<R, W> serializer, final NodeVisitor visitor) {
+    this.visitor = visitor;
+    stack = new ArrayDeque<>(serializer.stack);
+    revisions = serializer.revisions;
+    resMgr = serializer.resMgr;
+    startNodeKey = serializer.startNodeKey;
+    maxConcurrentRevisions = 1;
   }
 
   /**
@@ -91,6 +125,56 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
     }
   }
 
+  /**
+   * Set the maximum number of revisions, which are serialized concurrently. Each revision is serialized with its own
+   * read-only transaction into a buffer and the buffers are written in the order of the revisions. At most
+   * {@code maxConcurrentRevisions} buffers are held in memory.
+   *
+   * @param maxConcurrentRevisions the maximum number of revisions, which are serialized concurrently ({@code 1} to
+   *        serialize them one after the other)
+   * @param revisionSerializers creates a serializer with the same configuration, which serializes a single revision
+   *        into a buffer, starting in the current state of this serializer
+   * @param revisionOutput emits the buffered output of a serializer of a single revision
+   */
+  protected <S extends AbstractSerializer<R, W>> void setMaxConcurrentRevisions(
+      final @Nonnegative int maxConcurrentRevisions, final Supplier<S> revisionSerializers,
+      final RevisionOutput<? super S> revisionOutput) {
+    checkArgument(maxConcurrentRevisions > 0, "The maximum number of concurrently serialized revisions must be > 0!");
+    this.maxConcurrentRevisions = maxConcurrentRevisions;
+    concurrentSerialization = new ConcurrentSerialization<>(revisionSerializers, revisionOutput);
+  }
+
+  /**
+   * Emits the buffered output of a serializer of a single revision.
+   *
+   * @param <S> the serializer
+   */
+  @FunctionalInterface
+  protected interface RevisionOutput<S> {
+    /**
+     * Emit the buffered output.
+     *
+     * @param revisionSerializer the serializer of a single revision
+     * @throws IOException if the output can't be written
+     */
+    void emit(S revisionSerializer) throws IOException;
+  }
+
+  /**
+   * The factory of the serializers of single revisions together with the sink of their output.
+   */
+  private static final class ConcurrentSerialization<S> {
+    private final Supplier<S> revisionSerializers;
+
+    private final RevisionOutput<? super S> revisionOutput;
+
+    private ConcurrentSerialization(final Supplier<S> revisionSerializers,
+        final RevisionOutput<? super S> revisionOutput) {
+      this.revisionSerializers = checkNotNull(revisionSerializers);
+      this.revisionOutput = checkNotNull(revisionOutput);
+    }
+  }
+
   /**
    * Serialize the storage.
    *
@@ -102,81 +186,125 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
     emitStartDocument();
 
     final int nrOfRevisions = revisions.length;
-    final int length = (nrOfRevisions == 1 && revisions[0] < 0)
+    final boolean allRevisions = nrOfRevisions == 1 && revisions[0] < 0;
+    final int length = allRevisions
         ? resMgr.getMostRecentRevisionNumber()
         : nrOfRevisions;
 
-    for (int i = 1; i <= length; i++) {
-      try (final R rtx = resMgr.beginNodeReadOnlyTrx((nrOfRevisions == 1 && revisions[0] < 0)
-          ? i
-          : revisions[i - 1])) {
-        emitRevisionStartNode(rtx);
+    if (maxConcurrentRevisions > 1 && length > 1) {
+      serializeConcurrently(concurrentSerialization, length, allRevisions);
+    } else {
+      for (int i = 1; i <= length; i++) {
+        serializeRevision(allRevisions
+            ? i
+            : revisions[i - 1]);
+      }
+    }
 
-        rtx.moveTo(startNodeKey);
+    emitEndDocument();
 
-        final VisitorDescendantAxis.Builder builder = VisitorDescendantAxis.newBuilder(rtx).includeSelf();
+    return null;
+  }
 
-        if (visitor != null) {
-          builder.visitor(visitor);
-          setTrxForVisitor(rtx);
+  private <S extends AbstractSerializer<R, W>> void serializeConcurrently(
+      final ConcurrentSerialization<S> concurrentSerialization, final int length, final boolean allRevisions) {
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxConcurrentRevisions, length));
+    try {
+      final Deque<Future<S>> pendingRevisions = new ArrayDeque<>();
+      int i = 1;
+      while (i <= length || !pendingRevisions.isEmpty()) {
+        // Bound the number of buffered revisions.
+        while (i <= length && pendingRevisions.size() < maxConcurrentRevisions) {
+          final int revision = allRevisions
+              ? i
+              : revisions[i - 1];
+          final S revisionSerializer = concurrentSerialization.revisionSerializers.get();
+          final AbstractSerializer<R, W> serializer = revisionSerializer;
+          pendingRevisions.add(executor.submit(() -> {
+            serializer.serializeRevision(revision);
+            return revisionSerializer;
+          }));
+          i++;
         }
 
-        final Axis descAxis = builder.build();
-
-        // Setup primitives.
-        boolean closeElements = false;
-        long key = rtx.getNodeKey();
-
-        // Iterate over all nodes of the subtree including s.
-        while (descAxis.hasNext()) {
-          key = descAxis.next();
-
-          // Emit all pending end elements.
-          if (closeElements) {
-            while (!stack.isEmpty() && stack.peek() != rtx.getLeftSiblingKey()) {
-              rtx.moveTo(stack.pop());
-              emitEndNode(rtx);
-              rtx.moveTo(key);
-            }
-            if (!stack.isEmpty()) {
-              rtx.moveTo(stack.pop());
-              emitEndNode(rtx);
-            }
-            rtx.moveTo(key);
-            closeElements = false;
-          }
+        concurrentSerialization.revisionOutput.emit(pendingRevisions.poll().get());
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SirixThreadedException(e);
+    } catch (final ExecutionException e) {
+      throw new SirixThreadedException(e);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 
-          // Emit node.
-          final long nodeKey = rtx.getNodeKey();
-          emitNode(rtx);
-          rtx.moveTo(nodeKey);
+  private void serializeRevision(final int revision) {
+    try (final R rtx = resMgr.beginNodeReadOnlyTrx(revision)) {
+      emitRevisionStartNode(rtx);
 
-          // Push end element to stack if we are a start element with
-          // children.
-          if (!rtx.isDocumentRoot() && (rtx.hasFirstChild() && isSubtreeGoingToBeVisited(rtx))) {
-            stack.push(rtx.getNodeKey());
-          }
+      rtx.moveTo(startNodeKey);
+
+      final VisitorDescendantAxis.Builder builder = VisitorDescendantAxis.newBuilder(rtx).includeSelf();
+
+      if (visitor != null) {
+        builder.visitor(visitor);
+        setTrxForVisitor(rtx);
+      }
 
-          // Remember to emit all pending end elements from stack if
-          // required.
-          if ((!rtx.hasFirstChild() || isSubtreeGoingToBePruned(rtx)) && !rtx.hasRightSibling()) {
-            closeElements = true;
+      final Axis descAxis = builder.build();
+
+      // Setup primitives.
+      boolean closeElements = false;
+      long key = rtx.getNodeKey();
+
+      // Iterate over all nodes of the subtree including s.
+      while (descAxis.hasNext()) {
+        key = descAxis.next();
+
+        // Emit all pending end elements.
+        if (closeElements) {
+          while (!stack.isEmpty() && stack.peek() != rtx.getLeftSiblingKey()) {
+            rtx.moveTo(stack.pop());
+            emitEndNode(rtx);
+            rtx.moveTo(key);
+          }
+          if (!stack.isEmpty()) {
+            rtx.moveTo(stack.pop());
+            emitEndNode(rtx);
           }
+          rtx.moveTo(key);
+          closeElements = false;
         }
 
-        // Finally emit all pending end elements.
-        while (!stack.isEmpty() && stack.peek() != Constants.NULL_ID_LONG) {
-          rtx.moveTo(stack.pop());
-          emitEndNode(rtx);
+        // Emit node.
+        final long nodeKey = rtx.getNodeKey();
+        emitNode(rtx);
+        rtx.moveTo(nodeKey);
+
+        // Push end element to stack if we are a start element with
+        // children.
+        if (!rtx.isDocumentRoot() && (rtx.hasFirstChild() && isSubtreeGoingToBeVisited(rtx))) {
+          stack.push(rtx.getNodeKey());
         }
 
-        emitRevisionEndNode(rtx);
+        // Remember to emit all pending end elements from stack if
+        // required.
+        if ((!rtx.hasFirstChild() || isSubtreeGoingToBePruned(rtx)) && !rtx.hasRightSibling()) {
+          closeElements = true;
+        }
       }
-    }
 
-    emitEndDocument();
+      // Finally emit all pending end elements.
+      while (!stack.isEmpty() && stack.peek() != Constants.NULL_ID_LONG) {
+        rtx.moveTo(stack.pop());
+        emitEndNode(rtx);
+      }
 
-    return null;
+      emitRevisionEndNode(rtx);
+    }
   }
 
   protected abstract void setTrxForVisitor(R rtx);
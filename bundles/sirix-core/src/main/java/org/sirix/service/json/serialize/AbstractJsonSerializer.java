@@ -0,0 +1,329 @@
+package org.sirix.service.json.serialize;
+
+import org.sirix.api.ResourceManager;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.service.AbstractSerializer;
+
+import javax.annotation.Nonnegative;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * <p>
+ * Base class of the serializers of JSON resources, which handles the meta data options, the maximum level and the
+ * revisions to serialize independent of the output format.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public abstract class AbstractJsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx, JsonNodeTrx> {
+
+  protected final boolean emitXQueryResultSequence;
+
+  protected final boolean serializeTimestamp;
+
+  protected final boolean withMetaData;
+
+  protected final boolean withNodeKeyMetaData;
+
+  protected final boolean withNodeKeyAndChildNodeKeyMetaData;
+
+  protected boolean hadToAddBracket;
+
+  /**
+   * Constructor.
+   *
+   * @param builder the builder of the serializer
+   */
+  protected AbstractJsonSerializer(final AbstractBuilder<?> builder) {
+    super(builder.resourceMgr,
+          builder.maxLevel == -1 ? null : new JsonMaxLevelVisitor(builder.maxLevel),
+          builder.nodeKey,
+          builder.version,
+          builder.versions);
+    emitXQueryResultSequence = builder.emitXQueryResultSequence;
+    serializeTimestamp = builder.serializeTimestamp;
+    withMetaData = builder.withMetaData;
+    withNodeKeyMetaData = builder.withNodeKey;
+    withNodeKeyAndChildNodeKeyMetaData = builder.withNodeKeyAndChildCount;
+  }
+
+  /**
+   * Constructor for a serializer of a single revision.
+   *
+   * @param serializer the serializer, which serializes all revisions
+   */
+  protected AbstractJsonSerializer(final AbstractJsonSerializer serializer) {
+    super(serializer, serializer.visitor == null ? null : new JsonMaxLevelVisitor(serializer.maxLevel()));
+    emitXQueryResultSequence = serializer.emitXQueryResultSequence;
+    serializeTimestamp = serializer.serializeTimestamp;
+    withMetaData = serializer.withMetaData;
+    withNodeKeyMetaData = serializer.withNodeKeyMetaData;
+    withNodeKeyAndChildNodeKeyMetaData = serializer.withNodeKeyAndChildNodeKeyMetaData;
+    hadToAddBracket = serializer.hadToAddBracket;
+  }
+
+  /**
+   * Determines if a node is wrapped together with its meta data.
+   *
+   * @return {@code true}, if any meta data is serialized, {@code false} otherwise
+   */
+  protected boolean withMetaDataField() {
+    return withMetaData || withNodeKeyMetaData || withNodeKeyAndChildNodeKeyMetaData;
+  }
+
+  /**
+   * Determines if the children of the current object or array are serialized.
+   *
+   * @param hasChildren determines if the current node has children
+   * @return {@code true}, if it has children and the maximum level isn't reached, {@code false} otherwise
+   */
+  protected boolean shouldEmitChildren(final boolean hasChildren) {
+    return hasChildren && (visitor == null || currentLevel() + 1 < maxLevel());
+  }
+
+  /**
+   * Get the number of revisions to serialize.
+   *
+   * @return the number of revisions to serialize
+   */
+  protected int numberOfRevisions() {
+    return (revisions.length == 1 && revisions[0] < 0) ? resMgr.getMostRecentRevisionNumber() : revisions.length;
+  }
+
+  @Override
+  protected void setTrxForVisitor(final JsonNodeReadOnlyTrx rtx) {
+    castVisitor().setTrx(rtx);
+  }
+
+  protected long maxLevel() {
+    return castVisitor().getMaxLevel();
+  }
+
+  private JsonMaxLevelVisitor castVisitor() {
+    return (JsonMaxLevelVisitor) visitor;
+  }
+
+  protected long currentLevel() {
+    return castVisitor().getCurrentLevel();
+  }
+
+  @Override
+  protected boolean isSubtreeGoingToBeVisited(final JsonNodeReadOnlyTrx rtx) {
+    if (rtx.isObjectKey())
+      return true;
+    return visitor == null || currentLevel() + 1 < maxLevel();
+  }
+
+  @Override
+  protected boolean isSubtreeGoingToBePruned(final JsonNodeReadOnlyTrx rtx) {
+    if (rtx.isObjectKey())
+      return false;
+    return visitor != null && currentLevel() + 1 >= maxLevel();
+  }
+
+  /**
+   * Builder with the options, which are common to the serializers of JSON resources.
+   *
+   * @param <B> the type of the builder
+   */
+  public abstract static class AbstractBuilder<B extends AbstractBuilder<B>> {
+    /**
+     * Resource manager to use.
+     */
+    private final JsonResourceManager resourceMgr;
+
+    /**
+     * Further revisions to serialize.
+     */
+    private int[] versions;
+
+    /**
+     * Revision to serialize.
+     */
+    private int version;
+
+    /**
+     * Node key of subtree to shredder.
+     */
+    private long nodeKey;
+
+    /**
+     * Determines if it's an XQuery result sequence.
+     */
+    private boolean emitXQueryResultSequence;
+
+    /**
+     * Determines if a timestamp should be serialized or not.
+     */
+    private boolean serializeTimestamp;
+
+    /**
+     * Determines if SirixDB meta data should be serialized or not.
+     */
+    private boolean withMetaData;
+
+    /**
+     * Determines the maximum level to up to which to skip subtrees from serialization.
+     */
+    private long maxLevel;
+
+    /**
+     * Determines if nodeKey meta data should be serialized or not.
+     */
+    private boolean withNodeKey;
+
+    /**
+     * Determines if childCount meta data should be serialized or not.
+     */
+    private boolean withNodeKeyAndChildCount;
+
+    /**
+     * Maximum number of revisions, which are serialized concurrently.
+     */
+    private int maxConcurrentRevisions = 1;
+
+    /**
+     * Constructor, setting the necessary stuff.
+     *
+     * @param resourceMgr Sirix {@link ResourceManager}
+     * @param revisions   revisions to serialize
+     */
+    protected AbstractBuilder(final JsonResourceManager resourceMgr, final int... revisions) {
+      maxLevel = -1;
+      nodeKey = 0;
+      this.resourceMgr = checkNotNull(resourceMgr);
+      if (revisions == null || revisions.length == 0) {
+        version = this.resourceMgr.getMostRecentRevisionNumber();
+      } else {
+        version = revisions[0];
+        versions = new int[revisions.length - 1];
+        System.arraycopy(revisions, 1, versions, 0, revisions.length - 1);
+      }
+    }
+
+    /**
+     * Get this builder instance.
+     *
+     * @return this builder instance
+     */
+    protected abstract B self();
+
+    /**
+     * Specify the start node key.
+     *
+     * @param nodeKey node key to start serialization from (the root of the subtree to serialize)
+     * @return this builder instance
+     */
+    public B startNodeKey(final long nodeKey) {
+      this.nodeKey = nodeKey;
+      return self();
+    }
+
+    /**
+     * Specify the maximum level.
+     *
+     * @param maxLevel the maximum level until which to serialize
+     * @return this builder instance
+     */
+    public B maxLevel(final long maxLevel) {
+      this.maxLevel = maxLevel;
+      return self();
+    }
+
+    /**
+     * Sets if the serialization is used for XQuery result sets.
+     *
+     * @return this builder instance
+     */
+    public B isXQueryResultSequence() {
+      emitXQueryResultSequence = true;
+      return self();
+    }
+
+    /**
+     * Sets if the serialization of timestamps of the revision(s) is used or not.
+     *
+     * @return this builder instance
+     */
+    public B serializeTimestamp(final boolean serializeTimestamp) {
+      this.serializeTimestamp = serializeTimestamp;
+      return self();
+    }
+
+    /**
+     * Sets if metadata should be serialized or not.
+     *
+     * @return this builder instance
+     */
+    public B withMetaData(final boolean withMetaData) {
+      this.withMetaData = withMetaData;
+      this.withNodeKey = true;
+      this.withNodeKeyAndChildCount = true;
+      return self();
+    }
+
+    /**
+     * Sets if nodeKey metadata should be serialized or not.
+     *
+     * @return this builder instance
+     */
+    public B withNodeKeyMetaData(final boolean withNodeKey) {
+      this.withNodeKey = withNodeKey;
+      return self();
+    }
+
+    /**
+     * Sets if nodeKey and childCount metadata should be serialized or not.
+     *
+     * @return this builder instance
+     */
+    public B withNodeKeyAndChildCountMetaData(final boolean withNodeKeyAndChildCount) {
+      this.withNodeKeyAndChildCount = withNodeKeyAndChildCount;
+      return self();
+    }
+
+    /**
+     * Serializes up to {@code maxConcurrentRevisions} revisions concurrently, each with its own read-only transaction.
+     * The output of each revision is buffered and written in the order of the revisions.
+     *
+     * @param maxConcurrentRevisions the maximum number of revisions, which are serialized concurrently
+     * @return this builder instance
+     */
+    public B serializeRevisionsConcurrently(final @Nonnegative int maxConcurrentRevisions) {
+      checkArgument(maxConcurrentRevisions > 0, "maxConcurrentRevisions must be > 0!");
+      this.maxConcurrentRevisions = maxConcurrentRevisions;
+      return self();
+    }
+
+    /**
+     * The versions to serialize.
+     *
+     * @param revisions the versions to serialize
+     * @return this builder instance
+     */
+    public B revisions(final int[] revisions) {
+      checkNotNull(revisions);
+
+      version = revisions[0];
+
+      versions = new int[revisions.length - 1];
+      System.arraycopy(revisions, 1, versions, 0, revisions.length - 1);
+
+      return self();
+    }
+
+    /**
+     * Get the maximum number of revisions, which are serialized concurrently.
+     *
+     * @return the maximum number of revisions, which are serialized concurrently
+     */
+    protected int getMaxConcurrentRevisions() {
+      return maxConcurrentRevisions;
+    }
+  }
+}
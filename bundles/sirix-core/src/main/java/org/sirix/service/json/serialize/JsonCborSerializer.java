@@ -0,0 +1,459 @@
+package org.sirix.service.json.serialize;
+
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.exception.SirixIOException;
+import org.sirix.node.NodeKind;
+import org.sirix.settings.Constants;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * <p>
+ * Serializes a subtree into CBOR (RFC 7049), the binary counterpart of the JSON-format, which is written directly from
+ * the node records to an {@link OutputStream}. Thus, no escaping is needed and numbers are emitted in their binary
+ * representation instead of their string value.
+ * </p>
+ *
+ * <p>
+ * The structure corresponds to the output of the {@link JsonSerializer}. Objects and arrays, which have children, are
+ * written as indefinite-length maps and arrays, such that the number of children doesn't have to be known in advance.
+ * If meta data is requested, each node is wrapped in a map with the entries {@code "metadata"} and {@code "value"} and
+ * the object keys of an object are written as an array of maps with the entries {@code "key"}, {@code "metadata"} and
+ * {@code "value"}.
+ * </p>
+ *
+ * <p>
+ * Output without meta data can be read by {@link org.sirix.service.json.shredder.CborJsonReader} to import it again.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class JsonCborSerializer extends AbstractJsonSerializer {
+
+  /** Major type of unsigned integers. */
+  private static final int UNSIGNED_INTEGER = 0;
+
+  /** Major type of negative integers. */
+  private static final int NEGATIVE_INTEGER = 1;
+
+  /** Major type of byte strings. */
+  private static final int BYTE_STRING = 2;
+
+  /** Major type of text strings. */
+  private static final int TEXT_STRING = 3;
+
+  /** Major type of arrays. */
+  private static final int ARRAY = 4;
+
+  /** Major type of maps. */
+  private static final int MAP = 5;
+
+  /** Major type of tags. */
+  private static final int TAG = 6;
+
+  /** Tag of a positive bignum. */
+  private static final int POSITIVE_BIGNUM = 2;
+
+  /** Tag of a negative bignum. */
+  private static final int NEGATIVE_BIGNUM = 3;
+
+  /** Tag of a decimal fraction. */
+  private static final int DECIMAL_FRACTION = 4;
+
+  private static final int INDEFINITE_ARRAY = 0x9f;
+
+  private static final int INDEFINITE_MAP = 0xbf;
+
+  private static final int BREAK = 0xff;
+
+  private static final int FALSE = 0xf4;
+
+  private static final int TRUE = 0xf5;
+
+  private static final int NULL = 0xf6;
+
+  private static final int SINGLE_PRECISION_FLOAT = 0xfa;
+
+  private static final int DOUBLE_PRECISION_FLOAT = 0xfb;
+
+  /**
+   * Stream to write to.
+   */
+  private final DataOutputStream out;
+
+  /**
+   * The buffer of a serializer, which serializes a single revision concurrently, {@code null} otherwise.
+   */
+  private final ByteArrayOutputStream revisionBuffer;
+
+  /**
+   * Constructor.
+   *
+   * @param builder builder of the CBOR serializer
+   */
+  private JsonCborSerializer(final Builder builder) {
+    super(builder);
+    out = new DataOutputStream(new BufferedOutputStream(builder.stream));
+    revisionBuffer = null;
+    setMaxConcurrentRevisions(builder.getMaxConcurrentRevisions(), () -> new JsonCborSerializer(this),
+        revisionSerializer -> {
+          revisionSerializer.out.flush();
+          revisionSerializer.revisionBuffer.writeTo(out);
+        });
+  }
+
+  /**
+   * Constructor for a serializer of a single revision, which writes into its own buffer.
+   *
+   * @param serializer the serializer, which serializes all revisions
+   */
+  private JsonCborSerializer(final JsonCborSerializer serializer) {
+    super(serializer);
+    revisionBuffer = new ByteArrayOutputStream();
+    out = new DataOutputStream(revisionBuffer);
+  }
+
+  @Override
+  protected void emitNode(final JsonNodeReadOnlyTrx rtx) {
+    try {
+      switch (rtx.getKind()) {
+        case JSON_DOCUMENT:
+          break;
+        case OBJECT:
+          emitMetaData(rtx);
+
+          if (shouldEmitChildren(rtx.hasChildren())) {
+            // With meta data the object keys are emitted as an array of maps.
+            out.write(withMetaDataField() ? INDEFINITE_ARRAY : INDEFINITE_MAP);
+          } else {
+            writeHeader(MAP, 0);
+          }
+          break;
+        case ARRAY:
+          emitMetaData(rtx);
+
+          if (shouldEmitChildren(rtx.hasChildren())) {
+            out.write(INDEFINITE_ARRAY);
+          } else {
+            writeHeader(ARRAY, 0);
+          }
+          break;
+        case OBJECT_KEY:
+          if (withMetaDataField()) {
+            writeHeader(MAP, 3);
+            writeTextString("key");
+            writeTextString(rtx.getName().stringValue());
+            writeTextString("metadata");
+            writeMetaDataMap(rtx);
+            writeTextString("value");
+          } else {
+            if (startNodeKey != Fixed.NULL_NODE_KEY.getStandardProperty() && rtx.getNodeKey() == startNodeKey) {
+              out.write(INDEFINITE_MAP);
+              hadToAddBracket = true;
+            }
+
+            writeTextString(rtx.getName().stringValue());
+          }
+          break;
+        case BOOLEAN_VALUE:
+        case OBJECT_BOOLEAN_VALUE:
+          emitMetaData(rtx);
+          out.write(rtx.getBooleanValue() ? TRUE : FALSE);
+          break;
+        case NULL_VALUE:
+        case OBJECT_NULL_VALUE:
+          emitMetaData(rtx);
+          out.write(NULL);
+          break;
+        case NUMBER_VALUE:
+        case OBJECT_NUMBER_VALUE:
+          emitMetaData(rtx);
+          writeNumber(rtx.getNumberValue());
+          break;
+        case STRING_VALUE:
+        case OBJECT_STRING_VALUE:
+          emitMetaData(rtx);
+          writeTextString(rtx.getValue());
+          break;
+        // $CASES-OMITTED$
+        default:
+          throw new IllegalStateException("Node kind not known!");
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Wrap the value of the current node into a map with the entries {@code "metadata"} and {@code "value"}, if meta
+   * data is requested. As the map has a fixed length, it doesn't have to be closed.
+   */
+  private void emitMetaData(final JsonNodeReadOnlyTrx rtx) throws IOException {
+    if (withMetaDataField()) {
+      writeHeader(MAP, 2);
+      writeTextString("metadata");
+      writeMetaDataMap(rtx);
+      writeTextString("value");
+    }
+  }
+
+  private void writeMetaDataMap(final JsonNodeReadOnlyTrx rtx) throws IOException {
+    final NodeKind kind = rtx.getKind();
+    final boolean isContainer = kind == NodeKind.OBJECT || kind == NodeKind.ARRAY;
+    final boolean withNodeKey = withNodeKeyMetaData || withNodeKeyAndChildNodeKeyMetaData;
+    final boolean withDescendantCount = withMetaData && (isContainer || kind == NodeKind.OBJECT_KEY);
+    final boolean withChildCount = withNodeKeyAndChildNodeKeyMetaData && isContainer;
+
+    writeHeader(MAP, (withNodeKey ? 1 : 0) + (withMetaData ? 2 : 0) + (withDescendantCount ? 1 : 0) + (withChildCount
+        ? 1
+        : 0));
+
+    if (withNodeKey) {
+      writeTextString("nodeKey");
+      writeLong(rtx.getNodeKey());
+    }
+
+    if (withMetaData) {
+      writeTextString("hash");
+      final BigInteger hash = rtx.getHash();
+      if (hash == null) {
+        out.write(NULL);
+      } else {
+        writeBigInteger(hash);
+      }
+      writeTextString("type");
+      writeTextString(kind.toString());
+    }
+
+    if (withDescendantCount) {
+      writeTextString("descendantCount");
+      writeLong(rtx.getDescendantCount());
+    }
+
+    if (withChildCount) {
+      writeTextString("childCount");
+      writeLong(rtx.getChildCount());
+    }
+  }
+
+  @Override
+  protected void emitEndNode(final JsonNodeReadOnlyTrx rtx) {
+    try {
+      switch (rtx.getKind()) {
+        case ARRAY:
+        case OBJECT:
+          // Only called for objects and arrays, which have been opened with an indefinite length.
+          out.write(BREAK);
+          break;
+        case OBJECT_KEY:
+          if (!withMetaDataField() && hadToAddBracket && rtx.getNodeKey() == startNodeKey) {
+            out.write(BREAK);
+          }
+          break;
+        // $CASES-OMITTED$
+        default:
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  protected void emitStartDocument() {
+    try {
+      if (numberOfRevisions() > 1) {
+        writeHeader(MAP, 1);
+        writeTextString("sirix");
+        out.write(INDEFINITE_ARRAY);
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  protected void emitEndDocument() {
+    try {
+      if (numberOfRevisions() > 1) {
+        out.write(BREAK);
+      }
+      out.flush();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  protected void emitRevisionStartNode(final @Nonnull JsonNodeReadOnlyTrx rtx) {
+    try {
+      if (emitXQueryResultSequence || numberOfRevisions() > 1) {
+        writeHeader(MAP, serializeTimestamp ? 3 : 2);
+        writeTextString("revisionNumber");
+        writeLong(rtx.getRevisionNumber());
+
+        if (serializeTimestamp) {
+          writeTextString("revisionTimestamp");
+          writeTextString(DateTimeFormatter.ISO_INSTANT.withZone(ZoneOffset.UTC).format(rtx.getRevisionTimestamp()));
+        }
+
+        writeTextString("revision");
+
+        if (rtx.hasFirstChild()) {
+          stack.push(Constants.NULL_ID_LONG);
+        } else {
+          // The map entry needs a value, even if the revision is empty.
+          out.write(NULL);
+        }
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  protected void emitRevisionEndNode(final @Nonnull JsonNodeReadOnlyTrx rtx) {
+    if ((emitXQueryResultSequence || numberOfRevisions() > 1) && rtx.moveToDocumentRoot().trx().hasFirstChild()) {
+      stack.pop();
+    }
+  }
+
+  private void writeHeader(final int majorType, final long argument) throws IOException {
+    final int type = majorType << 5;
+    if (argument >= 0 && argument < 24) {
+      out.write(type | (int) argument);
+    } else if (argument >= 0 && argument <= 0xff) {
+      out.write(type | 24);
+      out.write((int) argument);
+    } else if (argument >= 0 && argument <= 0xffff) {
+      out.write(type | 25);
+      out.writeShort((int) argument);
+    } else if (argument >= 0 && argument <= 0xffffffffL) {
+      out.write(type | 26);
+      out.writeInt((int) argument);
+    } else {
+      // Negative arguments are unsigned 64 bit integers.
+      out.write(type | 27);
+      out.writeLong(argument);
+    }
+  }
+
+  private void writeTextString(final String value) throws IOException {
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeHeader(TEXT_STRING, bytes.length);
+    out.write(bytes);
+  }
+
+  private void writeLong(final long value) throws IOException {
+    if (value >= 0) {
+      writeHeader(UNSIGNED_INTEGER, value);
+    } else {
+      writeHeader(NEGATIVE_INTEGER, -1 - value);
+    }
+  }
+
+  private void writeBigInteger(final BigInteger value) throws IOException {
+    if (value.bitLength() < Long.SIZE) {
+      writeLong(value.longValue());
+      return;
+    }
+
+    final BigInteger magnitude;
+    if (value.signum() >= 0) {
+      writeHeader(TAG, POSITIVE_BIGNUM);
+      magnitude = value;
+    } else {
+      writeHeader(TAG, NEGATIVE_BIGNUM);
+      magnitude = BigInteger.ONE.negate().subtract(value);
+    }
+
+    final byte[] bytes = magnitude.toByteArray();
+    // Strip the sign byte.
+    final int offset = bytes[0] == 0 ? 1 : 0;
+    writeHeader(BYTE_STRING, bytes.length - offset);
+    out.write(bytes, offset, bytes.length - offset);
+  }
+
+  private void writeNumber(final Number number) throws IOException {
+    if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+      writeLong(number.longValue());
+    } else if (number instanceof Float) {
+      out.write(SINGLE_PRECISION_FLOAT);
+      out.writeFloat(number.floatValue());
+    } else if (number instanceof Double) {
+      out.write(DOUBLE_PRECISION_FLOAT);
+      out.writeDouble(number.doubleValue());
+    } else if (number instanceof BigInteger) {
+      writeBigInteger((BigInteger) number);
+    } else {
+      final BigDecimal decimal = number instanceof BigDecimal ? (BigDecimal) number : new BigDecimal(number.toString());
+      writeHeader(TAG, DECIMAL_FRACTION);
+      writeHeader(ARRAY, 2);
+      writeLong(-decimal.scale());
+      writeBigInteger(decimal.unscaledValue());
+    }
+  }
+
+  /**
+   * Create a new builder.
+   *
+   * @param resMgr    Sirix {@link JsonResourceManager}
+   * @param stream    {@link OutputStream} to write to
+   * @param revisions revisions to serialize
+   * @return a new {@link Builder} instance
+   */
+  public static Builder newBuilder(final JsonResourceManager resMgr, final OutputStream stream,
+      final int... revisions) {
+    return new Builder(resMgr, stream, revisions);
+  }
+
+  /**
+   * Builder to setup the {@link JsonCborSerializer}.
+   */
+  public static final class Builder extends AbstractBuilder<Builder> {
+    /**
+     * Stream to pipe to.
+     */
+    private final OutputStream stream;
+
+    /**
+     * Constructor, setting the necessary stuff.
+     *
+     * @param resourceMgr Sirix {@link JsonResourceManager}
+     * @param stream      {@link OutputStream} to write to
+     * @param revisions   revisions to serialize
+     */
+    public Builder(final JsonResourceManager resourceMgr, final OutputStream stream, final int... revisions) {
+      super(resourceMgr, revisions);
+      this.stream = checkNotNull(stream);
+    }
+
+    @Override
+    protected Builder self() {
+      return this;
+    }
+
+    /**
+     * Building new {@link JsonCborSerializer} instance.
+     *
+     * @return a new {@link JsonCborSerializer} instance
+     */
+    public JsonCborSerializer build() {
+      return new JsonCborSerializer(this);
+    }
+  }
+}
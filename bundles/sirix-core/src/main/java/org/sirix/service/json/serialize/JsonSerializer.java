@@ -27,10 +27,8 @@ import org.sirix.access.Databases;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.api.ResourceManager;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
-import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.json.JsonResourceManager;
 import org.sirix.node.NodeKind;
-import org.sirix.service.AbstractSerializer;
 import org.sirix.service.xml.serialize.XmlSerializerProperties;
 import org.sirix.settings.Constants;
 import org.sirix.settings.Fixed;
@@ -61,7 +59,7 @@ import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_INDENT_S
  * Serializes a subtree into the JSON-format.
  * </p>
  */
-public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx, JsonNodeTrx> {
+public final class JsonSerializer extends AbstractJsonSerializer {
 
   /**
    * {@link LogWrapper} reference.
@@ -88,46 +86,36 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
    */
   private final boolean withInitialIndent;
 
-  private final boolean emitXQueryResultSequence;
-
-  private final boolean serializeTimestamp;
-
-  private final boolean withMetaData;
-
-  private final boolean withNodeKeyMetaData;
-
-  private final boolean withNodeKeyAndChildNodeKeyMetaData;
-
-  private boolean hadToAddBracket;
-
   private int currentIndent;
 
   /**
    * Initialize XMLStreamReader implementation with transaction. The cursor points to the node the
    * XMLStreamReader starts to read.
    *
-   * @param resourceMgr resource manager to read the resource
-   * @param nodeKey     start node key
-   * @param builder     builder of XML Serializer
-   * @param revision    revision to serialize
-   * @param revsions    further revisions to serialize
+   * @param builder builder of the JSON serializer
    */
-  private JsonSerializer(final JsonResourceManager resourceMgr, final @Nonnegative long nodeKey, final Builder builder,
-      final boolean initialIndent, final @Nonnegative int revision, final int... revsions) {
-    super(resourceMgr,
-          builder.maxLevel == -1 ? null : new JsonMaxLevelVisitor(builder.maxLevel),
-          nodeKey,
-          revision,
-          revsions);
+  private JsonSerializer(final Builder builder) {
+    super(builder);
     out = builder.stream;
     indent = builder.indent;
     indentSpaces = builder.indentSpaces;
     withInitialIndent = builder.initialIndent;
-    emitXQueryResultSequence = builder.emitXQueryResultSequence;
-    serializeTimestamp = builder.serializeTimestamp;
-    withMetaData = builder.withMetaData;
-    withNodeKeyMetaData = builder.withNodeKey;
-    withNodeKeyAndChildNodeKeyMetaData = builder.withNodeKeyAndChildCount;
+    setMaxConcurrentRevisions(builder.getMaxConcurrentRevisions(), () -> new JsonSerializer(this),
+        revisionSerializer -> out.append((StringBuilder) revisionSerializer.out));
+  }
+
+  /**
+   * Constructor for a serializer of a single revision, which writes into its own buffer.
+   *
+   * @param serializer the serializer, which serializes all revisions
+   */
+  private JsonSerializer(final JsonSerializer serializer) {
+    super(serializer);
+    out = new StringBuilder();
+    indent = serializer.indent;
+    indentSpaces = serializer.indentSpaces;
+    withInitialIndent = serializer.withInitialIndent;
+    currentIndent = serializer.currentIndent;
   }
 
   /**
@@ -262,14 +250,6 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
     }
   }
 
-  private boolean withMetaDataField() {
-    return withMetaData || withNodeKeyMetaData || withNodeKeyAndChildNodeKeyMetaData;
-  }
-
-  private boolean shouldEmitChildren(boolean hasChildren) {
-    return (visitor == null && hasChildren) || (visitor != null && hasChildren && currentLevel() + 1 < maxLevel());
-  }
-
   private void emitMetaData(JsonNodeReadOnlyTrx rtx) throws IOException {
     if (withMetaDataField()) {
       appendObjectStart(true).appendObjectKey(quote("metadata")).appendObjectStart(true);
@@ -301,41 +281,6 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
     }
   }
 
-  @Override
-  protected void setTrxForVisitor(JsonNodeReadOnlyTrx rtx) {
-    castVisitor().setTrx(rtx);
-  }
-
-  private long maxLevel() {
-    return castVisitor().getMaxLevel();
-  }
-
-  private JsonMaxLevelVisitor castVisitor() {
-    return (JsonMaxLevelVisitor) visitor;
-  }
-
-  private long currentLevel() {
-    return castVisitor().getCurrentLevel();
-  }
-
-  @Override
-  protected boolean isSubtreeGoingToBeVisited(final JsonNodeReadOnlyTrx rtx) {
-    if (rtx.isObjectKey())
-      return true;
-    return visitor == null || currentLevel() + 1 < maxLevel();
-  }
-
-  @Override
-  protected boolean isSubtreeGoingToBePruned(final JsonNodeReadOnlyTrx rtx) {
-    if (rtx.isObjectKey())
-      return false;
-    if (visitor == null) {
-      return false;
-    } else {
-      return currentLevel() + 1 >= maxLevel();
-    }
-  }
-
   private void printCommaIfNeeded(final JsonNodeReadOnlyTrx rtx) throws IOException {
     final boolean hasRightSibling = rtx.hasRightSibling();
 
@@ -394,8 +339,7 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
   @Override
   protected void emitStartDocument() {
     try {
-      final int length =
-          (revisions.length == 1 && revisions[0] < 0) ? resMgr.getMostRecentRevisionNumber() : revisions.length;
+      final int length = numberOfRevisions();
 
       if (length > 1) {
         appendObjectStart(true);
@@ -416,8 +360,7 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
   @Override
   protected void emitEndDocument() {
     try {
-      final int length =
-          (revisions.length == 1 && revisions[0] < 0) ? resMgr.getMostRecentRevisionNumber() : revisions.length;
+      final int length = numberOfRevisions();
 
       if (length > 1) {
         if (indent) {
@@ -434,8 +377,7 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
   @Override
   protected void emitRevisionStartNode(final @Nonnull JsonNodeReadOnlyTrx rtx) {
     try {
-      final int length =
-          (revisions.length == 1 && revisions[0] < 0) ? resMgr.getMostRecentRevisionNumber() : revisions.length;
+      final int length = numberOfRevisions();
 
       if (emitXQueryResultSequence || length > 1) {
         appendObjectStart(rtx.hasChildren()).appendObjectKeyValue(quote("revisionNumber"),
@@ -462,8 +404,7 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
   @Override
   protected void emitRevisionEndNode(final @Nonnull JsonNodeReadOnlyTrx rtx) {
     try {
-      final int length =
-          (revisions.length == 1 && revisions[0] < 0) ? resMgr.getMostRecentRevisionNumber() : revisions.length;
+      final int length = numberOfRevisions();
 
       if (emitXQueryResultSequence || length > 1) {
         if (rtx.moveToDocumentRoot().trx().hasFirstChild())
@@ -639,7 +580,7 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
   /**
    * JsonSerializerBuilder to setup the JsonSerializer.
    */
-  public static final class Builder {
+  public static final class Builder extends AbstractBuilder<Builder> {
     /**
      * Intermediate boolean for indendation, not necessary.
      */
@@ -655,61 +596,11 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
      */
     private final Appendable stream;
 
-    /**
-     * Resource manager to use.
-     */
-    private final JsonResourceManager resourceMgr;
-
-    /**
-     * Further revisions to serialize.
-     */
-    private int[] versions;
-
-    /**
-     * Revision to serialize.
-     */
-    private int version;
-
-    /**
-     * Node key of subtree to shredder.
-     */
-    private long nodeKey;
-
     /**
      * Determines if an initial indent is needed or not.
      */
     private boolean initialIndent;
 
-    /**
-     * Determines if it's an XQuery result sequence.
-     */
-    private boolean emitXQueryResultSequence;
-
-    /**
-     * Determines if a timestamp should be serialized or not.
-     */
-    private boolean serializeTimestamp;
-
-    /**
-     * Determines if SirixDB meta data should be serialized for JSON object key nodes or not.
-     */
-    private boolean withMetaData;
-
-    /**
-     * Determines the maximum level to up to which to skip subtrees from serialization.
-     */
-    private long maxLevel;
-
-    /**
-     * Determines if nodeKey meta data should be serialized or not.
-     */
-    private boolean withNodeKey;
-
-    /**
-     * Determines if childCount meta data should be serialized or not.
-     */
-    private boolean withNodeKeyAndChildCount;
-
     /**
      * Constructor, setting the necessary stuff.
      *
@@ -718,17 +609,8 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
      * @param revisions   revisions to serialize
      */
     public Builder(final JsonResourceManager resourceMgr, final Appendable stream, final int... revisions) {
-      maxLevel = -1;
-      nodeKey = 0;
-      this.resourceMgr = checkNotNull(resourceMgr);
+      super(resourceMgr, revisions);
       this.stream = checkNotNull(stream);
-      if (revisions == null || revisions.length == 0) {
-        version = this.resourceMgr.getMostRecentRevisionNumber();
-      } else {
-        version = revisions[0];
-        versions = new int[revisions.length - 1];
-        System.arraycopy(revisions, 1, versions, 0, revisions.length - 1);
-      }
     }
 
     /**
@@ -742,42 +624,17 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
      */
     public Builder(final JsonResourceManager resourceMgr, final @Nonnegative long nodeKey, final Writer stream,
         final JsonSerializerProperties properties, final int... revisions) {
+      super(resourceMgr, revisions);
       checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
-      maxLevel = -1;
-      this.resourceMgr = checkNotNull(resourceMgr);
-      this.nodeKey = nodeKey;
+      startNodeKey(nodeKey);
       this.stream = checkNotNull(stream);
-      if (revisions == null || revisions.length == 0) {
-        version = this.resourceMgr.getMostRecentRevisionNumber();
-      } else {
-        version = revisions[0];
-        versions = new int[revisions.length - 1];
-        System.arraycopy(revisions, 1, versions, 0, revisions.length - 1);
-      }
       final ConcurrentMap<?, ?> map = checkNotNull(properties.getProps());
       indent = checkNotNull((Boolean) map.get(S_INDENT[0]));
       indentSpaces = checkNotNull((Integer) map.get(S_INDENT_SPACES[0]));
     }
 
-    /**
-     * Specify the start node key.
-     *
-     * @param nodeKey node key to start serialization from (the root of the subtree to serialize)
-     * @return this XMLSerializerBuilder reference
-     */
-    public Builder startNodeKey(final long nodeKey) {
-      this.nodeKey = nodeKey;
-      return this;
-    }
-
-    /**
-     * Specify the maximum level.
-     *
-     * @param maxLevel the maximum level until which to serialize
-     * @return this XMLSerializerBuilder reference
-     */
-    public Builder maxLevel(final long maxLevel) {
-      this.maxLevel = maxLevel;
+    @Override
+    protected Builder self() {
       return this;
     }
 
@@ -791,58 +648,6 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
       return this;
     }
 
-    /**
-     * Sets if the serialization is used for XQuery result sets.
-     *
-     * @return this {@link Builder} instance
-     */
-    public Builder isXQueryResultSequence() {
-      emitXQueryResultSequence = true;
-      return this;
-    }
-
-    /**
-     * Sets if the serialization of timestamps of the revision(s) is used or not.
-     *
-     * @return this {@link Builder} instance
-     */
-    public Builder serializeTimestamp(boolean serializeTimestamp) {
-      this.serializeTimestamp = serializeTimestamp;
-      return this;
-    }
-
-    /**
-     * Sets if metadata should be serialized or not.
-     *
-     * @return this {@link Builder} instance
-     */
-    public Builder withMetaData(boolean withMetaData) {
-      this.withMetaData = withMetaData;
-      this.withNodeKey = true;
-      this.withNodeKeyAndChildCount = true;
-      return this;
-    }
-
-    /**
-     * Sets if nodeKey metadata should be serialized or not.
-     *
-     * @return this {@link Builder} instance
-     */
-    public Builder withNodeKeyMetaData(boolean withNodeKey) {
-      this.withNodeKey = withNodeKey;
-      return this;
-    }
-
-    /**
-     * Sets if nodeKey and childCount metadata should be serialized or not.
-     *
-     * @return this {@link Builder} instance
-     */
-    public Builder withNodeKeyAndChildCountMetaData(boolean withNodeKeyAndChildCount) {
-      this.withNodeKeyAndChildCount = withNodeKeyAndChildCount;
-      return this;
-    }
-
     /**
      * Pretty prints the output.
      *
@@ -853,30 +658,13 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
       return this;
     }
 
-    /**
-     * The versions to serialize.
-     *
-     * @param revisions the versions to serialize
-     * @return this {@link Builder} instance
-     */
-    public Builder revisions(final int[] revisions) {
-      checkNotNull(revisions);
-
-      version = revisions[0];
-
-      versions = new int[revisions.length - 1];
-      System.arraycopy(revisions, 1, versions, 0, revisions.length - 1);
-
-      return this;
-    }
-
     /**
      * Building new {@link Serializer} instance.
      *
      * @return a new {@link Serializer} instance
      */
     public JsonSerializer build() {
-      return new JsonSerializer(resourceMgr, nodeKey, this, initialIndent, version, versions);
+      return new JsonSerializer(this);
     }
   }
 }
@@ -0,0 +1,422 @@
+package org.sirix.service.json.shredder;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@link JsonReader}, which reads CBOR (RFC 7049) instead of JSON text, such that the output of the
+ * {@link org.sirix.service.json.serialize.JsonCborSerializer} (without meta data) can be imported by the
+ * {@link JsonShredder} or inserted as a subtree.
+ *
+ * <p>
+ * Numbers are returned by {@link #nextString()} in their canonical string representation, thus the shredder stores
+ * them with the same number type as numbers parsed from JSON text. Byte strings and tags other than bignums and
+ * decimal fractions aren't supported, as they have no equivalent in JSON.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class CborJsonReader extends JsonReader {
+
+  /** The reader of the super class is never used. */
+  private static final Reader UNREADABLE_READER = new Reader() {
+    @Override
+    public int read(final char[] buffer, final int offset, final int count) {
+      throw new AssertionError();
+    }
+
+    @Override
+    public void close() {
+      throw new AssertionError();
+    }
+  };
+
+  /** Marker, that no initial byte has been peeked. */
+  private static final int NONE = -2;
+
+  /** Length of indefinite-length items. */
+  private static final long INDEFINITE = -1;
+
+  private static final int BREAK = 0xff;
+
+  /** The stream to read from. */
+  private final DataInputStream in;
+
+  /** The maps and arrays, which are currently read. */
+  private final Deque<Container> containers;
+
+  /** The peeked initial byte of the next data item or {@link #NONE}. */
+  private int peekedByte;
+
+  /** Determines if the top level data item has been read. */
+  private boolean isTopLevelItemRead;
+
+  /**
+   * Constructor.
+   *
+   * @param in the stream to read CBOR from
+   */
+  public CborJsonReader(final InputStream in) {
+    super(UNREADABLE_READER);
+    this.in = new DataInputStream(checkNotNull(in));
+    containers = new ArrayDeque<>();
+    peekedByte = NONE;
+  }
+
+  @Override
+  public JsonToken peek() throws IOException {
+    final Container container = containers.peek();
+
+    if (container == null && isTopLevelItemRead)
+      return JsonToken.END_DOCUMENT;
+
+    if (container != null && container.remaining == 0)
+      return container.isMap ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+
+    if (peekedByte == NONE) {
+      peekedByte = in.read();
+
+      if (peekedByte == -1) {
+        peekedByte = NONE;
+        if (container == null)
+          return JsonToken.END_DOCUMENT;
+        throw new EOFException("Unexpected end of input.");
+      }
+    }
+
+    if (container != null && container.remaining == INDEFINITE && peekedByte == BREAK)
+      return container.isMap ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+
+    if (container != null && container.isMap && container.isNameExpected)
+      return JsonToken.NAME;
+
+    return switch (peekedByte >>> 5) {
+      case 0, 1, 6 -> JsonToken.NUMBER;
+      case 3 -> JsonToken.STRING;
+      case 4 -> JsonToken.BEGIN_ARRAY;
+      case 5 -> JsonToken.BEGIN_OBJECT;
+      case 7 -> switch (peekedByte & 0x1f) {
+        case 20, 21 -> JsonToken.BOOLEAN;
+        case 22, 23 -> JsonToken.NULL;
+        case 25, 26, 27 -> JsonToken.NUMBER;
+        default -> throw unsupported();
+      };
+      default -> throw unsupported();
+    };
+  }
+
+  @Override
+  public boolean hasNext() throws IOException {
+    final JsonToken token = peek();
+    return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+  }
+
+  @Override
+  public void beginArray() throws IOException {
+    expect(JsonToken.BEGIN_ARRAY);
+    containers.push(new Container(false, readArgument(consumeByte())));
+  }
+
+  @Override
+  public void endArray() throws IOException {
+    expect(JsonToken.END_ARRAY);
+    endContainer();
+  }
+
+  @Override
+  public void beginObject() throws IOException {
+    expect(JsonToken.BEGIN_OBJECT);
+    final long length = readArgument(consumeByte());
+    // Names and values are counted separately.
+    containers.push(new Container(true, length == INDEFINITE ? INDEFINITE : 2 * length));
+  }
+
+  @Override
+  public void endObject() throws IOException {
+    expect(JsonToken.END_OBJECT);
+    endContainer();
+  }
+
+  @Override
+  public String nextName() throws IOException {
+    expect(JsonToken.NAME);
+    if ((peekedByte >>> 5) != 3)
+      throw new IllegalStateException("Only text strings are supported as names of a map.");
+    final String name = readTextString(consumeByte());
+    itemRead();
+    return name;
+  }
+
+  @Override
+  public String nextString() throws IOException {
+    final JsonToken token = peek();
+    final String value;
+    if (token == JsonToken.STRING) {
+      value = readTextString(consumeByte());
+    } else if (token == JsonToken.NUMBER) {
+      value = readNumber(consumeByte());
+    } else {
+      throw new IllegalStateException("Expected a string but was " + token);
+    }
+    itemRead();
+    return value;
+  }
+
+  @Override
+  public boolean nextBoolean() throws IOException {
+    expect(JsonToken.BOOLEAN);
+    final boolean value = (consumeByte() & 0x1f) == 21;
+    itemRead();
+    return value;
+  }
+
+  @Override
+  public void nextNull() throws IOException {
+    expect(JsonToken.NULL);
+    consumeByte();
+    itemRead();
+  }
+
+  @Override
+  public double nextDouble() throws IOException {
+    return Double.parseDouble(nextNumber());
+  }
+
+  @Override
+  public long nextLong() throws IOException {
+    return new BigDecimal(nextNumber()).longValueExact();
+  }
+
+  @Override
+  public int nextInt() throws IOException {
+    return new BigDecimal(nextNumber()).intValueExact();
+  }
+
+  private String nextNumber() throws IOException {
+    expect(JsonToken.NUMBER);
+    final String value = readNumber(consumeByte());
+    itemRead();
+    return value;
+  }
+
+  @Override
+  public void skipValue() throws IOException {
+    int depth = 0;
+    do {
+      switch (peek()) {
+        case BEGIN_ARRAY -> {
+          beginArray();
+          depth++;
+        }
+        case BEGIN_OBJECT -> {
+          beginObject();
+          depth++;
+        }
+        case END_ARRAY -> {
+          endArray();
+          depth--;
+        }
+        case END_OBJECT -> {
+          endObject();
+          depth--;
+        }
+        case NAME -> nextName();
+        case BOOLEAN -> nextBoolean();
+        case NULL -> nextNull();
+        case END_DOCUMENT -> {
+          return;
+        }
+        default -> nextString();
+      }
+    } while (depth > 0);
+  }
+
+  @Override
+  public void close() throws IOException {
+    containers.clear();
+    in.close();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName();
+  }
+
+  private void expect(final JsonToken expected) throws IOException {
+    final JsonToken token = peek();
+    if (token != expected)
+      throw new IllegalStateException("Expected " + expected + " but was " + token);
+  }
+
+  private int consumeByte() {
+    final int initialByte = peekedByte;
+    peekedByte = NONE;
+    return initialByte;
+  }
+
+  private void endContainer() {
+    final Container container = containers.pop();
+    if (container.remaining == INDEFINITE)
+      consumeByte();
+    itemRead();
+  }
+
+  /**
+   * Account for a completely read data item in the enclosing container.
+   */
+  private void itemRead() {
+    final Container container = containers.peek();
+    if (container == null) {
+      isTopLevelItemRead = true;
+      return;
+    }
+    if (container.remaining > 0)
+      container.remaining--;
+    if (container.isMap)
+      container.isNameExpected = !container.isNameExpected;
+  }
+
+  private long readArgument(final int initialByte) throws IOException {
+    final int additionalInformation = initialByte & 0x1f;
+    return switch (additionalInformation) {
+      case 24 -> in.readUnsignedByte();
+      case 25 -> in.readUnsignedShort();
+      case 26 -> in.readInt() & 0xffffffffL;
+      case 27 -> in.readLong();
+      case 31 -> INDEFINITE;
+      default -> {
+        if (additionalInformation >= 24)
+          throw unsupported();
+        yield additionalInformation;
+      }
+    };
+  }
+
+  private String readTextString(final int initialByte) throws IOException {
+    final long length = readArgument(initialByte);
+    if (length != INDEFINITE)
+      return new String(readBytes(length), StandardCharsets.UTF_8);
+
+    // Indefinite-length strings consist of definite-length chunks.
+    final StringBuilder value = new StringBuilder();
+    for (int chunk = in.readUnsignedByte(); chunk != BREAK; chunk = in.readUnsignedByte()) {
+      value.append(new String(readBytes(readArgument(chunk)), StandardCharsets.UTF_8));
+    }
+    return value.toString();
+  }
+
+  private byte[] readBytes(final long length) throws IOException {
+    if (length < 0 || length > Integer.MAX_VALUE)
+      throw unsupported();
+    final byte[] bytes = new byte[(int) length];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  private String readNumber(final int initialByte) throws IOException {
+    return switch (initialByte >>> 5) {
+      case 0, 1 -> readInteger(initialByte).toString();
+      case 6 -> readTaggedNumber(readArgument(initialByte));
+      case 7 -> switch (initialByte & 0x1f) {
+        case 25 -> Float.toString(halfToFloat(in.readUnsignedShort()));
+        case 26 -> Float.toString(in.readFloat());
+        case 27 -> Double.toString(in.readDouble());
+        default -> throw unsupported();
+      };
+      default -> throw unsupported();
+    };
+  }
+
+  /**
+   * Read a bignum or a decimal fraction, which is returned in its plain string representation.
+   */
+  private String readTaggedNumber(final long tag) throws IOException {
+    if (tag == 2 || tag == 3)
+      return readBignum(tag).toString();
+    if (tag == 4) {
+      if (in.readUnsignedByte() != 0x82)
+        throw unsupported();
+      final BigInteger exponent = readInteger(in.readUnsignedByte());
+      final BigInteger mantissa = readInteger(in.readUnsignedByte());
+      return new BigDecimal(mantissa, -exponent.intValueExact()).toPlainString();
+    }
+    throw unsupported();
+  }
+
+  /**
+   * Read an unsigned or negative integer or a bignum.
+   */
+  private BigInteger readInteger(final int initialByte) throws IOException {
+    final long argument = readArgument(initialByte);
+    return switch (initialByte >>> 5) {
+      case 0 -> argument >= 0 ? BigInteger.valueOf(argument) : new BigInteger(Long.toUnsignedString(argument));
+      case 1 -> argument >= 0
+          ? BigInteger.valueOf(-1 - argument)
+          : new BigInteger(Long.toUnsignedString(argument)).add(BigInteger.ONE).negate();
+      case 6 -> readBignum(argument);
+      default -> throw unsupported();
+    };
+  }
+
+  private BigInteger readBignum(final long tag) throws IOException {
+    if (tag != 2 && tag != 3)
+      throw unsupported();
+    final int byteStringHeader = in.readUnsignedByte();
+    if ((byteStringHeader >>> 5) != 2)
+      throw unsupported();
+    final BigInteger magnitude = new BigInteger(1, readBytes(readArgument(byteStringHeader)));
+    return tag == 2 ? magnitude : magnitude.add(BigInteger.ONE).negate();
+  }
+
+  private static float halfToFloat(final int bits) {
+    final int exponent = (bits >>> 10) & 0x1f;
+    final int mantissa = bits & 0x3ff;
+    final float value;
+    if (exponent == 0) {
+      value = mantissa * 0x1p-24f;
+    } else if (exponent == 31) {
+      value = mantissa == 0 ? Float.POSITIVE_INFINITY : Float.NaN;
+    } else {
+      value = (1 + mantissa / 1024f) * (float) Math.pow(2, exponent - 15);
+    }
+    return (bits & 0x8000) == 0 ? value : -value;
+  }
+
+  private static IllegalStateException unsupported() {
+    return new IllegalStateException("Unsupported CBOR data item.");
+  }
+
+  /**
+   * A map or an array, which is currently read.
+   */
+  private static final class Container {
+    /** Determines if the container is a map. */
+    final boolean isMap;
+
+    /** The number of remaining data items or {@link #INDEFINITE}. */
+    long remaining;
+
+    /** Determines if the next data item of a map is a name. */
+    boolean isNameExpected;
+
+    Container(final boolean isMap, final long remaining) {
+      this.isMap = isMap;
+      this.remaining = remaining;
+      isNameExpected = isMap;
+    }
+  }
+}
@@ -570,4 +570,17 @@ public final class JsonShredder implements Callable<Long> {
     jsonReader.setLenient(true);
     return jsonReader;
   }
+
+  /**
+   * Create a new {@link JsonReader} instance on a CBOR input stream, for instance the output of the
+   * {@link org.sirix.service.json.serialize.JsonCborSerializer}.
+   *
+   * @param input the CBOR input stream
+   * @return an {@link JsonReader} instance
+   */
+  public static JsonReader createCborReader(final InputStream input) {
+    checkNotNull(input);
+
+    return new CborJsonReader(new BufferedInputStream(input));
+  }
 }
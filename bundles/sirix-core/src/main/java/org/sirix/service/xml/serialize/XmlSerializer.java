@@ -29,6 +29,7 @@ import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_INDENT_S
 import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_REST;
 import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_XMLDECL;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -135,6 +136,30 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
     emitXQueryResultSequence = builder.emitXQueryResultSequence;
     serializeTimestamp = builder.serializeTimestamp;
     metaData = builder.mMetaData;
+    setMaxConcurrentRevisions(builder.maxConcurrentRevisions, () -> new XmlSerializer(this),
+        revisionSerializer -> ((ByteArrayOutputStream) revisionSerializer.out).writeTo(out));
+  }
+
+  /**
+   * Constructor for a serializer of a single revision, which writes into its own buffer.
+   *
+   * @param serializer the serializer, which serializes all revisions
+   */
+  private XmlSerializer(final XmlSerializer serializer) {
+    super(serializer, serializer.visitor == null
+        ? null
+        : new XmlMaxLevelVisitor(serializer.maxLevel()));
+    out = new ByteArrayOutputStream();
+    indent = serializer.indent;
+    serializeXMLDeclaration = serializer.serializeXMLDeclaration;
+    serializeRest = serializer.serializeRest;
+    serializeRestSequence = serializer.serializeRestSequence;
+    serializeId = serializer.serializeId;
+    indentSpaces = serializer.indentSpaces;
+    withInitialIndent = serializer.withInitialIndent;
+    emitXQueryResultSequence = serializer.emitXQueryResultSequence;
+    serializeTimestamp = serializer.serializeTimestamp;
+    metaData = serializer.metaData;
   }
 
   /**
@@ -611,6 +636,8 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
 
     private long maxLevel;
 
+    private int maxConcurrentRevisions = 1;
+
     /**
      * Constructor, setting the necessary stuff.
      *
@@ -705,6 +732,19 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
       return this;
     }
 
+    /**
+     * Serializes up to {@code maxConcurrentRevisions} revisions concurrently, each with its own read-only transaction.
+     * The output of each revision is buffered and written in the order of the revisions.
+     *
+     * @param maxConcurrentRevisions the maximum number of revisions, which are serialized concurrently
+     * @return this {@link XmlSerializerBuilder} instance
+     */
+    public XmlSerializerBuilder serializeRevisionsConcurrently(final @Nonnegative int maxConcurrentRevisions) {
+      checkArgument(maxConcurrentRevisions > 0, "maxConcurrentRevisions must be > 0!");
+      this.maxConcurrentRevisions = maxConcurrentRevisions;
+      return this;
+    }
+
     /**
      * Pretty prints the output.
      *
@@ -22,6 +22,7 @@
 package org.sirix.settings;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -52,7 +53,11 @@ public enum VersioningType {
     public <K extends Comparable<? super K>, V extends DataRecord, T extends KeyValuePage<K, V>> T combineRecordPages(
         final List<T> pages, final @Nonnegative int revToRestore, final PageReadOnlyTrx pageReadTrx) {
       assert pages.size() == 1 : "Only one version of the page!";
-      return pages.get(0);
+      final T firstPage = pages.get(0);
+      // Copy the page, such that all records are deserialized before the page is shared.
+      final T returnVal = firstPage.newInstance(firstPage.getPageKey(), firstPage.getPageKind(),
+          firstPage.getPreviousReferenceKeys(), pageReadTrx);
+      return combineSlots(pages, returnVal);
     }
 
     @Override
@@ -66,6 +71,9 @@ public enum VersioningType {
       returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getPageKind(), List.of(), pageReadTrx));
       returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getPageKind(), List.of(), pageReadTrx));
 
+      // Every modified page is written as a full dump.
+      pageReadTrx.getResourceManager().getPageFragmentStatistics().recordWrite(true);
+
       for (final Map.Entry<K, V> entry : pages.get(0).entrySet()) {
         returnVal.get(0).setEntry(entry.getKey(), entry.getValue());
         returnVal.get(1).setEntry(entry.getKey(), entry.getValue());
@@ -94,39 +102,10 @@ public enum VersioningType {
       final T returnVal = firstPage.newInstance(recordPageKey, firstPage.getPageKind(),
           firstPage.getPreviousReferenceKeys(), pageReadTrx);
 
-      final T latest = pages.get(0);
-      T fullDump = pages.size() == 1 ? pages.get(0) : pages.get(1);
-
-      assert latest.getPageKey() == recordPageKey;
-      assert fullDump.getPageKey() == recordPageKey;
-
-      for (final Map.Entry<K, V> entry : latest.entrySet()) {
-        returnVal.setEntry(entry.getKey(), entry.getValue());
-      }
-      for (final Map.Entry<K, PageReference> entry : latest.referenceEntrySet()) {
-        returnVal.setPageReference(entry.getKey(), entry.getValue());
-      }
+      assert pages.stream().allMatch(page -> page.getPageKey() == recordPageKey);
 
-      // Skip full dump if not needed (fulldump equals latest page).
-      if (pages.size() == 2) {
-        for (final Entry<K, V> entry : fullDump.entrySet()) {
-          if (returnVal.getValue(entry.getKey()) == null) {
-            returnVal.setEntry(entry.getKey(), entry.getValue());
-            if (returnVal.size() == Constants.NDP_NODE_COUNT) {
-              break;
-            }
-          }
-        }
-        for (final Entry<K, PageReference> entry : fullDump.referenceEntrySet()) {
-          if (returnVal.getPageReference(entry.getKey()) == null) {
-            returnVal.setPageReference(entry.getKey(), entry.getValue());
-            if (returnVal.size() == Constants.NDP_NODE_COUNT) {
-              break;
-            }
-          }
-        }
-      }
-      return returnVal;
+      // The latest page takes precedence over the full dump.
+      return combineSlots(pages, returnVal);
     }
 
     @Override
@@ -146,6 +125,7 @@ public enum VersioningType {
       final T latest = firstPage;
       T fullDump = pages.size() == 1 ? firstPage : pages.get(1);
       final boolean isFullDump = revision % revToRestore == 0;
+      pageReadTrx.getResourceManager().getPageFragmentStatistics().recordWrite(isFullDump);
 
       // Iterate through all nodes of the latest revision.
       for (final Map.Entry<K, V> entry : latest.entrySet()) {
@@ -224,37 +204,9 @@ public enum VersioningType {
       final T returnVal = firstPage.newInstance(firstPage.getPageKey(), firstPage.getPageKind(),
           firstPage.getPreviousReferenceKeys(), firstPage.getPageReadTrx());
 
-      boolean filledPage = false;
-      for (final T page : pages) {
-        assert page.getPageKey() == recordPageKey;
-        if (filledPage) {
-          break;
-        }
-        for (final Entry<K, V> entry : page.entrySet()) {
-          final K recordKey = entry.getKey();
-          if (returnVal.getValue(recordKey) == null) {
-            returnVal.setEntry(recordKey, entry.getValue());
-            if (returnVal.size() == Constants.NDP_NODE_COUNT) {
-              filledPage = true;
-              break;
-            }
-          }
-        }
-        if (!filledPage) {
-          for (final Entry<K, PageReference> entry : page.referenceEntrySet()) {
-            final K recordKey = entry.getKey();
-            if (returnVal.getPageReference(recordKey) == null) {
-              returnVal.setPageReference(recordKey, entry.getValue());
-              if (returnVal.size() == Constants.NDP_NODE_COUNT) {
-                filledPage = true;
-                break;
-              }
-            }
-          }
-        }
-      }
+      assert pages.stream().allMatch(page -> page.getPageKey() == recordPageKey);
 
-      return returnVal;
+      return combineSlots(pages, returnVal);
     }
 
     @Override
@@ -270,11 +222,14 @@ public enum VersioningType {
           i < previousRefKeysSize && previousPageFragmentKeys.size() < revToRestore - 1; i++) {
         previousPageFragmentKeys.add(firstPage.getPreviousReferenceKeys().get(i));
       }
-      returnVal.add(
-          firstPage.newInstance(recordPageKey, firstPage.getPageKind(), previousPageFragmentKeys, pageReadTrx));
-      returnVal.add(
-          firstPage.newInstance(recordPageKey, firstPage.getPageKind(), previousPageFragmentKeys, pageReadTrx));
-      final boolean isFullDump = pages.size() == revToRestore;
+      // The oldest fragment is dropped from the chain, once it is as long as the number of revisions to restore. The
+      // page is dumped earlier, if the reconstruction from the fragments has become too expensive.
+      final boolean isFullDump = pages.size() == revToRestore || isReconstructionTooExpensive(pages);
+      // A full dump holds all records of the page, thus the chain of fragments starts anew.
+      final List<PageFragmentKey> pageFragmentKeys = isFullDump ? List.of() : previousPageFragmentKeys;
+      returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getPageKind(), pageFragmentKeys, pageReadTrx));
+      returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getPageKind(), pageFragmentKeys, pageReadTrx));
+      pageReadTrx.getResourceManager().getPageFragmentStatistics().recordWrite(isFullDump);
 
       boolean filledPage = false;
       for (final T page : pages) {
@@ -358,38 +313,9 @@ public enum VersioningType {
       final T returnVal = firstPage.newInstance(firstPage.getPageKey(), firstPage.getPageKind(),
           firstPage.getPreviousReferenceKeys(), firstPage.getPageReadTrx());
 
-      boolean filledPage = false;
-      for (int i = 0; i < pages.size(); i++) {
-        final T page = pages.get(i);
-        assert page.getPageKey() == recordPageKey;
-        if (filledPage) {
-          break;
-        }
-        for (final Entry<K, V> entry : page.entrySet()) {
-          final K recordKey = entry.getKey();
-          if (returnVal.getValue(recordKey) == null) {
-            returnVal.setEntry(recordKey, entry.getValue());
-            if (returnVal.size() == Constants.NDP_NODE_COUNT) {
-              filledPage = true;
-              break;
-            }
-          }
-        }
-        if (!filledPage) {
-          for (final Entry<K, PageReference> entry : page.referenceEntrySet()) {
-            final K recordKey = entry.getKey();
-            if (returnVal.getPageReference(recordKey) == null) {
-              returnVal.setPageReference(recordKey, entry.getValue());
-              if (returnVal.size() == Constants.NDP_NODE_COUNT) {
-                filledPage = true;
-                break;
-              }
-            }
-          }
-        }
-      }
+      assert pages.stream().allMatch(page -> page.getPageKey() == recordPageKey);
 
-      return returnVal;
+      return combineSlots(pages, returnVal);
     }
 
     @Override
@@ -409,6 +335,8 @@ public enum VersioningType {
           firstPage.newInstance(recordPageKey, firstPage.getPageKind(), previousPageFragmentKeys, pageReadTrx));
       returnVal.add(
           firstPage.newInstance(recordPageKey, firstPage.getPageKind(), previousPageFragmentKeys, pageReadTrx));
+      // Only the modified records and the records, which slide out of the window, are written, never a full dump.
+      pageReadTrx.getResourceManager().getPageFragmentStatistics().recordWrite(false);
 
       final T reconstructed = firstPage.newInstance(recordPageKey, firstPage.getPageKind(),
           List.of(new PageFragmentKeyImpl(pageReadTrx.getRevisionNumber(), reference.getKey())), pageReadTrx);
@@ -523,4 +451,77 @@ public enum VersioningType {
    * @return revision root page numbers needed to restore a {@link KeyValuePage}
    */
   public abstract int[] getRevisionRoots(final @Nonnegative int previousRevision, final @Nonnegative int revsToRestore);
+
+  /**
+   * The cost of reading a page fragment in addition to the records it stores, in number of records. It accounts for the
+   * I/O of the fragment as well as for its decompression and the deserialization of its header.
+   */
+  private static final int FRAGMENT_READ_COST = Constants.NDP_NODE_COUNT >> 3;
+
+  /**
+   * The factor, by which the cost of the reconstruction of a page from its fragments may exceed the cost of reading
+   * a full dump of the page.
+   */
+  private static final int MAX_RECONSTRUCTION_COST_FACTOR = 2;
+
+  /**
+   * Determines if the reconstruction of a page from its fragments has become too expensive, such that the page should
+   * be written as a full dump. The reconstruction reads all records stored in the fragments, even the ones, which have
+   * been overwritten by newer fragments, and every fragment adds the cost of its read. Thus, the chains of pages,
+   * which are modified in every revision, are cut short, whereas the fragments of rarely modified pages or of pages,
+   * which are filled by inserts, are kept.
+   *
+   * @param pages the page fragments from the newest to the oldest fragment
+   * @return {@code true}, if the reconstruction costs more than {@link #MAX_RECONSTRUCTION_COST_FACTOR} times reading
+   *         a full dump of the page
+   */
+  private static <K extends Comparable<? super K>, V extends DataRecord, T extends KeyValuePage<K, V>> boolean isReconstructionTooExpensive(
+      final List<T> pages) {
+    if (pages.size() < 2) {
+      return false;
+    }
+
+    final BitSet filledSlots = new BitSet(Constants.NDP_NODE_COUNT);
+    long storedSlots = 0;
+
+    for (final T page : pages) {
+      final BitSet slots = page.getSlotBitmap();
+      storedSlots += slots.cardinality();
+      filledSlots.or(slots);
+    }
+
+    final long reconstructionCost = storedSlots + (long) pages.size() * FRAGMENT_READ_COST;
+    final long fullDumpCost = filledSlots.cardinality() + FRAGMENT_READ_COST;
+    return reconstructionCost >= MAX_RECONSTRUCTION_COST_FACTOR * fullDumpCost;
+  }
+
+  /**
+   * Combine the slots of page fragments, which are ordered from the newest to the oldest fragment. A slot is copied
+   * from the newest fragment, which fills it, thus the records of older fragments, which have been overwritten, are
+   * never deserialized. Once all slots are filled, the remaining fragments are skipped.
+   *
+   * @param pages the page fragments from the newest to the oldest fragment
+   * @param returnVal the page to copy the slots to
+   * @return {@code returnVal}
+   */
+  private static <K extends Comparable<? super K>, V extends DataRecord, T extends KeyValuePage<K, V>> T combineSlots(
+      final List<T> pages, final T returnVal) {
+    final BitSet filledSlots = new BitSet(Constants.NDP_NODE_COUNT);
+
+    for (final T page : pages) {
+      final BitSet slots = (BitSet) page.getSlotBitmap().clone();
+      slots.andNot(filledSlots);
+
+      for (int offset = slots.nextSetBit(0); offset >= 0; offset = slots.nextSetBit(offset + 1)) {
+        page.copySlotTo(offset, returnVal);
+      }
+
+      filledSlots.or(slots);
+      if (filledSlots.cardinality() == Constants.NDP_NODE_COUNT) {
+        break;
+      }
+    }
+
+    return returnVal;
+  }
 }
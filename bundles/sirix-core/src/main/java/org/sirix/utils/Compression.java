@@ -3,15 +3,23 @@ package org.sirix.utils;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
+import javax.annotation.Nullable;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * Compression/Decompression for text values or any other data.
+ * Compression/Decompression for text values or any other data. The {@link Deflater} and {@link Inflater} aren't
+ * thread safe, thus each thread uses its own instances, which are reused for all values.
  *
  * @author Johannes Lichtenberger, University of Konstanz
  *
@@ -21,11 +29,14 @@ public final class Compression {
   /** Buffer size. */
   public static final int BUFFER_SIZE = 1024;
 
-  /** Compressor. */
-  private static final Deflater mCompressor = new Deflater();
+  /** The maximum size of a preset dictionary, as the {@link Deflater} only uses the last 32KB. */
+  public static final int MAX_DICTIONARY_SIZE = 1 << 15;
 
-  /** Decompressor. */
-  private static final Inflater mDecompressor = new Inflater();
+  /** Compressor of each thread. */
+  private static final ThreadLocal<Deflater> COMPRESSOR = ThreadLocal.withInitial(Deflater::new);
+
+  /** Decompressor of each thread. */
+  private static final ThreadLocal<Inflater> DECOMPRESSOR = ThreadLocal.withInitial(Inflater::new);
 
   /** Private constructor to prevent from instantiation. */
   private Compression() {
@@ -41,19 +52,37 @@ public final class Compression {
    * @throws NullPointerException if {@code toCompress} is {@code null}
    */
   public static byte[] compress(final byte[] toCompress, final int level) {
+    return compress(toCompress, level, null);
+  }
+
+  /**
+   * Compress data based on the {@link Deflater} with a preset dictionary.
+   *
+   * @param toCompress input byte-array
+   * @param level compression level (between -1 and 9 whereas 0 is the weakest and -1 is default)
+   * @param dictionary the preset dictionary or {@code null}, if no dictionary is used
+   * @return compressed byte-array
+   * @throws NullPointerException if {@code toCompress} is {@code null}
+   */
+  public static byte[] compress(final byte[] toCompress, final int level, final @Nullable byte[] dictionary) {
     checkNotNull(toCompress);
     checkArgument(level >= -1 && level <= 9, "level must be between 0 and 9!");
 
+    final Deflater compressor = COMPRESSOR.get();
+
     // Compressed result.
     byte[] compressed;
 
     // Set compression level.
-    mCompressor.setLevel(level);
+    compressor.reset();
+    compressor.setLevel(level);
 
-    // Give the compressor the data to compress.
-    mCompressor.reset();
-    mCompressor.setInput(toCompress);
-    mCompressor.finish();
+    // Give the compressor the dictionary and the data to compress.
+    if (dictionary != null) {
+      compressor.setDictionary(dictionary);
+    }
+    compressor.setInput(toCompress);
+    compressor.finish();
 
     /*
      * Create an expandable byte array to hold the compressed data. You cannot use an array that's the
@@ -63,8 +92,8 @@ public final class Compression {
     try (final ByteArrayOutputStream bos = new ByteArrayOutputStream(toCompress.length)) {
       // Compress the data.
       final byte[] buf = new byte[BUFFER_SIZE];
-      while (!mCompressor.finished()) {
-        final int count = mCompressor.deflate(buf);
+      while (!compressor.finished()) {
+        final int count = compressor.deflate(buf);
         bos.write(buf, 0, count);
       }
 
@@ -85,19 +114,43 @@ public final class Compression {
    * @throws NullPointerException if {@code pCompressed} is {@code null}
    */
   public static byte[] decompress(final byte[] compressed) {
+    return decompress(compressed, null);
+  }
+
+  /**
+   * Decompress data based on the {@link Inflater}. The dictionary is only used, if the data has been compressed with a
+   * preset dictionary, thus data, which has been compressed without a dictionary, is decompressed as well.
+   *
+   * @param compressed the compressed data
+   * @param dictionary the preset dictionary or {@code null}, if no dictionary is available
+   * @return decompressed byte-array
+   * @throws NullPointerException if {@code compressed} is {@code null}
+   * @throws IllegalStateException if the data can't be decompressed, for instance if the dictionary is missing
+   */
+  public static byte[] decompress(final byte[] compressed, final @Nullable byte[] dictionary) {
     checkNotNull(compressed);
 
+    final Inflater decompressor = DECOMPRESSOR.get();
+
     // Reset the decompressor and give it the data to compress.
-    mDecompressor.reset();
-    mDecompressor.setInput(compressed);
+    decompressor.reset();
+    decompressor.setInput(compressed);
 
     // Create an expandable byte array to hold the decompressed data.
     try (final ByteArrayOutputStream bos = new ByteArrayOutputStream(compressed.length)) {
       // Decompress the data.
       final byte[] buf = new byte[BUFFER_SIZE];
-      while (!mDecompressor.finished()) {
+      while (!decompressor.finished()) {
         try {
-          final int count = mDecompressor.inflate(buf);
+          final int count = decompressor.inflate(buf);
+          if (count == 0 && decompressor.needsDictionary()) {
+            if (dictionary == null) {
+              throw new IllegalStateException("The data has been compressed with a preset dictionary.");
+            }
+            decompressor.setDictionary(dictionary);
+          } else if (count == 0 && decompressor.needsInput()) {
+            throw new IllegalStateException("The compressed data is truncated.");
+          }
           bos.write(buf, 0, count);
         } catch (final DataFormatException e) {
           throw new IllegalStateException(e);
@@ -109,4 +162,46 @@ public final class Compression {
       throw new UncheckedIOException(e);
     }
   }
+
+  /**
+   * Train a preset dictionary from sample values. The dictionary consists of the values, which contribute the most
+   * bytes to the samples (their number of occurrences times their length), whereas the most valuable values are
+   * stored at the end of the dictionary, as matches at smaller distances are encoded more compactly.
+   *
+   * @param samples the sample values
+   * @param maxSize the maximum size of the dictionary (at most {@link #MAX_DICTIONARY_SIZE})
+   * @return the dictionary, which might be empty, if no samples are given
+   * @throws NullPointerException if {@code samples} is {@code null}
+   */
+  public static byte[] trainDictionary(final Collection<byte[]> samples, final int maxSize) {
+    checkNotNull(samples);
+    checkArgument(maxSize > 0 && maxSize <= MAX_DICTIONARY_SIZE, "maxSize must be > 0 and <= 32KB!");
+
+    final Map<ByteBuffer, Integer> occurrences = new HashMap<>();
+    for (final byte[] sample : samples) {
+      occurrences.merge(ByteBuffer.wrap(sample), 1, Integer::sum);
+    }
+
+    final List<Map.Entry<ByteBuffer, Integer>> values = new ArrayList<>(occurrences.entrySet());
+    values.sort((lhs, rhs) -> Long.compare((long) rhs.getValue() * rhs.getKey().remaining(),
+        (long) lhs.getValue() * lhs.getKey().remaining()));
+
+    final List<ByteBuffer> selected = new ArrayList<>();
+    int size = 0;
+    for (final Map.Entry<ByteBuffer, Integer> value : values) {
+      final int length = value.getKey().remaining();
+      if (size + length <= maxSize) {
+        selected.add(value.getKey());
+        size += length;
+      }
+    }
+
+    final byte[] dictionary = new byte[size];
+    int offset = size;
+    for (final ByteBuffer value : selected) {
+      offset -= value.remaining();
+      value.duplicate().get(dictionary, offset, value.remaining());
+    }
+    return dictionary;
+  }
 }
@@ -0,0 +1,100 @@
+package org.sirix.access;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.XmlTestHelper.PATHS;
+import org.sirix.access.trx.node.InternalResourceManager;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class DatabaseSchedulerTest {
+
+  private String databaseName;
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+    databaseName = "scheduler-" + UUID.randomUUID();
+  }
+
+  @After
+  public void tearDown() {
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testLazyCreation() throws InterruptedException, ExecutionException {
+    final var scheduler = new DatabaseScheduler(databaseName);
+    assertFalse(hasThreads());
+
+    assertEquals(Integer.valueOf(1), scheduler.submit(() -> 1).get());
+    assertTrue(hasThreads());
+
+    scheduler.close();
+    assertFalse(hasThreads());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testSubmitAfterClose() {
+    final var scheduler = new DatabaseScheduler(databaseName);
+    scheduler.close();
+    scheduler.submit(() -> 1);
+  }
+
+  @Test
+  public void testShutdownInterruptsRunningTasks() throws InterruptedException {
+    final var scheduler = new DatabaseScheduler(databaseName);
+    final var started = new CountDownLatch(1);
+    final var interrupted = new CountDownLatch(1);
+
+    final Future<?> task = scheduler.submit(() -> {
+      started.countDown();
+      try {
+        Thread.sleep(TimeUnit.SECONDS.toMillis(10 * DatabaseScheduler.SHUTDOWN_TIMEOUT_SECONDS));
+      } catch (final InterruptedException e) {
+        interrupted.countDown();
+      }
+      return null;
+    });
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    scheduler.close();
+
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    assertTrue(task.isDone());
+    assertFalse(hasThreads());
+  }
+
+  @Test
+  public void testResourceManagerUsesSchedulerOfDatabase() {
+    final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      assertSame(((AbstractLocalDatabase<?>) database).getScheduler(),
+          ((InternalResourceManager<?, ?>) manager).getScheduler());
+    }
+  }
+
+  // The threads of a terminated executor might still be about to exit.
+  private boolean hasThreads() throws InterruptedException {
+    for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.getName().startsWith("Sirix-" + databaseName + "-")) {
+        thread.join(TimeUnit.SECONDS.toMillis(1));
+        if (thread.isAlive()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
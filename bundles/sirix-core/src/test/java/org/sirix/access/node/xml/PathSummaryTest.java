@@ -26,7 +26,11 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
 import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.util.path.Path;
+import org.brackit.xquery.util.path.PathException;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -152,6 +156,18 @@ public class PathSummaryTest {
     assertNull(summary);
   }
 
+  /**
+   * Test the lookup of path class records on test document.
+   */
+  @Test
+  public void testGetPCRsForPath() throws PathException {
+    final PathSummaryReader pathSummary = wtx.getPathSummary();
+    assertEquals(Set.of(4L), pathSummary.getPCRsForPath(Path.parse("//b"), false));
+    assertEquals(Set.of(5L), pathSummary.getPCRsForPath(Path.parse("//b/c"), false));
+    assertEquals(Set.of(5L), pathSummary.getPCRsForPath(Path.parse("//c"), true));
+    assertEquals(Set.of(), pathSummary.getPCRsForPath(Path.parse("//c/b"), false));
+  }
+
   /**
    * Test delete on test document.
    */
@@ -238,6 +254,32 @@ public class PathSummaryTest {
     assertNull(summary);
   }
 
+  /**
+   * Test delete on test document, whereas the path summary is derived from the cached path summary of the previous
+   * revision.
+   */
+  @Test
+  public void testDeleteWithCachedPreviousRevision() {
+    final var resourceManager = holder.getResourceManager();
+    wtx.commit();
+    resourceManager.openPathSummary().close();
+    wtx.moveTo(9);
+    wtx.remove();
+    wtx.commit();
+    wtx.close();
+    final PathSummaryReader pathSummary = resourceManager.openPathSummary();
+    pathSummary.moveToDocumentRoot();
+    testDeleteHelper(pathSummary);
+    final PathSummaryReader traversedPathSummary =
+        PathSummaryReader.getInstance(resourceManager.beginPageReadOnlyTrx(), resourceManager);
+    for (final QNm name : List.of(new QNm("ns", "p", "a"), new QNm("b"), new QNm("c"), new QNm("i"),
+        new QNm("ns", "p", "x"))) {
+      assertEquals(traversedPathSummary.match(name, 0), pathSummary.match(name, 0));
+    }
+    traversedPathSummary.close();
+    pathSummary.close();
+  }
+
   /**
    * Test setQNm on test document (does not find a corresponding path summary after rename).
    */
@@ -0,0 +1,110 @@
+package org.sirix.access.trx.node;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.XmlTestHelper.PATHS;
+
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class RecordChangeIndexTest {
+
+  private Path directory;
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+    directory = PATHS.PATH1.getFile().resolve("record-change-index");
+  }
+
+  @After
+  public void tearDown() {
+    XmlTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testRevisions() {
+    try (final var index = new RecordChangeIndex(directory)) {
+      index.write(1, new long[] { 1, 2, 3 });
+      index.write(2, new long[] { 3 });
+      // Revision 3 has been committed without updating the index.
+      index.write(4, new long[] { 2, 5 });
+    }
+
+    try (final var index = new RecordChangeIndex(directory)) {
+      // Revision 0 hasn't been indexed.
+      assertTrue(index.hasChanged(2, 0));
+      assertTrue(index.hasChanged(2, 1));
+      assertFalse(index.hasChanged(2, 2));
+      assertTrue(index.hasChanged(2, 3));
+      assertTrue(index.hasChanged(2, 4));
+      // Revision 5 hasn't been committed yet.
+      assertTrue(index.hasChanged(2, 5));
+
+      assertArrayEquals(new int[] { 1, 3, 4 }, index.getRevisions(2, 1, 4));
+      assertArrayEquals(new int[] {}, index.getRevisions(4, 1, 2));
+
+      assertEquals(3, index.getNextRevision(2, 2, 4));
+      assertEquals(-1, index.getNextRevision(4, 1, 2));
+      assertEquals(1, index.getPreviousRevision(2, 1, 2));
+      assertEquals(-1, index.getPreviousRevision(5, 1, 2));
+    }
+  }
+
+  @Test
+  public void testPostingsOfManyRevisions() {
+    try (final var index = new RecordChangeIndex(directory)) {
+      for (int revision = 1; revision <= 300; revision++) {
+        // Record 7 is written in each even revision, record 10000 is stored in another slot page.
+        index.write(revision, revision % 2 == 0 ? new long[] { 1, 7, 10_000 } : new long[] { 1 });
+      }
+    }
+
+    try (final var index = new RecordChangeIndex(directory)) {
+      final int[] revisions = index.getRevisions(7, 1, 300);
+      assertEquals(150, revisions.length);
+      for (int i = 0; i < revisions.length; i++) {
+        assertEquals(2 * (i + 1), revisions[i]);
+      }
+
+      assertEquals(300, index.getRevisions(1, 1, 300).length);
+      assertArrayEquals(new int[] { 100, 102 }, index.getRevisions(10_000, 99, 103));
+      assertEquals(102, index.getNextRevision(7, 101, 300));
+      assertEquals(100, index.getPreviousRevision(7, 1, 101));
+      assertEquals(-1, index.getNextRevision(8, 1, 300));
+    }
+  }
+
+  @Test
+  public void testIndexLastRevisionAgain() {
+    try (final var index = new RecordChangeIndex(directory)) {
+      index.write(1, new long[] { 1 });
+      // The commit of revision 2 has failed after the index has been written.
+      index.write(2, new long[] { 1 });
+      index.write(2, new long[] { 2 });
+
+      assertTrue(index.hasChanged(1, 2));
+      assertTrue(index.hasChanged(2, 2));
+      assertArrayEquals(new int[] { 2 }, index.getRevisions(2, 1, 2));
+    }
+  }
+
+  @Test
+  public void testReopenAfterClose() {
+    final var index = new RecordChangeIndex(directory);
+    index.write(1, new long[] { 1 });
+    assertFalse(index.hasChanged(2, 1));
+
+    // The files are opened again after the index has been closed.
+    index.close();
+    assertFalse(index.hasChanged(2, 1));
+    assertTrue(index.hasChanged(1, 1));
+    index.close();
+  }
+}
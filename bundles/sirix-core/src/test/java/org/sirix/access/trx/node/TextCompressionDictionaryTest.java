@@ -0,0 +1,83 @@
+package org.sirix.access.trx.node;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class TextCompressionDictionaryTest {
+
+  private static final String RESOURCE = "compressed";
+
+  /**
+   * Number of string values, such that the dictionary is trained from the sampled values (at most 256 bytes each)
+   * while they are inserted and further values are compressed with it.
+   */
+  private static final int NUMBER_OF_VALUES = 1_000;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testValuesWrittenBeforeAndAfterTraining() {
+    final List<String> values = new ArrayList<>(NUMBER_OF_VALUES);
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      values.add("{\"id\": " + i + ", \"name\": \"customer " + (i % 37) + "\", \"street\": \"" + (i * 7919 % 1000)
+          + " Main Street\", \"city\": \"Springfield\", \"country\": \"United States\", \"status\": \"active\", "
+          + "\"comment\": \"regular customer since " + (1990 + i % 30) + "\"}");
+    }
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder(RESOURCE).useTextCompression(true).build());
+
+    try (final var manager = database.openResourceManager(RESOURCE); final var wtx = manager.beginNodeTrx()) {
+      assertNull(manager.getTextCompressionDictionary().get());
+
+      wtx.insertArrayAsFirstChild();
+      wtx.insertStringValueAsFirstChild(values.get(0));
+      for (int i = 1; i < NUMBER_OF_VALUES; i++) {
+        wtx.insertStringValueAsRightSibling(values.get(i));
+      }
+      wtx.commit();
+
+      // More than 128KB have been sampled.
+      assertNotNull(manager.getTextCompressionDictionary().get());
+    }
+
+    JsonTestHelper.closeEverything();
+
+    try (final var reopenedDatabase = Databases.openJsonDatabase(PATHS.PATH1.getFile());
+         final var manager = reopenedDatabase.openResourceManager(RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      // The dictionary has been stored in the resource.
+      assertNotNull(manager.getTextCompressionDictionary().get());
+
+      assertTrue(rtx.moveToFirstChild().hasMoved());
+      assertTrue(rtx.moveToFirstChild().hasMoved());
+      for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+        assertEquals(values.get(i), rtx.getValue());
+        assertEquals(i < NUMBER_OF_VALUES - 1, rtx.moveToRightSibling().hasMoved());
+      }
+      assertFalse(rtx.hasRightSibling());
+    }
+  }
+}
@@ -1,19 +1,49 @@
 package org.sirix.access.trx.page;
 
+import org.brackit.xquery.atomic.QNm;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.XmlTestHelper.PATHS;
 import org.sirix.access.trx.node.InternalResourceManager;
 import org.sirix.cache.BufferManager;
 import org.sirix.cache.TransactionIntentLog;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
+import org.sirix.node.NodeKind;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.PageKind;
+import org.sirix.page.PageReference;
 import org.sirix.page.UberPage;
 import org.sirix.settings.Constants;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public final class NodePageReadOnlyTrxTest {
 
+  private static final int NUMBER_OF_ELEMENTS = 2_000;
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    XmlTestHelper.closeEverything();
+  }
+
   @Test
   public void testPageKey() {
     final var trx = new NodePageReadOnlyTrx(1, mock(InternalResourceManager.class), new UberPage(), 0,
@@ -34,4 +64,138 @@ public final class NodePageReadOnlyTrxTest {
     assertEquals(1, trx.recordPageOffset(1));
     assertEquals(Constants.NDP_NODE_COUNT - 1, trx.recordPageOffset(1023));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testScan() {
+    final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+
+    try (final var manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.insertElementAsFirstChild(new QNm("root"));
+        wtx.insertElementAsFirstChild(new QNm("a"));
+        for (int i = 1; i < NUMBER_OF_ELEMENTS; i++) {
+          wtx.insertElementAsRightSibling(new QNm("a"));
+        }
+        wtx.commit();
+      }
+
+      try (final var pageTrx = manager.beginPageReadOnlyTrx()) {
+        // The document root and the elements, in the order of their keys.
+        final long[] nodeKeys = StreamSupport.stream(pageTrx.scan(PageKind.RECORDPAGE, -1), false)
+                                             .mapToLong(DataRecord::getNodeKey)
+                                             .toArray();
+        assertEquals(NUMBER_OF_ELEMENTS + 2, nodeKeys.length);
+        for (int i = 0; i < nodeKeys.length; i++) {
+          assertEquals(i, nodeKeys[i]);
+        }
+
+        final long[] elementKeys =
+            StreamSupport.stream(pageTrx.scan(PageKind.RECORDPAGE, -1, EnumSet.of(NodeKind.ELEMENT)), true)
+                         .mapToLong(DataRecord::getNodeKey)
+                         .toArray();
+        assertArrayEquals(StreamSupport.stream(pageTrx.scan(PageKind.RECORDPAGE, -1), false)
+                                       .filter(record -> record.getKind() == NodeKind.ELEMENT)
+                                       .mapToLong(DataRecord::getNodeKey)
+                                       .toArray(), elementKeys);
+        assertEquals(NUMBER_OF_ELEMENTS + 1, elementKeys.length);
+      }
+    }
+  }
+
+  @Test
+  public void testScanSkipsEmptySubtrees() {
+    final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+
+    // Gaps of unused node keys, such that record pages are missing in a leaf indirect page, whole leaf indirect pages
+    // are missing and a whole subtree of an indirect page one level above is missing.
+    final int leafIndirectPageExp = Constants.NDP_NODE_COUNT_EXPONENT + Constants.INP_REFERENCE_COUNT_EXPONENT;
+    final long[] gaps = { 5L << Constants.NDP_NODE_COUNT_EXPONENT, 3L << leafIndirectPageExp,
+        3L << (leafIndirectPageExp + Constants.INP_REFERENCE_COUNT_EXPONENT) };
+
+    final List<Long> expectedNodeKeys = new ArrayList<>();
+
+    try (final var manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      try (final var wtx = manager.beginNodeTrx()) {
+        expectedNodeKeys.add(wtx.getNodeKey());
+        expectedNodeKeys.add(wtx.insertElementAsFirstChild(new QNm("root")).getNodeKey());
+        expectedNodeKeys.add(wtx.insertElementAsFirstChild(new QNm("a")).getNodeKey());
+        for (final long gap : gaps) {
+          final var revisionRootPage = wtx.getPageWtx().getActualRevisionRootPage();
+          revisionRootPage.setMaxNodeKey(revisionRootPage.getMaxNodeKey() + gap);
+          for (int i = 0; i < 3; i++) {
+            expectedNodeKeys.add(wtx.insertElementAsRightSibling(new QNm("a")).getNodeKey());
+          }
+        }
+        wtx.commit();
+      }
+
+      final long[] expected = expectedNodeKeys.stream().mapToLong(Long::longValue).sorted().toArray();
+
+      try (final var pageTrx = manager.beginPageReadOnlyTrx()) {
+        assertArrayEquals(expected, StreamSupport.stream(pageTrx.scan(PageKind.RECORDPAGE, -1), false)
+                                                 .mapToLong(DataRecord::getNodeKey)
+                                                 .toArray());
+        assertArrayEquals(expected, StreamSupport.stream(pageTrx.scan(PageKind.RECORDPAGE, -1), true)
+                                                 .mapToLong(DataRecord::getNodeKey)
+                                                 .toArray());
+      }
+    }
+  }
+
+  @Test
+  public void testReadAhead() throws InterruptedException {
+    final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+
+    try (final var manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.insertElementAsFirstChild(new QNm("root"));
+        wtx.insertElementAsFirstChild(new QNm("a"));
+        for (int i = 1; i < 10 * NUMBER_OF_ELEMENTS; i++) {
+          wtx.insertElementAsRightSibling(new QNm("a"));
+        }
+        wtx.commit();
+      }
+
+      // Once the first two record pages have been accessed, the next two pages are read ahead.
+      try (final var pageTrx = (NodePageReadOnlyTrx) manager.beginPageReadOnlyTrx()) {
+        for (long recordPageKey = 2; recordPageKey < 4; recordPageKey++) {
+          final PageReference reference =
+              pageTrx.getLeafPageReference(recordPageKey, -1, PageKind.RECORDPAGE).orElseThrow();
+          assertNull(pageTrx.getBufferManager().getRecordPageCache().get(reference));
+        }
+
+        for (long recordPageKey = 0; recordPageKey < 2; recordPageKey++) {
+          final long nodeKey = recordPageKey << Constants.NDP_NODE_COUNT_EXPONENT;
+          assertEquals(nodeKey, pageTrx.getRecordOrNull(nodeKey, PageKind.RECORDPAGE, -1).getNodeKey());
+        }
+
+        for (long recordPageKey = 2; recordPageKey < 4; recordPageKey++) {
+          final PageReference reference =
+              pageTrx.getLeafPageReference(recordPageKey, -1, PageKind.RECORDPAGE).orElseThrow();
+          assertTrue(awaitRecordPage(pageTrx, reference));
+        }
+      }
+
+      // Sequential access to the record pages, while the next pages are read ahead in the background.
+      try (final var pageTrx = manager.beginPageReadOnlyTrx()) {
+        for (long nodeKey = 0; nodeKey < 10 * NUMBER_OF_ELEMENTS + 2; nodeKey++) {
+          final DataRecord record = pageTrx.getRecordOrNull(nodeKey, PageKind.RECORDPAGE, -1);
+          assertEquals(nodeKey, record.getNodeKey());
+        }
+      }
+    }
+  }
+
+  // Wait until the record page has been read ahead into the record page cache of the resource.
+  private static boolean awaitRecordPage(final NodePageReadOnlyTrx pageTrx, final PageReference reference)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (pageTrx.getBufferManager().getRecordPageCache().get(reference) == null) {
+      if (System.nanoTime() > deadline) {
+        return false;
+      }
+      Thread.sleep(10);
+    }
+    return true;
+  }
+}
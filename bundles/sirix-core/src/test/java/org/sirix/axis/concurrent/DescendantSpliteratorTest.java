@@ -0,0 +1,164 @@
+package org.sirix.axis.concurrent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.Holder;
+import org.sirix.JsonTestHelper;
+import org.sirix.XmlTestHelper;
+import org.sirix.XmlTestHelper.PATHS;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Axis;
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.service.xml.shredder.XmlShredder;
+import org.sirix.settings.HashType;
+
+import java.io.FileInputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public final class DescendantSpliteratorTest {
+
+  /** Path to XML file. */
+  private static final Path XML = Paths.get("src", "test", "resources", "10mb.xml");
+
+  /** Path to JSON file. */
+  private static final Path JSON = Paths.get("src", "test", "resources", "json", "CVX.json");
+
+  private Holder holder;
+
+  @Before
+  public void setUp() throws Exception {
+    XmlTestHelper.deleteEverything();
+    XmlShredder.main(XML.toAbsolutePath().toString(), PATHS.PATH1.getFile().toAbsolutePath().toString());
+    holder = Holder.generateRtx();
+  }
+
+  @After
+  public void tearDown() {
+    holder.close();
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testDocumentOrder() {
+    final XmlNodeReadOnlyTrx rtx = holder.getXmlNodeReadTrx();
+
+    for (final IncludeSelf includeSelf : IncludeSelf.values()) {
+      rtx.moveToDocumentRoot();
+      final long[] expected = nodeKeys(new DescendantAxis(rtx, includeSelf));
+
+      for (final boolean parallel : new boolean[] { false, true }) {
+        try (final LongStream descendants = DescendantSpliterator.stream(rtx, includeSelf, parallel)) {
+          assertArrayEquals(expected, descendants.toArray());
+        }
+      }
+
+      assertArrayEquals(expected, nodeKeys(new ParallelDescendantAxis(rtx, includeSelf)));
+    }
+  }
+
+  @Test
+  public void testReset() {
+    final XmlNodeReadOnlyTrx rtx = holder.getXmlNodeReadTrx();
+    rtx.moveToDocumentRoot();
+    final long[] expected = nodeKeys(new DescendantAxis(rtx, IncludeSelf.YES));
+
+    // Abandon the axis, while the splits are still traversed.
+    final var axis = new ParallelDescendantAxis(rtx, IncludeSelf.YES);
+    for (int i = 0; i < 10; i++) {
+      axis.next();
+    }
+    axis.reset(expected[0]);
+
+    assertArrayEquals(expected, nodeKeys(axis));
+  }
+
+  @Test
+  public void testWithoutHashes() throws Exception {
+    final Path database = PATHS.PATH2.getFile();
+    Databases.createXmlDatabase(new DatabaseConfiguration(database));
+
+    try (final var db = Databases.openXmlDatabase(database)) {
+      // Without hashes the descendant counts aren't stored, thus the splits are weighted by the child counts.
+      db.createResource(ResourceConfiguration.newBuilder(XmlTestHelper.RESOURCE).hashKind(HashType.NONE).build());
+
+      try (final var manager = db.openResourceManager(XmlTestHelper.RESOURCE)) {
+        try (final var wtx = manager.beginNodeTrx(); final var fis = new FileInputStream(XML.toFile())) {
+          wtx.insertSubtreeAsFirstChild(XmlShredder.createFileReader(fis));
+          wtx.commit();
+        }
+
+        try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+          checkDescendants(rtx);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testJson() {
+    JsonTestHelper.deleteEverything();
+    try {
+      final var db = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+
+      try (final var manager = db.openResourceManager(JsonTestHelper.RESOURCE)) {
+        try (final var wtx = manager.beginNodeTrx()) {
+          wtx.insertSubtreeAsFirstChild(JsonShredder.createFileReader(JSON));
+          wtx.commit();
+        }
+
+        try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+          checkDescendants(rtx);
+        }
+      }
+    } finally {
+      JsonTestHelper.deleteEverything();
+    }
+  }
+
+  private static <R extends NodeReadOnlyTrx & NodeCursor> void checkDescendants(final R rtx) {
+    rtx.moveToDocumentRoot();
+    final long[] expected = nodeKeys(new DescendantAxis(rtx, IncludeSelf.YES));
+
+    try (final LongStream descendants = DescendantSpliterator.stream(rtx, IncludeSelf.YES, true)) {
+      assertArrayEquals(expected, descendants.toArray());
+    }
+
+    assertArrayEquals(expected, nodeKeys(new ParallelDescendantAxis(rtx, IncludeSelf.YES)));
+  }
+
+  @Test
+  public void testSubtree() {
+    final XmlNodeReadOnlyTrx rtx = holder.getXmlNodeReadTrx();
+    rtx.moveToDocumentRoot();
+    rtx.moveToFirstChild();
+    rtx.moveToFirstChild();
+
+    final long[] expected = nodeKeys(new DescendantAxis(rtx, IncludeSelf.YES));
+
+    try (final LongStream descendants = DescendantSpliterator.stream(rtx, IncludeSelf.YES, true)) {
+      assertArrayEquals(expected, descendants.toArray());
+    }
+
+    assertArrayEquals(expected, nodeKeys(new ParallelDescendantAxis(rtx, IncludeSelf.YES)));
+  }
+
+  private static long[] nodeKeys(final Axis axis) {
+    final var nodeKeys = LongStream.builder();
+    while (axis.hasNext()) {
+      nodeKeys.add(axis.next());
+    }
+    return nodeKeys.build().toArray();
+  }
+}
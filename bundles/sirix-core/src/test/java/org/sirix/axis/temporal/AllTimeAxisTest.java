@@ -1,6 +1,7 @@
 package org.sirix.axis.temporal;
 
 import java.util.Iterator;
+import org.brackit.xquery.atomic.QNm;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -93,4 +94,56 @@ public final class AllTimeAxisTest {
       }.test();
     }
   }
+
+  @Test
+  public void testAxisWithOnlyChangedRevisions() throws SirixException {
+    final long nodeKey;
+    try (final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx()) {
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      nodeKey = wtx.insertElementAsLastChild(new QNm("changed")).getNodeKey();
+
+      // Revision 4.
+      wtx.commit();
+
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.insertElementAsFirstChild(new QNm("unrelated"));
+
+      // Revision 5.
+      wtx.commit();
+
+      wtx.moveTo(nodeKey);
+      wtx.insertAttribute(new QNm("att"), "value");
+
+      // Revision 6.
+      wtx.commit();
+    }
+
+    try (final XmlNodeReadOnlyTrx fourthReader = holder.getResourceManager().beginNodeReadOnlyTrx(4);
+        final XmlNodeReadOnlyTrx fifthReader = holder.getResourceManager().beginNodeReadOnlyTrx(5);
+        final XmlNodeReadOnlyTrx sixthReader = holder.getResourceManager().beginNodeReadOnlyTrx(6)) {
+
+      fourthReader.moveTo(nodeKey);
+      fifthReader.moveTo(nodeKey);
+      sixthReader.moveTo(nodeKey);
+
+      new IteratorTester<>(ITERATIONS, IteratorFeature.UNMODIFIABLE,
+          ImmutableList.of(fourthReader, fifthReader, sixthReader), null) {
+        @Override
+        protected Iterator<XmlNodeReadOnlyTrx> newTargetIterator() {
+          return new AllTimeAxis<>(sixthReader.getResourceManager(), sixthReader);
+        }
+      }.test();
+
+      // Revision 5 is skipped, as the node hasn't been changed.
+      new IteratorTester<>(ITERATIONS, IteratorFeature.UNMODIFIABLE, ImmutableList.of(fourthReader, sixthReader),
+          null) {
+        @Override
+        protected Iterator<XmlNodeReadOnlyTrx> newTargetIterator() {
+          return new AllTimeAxis<>(sixthReader.getResourceManager(), sixthReader, RevisionFilter.CHANGED);
+        }
+      }.test();
+    }
+  }
 }
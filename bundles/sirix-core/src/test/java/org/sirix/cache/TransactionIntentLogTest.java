@@ -4,20 +4,19 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.page.TransactionIntentLogFactory;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
 import org.sirix.io.bytepipe.SnappyCompressor;
-import org.sirix.io.file.FileWriter;
 import org.sirix.page.PageKind;
-import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
-import org.sirix.page.SerializationType;
 import org.sirix.page.UnorderedKeyValuePage;
 
-import java.io.FileNotFoundException;
-import java.io.RandomAccessFile;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 public class TransactionIntentLogTest {
@@ -28,21 +27,21 @@ public class TransactionIntentLogTest {
 
   @After
   public void tearDown() {
+    System.clearProperty(TransactionIntentLogFactory.MAX_IN_MEMORY_BYTES_PROPERTY);
     JsonTestHelper.closeEverything();
   }
 
   @Test
-  public void integrationTest() throws FileNotFoundException {
+  public void integrationTest() throws IOException {
     try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
       final var resourceManager = database.openResourceManager(JsonTestHelper.RESOURCE);
       final var pageReadOnlyTrx = resourceManager.beginPageReadOnlyTrx()) {
-      final RandomAccessFile file = new RandomAccessFile(JsonTestHelper.PATHS.PATH2.getFile().toFile(), "rw");
+      Files.createDirectories(JsonTestHelper.PATHS.PATH2.getFile());
 
-      final FileWriter fileWriter =
-          new FileWriter(file, null, new ByteHandlePipeline(new ByteHandlePipeline(new SnappyCompressor())),
-                         SerializationType.TRANSACTION_INTENT_LOG, new PagePersister());
-
-      final var persistentCache = new PersistentFileCache(fileWriter);
+      final var persistentCache =
+          new PersistentFileCache(JsonTestHelper.PATHS.PATH2.getFile().resolve("intent-log"),
+                                  new ByteHandlePipeline(new SnappyCompressor()));
+      // A budget smaller than a single page container: all but the most recently used container are evicted.
       final var trxIntentLog = new TransactionIntentLog(persistentCache, 1);
 
       final var firstCompletePage = new UnorderedKeyValuePage(1, PageKind.RECORDPAGE, List.of(), pageReadOnlyTrx);
@@ -60,8 +59,49 @@ public class TransactionIntentLogTest {
       trxIntentLog.put(firstPageReference, firstPageContainer);
       trxIntentLog.put(secondPageReference, secondPageContainer);
 
+      // Containers are only evicted on request.
+      assertEquals(2, trxIntentLog.usedEntries());
+      trxIntentLog.evict();
+      assertEquals(1, trxIntentLog.usedEntries());
+
       assertEquals(firstPageContainer, trxIntentLog.get(firstPageReference, pageReadOnlyTrx));
       assertEquals(secondPageContainer, trxIntentLog.get(secondPageReference, pageReadOnlyTrx));
     }
   }
+
+  @Test
+  public void testInsertsBeyondMemoryBudget() {
+    // A budget smaller than a single page container: all record pages but the most recently used one are evicted
+    // between two modifications.
+    System.setProperty(TransactionIntentLogFactory.MAX_IN_MEMORY_BYTES_PROPERTY, "1");
+
+    final int numberOfValues = 5000;
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var resourceManager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = resourceManager.beginNodeTrx()) {
+        wtx.insertArrayAsFirstChild();
+
+        // Every insert modifies the array and its former first child in place, which are stored in other pages.
+        for (int i = 0; i < numberOfValues; i++) {
+          wtx.insertNumberValueAsFirstChild(i);
+          wtx.moveToParent();
+        }
+
+        wtx.commit();
+      }
+
+      try (final var rtx = resourceManager.beginNodeReadOnlyTrx()) {
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+        assertEquals(numberOfValues, rtx.getChildCount());
+        assertEquals(numberOfValues, rtx.getDescendantCount());
+
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+        for (int i = numberOfValues - 1; i >= 0; i--) {
+          assertEquals(i, rtx.getNumberValue().intValue());
+          assertEquals(i > 0, rtx.moveToRightSibling().hasMoved());
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,124 @@
+package org.sirix.index;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.Holder;
+import org.sirix.XmlTestHelper;
+import org.sirix.access.trx.node.xml.XmlIndexController;
+import org.sirix.api.xml.XmlNodeTrx;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.NonStructuralWrapperAxis;
+import org.sirix.index.deweyid.DeweyIDIndex;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.utils.XmlDocumentCreator;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the DeweyID index.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class DeweyIDIndexTest {
+
+  /** Number of nodes of the document created by {@link XmlDocumentCreator#create(XmlNodeTrx)}. */
+  private static final int NUMBER_OF_NODES = 13;
+
+  /** {@link Holder} reference. */
+  private Holder holder;
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+    holder = Holder.generateDeweyIDResourceMgr();
+  }
+
+  @After
+  public void tearDown() {
+    holder.close();
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testIndexUpdatedOnInsertAndRemove() {
+    final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx();
+
+    final XmlIndexController indexController =
+        holder.getResourceManager().getWtxIndexController(wtx.getRevisionNumber() - 1);
+
+    indexController.createIndexes(ImmutableSet.of(IndexDefs.createDeweyIDIdxDef(0)), wtx);
+
+    XmlDocumentCreator.create(wtx);
+    wtx.commit();
+
+    final IndexDef indexDef = indexController.getIndexes().findDeweyIDIndex().orElseThrow();
+    final DeweyIDIndex index = indexController.openDeweyIDIndex(wtx.getPageTrx(), indexDef);
+
+    assertEquals(NUMBER_OF_NODES, index.size());
+    checkAllNodes(wtx, index);
+
+    // Subtree of the first "b" element: the text node "foo" and the element "c".
+    wtx.moveTo(5);
+    final SirixDeweyID bDeweyID = wtx.getDeweyID();
+    assertEquals(ImmutableSet.of(6L, 7L), getDescendants(index, bDeweyID));
+
+    wtx.moveTo(7);
+    final SirixDeweyID cDeweyID = wtx.getDeweyID();
+    wtx.remove();
+    wtx.commit();
+
+    final DeweyIDIndex indexAfterRemove = indexController.openDeweyIDIndex(wtx.getPageTrx(), indexDef);
+
+    assertFalse(indexAfterRemove.getNodeKey(cDeweyID).isPresent());
+    assertEquals(ImmutableSet.of(6L), getDescendants(indexAfterRemove, bDeweyID));
+    checkAllNodes(wtx, indexAfterRemove);
+  }
+
+  @Test
+  public void testIndexBuiltForExistingRevision() {
+    final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx();
+
+    XmlDocumentCreator.create(wtx);
+    wtx.commit();
+
+    final XmlIndexController indexController =
+        holder.getResourceManager().getWtxIndexController(wtx.getRevisionNumber() - 1);
+
+    indexController.createIndexes(ImmutableSet.of(IndexDefs.createDeweyIDIdxDef(0)), wtx);
+    wtx.commit();
+
+    final IndexDef indexDef = indexController.getIndexes().findDeweyIDIndex().orElseThrow();
+    final DeweyIDIndex index = indexController.openDeweyIDIndex(wtx.getPageTrx(), indexDef);
+
+    assertEquals(NUMBER_OF_NODES, index.size());
+    checkAllNodes(wtx, index);
+
+    // All nodes are descendants of the root element.
+    wtx.moveTo(1);
+    assertEquals(NUMBER_OF_NODES - 1, getDescendants(index, wtx.getDeweyID()).size());
+  }
+
+  private static void checkAllNodes(final XmlNodeTrx wtx, final DeweyIDIndex index) {
+    wtx.moveToDocumentRoot();
+    for (final long nodeKey : new NonStructuralWrapperAxis(new DescendantAxis(wtx))) {
+      final Optional<Long> indexedNodeKey = index.getNodeKey(wtx.getDeweyID());
+      assertTrue(indexedNodeKey.isPresent());
+      assertEquals(nodeKey, (long) indexedNodeKey.get());
+    }
+  }
+
+  private static Set<Long> getDescendants(final DeweyIDIndex index, final SirixDeweyID deweyID) {
+    final Set<Long> nodeKeys = new HashSet<>();
+    index.getDescendants(deweyID).forEachRemaining(entry -> nodeKeys.add(entry.getValue()));
+    return nodeKeys;
+  }
+}
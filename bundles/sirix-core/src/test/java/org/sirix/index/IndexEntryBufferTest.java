@@ -0,0 +1,101 @@
+package org.sirix.index;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test the buffering and spilling of index entries.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class IndexEntryBufferTest {
+
+  /** Maximum number of buffered node references. */
+  private static final int MAX_NODE_REFERENCES = 100;
+
+  /** The entries, which have been written. */
+  private List<Map.Entry<Long, NodeReferences>> writtenEntries;
+
+  /** The buffer to test. */
+  private IndexEntryBuffer<Long> buffer;
+
+  @Before
+  public void setUp() {
+    writtenEntries = new ArrayList<>();
+    buffer = new IndexEntryBuffer<>(new RecordingIndexTreeWriter(), IndexEntryBuffer.PCR_KEY_SERIALIZER,
+        MAX_NODE_REFERENCES);
+  }
+
+  @Test
+  public void testSpillNodeReferencesOfOneKey() {
+    final Set<Long> nodeKeys = new HashSet<>();
+    for (long nodeKey = 0; nodeKey < 3 * MAX_NODE_REFERENCES + 1; nodeKey++) {
+      buffer.add(42L, nodeKey);
+      nodeKeys.add(nodeKey);
+    }
+
+    // The single key is spilled, once its node references exceed the maximum.
+    assertEquals(3, buffer.getNumberOfRuns());
+
+    buffer.flush();
+
+    assertEquals(0, buffer.getNumberOfRuns());
+    assertEquals(1, writtenEntries.size());
+    assertEquals(42L, (long) writtenEntries.get(0).getKey());
+    assertEquals(nodeKeys, writtenEntries.get(0).getValue().getNodeKeys());
+  }
+
+  @Test
+  public void testDuplicateNodeReferencesAreNotCounted() {
+    for (int i = 0; i < 2 * MAX_NODE_REFERENCES; i++) {
+      buffer.add(1L, 1L);
+      buffer.add(2L, 2L);
+    }
+
+    assertEquals(0, buffer.getNumberOfRuns());
+
+    buffer.flush();
+
+    assertEquals(2, writtenEntries.size());
+    assertEquals(Set.of(1L), writtenEntries.get(0).getValue().getNodeKeys());
+    assertEquals(Set.of(2L), writtenEntries.get(1).getValue().getNodeKeys());
+  }
+
+  /**
+   * Records the sorted entries, which are written at once.
+   */
+  private final class RecordingIndexTreeWriter implements IndexTreeWriter<Long, NodeReferences> {
+    @Override
+    public NodeReferences addNodeKey(final Long key, final long nodeKey, final Supplier<NodeReferences> emptyValue) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addAll(final Iterator<? extends Map.Entry<Long, NodeReferences>> sortedEntries) {
+      sortedEntries.forEachRemaining(writtenEntries::add);
+    }
+
+    @Override
+    public boolean remove(final Long key, final long nodeKey) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<NodeReferences> get(final Long key, final SearchMode mode) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package org.sirix.index;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.trx.node.json.JsonIndexController;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.index.deweyid.DeweyIDIndex;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.utils.JsonDocumentCreator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the DeweyID index of JSON resources.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class JsonDeweyIDIndexTest {
+
+  /** Number of nodes of the document created by {@link JsonDocumentCreator#create(JsonNodeTrx)}. */
+  private static final int NUMBER_OF_NODES = 25;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testIndexUpdatedOnInsertAndRemove() {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final JsonNodeTrx wtx = manager.beginNodeTrx()) {
+      final JsonIndexController indexController = manager.getWtxIndexController(wtx.getRevisionNumber() - 1);
+
+      indexController.createIndexes(ImmutableSet.of(IndexDefs.createDeweyIDIdxDef(0)), wtx);
+
+      JsonDocumentCreator.create(wtx);
+      wtx.commit();
+
+      final IndexDef indexDef = indexController.getIndexes().findDeweyIDIndex().orElseThrow();
+      final DeweyIDIndex index = indexController.openDeweyIDIndex(wtx.getPageTrx(), indexDef);
+
+      assertEquals(NUMBER_OF_NODES, index.size());
+      checkAllNodes(wtx, index);
+
+      // The object of the object key "bar": {"hello":"world","helloo":true}.
+      wtx.moveTo(8);
+      final SirixDeweyID objectDeweyID = wtx.getDeweyID();
+      assertEquals(ImmutableSet.of(9L, 10L, 11L, 12L), getDescendants(index, objectDeweyID));
+
+      wtx.insertObjectRecordAsFirstChild("tadaaa", new StringValue("todooo"));
+      final long insertedValueKey = wtx.getNodeKey();
+      wtx.moveToParent();
+      final long insertedKey = wtx.getNodeKey();
+      wtx.commit();
+
+      final DeweyIDIndex indexAfterInsert = indexController.openDeweyIDIndex(wtx.getPageTrx(), indexDef);
+
+      assertEquals(NUMBER_OF_NODES + 2, indexAfterInsert.size());
+      assertEquals(ImmutableSet.of(9L, 10L, 11L, 12L, insertedKey, insertedValueKey),
+          getDescendants(indexAfterInsert, objectDeweyID));
+      checkAllNodes(wtx, indexAfterInsert);
+
+      // The object key "tada" with objects, arrays and a boolean value and the object key "foo" with a null value.
+      final List<SirixDeweyID> removedDeweyIDs = new ArrayList<>();
+      removedDeweyIDs.addAll(getDeweyIDsOfSubtree(wtx, 15));
+      removedDeweyIDs.addAll(getDeweyIDsOfSubtree(wtx, 2));
+      assertEquals(16, removedDeweyIDs.size());
+
+      wtx.moveTo(15);
+      wtx.remove();
+      wtx.moveTo(2);
+      wtx.remove();
+      wtx.commit();
+
+      final DeweyIDIndex indexAfterRemove = indexController.openDeweyIDIndex(wtx.getPageTrx(), indexDef);
+
+      assertEquals(NUMBER_OF_NODES + 2 - removedDeweyIDs.size(), indexAfterRemove.size());
+      for (final SirixDeweyID removedDeweyID : removedDeweyIDs) {
+        assertFalse(indexAfterRemove.getNodeKey(removedDeweyID).isPresent());
+      }
+      checkAllNodes(wtx, indexAfterRemove);
+    }
+  }
+
+  private static List<SirixDeweyID> getDeweyIDsOfSubtree(final JsonNodeTrx wtx, final long nodeKey) {
+    final List<SirixDeweyID> deweyIDs = new ArrayList<>();
+    wtx.moveTo(nodeKey);
+    deweyIDs.add(wtx.getDeweyID());
+    for (final long ignored : new DescendantAxis(wtx)) {
+      deweyIDs.add(wtx.getDeweyID());
+    }
+    return deweyIDs;
+  }
+
+  private static void checkAllNodes(final JsonNodeTrx wtx, final DeweyIDIndex index) {
+    wtx.moveToDocumentRoot();
+    for (final long nodeKey : new DescendantAxis(wtx)) {
+      final Optional<Long> indexedNodeKey = index.getNodeKey(wtx.getDeweyID());
+      assertTrue(indexedNodeKey.isPresent());
+      assertEquals(nodeKey, (long) indexedNodeKey.get());
+    }
+  }
+
+  private static Set<Long> getDescendants(final DeweyIDIndex index, final SirixDeweyID deweyID) {
+    final Set<Long> nodeKeys = new HashSet<>();
+    index.getDescendants(deweyID).forEachRemaining(entry -> nodeKeys.add(entry.getValue()));
+    return nodeKeys;
+  }
+}
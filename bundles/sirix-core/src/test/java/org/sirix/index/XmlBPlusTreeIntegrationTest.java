@@ -0,0 +1,280 @@
+package org.sirix.index;
+
+import com.google.common.collect.ImmutableSet;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.atomic.Str;
+import org.brackit.xquery.util.path.Path;
+import org.brackit.xquery.util.path.PathException;
+import org.brackit.xquery.xdm.Type;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.Holder;
+import org.sirix.XmlTestHelper;
+import org.sirix.access.trx.node.xml.XmlIndexController;
+import org.sirix.api.xml.XmlNodeTrx;
+import org.sirix.index.avltree.keyvalue.CASValue;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusTreeNode;
+import org.sirix.index.bplustree.BPlusTreeReader;
+import org.sirix.index.path.xml.XmlPCRCollector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the B+-tree implementation.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class XmlBPlusTreeIntegrationTest {
+
+  /**
+   * Number of indexed values, such that leaf nodes are split. Inner nodes are split in
+   * {@link org.sirix.index.bplustree.BPlusTreeWriterTest}.
+   */
+  private static final int NUMBER_OF_VALUES = BPlusTreeNode.MAX_KEYS * 3;
+
+  /** {@link Holder} reference. */
+  private Holder holder;
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+    holder = Holder.openResourceManager();
+  }
+
+  @After
+  public void tearDown() {
+    holder.close();
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCASAttributeIndex() throws PathException {
+    final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx();
+
+    final XmlIndexController indexController =
+        holder.getResourceManager().getWtxIndexController(wtx.getRevisionNumber() - 1);
+
+    final IndexDef idxDef = IndexDefs.createCASIdxDef(false, Type.STR,
+        Collections.singleton(Path.parse("//bla/@foobar")), IndexStructure.BPLUS_TREE, 0);
+
+    indexController.createIndexes(ImmutableSet.of(idxDef), wtx);
+
+    final long rootNodeKey = wtx.insertElementAsFirstChild(new QNm("root")).getNodeKey();
+    final List<Long> attributeNodeKeys = new ArrayList<>();
+    // Insert in descending order, such that each value is inserted at the start of the leftmost leaf.
+    for (int i = NUMBER_OF_VALUES - 1; i >= 0; i--) {
+      wtx.moveTo(rootNodeKey);
+      wtx.insertElementAsFirstChild(new QNm("bla"));
+      attributeNodeKeys.add(0, wtx.insertAttribute(new QNm("foobar"), value(i)).getNodeKey());
+    }
+    wtx.commit();
+
+    final IndexDef indexDef = indexController.getIndexes().getIndexDef(0, IndexType.CAS);
+
+    assertEquals(IndexStructure.BPLUS_TREE, indexDef.getStructure());
+
+    final BPlusTreeReader<CASValue, NodeReferences> reader =
+        BPlusTreeReader.getInstance(wtx.getPageTrx(), indexDef.getType(), indexDef.getID());
+
+    final Set<Long> pathNodeKeys = wtx.getPathSummary().getPCRsForPath(Path.parse("//bla/@foobar"), false);
+
+    assertEquals(1, pathNodeKeys.size());
+
+    final long pcr = pathNodeKeys.iterator().next();
+
+    assertEquals(NUMBER_OF_VALUES, reader.size());
+
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      check(reader.get(new CASValue(new Str(value(i)), Type.STR, pcr), SearchMode.EQUAL),
+          ImmutableSet.of(attributeNodeKeys.get(i)));
+    }
+
+    assertTrue(reader.get(new CASValue(new Str("foo"), Type.STR, pcr), SearchMode.EQUAL).isEmpty());
+    check(reader.get(new CASValue(new Str(value(100)), Type.STR, pcr), SearchMode.GREATER),
+        ImmutableSet.of(attributeNodeKeys.get(101)));
+    check(reader.get(new CASValue(new Str(value(100)), Type.STR, pcr), SearchMode.LOWER),
+        ImmutableSet.of(attributeNodeKeys.get(99)));
+
+    // Range scan following the linked leaf nodes.
+    final Iterator<Map.Entry<CASValue, NodeReferences>> entries =
+        reader.range(new CASValue(new Str(value(10)), Type.STR, pcr), true,
+            new CASValue(new Str(value(300)), Type.STR, pcr), false);
+    for (int i = 10; i < 300; i++) {
+      assertTrue(entries.hasNext());
+      assertEquals(ImmutableSet.of(attributeNodeKeys.get(i)), entries.next().getValue().getNodeKeys());
+    }
+    assertFalse(entries.hasNext());
+
+    final Iterator<NodeReferences> references = indexController.openCASIndex(wtx.getPageTrx(), indexDef,
+        indexController.createCASFilterRange(Set.of("//bla/@foobar"), new Str(value(20)), new Str(value(29)), false,
+            true, new XmlPCRCollector(wtx)));
+    final Set<Long> nodeKeys = new HashSet<>();
+    references.forEachRemaining(reference -> nodeKeys.addAll(reference.getNodeKeys()));
+
+    assertEquals(new HashSet<>(attributeNodeKeys.subList(21, 30)), nodeKeys);
+
+    wtx.moveTo(attributeNodeKeys.get(42));
+    wtx.remove();
+    wtx.commit();
+
+    final BPlusTreeReader<CASValue, NodeReferences> readerAfterRemove =
+        BPlusTreeReader.getInstance(wtx.getPageTrx(), indexDef.getType(), indexDef.getID());
+
+    check(readerAfterRemove.get(new CASValue(new Str(value(42)), Type.STR, pcr), SearchMode.EQUAL),
+        ImmutableSet.of());
+    check(readerAfterRemove.get(new CASValue(new Str(value(43)), Type.STR, pcr), SearchMode.EQUAL),
+        ImmutableSet.of(attributeNodeKeys.get(43)));
+  }
+
+  @Test
+  public void testCASIndexBuiltForExistingRevision() throws PathException {
+    // Each value is stored twice.
+    final int numberOfDistinctValues = NUMBER_OF_VALUES / 2;
+    final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx();
+
+    final long rootNodeKey = wtx.insertElementAsFirstChild(new QNm("root")).getNodeKey();
+    final List<Long> attributeNodeKeys = new ArrayList<>();
+    for (int i = NUMBER_OF_VALUES - 1; i >= 0; i--) {
+      wtx.moveTo(rootNodeKey);
+      wtx.insertElementAsFirstChild(new QNm("bla"));
+      attributeNodeKeys.add(0, wtx.insertAttribute(new QNm("foobar"), value(i % numberOfDistinctValues)).getNodeKey());
+    }
+    wtx.commit();
+
+    final XmlIndexController indexController =
+        holder.getResourceManager().getWtxIndexController(wtx.getRevisionNumber() - 1);
+
+    final IndexDef idxDef = IndexDefs.createCASIdxDef(false, Type.STR,
+        Collections.singleton(Path.parse("//bla/@foobar")), IndexStructure.BPLUS_TREE, 0);
+
+    // The index entries are collected, sorted and written in one pass.
+    indexController.createIndexes(ImmutableSet.of(idxDef), wtx);
+    wtx.commit();
+
+    final IndexDef indexDef = indexController.getIndexes().getIndexDef(0, IndexType.CAS);
+
+    final BPlusTreeReader<CASValue, NodeReferences> reader =
+        BPlusTreeReader.getInstance(wtx.getPageTrx(), indexDef.getType(), indexDef.getID());
+
+    final long pcr = wtx.getPathSummary().getPCRsForPath(Path.parse("//bla/@foobar"), false).iterator().next();
+
+    assertEquals(numberOfDistinctValues, reader.size());
+
+    for (int i = 0; i < numberOfDistinctValues; i++) {
+      final Set<Long> nodeKeys = new HashSet<>();
+      for (int j = i; j < NUMBER_OF_VALUES; j += numberOfDistinctValues) {
+        nodeKeys.add(attributeNodeKeys.get(j));
+      }
+      check(reader.get(new CASValue(new Str(value(i)), Type.STR, pcr), SearchMode.EQUAL), nodeKeys);
+    }
+  }
+
+  @Test
+  public void testPathIndex() throws PathException {
+    final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx();
+
+    final XmlIndexController indexController =
+        holder.getResourceManager().getWtxIndexController(wtx.getRevisionNumber() - 1);
+
+    final IndexDef idxDef =
+        IndexDefs.createPathIdxDef(Collections.singleton(Path.parse("//bla")), IndexStructure.BPLUS_TREE, 0);
+
+    indexController.createIndexes(ImmutableSet.of(idxDef), wtx);
+
+    final long rootNodeKey = wtx.insertElementAsFirstChild(new QNm("root")).getNodeKey();
+    final List<Long> elementNodeKeys = new ArrayList<>();
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      wtx.moveTo(rootNodeKey);
+      elementNodeKeys.add(wtx.insertElementAsFirstChild(new QNm("bla")).getNodeKey());
+      wtx.insertElementAsFirstChild(new QNm("foo"));
+    }
+    wtx.commit();
+
+    final IndexDef indexDef = indexController.getIndexes().getIndexDef(0, IndexType.PATH);
+
+    assertEquals(IndexStructure.BPLUS_TREE, indexDef.getStructure());
+    assertEquals(new HashSet<>(elementNodeKeys), nodeKeys(indexController.openPathIndex(wtx.getPageTrx(), indexDef,
+        indexController.createPathFilter(Set.of("//bla"), wtx))));
+    assertEquals(new HashSet<>(elementNodeKeys),
+        nodeKeys(indexController.openPathIndex(wtx.getPageTrx(), indexDef, null)));
+
+    wtx.moveTo(elementNodeKeys.remove(42));
+    wtx.remove();
+    wtx.commit();
+
+    assertEquals(new HashSet<>(elementNodeKeys), nodeKeys(indexController.openPathIndex(wtx.getPageTrx(), indexDef,
+        indexController.createPathFilter(Set.of("//bla"), wtx))));
+  }
+
+  @Test
+  public void testNameIndex() {
+    final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx();
+
+    final XmlIndexController indexController =
+        holder.getResourceManager().getWtxIndexController(wtx.getRevisionNumber() - 1);
+
+    final IndexDef indexDef = IndexDefs.createNameIdxDef(0, IndexDefs.NameIndexType.XML, IndexStructure.BPLUS_TREE);
+
+    indexController.createIndexes(ImmutableSet.of(indexDef), wtx);
+
+    final long rootNodeKey = wtx.insertElementAsFirstChild(new QNm("root")).getNodeKey();
+    final List<Long> blaNodeKeys = new ArrayList<>();
+    final List<Long> fooNodeKeys = new ArrayList<>();
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      wtx.moveTo(rootNodeKey);
+      blaNodeKeys.add(wtx.insertElementAsFirstChild(new QNm("bla")).getNodeKey());
+      fooNodeKeys.add(wtx.insertElementAsFirstChild(new QNm("foo")).getNodeKey());
+    }
+    wtx.commit();
+
+    assertEquals(IndexStructure.BPLUS_TREE, indexDef.getStructure());
+    assertEquals(new HashSet<>(blaNodeKeys), nodeKeys(
+        indexController.openNameIndex(wtx.getPageTrx(), indexDef, indexController.createNameFilter(Set.of("bla")))));
+
+    final Set<Long> allNodeKeys = new HashSet<>(blaNodeKeys);
+    allNodeKeys.addAll(fooNodeKeys);
+    allNodeKeys.add(rootNodeKey);
+    assertEquals(allNodeKeys, nodeKeys(indexController.openNameIndex(wtx.getPageTrx(), indexDef,
+        indexController.createNameFilter(Set.of("bla", "foo", "root")))));
+
+    // Removing an element removes its descendants as well.
+    wtx.moveTo(blaNodeKeys.remove(42));
+    fooNodeKeys.remove(42);
+    wtx.remove();
+    wtx.commit();
+
+    assertEquals(new HashSet<>(blaNodeKeys), nodeKeys(
+        indexController.openNameIndex(wtx.getPageTrx(), indexDef, indexController.createNameFilter(Set.of("bla")))));
+    assertEquals(new HashSet<>(fooNodeKeys), nodeKeys(
+        indexController.openNameIndex(wtx.getPageTrx(), indexDef, indexController.createNameFilter(Set.of("foo")))));
+  }
+
+  private static Set<Long> nodeKeys(final Iterator<NodeReferences> references) {
+    final Set<Long> nodeKeys = new HashSet<>();
+    references.forEachRemaining(reference -> nodeKeys.addAll(reference.getNodeKeys()));
+    return nodeKeys;
+  }
+
+  private static String value(final int i) {
+    return String.format("value%04d", i);
+  }
+
+  private void check(final Optional<NodeReferences> barRefs, final Set<Long> keys) {
+    assertTrue(barRefs.isPresent());
+    assertEquals(keys, barRefs.get().getNodeKeys());
+  }
+}
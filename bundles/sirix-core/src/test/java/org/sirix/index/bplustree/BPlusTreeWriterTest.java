@@ -0,0 +1,303 @@
+package org.sirix.index.bplustree;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.Holder;
+import org.sirix.XmlTestHelper;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.xml.XmlNodeTrx;
+import org.sirix.index.IndexEntryBuffer;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the bottom-up build of a B+-tree from sorted index entries.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class BPlusTreeWriterTest {
+
+  /**
+   * Number of keys, such that the leaf nodes are filled completely and one leaf node more than an inner node is able
+   * to reference remains.
+   */
+  private static final int NUMBER_OF_KEYS = BPlusTreeNode.MAX_KEYS * (BPlusTreeNode.MAX_KEYS + 2);
+
+  /** Maximum number of buffered node references, such that many runs are spilled. */
+  private static final int MAX_BUFFERED_NODE_REFERENCES = 1000;
+
+  /**
+   * Number of keys, which are inserted one by one. Leaf nodes are at least half full after a split, thus the root node
+   * has to reference more leaf nodes than an inner node is able to and inner nodes are split as well.
+   */
+  private static final int NUMBER_OF_INSERTED_KEYS = BPlusTreeNode.MAX_KEYS * BPlusTreeNode.MAX_KEYS;
+
+  /** Number of keys, which reference many nodes. */
+  private static final int NUMBER_OF_LARGE_KEYS = 10;
+
+  /** Number of node references per large key, such that a few large keys exceed the limit of a leaf node. */
+  private static final int NODE_REFERENCES_PER_LARGE_KEY = BPlusTreeNode.MAX_NODE_REFERENCES / 3;
+
+  /** {@link Holder} reference. */
+  private Holder holder;
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+    holder = Holder.openResourceManager();
+  }
+
+  @After
+  public void tearDown() {
+    holder.close();
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testBuildFromSpilledRuns() {
+    try (final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx()) {
+      final BPlusTreeWriter<Long, NodeReferences> writer =
+          BPlusTreeWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+      final IndexEntryBuffer<Long> buffer =
+          new IndexEntryBuffer<>(writer, IndexEntryBuffer.PCR_KEY_SERIALIZER, MAX_BUFFERED_NODE_REFERENCES);
+
+      final List<Long> keys = new ArrayList<>(NUMBER_OF_KEYS);
+      for (long key = 0; key < NUMBER_OF_KEYS; key++) {
+        keys.add(key);
+      }
+
+      // The node keys of a key are added to different runs, thus they have to be combined by the merge.
+      final Random random = new Random(42);
+      for (int nodeKeyOffset = 0; nodeKeyOffset < 2; nodeKeyOffset++) {
+        Collections.shuffle(keys, random);
+        for (final long key : keys) {
+          buffer.add(key, 2 * key + nodeKeyOffset);
+        }
+      }
+      buffer.flush();
+      wtx.commit();
+    }
+
+    try (final PageReadOnlyTrx pageReadTrx = holder.getResourceManager().beginPageReadOnlyTrx()) {
+      final BPlusTreeReader<Long, NodeReferences> reader =
+          BPlusTreeReader.getInstance(pageReadTrx, IndexType.PATH, 0);
+
+      assertEquals(NUMBER_OF_KEYS, reader.size());
+
+      // All runs are written at once, thus all leaf nodes are full.
+      assertEquals(BPlusTreeNode.MAX_KEYS + 2, checkSubtree(reader, reader.getDocumentNode().getFirstChildKey(), 0,
+          new ArrayList<>(), true));
+
+      for (long key = 0; key < NUMBER_OF_KEYS; key++) {
+        assertEquals(Set.of(2 * key, 2 * key + 1), reader.get(key, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+      }
+      assertFalse(reader.get((long) NUMBER_OF_KEYS, SearchMode.EQUAL).isPresent());
+
+      // The leaf nodes are linked in ascending key order.
+      long key = 0;
+      BPlusTreeNode<Long, NodeReferences> leaf = reader.findLeaf(0L, null);
+      while (true) {
+        for (int i = 0; i < leaf.getKeyCount(); i++) {
+          assertEquals(key++, (long) leaf.getKey(i));
+        }
+        if (!leaf.hasNextLeaf()) {
+          break;
+        }
+        leaf = reader.getBPlusTreeNode(leaf.getNextLeafKey());
+      }
+      assertEquals(NUMBER_OF_KEYS, key);
+    }
+  }
+
+  @Test
+  public void testInsertAndRemoveWithInnerNodeSplits() {
+    final List<Long> keys = new ArrayList<>(NUMBER_OF_INSERTED_KEYS);
+    for (long key = 0; key < NUMBER_OF_INSERTED_KEYS; key++) {
+      keys.add(key);
+    }
+    Collections.shuffle(keys, new Random(42));
+
+    try (final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx()) {
+      final BPlusTreeWriter<Long, NodeReferences> writer =
+          BPlusTreeWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+      for (final long key : keys) {
+        writer.addNodeKey(key, 2 * key, NodeReferences::new);
+      }
+      wtx.commit();
+    }
+
+    final List<Long> separatorKeys = new ArrayList<>();
+
+    try (final PageReadOnlyTrx pageReadTrx = holder.getResourceManager().beginPageReadOnlyTrx()) {
+      final BPlusTreeReader<Long, NodeReferences> reader =
+          BPlusTreeReader.getInstance(pageReadTrx, IndexType.PATH, 0);
+
+      assertEquals(NUMBER_OF_INSERTED_KEYS, reader.size());
+
+      // The children of the root node are inner nodes, thus inner nodes have been split.
+      final BPlusTreeNode<Long, NodeReferences> root =
+          reader.getBPlusTreeNode(reader.getDocumentNode().getFirstChildKey());
+      assertFalse(root.isLeaf());
+      assertFalse(reader.getBPlusTreeNode(root.getChildKey(0)).isLeaf());
+
+      checkSubtree(reader, root.getNodeKey(), 0, new ArrayList<>(), false);
+
+      // Remove the node keys of the separator keys of the root and the inner node levels below.
+      separatorKeys.addAll(root.getKeys());
+      for (final long childKey : root.getChildKeys()) {
+        separatorKeys.addAll(reader.getBPlusTreeNode(childKey).getKeys());
+      }
+    }
+
+    try (final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx()) {
+      final BPlusTreeWriter<Long, NodeReferences> writer =
+          BPlusTreeWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+      for (final long key : separatorKeys) {
+        assertTrue(writer.remove(key, 2 * key));
+        assertFalse(writer.remove(key, 2 * key));
+      }
+      // Add a node key to a separator key again.
+      writer.addNodeKey(separatorKeys.get(0), 2 * separatorKeys.get(0) + 1, NodeReferences::new);
+      wtx.commit();
+    }
+
+    try (final PageReadOnlyTrx pageReadTrx = holder.getResourceManager().beginPageReadOnlyTrx()) {
+      final BPlusTreeReader<Long, NodeReferences> reader =
+          BPlusTreeReader.getInstance(pageReadTrx, IndexType.PATH, 0);
+
+      checkSubtree(reader, reader.getDocumentNode().getFirstChildKey(), 0, new ArrayList<>(), false);
+
+      final Set<Long> removedKeys = Set.copyOf(separatorKeys);
+      for (long key = 0; key < NUMBER_OF_INSERTED_KEYS; key++) {
+        final Set<Long> nodeKeys = reader.get(key, SearchMode.EQUAL).orElseThrow().getNodeKeys();
+        if (key == separatorKeys.get(0)) {
+          assertEquals(Set.of(2 * key + 1), nodeKeys);
+        } else if (removedKeys.contains(key)) {
+          assertTrue(nodeKeys.isEmpty());
+        } else {
+          assertEquals(Set.of(2 * key), nodeKeys);
+        }
+      }
+
+      // The leaf nodes are still linked in ascending key order.
+      final Iterator<Map.Entry<Long, NodeReferences>> entries = reader.range(null, false, null, false);
+      for (long key = 0; key < NUMBER_OF_INSERTED_KEYS; key++) {
+        assertEquals(key, (long) entries.next().getKey());
+      }
+      assertFalse(entries.hasNext());
+    }
+  }
+
+  @Test
+  public void testSplitLeavesByNodeReferencesOnInsert() {
+    try (final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx()) {
+      final BPlusTreeWriter<Long, NodeReferences> writer =
+          BPlusTreeWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+      for (long key = 0; key < NUMBER_OF_LARGE_KEYS; key++) {
+        for (long nodeKey = 0; nodeKey < NODE_REFERENCES_PER_LARGE_KEY; nodeKey++) {
+          writer.addNodeKey(key, key * NODE_REFERENCES_PER_LARGE_KEY + nodeKey, NodeReferences::new);
+        }
+      }
+      wtx.commit();
+    }
+
+    checkLeavesOfLargeKeys();
+  }
+
+  @Test
+  public void testSplitLeavesByNodeReferencesOnBuild() {
+    try (final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx()) {
+      final BPlusTreeWriter<Long, NodeReferences> writer =
+          BPlusTreeWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+      final IndexEntryBuffer<Long> buffer =
+          new IndexEntryBuffer<>(writer, IndexEntryBuffer.PCR_KEY_SERIALIZER, MAX_BUFFERED_NODE_REFERENCES);
+      for (long key = 0; key < NUMBER_OF_LARGE_KEYS; key++) {
+        for (long nodeKey = 0; nodeKey < NODE_REFERENCES_PER_LARGE_KEY; nodeKey++) {
+          buffer.add(key, key * NODE_REFERENCES_PER_LARGE_KEY + nodeKey);
+        }
+      }
+      buffer.flush();
+      wtx.commit();
+    }
+
+    checkLeavesOfLargeKeys();
+  }
+
+  // Check that no leaf node with more than one key stores more than the maximum number of node references.
+  private void checkLeavesOfLargeKeys() {
+    try (final PageReadOnlyTrx pageReadTrx = holder.getResourceManager().beginPageReadOnlyTrx()) {
+      final BPlusTreeReader<Long, NodeReferences> reader =
+          BPlusTreeReader.getInstance(pageReadTrx, IndexType.PATH, 0);
+
+      assertEquals(NUMBER_OF_LARGE_KEYS, reader.size());
+      assertTrue(checkSubtree(reader, reader.getDocumentNode().getFirstChildKey(), 0, new ArrayList<>(), false) > 1);
+
+      long key = 0;
+      BPlusTreeNode<Long, NodeReferences> leaf = reader.findLeaf(0L, null);
+      assertFalse(leaf.hasPreviousLeaf());
+      while (true) {
+        assertTrue(leaf.getKeyCount() == 1 || leaf.getNumberOfNodeReferences() <= BPlusTreeNode.MAX_NODE_REFERENCES);
+        for (int i = 0; i < leaf.getKeyCount(); i++) {
+          assertEquals(key, (long) leaf.getKey(i));
+          assertEquals(NODE_REFERENCES_PER_LARGE_KEY, leaf.getValue(i).getNodeKeys().size());
+          key++;
+        }
+        if (!leaf.hasNextLeaf()) {
+          break;
+        }
+        final long leafKey = leaf.getNodeKey();
+        leaf = reader.getBPlusTreeNode(leaf.getNextLeafKey());
+        assertEquals(leafKey, leaf.getPreviousLeafKey());
+      }
+      assertEquals(NUMBER_OF_LARGE_KEYS, key);
+    }
+  }
+
+  /**
+   * Check the shape of a subtree, that is all leaf nodes are on the same level, each inner node has at least one
+   * separator key and one child more than keys and optionally that all leaf nodes are full.
+   *
+   * @return the number of leaf nodes
+   */
+  private static int checkSubtree(final BPlusTreeReader<Long, NodeReferences> reader, final long nodeKey,
+      final int level, final List<Integer> leafLevels, final boolean fullLeaves) {
+    final BPlusTreeNode<Long, NodeReferences> node = reader.getBPlusTreeNode(nodeKey);
+
+    if (node.isLeaf()) {
+      if (fullLeaves) {
+        assertEquals(BPlusTreeNode.MAX_KEYS, node.getKeyCount());
+      } else {
+        assertTrue(node.getKeyCount() > 0);
+        assertTrue(node.getKeyCount() <= BPlusTreeNode.MAX_KEYS);
+      }
+      leafLevels.add(level);
+      assertEquals(1, leafLevels.stream().distinct().count());
+      return 1;
+    }
+
+    assertTrue(node.getKeyCount() > 0);
+    assertTrue(node.getKeyCount() <= BPlusTreeNode.MAX_KEYS);
+    assertEquals(node.getKeyCount() + 1, node.getChildKeys().size());
+
+    int leaves = 0;
+    for (final long childKey : node.getChildKeys()) {
+      leaves += checkSubtree(reader, childKey, level + 1, leafLevels, fullLeaves);
+    }
+    return leaves;
+  }
+}
@@ -0,0 +1,61 @@
+package org.sirix.index.deweyid;
+
+import org.junit.Test;
+import org.sirix.node.SirixDeweyID;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test the structural joins on DeweyIDs.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class StructuralJoinsTest {
+
+  private static final Function<SirixDeweyID, SirixDeweyID> IDENTITY = Function.identity();
+
+  @Test
+  public void testSort() {
+    assertEquals(ids("1.3", "1.3.3", "1.3.5", "1.5"),
+        StructuralJoins.sort(ids("1.5", "1.3.5", "1.3", "1.3.3"), IDENTITY));
+  }
+
+  @Test
+  public void testAncestors() {
+    final List<SirixDeweyID> ancestors = ids("1.3", "1.3.3", "1.3.5", "1.5", "1.7", "1.7.3");
+    final List<SirixDeweyID> descendants = ids("1.3.3.3", "1.7.3.5.3", "1.9.3");
+
+    // "1.3" and "1.7" only have descendants through their descendants "1.3.3" and "1.7.3".
+    assertEquals(ids("1.3", "1.3.3", "1.7", "1.7.3"), StructuralJoins.ancestors(ancestors, descendants, IDENTITY));
+  }
+
+  @Test
+  public void testDescendants() {
+    final List<SirixDeweyID> ancestors = ids("1.3", "1.3.3", "1.7.3");
+    final List<SirixDeweyID> descendants = ids("1.3.3.3", "1.3.5", "1.5.3", "1.7.3.5.3", "1.7.5");
+
+    assertEquals(ids("1.3.3.3", "1.3.5", "1.7.3.5.3"), StructuralJoins.descendants(ancestors, descendants, IDENTITY));
+  }
+
+  @Test
+  public void testIntersect() {
+    assertEquals(ids("1.3.3", "1.5"),
+        StructuralJoins.intersect(ids("1.3", "1.3.3", "1.5"), ids("1.3.3", "1.5", "1.7"), IDENTITY));
+  }
+
+  @Test
+  public void testUnion() {
+    assertEquals(ids("1.3", "1.3.3", "1.5", "1.7"),
+        StructuralJoins.union(List.of(ids("1.3", "1.5"), ids("1.3.3", "1.5", "1.7")), IDENTITY));
+  }
+
+  private static List<SirixDeweyID> ids(final String... deweyIDs) {
+    return Arrays.stream(deweyIDs).map(SirixDeweyID::new).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,74 @@
+package org.sirix.index.path;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.Set;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.util.path.Path;
+import org.brackit.xquery.util.path.PathException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.Holder;
+import org.sirix.XmlTestHelper;
+import org.sirix.api.xml.XmlNodeTrx;
+import org.sirix.utils.XmlDocumentCreator;
+
+/**
+ * Test the {@link IndexedPCRs}.
+ */
+public final class IndexedPCRsTest {
+
+  private Holder holder;
+
+  private XmlNodeTrx wtx;
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+    holder = Holder.generatePathSummary();
+    wtx = holder.getResourceManager().beginNodeTrx();
+    XmlDocumentCreator.create(wtx);
+  }
+
+  @After
+  public void tearDown() {
+    holder.close();
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testPathSummaryChanges() throws PathException {
+    final IndexedPCRs indexedPCRs = new IndexedPCRs(Set.of(Path.parse("//b")), wtx.getPathSummary());
+    assertTrue(indexedPCRs.contains(4));
+    assertFalse(indexedPCRs.contains(5));
+
+    // A path node, which is added after the PCRs have been resolved.
+    wtx.moveToDocumentRoot();
+    wtx.moveToFirstChild();
+    wtx.insertElementAsFirstChild(new QNm("d"));
+    final long parentPCR = wtx.getPathNodeKey();
+    wtx.insertElementAsFirstChild(new QNm("b"));
+    final long insertedPCR = wtx.getPathNodeKey();
+    assertTrue(indexedPCRs.contains(insertedPCR));
+    assertFalse(indexedPCRs.contains(parentPCR));
+
+    // A path node, which is removed.
+    wtx.moveToParent();
+    wtx.remove();
+    assertFalse(indexedPCRs.contains(insertedPCR));
+    assertTrue(indexedPCRs.contains(4));
+
+    // A path node, which is renamed.
+    wtx.moveToDocumentRoot();
+    wtx.moveToFirstChild();
+    wtx.insertElementAsFirstChild(new QNm("d"));
+    wtx.insertElementAsFirstChild(new QNm("b"));
+    final long renamedPCR = wtx.getPathNodeKey();
+    assertTrue(indexedPCRs.contains(renamedPCR));
+    wtx.setName(new QNm("e"));
+    assertFalse(indexedPCRs.contains(renamedPCR));
+    assertFalse(indexedPCRs.contains(wtx.getPathNodeKey()));
+    assertTrue(indexedPCRs.contains(4));
+  }
+}
@@ -0,0 +1,154 @@
+package org.sirix.io.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.brackit.xquery.atomic.QNm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Database;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.api.xml.XmlNodeTrx;
+import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.exception.SirixException;
+
+/** Test the compaction of the data file of a resource. */
+public class FileCompactionTest {
+
+  /** The number of revisions, which rename the elements. */
+  private static final int REVISIONS = 8;
+
+  /** The number of elements. */
+  private static final int ELEMENTS = 100;
+
+  /** {@link Database} instance. */
+  private Database<XmlResourceManager> mDatabase;
+
+  @Before
+  public void setUp() throws SirixException {
+    XmlTestHelper.deleteEverything();
+    Databases.createXmlDatabase(new DatabaseConfiguration(XmlTestHelper.PATHS.PATH1.getFile()));
+    mDatabase = Databases.openXmlDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    mDatabase.createResource(new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).build());
+  }
+
+  @After
+  public void tearDown() throws SirixException {
+    mDatabase.close();
+  }
+
+  @Test
+  public void testCompact() throws IOException {
+    try (final XmlResourceManager manager = mDatabase.openResourceManager(XmlTestHelper.RESOURCE)) {
+      createRevisions(manager);
+
+      final int mostRecentRevision = manager.getMostRecentRevisionNumber();
+      final Instant[] timestamps = new Instant[mostRecentRevision + 1];
+      for (int revision = 1; revision <= mostRecentRevision; revision++) {
+        try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(revision)) {
+          timestamps[revision] = rtx.getRevisionTimestamp();
+        }
+      }
+
+      final Path dataFile = getDataFile(manager);
+      final long size = Files.size(dataFile);
+
+      manager.compact(0);
+
+      assertTrue(Files.size(dataFile) < size);
+      assertEquals(mostRecentRevision, manager.getMostRecentRevisionNumber());
+
+      for (int revision = 1; revision <= mostRecentRevision; revision++) {
+        try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(revision)) {
+          assertEquals(timestamps[revision], rtx.getRevisionTimestamp());
+          assertNames(rtx, nameOf(revision));
+        }
+      }
+
+      // The compacted resource can be modified further.
+      try (final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+        rename(wtx, "bar");
+        wtx.commit();
+      }
+
+      try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx()) {
+        assertEquals(mostRecentRevision + 1, rtx.getRevisionNumber());
+        assertNames(rtx, "bar");
+      }
+
+      try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(mostRecentRevision)) {
+        assertNames(rtx, nameOf(mostRecentRevision));
+      }
+    }
+  }
+
+  @Test
+  public void testCompactDropsOlderRevisions() {
+    try (final XmlResourceManager manager = mDatabase.openResourceManager(XmlTestHelper.RESOURCE)) {
+      createRevisions(manager);
+
+      final int oldestRevisionToRetain = 4;
+      manager.compact(oldestRevisionToRetain);
+
+      // The dropped revisions refer to the oldest retained revision.
+      for (int revision = 0; revision <= oldestRevisionToRetain; revision++) {
+        try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(revision)) {
+          assertEquals(oldestRevisionToRetain, rtx.getRevisionNumber());
+          assertNames(rtx, nameOf(oldestRevisionToRetain));
+        }
+      }
+
+      for (int revision = oldestRevisionToRetain + 1; revision <= manager.getMostRecentRevisionNumber(); revision++) {
+        try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(revision)) {
+          assertNames(rtx, nameOf(revision));
+        }
+      }
+    }
+  }
+
+  private static Path getDataFile(final XmlResourceManager manager) {
+    return manager.getResourceConfig().resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                                                   .resolve("sirix.data");
+  }
+
+  private static void createRevisions(final XmlResourceManager manager) {
+    try (final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+      for (int i = 0; i < ELEMENTS; i++) {
+        wtx.insertElementAsFirstChild(new QNm(nameOf(1)));
+      }
+      wtx.commit();
+
+      for (int revision = 2; revision <= REVISIONS + 1; revision++) {
+        rename(wtx, nameOf(revision));
+        wtx.commit();
+      }
+    }
+  }
+
+  private static String nameOf(final int revision) {
+    return "foo" + revision;
+  }
+
+  private static void rename(final XmlNodeTrx wtx, final String name) {
+    wtx.moveToDocumentRoot();
+    while (wtx.moveToFirstChild().hasMoved()) {
+      wtx.setName(new QNm(name));
+    }
+  }
+
+  private static void assertNames(final XmlNodeReadOnlyTrx rtx, final String name) {
+    rtx.moveToDocumentRoot();
+    for (int i = 0; i < ELEMENTS; i++) {
+      assertTrue(rtx.moveToFirstChild().hasMoved());
+      assertEquals(new QNm(name), rtx.getName());
+    }
+  }
+}
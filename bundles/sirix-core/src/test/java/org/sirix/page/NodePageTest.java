@@ -28,6 +28,7 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import org.brackit.xquery.atomic.QNm;
@@ -44,6 +45,7 @@ import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.interfaces.NameNode;
 import org.sirix.node.xml.ElementNode;
+import org.sirix.settings.VersioningType;
 import org.sirix.utils.NamePageHash;
 import com.google.common.collect.HashBiMap;
 import com.google.common.hash.Hashing;
@@ -121,4 +123,41 @@ public final class NodePageTest {
     assertEquals(7, ((NameNode) page2.getValue(0l)).getLocalNameKey());
     assertEquals(NamePageHash.generateHashForString("xs:untyped"), element.getTypeKey());
   }
+
+  @Test
+  public void testCombineSlots() throws IOException {
+    final UnorderedKeyValuePage newerPage = new UnorderedKeyValuePage(0L, PageKind.RECORDPAGE, List.of(), mPageReadTrx);
+    newerPage.setEntry(0L, createElement(0L, 12L));
+    final UnorderedKeyValuePage olderPage = new UnorderedKeyValuePage(0L, PageKind.RECORDPAGE, List.of(), mPageReadTrx);
+    olderPage.setEntry(0L, createElement(0L, 13L));
+    olderPage.setEntry(1L, createElement(1L, 14L));
+
+    final UnorderedKeyValuePage newerFragment = serializeAndDeserialize(newerPage);
+    final UnorderedKeyValuePage olderFragment = serializeAndDeserialize(olderPage);
+    assertEquals(BitSet.valueOf(new long[] { 0b1 }), newerFragment.getSlotBitmap());
+    assertEquals(BitSet.valueOf(new long[] { 0b11 }), olderFragment.getSlotBitmap());
+
+    // The newer fragment takes precedence.
+    final UnorderedKeyValuePage page =
+        VersioningType.INCREMENTAL.combineRecordPages(List.of(newerFragment, olderFragment), 3, mPageReadTrx);
+    assertEquals(2, page.size());
+    assertEquals(12L, ((ElementNode) page.getValue(0L)).getFirstChildKey());
+    assertEquals(14L, ((ElementNode) page.getValue(1L)).getFirstChildKey());
+  }
+
+  private static ElementNode createElement(final long nodeKey, final long firstChildKey) {
+    final NodeDelegate del = new NodeDelegate(nodeKey, 1, Hashing.sha256(), null, 0, null);
+    final StructNodeDelegate strucDel = new StructNodeDelegate(del, firstChildKey, 4l, 3l, 1l, 0l);
+    final NameNodeDelegate nameDel = new NameNodeDelegate(del, 5, 6, 7, 1);
+    return new ElementNode(strucDel, nameDel, new ArrayList<>(), HashBiMap.create(), new ArrayList<>(),
+        new QNm("a", "b", "c"));
+  }
+
+  private UnorderedKeyValuePage serializeAndDeserialize(final UnorderedKeyValuePage page) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final PagePersister pagePersister = new PagePersister();
+    pagePersister.serializePage(new DataOutputStream(out), page, SerializationType.DATA);
+    return (UnorderedKeyValuePage) pagePersister.deserializePage(
+        new DataInputStream(new ByteArrayInputStream(out.toByteArray())), mPageReadTrx, SerializationType.DATA);
+  }
 }
@@ -0,0 +1,271 @@
+package org.sirix.service.json.serializer;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.exception.SirixException;
+import org.sirix.service.json.serialize.JsonCborSerializer;
+import org.sirix.service.json.serialize.JsonSerializer;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.service.xml.shredder.InsertPosition;
+import org.sirix.utils.JsonDocumentCreator;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+
+public final class JsonCborSerializerTest {
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  @Before
+  public void setUp() throws SirixException {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() throws SirixException {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var out = new ByteArrayOutputStream();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      JsonCborSerializer.newBuilder(manager, out).build().call();
+    }
+
+    final var otherDatabase = JsonTestHelper.getDatabase(PATHS.PATH2.getFile());
+    try (final var manager = otherDatabase.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx();
+         final var writer = new StringWriter()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createCborReader(new ByteArrayInputStream(out.toByteArray())));
+
+      new JsonSerializer.Builder(manager, writer).build().call();
+      assertEquals(JsonDocumentCreator.JSON, writer.toString());
+    }
+  }
+
+  @Test
+  public void testStartNodeKeyOfObjectKey() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var out = new ByteArrayOutputStream();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      // The object key "bar" with the object {"hello":"world","helloo":true}.
+      JsonCborSerializer.newBuilder(manager, out).startNodeKey(7).build().call();
+    }
+
+    final var otherDatabase = JsonTestHelper.getDatabase(PATHS.PATH2.getFile());
+    try (final var manager = otherDatabase.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx();
+         final var writer = new StringWriter()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createCborReader(new ByteArrayInputStream(out.toByteArray())));
+
+      new JsonSerializer.Builder(manager, writer).build().call();
+      assertEquals("{\"bar\":{\"hello\":\"world\",\"helloo\":true}}", writer.toString());
+    }
+  }
+
+  @Test
+  public void testMetaData() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final var out = new ByteArrayOutputStream();
+      JsonCborSerializer.newBuilder(manager, out).withMetaData(true).build().call();
+
+      final var expected = Files.readString(JSON.resolve("document-with-metadata.json"), StandardCharsets.UTF_8);
+      JSONAssert.assertEquals(expected, decode(out.toByteArray()), true);
+    }
+  }
+
+  @Test
+  public void testMetaDataAndMaxLevel() throws IOException {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(JSON.resolve("simple-testdoc.json")),
+                                                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      final var out = new ByteArrayOutputStream();
+      JsonCborSerializer.newBuilder(manager, out).withMetaData(true).maxLevel(2).build().call();
+
+      final var expected =
+          Files.readString(JSON.resolve("simple-testdoc-withmetadata-withmaxlevel.json"), StandardCharsets.UTF_8);
+      JSONAssert.assertEquals(expected, decode(out.toByteArray()), true);
+    }
+  }
+
+  @Test
+  public void testMaxLevel() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      for (int maxLevel = 1; maxLevel <= 4; maxLevel++) {
+        final var out = new ByteArrayOutputStream();
+        JsonCborSerializer.newBuilder(manager, out).maxLevel(maxLevel).build().call();
+
+        try (final var writer = new StringWriter()) {
+          new JsonSerializer.Builder(manager, writer).maxLevel(maxLevel).build().call();
+          JSONAssert.assertEquals(writer.toString(), decode(out.toByteArray()), true);
+        }
+      }
+
+      // The array of the object key "tada" without the object keys of its objects.
+      final var out = new ByteArrayOutputStream();
+      JsonCborSerializer.newBuilder(manager, out).maxLevel(2).startNodeKey(16).build().call();
+
+      try (final var writer = new StringWriter()) {
+        new JsonSerializer.Builder(manager, writer).maxLevel(2).startNodeKey(16).build().call();
+        JSONAssert.assertEquals(writer.toString(), decode(out.toByteArray()), true);
+      }
+    }
+  }
+
+  @Test
+  public void testMultipleRevisions() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveToDocumentRoot().trx().moveToFirstChild();
+      wtx.insertObjectRecordAsFirstChild("tadaaa", new StringValue("todooo"));
+      wtx.commit();
+
+      final var expected = Files.readString(JSON.resolve("multiple-revisions.json"), StandardCharsets.UTF_8);
+
+      final var out = new ByteArrayOutputStream();
+      JsonCborSerializer.newBuilder(manager, out, 1, 2).build().call();
+      JSONAssert.assertEquals(expected, decode(out.toByteArray()), true);
+
+      final var concurrentOut = new ByteArrayOutputStream();
+      JsonCborSerializer.newBuilder(manager, concurrentOut, 1, 2).serializeRevisionsConcurrently(2).build().call();
+      JSONAssert.assertEquals(expected, decode(concurrentOut.toByteArray()), true);
+    }
+  }
+
+  // Decodes the CBOR output into its JSON representation.
+  private static String decode(final byte[] cbor) throws IOException {
+    final var in = new DataInputStream(new ByteArrayInputStream(cbor));
+    final String json = decode(in, in.readUnsignedByte()).toString();
+    assertEquals("The output contains more than one data item.", -1, in.read());
+    return json;
+  }
+
+  private static JsonElement decode(final DataInputStream in, final int initialByte) throws IOException {
+    final int additionalInformation = initialByte & 0x1f;
+
+    switch (initialByte >>> 5) {
+      case 0:
+        return new JsonPrimitive(argument(in, additionalInformation));
+      case 1:
+        return new JsonPrimitive(-1 - argument(in, additionalInformation));
+      case 3:
+        final byte[] bytes = new byte[(int) argument(in, additionalInformation)];
+        in.readFully(bytes);
+        return new JsonPrimitive(new String(bytes, StandardCharsets.UTF_8));
+      case 4:
+        final var array = new JsonArray();
+        if (additionalInformation == 31) {
+          for (int b = in.readUnsignedByte(); b != 0xff; b = in.readUnsignedByte()) {
+            array.add(decode(in, b));
+          }
+        } else {
+          for (long i = argument(in, additionalInformation); i > 0; i--) {
+            array.add(decode(in, in.readUnsignedByte()));
+          }
+        }
+        return array;
+      case 5:
+        final var object = new JsonObject();
+        if (additionalInformation == 31) {
+          for (int b = in.readUnsignedByte(); b != 0xff; b = in.readUnsignedByte()) {
+            object.add(decode(in, b).getAsString(), decode(in, in.readUnsignedByte()));
+          }
+        } else {
+          for (long i = argument(in, additionalInformation); i > 0; i--) {
+            object.add(decode(in, in.readUnsignedByte()).getAsString(), decode(in, in.readUnsignedByte()));
+          }
+        }
+        return object;
+      case 6:
+        return decodeTag(in, argument(in, additionalInformation));
+      default:
+        switch (initialByte) {
+          case 0xf4:
+            return new JsonPrimitive(false);
+          case 0xf5:
+            return new JsonPrimitive(true);
+          case 0xf6:
+            return JsonNull.INSTANCE;
+          case 0xfa:
+            return new JsonPrimitive(in.readFloat());
+          case 0xfb:
+            return new JsonPrimitive(in.readDouble());
+          default:
+            throw new AssertionError("Unexpected initial byte: " + initialByte);
+        }
+    }
+  }
+
+  private static JsonElement decodeTag(final DataInputStream in, final long tag) throws IOException {
+    if (tag == 4) {
+      // Decimal fraction.
+      final JsonArray decimal = decode(in, in.readUnsignedByte()).getAsJsonArray();
+      return new JsonPrimitive(new BigDecimal(decimal.get(1).getAsBigInteger(), -decimal.get(0).getAsInt()));
+    }
+
+    // Bignum.
+    final int initialByte = in.readUnsignedByte();
+    assertEquals(2, initialByte >>> 5);
+    final byte[] bytes = new byte[(int) argument(in, initialByte & 0x1f)];
+    in.readFully(bytes);
+    final var magnitude = new BigInteger(1, bytes);
+    return new JsonPrimitive(tag == 2 ? magnitude : BigInteger.ONE.negate().subtract(magnitude));
+  }
+
+  private static long argument(final DataInputStream in, final int additionalInformation) throws IOException {
+    switch (additionalInformation) {
+      case 24:
+        return in.readUnsignedByte();
+      case 25:
+        return in.readUnsignedShort();
+      case 26:
+        return in.readInt() & 0xffffffffL;
+      case 27:
+        return in.readLong();
+      default:
+        return additionalInformation;
+    }
+  }
+}
@@ -107,6 +107,40 @@ public final class JsonSerializerTest {
     }
   }
 
+  @Test
+  public void testMultipleRevisionsJsonDocumentSerializedConcurrently() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveToDocumentRoot().trx().moveToFirstChild();
+      wtx.insertObjectRecordAsFirstChild("tadaaa", new StringValue("todooo"));
+      wtx.commit();
+
+      try (final var writer = new StringWriter()) {
+        final var serializer =
+            new JsonSerializer.Builder(manager, writer, 1, 2).serializeRevisionsConcurrently(2).build();
+        serializer.call();
+
+        final var expected = Files.readString(JSON.resolve("multiple-revisions.json"), StandardCharsets.UTF_8);
+        JSONAssert.assertEquals(expected, writer.toString(), true);
+      }
+
+      wtx.moveToDocumentRoot().trx().moveToFirstChild();
+      wtx.insertObjectRecordAsFirstChild("foo", new StringValue("bar"));
+      wtx.commit();
+
+      // More revisions than are serialized concurrently, thus the buffers are emitted while others are serialized.
+      try (final var sequentialWriter = new StringWriter(); final var concurrentWriter = new StringWriter()) {
+        new JsonSerializer.Builder(manager, sequentialWriter, -1).build().call();
+        new JsonSerializer.Builder(manager, concurrentWriter, -1).serializeRevisionsConcurrently(2).build().call();
+
+        assertEquals(sequentialWriter.toString(), concurrentWriter.toString());
+      }
+    }
+  }
+
   @Test
   public void testJsonDocumentWithMetadata() throws IOException {
     JsonTestHelper.createTestDocument();
@@ -161,6 +161,32 @@ public class XmlSerializerTest {
     }
   }
 
+  @Test
+  public void testSampleCompleteSerializerWithConcurrentRevisions() throws Exception {
+    final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE);
+        final XmlNodeTrx wtx = manager.beginNodeTrx();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+
+      XmlDocumentCreator.createVersioned(wtx);
+
+      XmlSerializer serializerall = new XmlSerializerBuilder(manager, out, -1).emitXMLDeclaration()
+                                                                              .serializeTimestamp(false)
+                                                                              .serializeRevisionsConcurrently(2)
+                                                                              .build();
+      serializerall.call();
+      assertEquals(XmlDocumentCreator.VERSIONEDXML, out.toString(Constants.DEFAULT_ENCODING.toString()));
+      out.reset();
+
+      serializerall = new XmlSerializerBuilder(manager, out, 1, 2, 3).emitXMLDeclaration()
+                                                                     .serializeTimestamp(false)
+                                                                     .serializeRevisionsConcurrently(3)
+                                                                     .build();
+      serializerall.call();
+      assertEquals(XmlDocumentCreator.VERSIONEDXML, out.toString());
+    }
+  }
+
   /**
    * This test check the XPath //books expression and expects 6 books as result. But the failure is,
    * that only the children of the books will be serialized and NOT the book node itself.
@@ -32,6 +32,7 @@ import org.sirix.access.DatabaseConfiguration;
 import org.sirix.access.Databases;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.page.PageFragmentStatistics;
 import org.sirix.api.Database;
 import org.sirix.api.xml.XmlResourceManager;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
@@ -166,6 +167,94 @@ public class VersioningTest {
     test2();
   }
 
+  @Test
+  public void testIncrementalFullDumpOfModifiedPage() throws SirixException {
+    mDatabase.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.INCREMENTAL)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(32)
+                                                                 .build());
+    try (final XmlResourceManager manager = mDatabase.openResourceManager(XmlTestHelper.RESOURCE)) {
+      try (final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+        for (int i = 0; i < Constants.NDP_NODE_COUNT - 1; i++) {
+          wtx.insertElementAsFirstChild(new QNm("foo"));
+        }
+        wtx.commit();
+
+        // Modify all records of the page in every revision.
+        for (int revision = 0; revision < 16; revision++) {
+          wtx.moveToDocumentRoot();
+          while (wtx.moveToFirstChild().hasMoved()) {
+            wtx.setName(new QNm("foo" + revision));
+          }
+          wtx.commit();
+        }
+      }
+
+      final PageFragmentStatistics statistics = manager.getPageFragmentStatistics();
+      assertTrue(statistics.getFullDumps() > 0);
+
+      try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx()) {
+        for (int i = 0; i < Constants.NDP_NODE_COUNT - 1; i++) {
+          assertTrue(rtx.moveToFirstChild().hasMoved());
+          assertEquals(new QNm("foo15"), rtx.getName());
+        }
+      }
+
+      // The chains of fragments are cut short instead of growing up to the number of revisions to restore.
+      assertTrue(statistics.getAverageFragmentsRead() < 3);
+    }
+  }
+
+  @Test
+  public void testFullStatistics() throws SirixException {
+    mDatabase.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.FULL)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(3)
+                                                                 .build());
+    try (final XmlResourceManager manager = mDatabase.openResourceManager(XmlTestHelper.RESOURCE)) {
+      modifyPageInEveryRevision(manager);
+
+      final PageFragmentStatistics statistics = manager.getPageFragmentStatistics();
+      assertTrue(statistics.getFullDumps() > 0);
+      assertEquals(0, statistics.getIncrementalFragments());
+    }
+  }
+
+  @Test
+  public void testSlidingSnapshotStatistics() throws SirixException {
+    mDatabase.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.SLIDING_SNAPSHOT)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(3)
+                                                                 .build());
+    try (final XmlResourceManager manager = mDatabase.openResourceManager(XmlTestHelper.RESOURCE)) {
+      modifyPageInEveryRevision(manager);
+
+      final PageFragmentStatistics statistics = manager.getPageFragmentStatistics();
+      assertEquals(0, statistics.getFullDumps());
+      assertTrue(statistics.getIncrementalFragments() > 0);
+    }
+  }
+
+  private static void modifyPageInEveryRevision(final XmlResourceManager manager) {
+    try (final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+      for (int i = 0; i < 10; i++) {
+        wtx.insertElementAsFirstChild(new QNm("foo"));
+      }
+      wtx.commit();
+
+      for (int revision = 0; revision < 5; revision++) {
+        wtx.moveToDocumentRoot();
+        while (wtx.moveToFirstChild().hasMoved()) {
+          wtx.setName(new QNm("foo" + revision));
+        }
+        wtx.commit();
+      }
+    }
+  }
+
   /**
    * Test revisioning.
    *
@@ -0,0 +1,44 @@
+package org.sirix.utils;
+
+import org.junit.Test;
+import org.sirix.settings.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class CompressionTest {
+
+  private static final byte[] VALUE = "Konstanz, Baden-Wuerttemberg, Germany".getBytes(Constants.DEFAULT_ENCODING);
+
+  @Test
+  public void testCompressWithoutDictionary() {
+    final byte[] compressed = Compression.compress(VALUE, Deflater.DEFAULT_COMPRESSION);
+    assertArrayEquals(VALUE, Compression.decompress(compressed));
+    // Values, which have been compressed without a dictionary, are decompressed even if a dictionary is given.
+    assertArrayEquals(VALUE, Compression.decompress(compressed, new byte[] { 1, 2, 3 }));
+  }
+
+  @Test
+  public void testCompressWithDictionary() {
+    final List<byte[]> samples = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      samples.add(VALUE);
+      samples.add(("value " + i).getBytes(Constants.DEFAULT_ENCODING));
+    }
+    final byte[] dictionary = Compression.trainDictionary(samples, Compression.MAX_DICTIONARY_SIZE);
+
+    final byte[] compressed = Compression.compress(VALUE, Deflater.DEFAULT_COMPRESSION, dictionary);
+    assertTrue(compressed.length < Compression.compress(VALUE, Deflater.DEFAULT_COMPRESSION).length);
+    assertArrayEquals(VALUE, Compression.decompress(compressed, dictionary));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDecompressWithoutDictionary() {
+    final byte[] dictionary = Compression.trainDictionary(List.of(VALUE), Compression.MAX_DICTIONARY_SIZE);
+    Compression.decompress(Compression.compress(VALUE, Deflater.DEFAULT_COMPRESSION, dictionary));
+  }
+}
@@ -23,44 +23,59 @@ package org.sirix.axis
 
 import kotlinx.coroutines.*
 import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.channels.ChannelIterator
 import org.sirix.api.NodeCursor
 import org.sirix.api.NodeReadOnlyTrx
 import org.sirix.api.NodeTrx
 import org.sirix.api.ResourceManager
+import org.sirix.axis.concurrent.CoroutineAxisHelper
 import org.sirix.settings.Fixed
-import org.sirix.utils.LogWrapper
-import org.slf4j.LoggerFactory
-import java.util.*
-import javax.annotation.Nonnegative
-import kotlin.coroutines.CoroutineContext
+import java.lang.ref.Cleaner
+import kotlin.math.min
 
 /**
  * <h1>CoroutineDescendantAxis</h1>
  * <p>
- * DescendantAxis which simultaneously compute all right page results in another task.
- * The CoroutineDescendantAxis gets the computed right page results from common producer consumer channel
- * after it finish left page processing. As soon as the end of the computed result sequence is reached (marked by the
- * NULL_NODE_KEY), the CoroutineDescendantAxis returns <code>false</code>.
+ * DescendantAxis which computes the descendants concurrently. Starting from the start node the chain of only children
+ * is followed until a node with more than one child is found. The subtrees of these children are split into
+ * consecutive ranges of siblings with about the same number of children, each of which is traversed in document order
+ * by a coroutine producer with its own read-only transaction.
+ * </p>
+ * <p>
+ * The producers send the node keys in primitive batches over their own channel, such that the consumer only
+ * suspends once per batch. The CoroutineDescendantAxis drains the channels in the order of the ranges, thus the node
+ * keys are returned in document order as with the [DescendantAxis]. As soon as the last channel is closed, the
+ * CoroutineDescendantAxis returns <code>false</code>.
+ * </p>
+ * <p>
+ * An axis, which is abandoned before it is done, should be closed or reset to cancel the producers and to close their
+ * transactions. Otherwise the producers are cancelled once the axis is unreachable.
  * </p>
  */
-class CoroutineDescendantAxis<R,W>: AbstractAxis where R: NodeReadOnlyTrx, R: NodeCursor, W: NodeTrx, W: NodeCursor {
-    /** Logger  */
-    private val LOGGER = LogWrapper(LoggerFactory.getLogger(CoroutineDescendantAxis::class.java))
-
-    /** Right page coroutine producer  */
-    private var producer: Producer
-
+class CoroutineDescendantAxis<R, W> : AbstractAxis, AutoCloseable where R : NodeReadOnlyTrx, R : NodeCursor, W : NodeTrx, W : NodeCursor {
     /** Axis current resource manager  */
-    private var resourceManager: ResourceManager<R, W>
+    private val resourceManager: ResourceManager<R, W>
 
     /** Determines if it's the first call to hasNext().  */
-    private var first = false
+    private var first = true
+
+    /** Job of all producers of the current traversal.  */
+    private var job: Job? = null
 
-    /** Determines if left page still has any results to compute.  */
-    private var left = true
+    /** Cancels the producers, once this axis is unreachable.  */
+    private var cleanable: Cleaner.Cleanable? = null
 
-    /** Capacity of the results queue.  */
-    private val M_CAPACITY = 200
+    /** Iterators over the channels of the producers in document order of their subtrees.  */
+    private var producers: List<ChannelIterator<LongArray>>? = null
+
+    /** Index of the producer, which is currently drained.  */
+    private var producerIndex = 0
+
+    /** The current batch of node keys.  */
+    private var batch: LongArray? = null
+
+    /** Index of the next node key in the current batch.  */
+    private var batchIndex = 0
 
     /**
      * Constructor initializing internal state.
@@ -69,121 +84,238 @@ class CoroutineDescendantAxis<R,W>: AbstractAxis where R: NodeReadOnlyTrx, R: No
      */
     constructor(resourceManager: ResourceManager<R, W>) : super(resourceManager.beginNodeReadOnlyTrx()) {
         this.resourceManager = resourceManager
-        producer = Producer()
     }
+
     /**
      * Constructor initializing internal state.
      *
      * @param resourceManager to retrieve cursors for pages
      * @param includeSelf determines if current node is included or not
      */
-    constructor(resourceManager: ResourceManager<R, W>, includeSelf: IncludeSelf) : super(resourceManager.beginNodeReadOnlyTrx(), includeSelf) {
+    constructor(resourceManager: ResourceManager<R, W>, includeSelf: IncludeSelf) : super(
+        resourceManager.beginNodeReadOnlyTrx(),
+        includeSelf
+    ) {
         this.resourceManager = resourceManager
-        producer = Producer()
     }
+
     /**
      * Constructor initializing internal state.
      *
-     * @param resourceManager to retrieve cursor for right page
+     * @param resourceManager to retrieve cursors for the producers
      * @param includeSelf determines if current node is included or not
-     * @param cursor to iterate through left page
+     * @param cursor the cursor of the axis, which denotes the start node and the revision
      */
-    constructor(resourceManager: ResourceManager<R, W>, includeSelf: IncludeSelf, cursor: NodeCursor) : super(cursor, includeSelf) {
+    constructor(resourceManager: ResourceManager<R, W>, includeSelf: IncludeSelf, cursor: NodeCursor) : super(
+        cursor,
+        includeSelf
+    ) {
         this.resourceManager = resourceManager
-        producer = Producer()
-    }
-
-    init {
-        first = true
-        left = true
     }
 
     override fun reset(nodeKey: Long) {
         super.reset(nodeKey)
+        // Also called from the super constructor, thus only nullable properties must be accessed.
+        cancel()
         first = true
-        left = true
-        producer.close()
     }
 
-    @InternalCoroutinesApi
     override fun nextKey(): Long {
-        var key = Fixed.NULL_NODE_KEY.standardProperty
+        if (first) {
+            first = false
+            batch = startProducers()
+            batchIndex = 0
+        }
 
-        if (left) {
-            // Determines if first call to hasNext().
-            if (first) {
-                first = false
-                return nextKeyForFirst()
-            }
-            // Always follow first child if there is one.
-            if (cursor.hasFirstChild()) {
-                return nextKeyForFirstChild()
-            }
-            // Then follow right sibling if there is one.
-            if (cursor.hasRightSibling()) {
-                return nextKeyForRightSibling()
+        while (true) {
+            val batch = this.batch
+            if (batch != null && batchIndex < batch.size) {
+                return batch[batchIndex++]
             }
-
-            // End of left page, any other results are computed in coroutine
-            left = false
+            this.batch = nextBatch() ?: return done()
+            batchIndex = 0
         }
+    }
+
+    /**
+     * Starts the producers of the subtrees, which are traversed concurrently.
+     *
+     * @return the node keys, which precede the subtrees of the producers, that is the start node if it's included and
+     * the chain of only children
+     */
+    private fun startProducers(): LongArray {
+        val revision = (cursor as? NodeReadOnlyTrx)?.revisionNumber ?: resourceManager.mostRecentRevisionNumber
+        val prefix = ArrayList<Long>()
+        val ranges = ArrayList<LongArray>()
+
+        resourceManager.beginNodeReadOnlyTrx(revision).use { rtx ->
+            rtx.moveTo(startKey)
+
+            if (isSelfIncluded == IncludeSelf.YES) {
+                prefix.add(startKey)
+            }
 
-        // Follow right page when coroutine is enabled.
-        if (producer.running && !left) {
+            while (rtx.hasFirstChild()) {
+                rtx.moveToFirstChild()
 
-            // Then follow right sibling on from coroutine.
-            runBlocking { key = producer.receive() }
+                if (rtx.hasRightSibling()) {
+                    splitSiblings(rtx, ranges)
+                    break
+                }
 
-            if (!isDone(key)) {
-                val currKey = cursor.nodeKey
-                return hasNextNode(cursor, key, currKey)
+                prefix.add(rtx.nodeKey)
             }
         }
 
-        return done()
+        val job = Job()
+        val scope = CoroutineScope(CoroutineName("CoroutineDescendantAxis") + Dispatchers.Default + job)
+        this.job = job
+        cleanable = CoroutineAxisHelper.CLEANER.register(this, Runnable { job.cancel() })
+        producers = ranges.map { (firstKey, count) -> scope.launchProducer(revision, firstKey, count).iterator() }
+        producerIndex = 0
+
+        return prefix.toLongArray()
     }
 
-    private fun nextKeyForFirst(): Long {
-        return if (isSelfIncluded == IncludeSelf.YES) {
-            cursor.nodeKey
-        } else {
-            cursor.firstChildKey
+    /**
+     * Splits the current node and its right siblings into ranges of consecutive siblings. The number of ranges is
+     * bound by the available processors and each range is weighted by the number of children of its siblings.
+     *
+     * @param rtx the transaction located at the first sibling
+     * @param ranges the ranges as pairs of the first sibling key and the number of siblings
+     */
+    private fun splitSiblings(rtx: R, ranges: MutableList<LongArray>) {
+        val siblings = ArrayList<Long>()
+        val weights = ArrayList<Long>()
+        var totalWeight = 0L
+
+        do {
+            val weight = 1 + rtx.childCount
+            siblings.add(rtx.nodeKey)
+            weights.add(weight)
+            totalWeight += weight
+        } while (rtx.moveToRightSibling().hasMoved())
+
+        val numberOfRanges = min(Runtime.getRuntime().availableProcessors(), siblings.size)
+        val weightPerRange = (totalWeight + numberOfRanges - 1) / numberOfRanges
+
+        var first = 0
+        var weight = 0L
+        for (i in siblings.indices) {
+            weight += weights[i]
+
+            val remainingRanges = numberOfRanges - ranges.size - 1
+            val remainingSiblings = siblings.size - i - 1
+
+            if (i == siblings.lastIndex || (weight >= weightPerRange && remainingRanges > 0)
+                || remainingSiblings == remainingRanges) {
+                ranges.add(longArrayOf(siblings[first], (i - first + 1).toLong()))
+                first = i + 1
+                weight = 0L
+            }
         }
     }
 
-    @InternalCoroutinesApi
-    private fun nextKeyForFirstChild(): Long {
-        if (cursor.hasRightSibling()) {
-            producer.run(cursor.rightSiblingKey)
+    /**
+     * Launches a producer, which traverses the subtrees of `count` consecutive siblings in document order.
+     *
+     * @return the channel, to which the node keys are sent in batches
+     */
+    private fun CoroutineScope.launchProducer(revision: Int, firstKey: Long, count: Long): Channel<LongArray> {
+        val channel = Channel<LongArray>(CAPACITY)
+        // The producer must not reference this axis, otherwise this axis never gets unreachable while it runs.
+        val resourceManager = this@CoroutineDescendantAxis.resourceManager
+
+        launch {
+            val rtx = resourceManager.beginNodeReadOnlyTrx(revision)
+            val batch = LongArray(BATCH_SIZE)
+            var size = 0
+
+            suspend fun emit(nodeKey: Long) {
+                batch[size++] = nodeKey
+                if (size == BATCH_SIZE) {
+                    channel.send(batch.copyOf())
+                    size = 0
+                }
+            }
+
+            try {
+                rtx.moveTo(firstKey)
+
+                for (i in 0 until count) {
+                    if (i > 0) {
+                        rtx.moveToRightSibling()
+                    }
+
+                    // Preorder traversal of the subtree of the current sibling.
+                    val root = rtx.nodeKey
+                    emit(root)
+
+                    while (true) {
+                        if (rtx.hasFirstChild()) {
+                            rtx.moveToFirstChild()
+                            emit(rtx.nodeKey)
+                            continue
+                        }
+
+                        while (!rtx.hasRightSibling() && rtx.nodeKey != root) {
+                            rtx.moveToParent()
+                        }
+
+                        if (rtx.nodeKey == root) {
+                            break
+                        }
+
+                        rtx.moveToRightSibling()
+                        emit(rtx.nodeKey)
+                    }
+                }
+
+                if (size > 0) {
+                    channel.send(batch.copyOf(size))
+                }
+                channel.close()
+            } catch (e: Throwable) {
+                channel.close(e)
+            } finally {
+                rtx.close()
+            }
         }
-        return cursor.firstChildKey
-    }
 
-    private fun nextKeyForRightSibling(): Long {
-        val currKey = cursor.nodeKey
-        val key = cursor.rightSiblingKey
-        return hasNextNode(cursor, key, currKey)
+        return channel
     }
 
     /**
-     * Determines if the subtree-traversal is finished.
-     * @param cursor right or left page current cursor
-     * @param key next key
-     * @param currKey current node key
-     * @return `false` if finished, `true` if not
+     * Gets the next batch of node keys from the producers.
+     *
+     * @return the next batch or `null`, if all producers are finished
      */
-    private fun hasNextNode(cursor: NodeCursor, @Nonnegative key: Long, @Nonnegative currKey: Long): Long {
-        cursor.moveTo(key)
-        return if (cursor.leftSiblingKey == startKey) {
-            done()
-        } else {
-            cursor.moveTo(currKey)
-            key
+    private fun nextBatch(): LongArray? {
+        val producers = producers ?: return null
+
+        while (producerIndex < producers.size) {
+            val producer = producers[producerIndex]
+            val batch = runBlocking { if (producer.hasNext()) producer.next() else null }
+
+            if (batch != null) {
+                return batch
+            }
+
+            producerIndex++
         }
+
+        return null
     }
 
-    private fun isDone(key: Long): Boolean {
-        return key == Fixed.NULL_NODE_KEY.standardProperty
+    /**
+     * Cancels all producers of the current traversal.
+     */
+    private fun cancel() {
+        cleanable?.clean()
+        cleanable = null
+        job = null
+        producers = null
+        batch = null
     }
 
     /**
@@ -194,105 +326,23 @@ class CoroutineDescendantAxis<R,W>: AbstractAxis where R: NodeReadOnlyTrx, R: No
      * @return null node key to indicate that the travesal is done
      */
     override fun done(): Long {
-        // End of results also from right page
-        left = true
         // Cancel all coroutine tasks
-        producer.close()
+        cancel()
         return Fixed.NULL_NODE_KEY.standardProperty
     }
 
-     private inner class Producer: CoroutineScope {
-        /** Stack for remembering next nodeKey in right page.  */
-        private val rightSiblingKeyStack: Deque<Long> = ArrayDeque<Long>()
-        /**
-         * Channel that stores result keys already computed by the producer. End of the result sequence is
-         * marked by the NULL_NODE_KEY.
-         */
-        private var results: Channel<Long> = Channel(M_CAPACITY)
-         /**
-         * Actual coroutine job
-         */
-        private var producingTask: Job? = null
-        /** Determines if right page coroutine is running.  */
-        var running = false
-        /** Right page cursor  */
-        private val cursor: NodeCursor = resourceManager.beginNodeReadOnlyTrx()
-
-        override val coroutineContext: CoroutineContext
-            get() = CoroutineName("CoroutineDescendantAxis") + Dispatchers.Default
-
-        fun close() {
-            producingTask?.cancel()
-            results.close()
-            running = false
-            results = Channel(M_CAPACITY)
-            cursor.close()
-        }
-        suspend fun receive(): Long {
-            return results.receive()
-        }
+    /**
+     * Cancels the producers of an axis, which is abandoned before it is done, and closes their transactions.
+     */
+    override fun close() {
+        cancel()
+    }
 
-        @InternalCoroutinesApi
-        fun run(key: Long) {
-            // wait for last coroutine end
-            runBlocking { producingTask?.join() }
-            producingTask = launch { produce(key) }
-            running = true
-        }
+    companion object {
+        /** Maximum number of node keys sent to the consumer at once.  */
+        private const val BATCH_SIZE = 512
 
-         @InternalCoroutinesApi
-         suspend fun produce(key: Long) {
-             produceAll(key)
-             produceFinishSign()
-         }
-
-         @InternalCoroutinesApi
-         private suspend fun produceAll(startKey: Long) {
-             var key = startKey
-             results.send(key)
-             // Compute all results from given start key
-             while (NonCancellable.isActive) {
-                 cursor.moveTo(key)
-
-                 // Always follow first child if there is one.
-                 if (cursor.hasFirstChild()) {
-                     key = cursor.firstChildKey
-                     if (cursor.hasRightSibling()) {
-                         rightSiblingKeyStack.push(cursor.rightSiblingKey)
-                     }
-                     results.send(key)
-                     continue
-                 }
-
-                 // Then follow right sibling if there is one.
-                 if (cursor.hasRightSibling()) {
-                     val currKey: Long = cursor.node.nodeKey
-                     key = hasNextNode(cursor, cursor.rightSiblingKey, currKey)
-                     results.send(key)
-                     continue
-                 }
-
-                 // Then follow right sibling on stack.
-                 if (rightSiblingKeyStack.size > 0) {
-                     val currKey: Long = cursor.node.nodeKey
-                     key = hasNextNode(cursor, rightSiblingKeyStack.pop(), currKey)
-                     results.send(key)
-                     continue
-                 }
-                 break
-             }
-         }
-
-         @InternalCoroutinesApi
-         private suspend fun produceFinishSign() {
-             try {
-                 // Mark end of result sequence by the NULL_NODE_KEY only if channel is not already closed
-                 if (NonCancellable.isActive) {
-                     results.send(Fixed.NULL_NODE_KEY.standardProperty)
-                 }
-             } catch (e: InterruptedException) {
-                 LOGGER.error(e.message, e)
-             }
-         }
-     }
+        /** Capacity of the channel of each producer in batches.  */
+        private const val CAPACITY = 4
+    }
 }
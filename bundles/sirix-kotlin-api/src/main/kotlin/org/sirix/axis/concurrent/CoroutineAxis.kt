@@ -12,6 +12,7 @@ import org.sirix.settings.Fixed
 import org.sirix.utils.LogWrapper
 
 import org.slf4j.LoggerFactory
+import java.lang.ref.Cleaner
 import javax.annotation.Nonnegative
 import kotlin.coroutines.CoroutineContext
 
@@ -19,9 +20,10 @@ import kotlin.coroutines.CoroutineContext
  * <h1>CoroutineAxis</h1>
  * <p>
  * Realizes in combination with the <code>CoroutineAxisHelper</code> the concurrent evaluation of
- * pipeline steps. The given axis is embedded in a Coroutine that uses its own transaction and stores all
- * the results in channel. The CoroutineAxis gets the computed results from that channel
- * one by one on every hasNext() call and sets the main-transaction to it.
+ * pipeline steps. The given axis is embedded in a Coroutine that uses its own transaction and sends all
+ * the results in batches of node keys to a channel. The CoroutineAxis receives a batch from that channel
+ * once the previous batch is consumed and sets the main-transaction to the results one by one on every
+ * hasNext() call.
  * As soon as the end of the computed result sequence is reached (marked by the
  * NULL_NODE_KEY), the CoroutineAxis returns <code>false</code>.
  * </p>
@@ -31,9 +33,13 @@ import kotlin.coroutines.CoroutineContext
  * is the consumer. This can be used by any class that implements the IAxis interface. Note:
  * Make sure that the used class is thread-safe.
  * </p>
+ * <p>
+ * An axis, which is abandoned before it is done, should be closed or reset to cancel the producer. Otherwise the
+ * producer is cancelled once the axis is unreachable.
+ * </p>
  */
 
-class CoroutineAxis<R>(rtx: R, childAxis: Axis) : AbstractAxis(rtx), CoroutineScope where R : NodeCursor, R : NodeReadOnlyTrx {
+class CoroutineAxis<R>(rtx: R, childAxis: Axis) : AbstractAxis(rtx), CoroutineScope, AutoCloseable where R : NodeCursor, R : NodeReadOnlyTrx {
     /** Logger.  */
     private val LOGGER = LogWrapper(LoggerFactory.getLogger(CoroutineAxis::class.java))
 
@@ -46,18 +52,27 @@ class CoroutineAxis<R>(rtx: R, childAxis: Axis) : AbstractAxis(rtx), CoroutineSc
     private var producer: CoroutineAxisHelper
 
     /**
-     * Channel that stores result keys already computed by the producer. End of the result sequence is
+     * Channel that stores batches of result keys already computed by the producer. End of the result sequence is
      * marked by the NULL_NODE_KEY.
      */
-    private var results: Channel<Long>
+    private var results: Channel<LongArray>
+
+    /** The current batch of result keys.  */
+    private var batch: LongArray? = null
+
+    /** Index of the next result key in the current batch.  */
+    private var batchIndex = 0
 
     /**
      * Producing task which put results in the channel
      */
     private var producingTask: Job? = null
 
-    /** Capacity of the mResults queue.  */
-    private val M_CAPACITY = 200
+    /** Cancels the producing task, once this axis is unreachable.  */
+    private var cleanable: Cleaner.Cleanable? = null
+
+    /** Capacity of the results channel in batches.  */
+    private val M_CAPACITY = 4
 
     /** Has axis already been called?  */
     private var first: Boolean
@@ -82,7 +97,8 @@ class CoroutineAxis<R>(rtx: R, childAxis: Axis) : AbstractAxis(rtx), CoroutineSc
         super.reset(nodeKey)
         first = true
         finished = false
-        producingTask?.cancel()
+        cancelProducer()
+        batch = null
         producerAxis?.let { producerAxis ->
             producerAxis.reset(nodeKey)
             results.close()
@@ -91,7 +107,6 @@ class CoroutineAxis<R>(rtx: R, childAxis: Axis) : AbstractAxis(rtx), CoroutineSc
         }
     }
 
-    @InternalCoroutinesApi
     override fun nextKey(): Long {
         if (first) {
             first = false
@@ -114,24 +129,43 @@ class CoroutineAxis<R>(rtx: R, childAxis: Axis) : AbstractAxis(rtx), CoroutineSc
     /**
      * Runs producer task in new coroutine and holds task
      */
-    @InternalCoroutinesApi
     private fun runProducer() {
-        producingTask = launch { producer.produce() }
+        // The task must not reference this axis, otherwise this axis never gets unreachable while the task runs.
+        val producer = this.producer
+        val task = launch { producer.produce() }
+        producingTask = task
+        cleanable = CoroutineAxisHelper.CLEANER.register(this, Runnable { task.cancel() })
+    }
+
+    /**
+     * Cancels the producing task, if it is running.
+     */
+    private fun cancelProducer() {
+        cleanable?.clean()
+        cleanable = null
+        producingTask = null
     }
 
     /**
-     * Gets current producer result from coroutine channel
+     * Gets current producer result from the current batch or receives the next batch from the coroutine channel
      * @return producer result
      */
     private fun getResult(): Long {
-        var result = Fixed.NULL_NODE_KEY.standardProperty
+        val batch = this.batch
+        if (batch != null && batchIndex < batch.size) {
+            return batch[batchIndex++]
+        }
+
         try {
-            // Get result from producer as soon as it is available.
-            runBlocking { result = results.receive() }
+            // Get results from producer as soon as they are available.
+            val nextBatch = runBlocking { results.receive() }
+            this.batch = nextBatch
+            batchIndex = 1
+            return nextBatch[0]
         } catch (e: InterruptedException) {
             LOGGER.warn(e.message, e)
         }
-        return result
+        return Fixed.NULL_NODE_KEY.standardProperty
     }
 
     /**
@@ -152,11 +186,21 @@ class CoroutineAxis<R>(rtx: R, childAxis: Axis) : AbstractAxis(rtx), CoroutineSc
      * @return null node key to indicate that the travesal is done
      */
     override fun done(): Long {
-        producingTask?.cancel()
+        cancelProducer()
         results.close()
         return Fixed.NULL_NODE_KEY.standardProperty
     }
 
+    /**
+     * Cancels the producer of an axis, which is abandoned before it is done.
+     */
+    override fun close() {
+        cancelProducer()
+        results.close()
+        first = false
+        finished = true
+    }
+
     /**
      * Determines if axis has more results to deliver or not.
      *
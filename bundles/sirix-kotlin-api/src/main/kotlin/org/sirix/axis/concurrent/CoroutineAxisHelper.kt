@@ -6,45 +6,63 @@ import org.sirix.api.Axis
 import org.sirix.settings.Fixed
 import org.sirix.utils.LogWrapper
 import org.slf4j.LoggerFactory
+import java.lang.ref.Cleaner
+import kotlin.coroutines.coroutineContext
 
 class CoroutineAxisHelper(
     /** [Axis] that computes the results.  */
     private val axis: Axis,
     /** [Channel] shared with consumer.  */
-    private val channel: Channel<Long>
+    private val channel: Channel<LongArray>
 ) {
     /** Logger  */
     private val LOGGER = LogWrapper(LoggerFactory.getLogger(CoroutineAxisHelper::class.java))
 
-    @InternalCoroutinesApi
+    /** Node keys computed since the last batch has been sent.  */
+    private val batch = LongArray(BATCH_SIZE)
+
+    /** Number of node keys in the current batch.  */
+    private var size = 0
+
     suspend fun produce() {
         produceAll()
         produceFinishSign()
     }
 
-    @InternalCoroutinesApi
     private suspend fun produceAll() {
         // Compute all results of the given axis
-        while (NonCancellable.isActive && axis.hasNext()) {
-            val nodeKey = axis.next()
-            try {
-                // Send result to consumer
-                channel.send(nodeKey)
-            } catch (e: InterruptedException) {
-                LOGGER.error(e.message, e)
+        while (coroutineContext.isActive && axis.hasNext()) {
+            batch[size++] = axis.next()
+
+            if (size == BATCH_SIZE) {
+                sendBatch()
             }
         }
     }
 
-    @InternalCoroutinesApi
     private suspend fun produceFinishSign() {
+        // Mark end of result sequence by the NULL_NODE_KEY, appended to the last (maybe empty) batch.
+        if (coroutineContext.isActive) {
+            batch[size++] = Fixed.NULL_NODE_KEY.standardProperty
+            sendBatch()
+        }
+    }
+
+    private suspend fun sendBatch() {
         try {
-            // Mark end of result sequence by the NULL_NODE_KEY.
-            if (NonCancellable.isActive) {
-                channel.send(Fixed.NULL_NODE_KEY.standardProperty)
-            }
+            // Send results to consumer
+            channel.send(batch.copyOf(size))
         } catch (e: InterruptedException) {
             LOGGER.error(e.message, e)
         }
+        size = 0
+    }
+
+    companion object {
+        /** Maximum number of node keys sent to the consumer at once.  */
+        const val BATCH_SIZE = 512
+
+        /** Cancels the producers of coroutine axes, which are unreachable before they are done, reset or closed.  */
+        internal val CLEANER: Cleaner = Cleaner.create()
     }
 }
@@ -24,11 +24,13 @@ package org.sirix.axis;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.testing.IteratorFeature;
 import com.google.common.collect.testing.IteratorTester;
+import org.brackit.xquery.atomic.QNm;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.sirix.Holder;
 import org.sirix.XmlTestHelper;
+import org.sirix.api.Axis;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlResourceManager;
@@ -39,11 +41,19 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
 
 public class CoroutineDescendantAxisTest {
 
   private static final int ITERATIONS = 5;
 
+  /** Number of subtrees of the root element, each of which has more descendants than a batch of node keys. */
+  private static final int NUMBER_OF_SUBTREES = 8;
+
   private Holder holder;
 
   @Before
@@ -212,4 +222,87 @@ public class CoroutineDescendantAxisTest {
     System.out.println("CoroutineDescendantAxis -> " + Duration.between(time1, time2).toMillis());
     System.out.println("DescendantAxis -> " + Duration.between(time2, time3).toMillis());
   }
+
+  @Test
+  public void testMoreDescendantsThanBatchSize() {
+    final XmlResourceManager rm = createDocumentWithManyDescendants();
+
+    try (final XmlNodeReadOnlyTrx rtx = rm.beginNodeReadOnlyTrx()) {
+      final long[] expected = nodeKeys(new DescendantAxis(rtx, IncludeSelf.YES));
+      assertTrue(expected.length > NUMBER_OF_SUBTREES * 512);
+
+      assertArrayEquals(expected, nodeKeys(new CoroutineDescendantAxis<>(rm, IncludeSelf.YES, rtx)));
+    }
+  }
+
+  @Test
+  public void testCloseAbandonedAxis() throws InterruptedException {
+    final XmlResourceManager rm = createDocumentWithManyDescendants();
+
+    final long firstTrxId;
+    try (final XmlNodeReadOnlyTrx rtx = rm.beginNodeReadOnlyTrx()) {
+      firstTrxId = rtx.getId();
+
+      try (final var axis = new CoroutineDescendantAxis<>(rm, IncludeSelf.YES, rtx)) {
+        for (int i = 0; i < 10; i++) {
+          axis.next();
+        }
+      }
+    }
+
+    final long lastTrxId;
+    try (final XmlNodeReadOnlyTrx rtx = rm.beginNodeReadOnlyTrx()) {
+      lastTrxId = rtx.getId();
+    }
+
+    // The transactions of the cancelled producers are closed.
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    for (long trxId = firstTrxId + 1; trxId < lastTrxId; trxId++) {
+      while (rm.getNodeReadTrxByTrxId(trxId).isPresent()) {
+        assertTrue("The transaction of a producer hasn't been closed.", System.nanoTime() < deadline);
+        Thread.sleep(10);
+      }
+    }
+  }
+
+  /**
+   * Create a document in a new database, which has more descendants in each subtree of the root element than fit in a
+   * batch of node keys, such that each producer sends several batches.
+   *
+   * @return the resource manager of the document
+   */
+  public static XmlResourceManager createDocumentWithManyDescendants() {
+    final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH2.getFile());
+    final XmlResourceManager rm = database.openResourceManager(XmlTestHelper.RESOURCE);
+
+    try (final var wtx = rm.beginNodeTrx()) {
+      wtx.insertElementAsFirstChild(new QNm("root"));
+      for (int i = 0; i < NUMBER_OF_SUBTREES; i++) {
+        if (i == 0) {
+          wtx.insertElementAsFirstChild(new QNm("subtree"));
+        } else {
+          wtx.insertElementAsRightSibling(new QNm("subtree"));
+        }
+        for (int j = 0; j < 1_000; j++) {
+          if (j == 0) {
+            wtx.insertElementAsFirstChild(new QNm("node"));
+          } else {
+            wtx.insertElementAsRightSibling(new QNm("node"));
+          }
+        }
+        wtx.moveToParent();
+      }
+      wtx.commit();
+    }
+
+    return rm;
+  }
+
+  public static long[] nodeKeys(final Axis axis) {
+    final var nodeKeys = LongStream.builder();
+    while (axis.hasNext()) {
+      nodeKeys.add(axis.next());
+    }
+    return nodeKeys.build().toArray();
+  }
 }
@@ -1,10 +1,13 @@
 package org.sirix.axis.concurrent;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.sirix.Holder;
 import org.sirix.XmlTestHelper;
 import org.sirix.api.Axis;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.api.xml.XmlResourceManager;
 import org.sirix.axis.*;
 import org.sirix.axis.filter.FilterAxis;
 import org.sirix.axis.filter.xml.XmlNameFilter;
@@ -43,6 +46,14 @@ public class CoroutineAxisTest {
         }
     }
 
+    @After
+    public void tearDown() {
+        if (holder != null) {
+            holder.close();
+        }
+        XmlTestHelper.closeEverything();
+    }
+
 
     /**
      * Test coroutine.
@@ -122,4 +133,36 @@ public class CoroutineAxisTest {
         }
         assertFalse(axis.hasNext());
     }
+
+    /**
+     * Test an axis with more results than a batch of node keys, which is reset before it is done.
+     */
+    @Test
+    public void testMoreResultsThanBatchSize() {
+        final XmlResourceManager rm = CoroutineDescendantAxisTest.createDocumentWithManyDescendants();
+
+        try (final XmlNodeReadOnlyTrx rtx = rm.beginNodeReadOnlyTrx();
+             final XmlNodeReadOnlyTrx producerRtx = rm.beginNodeReadOnlyTrx()) {
+            final long[] expected = CoroutineDescendantAxisTest.nodeKeys(new DescendantAxis(rtx, IncludeSelf.YES));
+            assertTrue(expected.length > CoroutineAxisHelper.BATCH_SIZE);
+
+            producerRtx.moveToDocumentRoot();
+            final var axis = new CoroutineAxis<>(rtx, new DescendantAxis(producerRtx, IncludeSelf.YES));
+            assertArrayEquals(expected, CoroutineDescendantAxisTest.nodeKeys(axis));
+
+            // Abandon the traversal after the first batch and start again.
+            axis.reset(expected[0]);
+            for (int i = 0; i <= CoroutineAxisHelper.BATCH_SIZE; i++) {
+                axis.next();
+            }
+            axis.reset(expected[0]);
+            assertArrayEquals(expected, CoroutineDescendantAxisTest.nodeKeys(axis));
+
+            // Abandon the traversal for good.
+            axis.reset(expected[0]);
+            axis.next();
+            axis.close();
+            assertFalse(axis.hasNext());
+        }
+    }
 }
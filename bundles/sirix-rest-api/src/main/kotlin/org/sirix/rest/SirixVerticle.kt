@@ -42,7 +42,14 @@ class SirixVerticle : CoroutineVerticle() {
     /** Storage for databases: Sirix data in home directory. */
     private val location = Paths.get(userHome, "sirix-data")
 
+    /** Cache of serialized subtrees, enabled by setting "serialization.cache.maxBytes". */
+    private var serializationCache: SerializationCache? = null
+
     override suspend fun start() {
+        val serializationCacheMaxBytes = config.getLong("serialization.cache.maxBytes", 0L)
+        if (serializationCacheMaxBytes > 0)
+            serializationCache = SerializationCache(serializationCacheMaxBytes)
+
         val router = createRouter()
 
         // Start an HTTP/2 server
@@ -179,14 +186,14 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.handler(BodyHandler.create()).coroutineHandler {
-            GetHandler(location).handle(it)
+            GetHandler(location, serializationCache).handle(it)
         }
 
         get("/").coroutineHandler {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            GetHandler(location).handle(it)
+            GetHandler(location, serializationCache).handle(it)
         }
 
         delete("/").coroutineHandler {
@@ -208,7 +215,7 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            GetHandler(location).handle(it)
+            GetHandler(location, serializationCache).handle(it)
         }
 
         put("/:database").consumes("application/xml").coroutineHandler {
@@ -270,14 +277,14 @@ class SirixVerticle : CoroutineVerticle() {
                 Auth(keycloak, AuthRole.VIEW).handle(it)
                 it.next()
             }.handler(BodyHandler.create()).coroutineHandler {
-                GetHandler(location).handle(it)
+                GetHandler(location, serializationCache).handle(it)
             }
 
         get("/:database/:resource").coroutineHandler {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            GetHandler(location).handle(it)
+            GetHandler(location, serializationCache).handle(it)
         }
 
         put("/:database/:resource").consumes("application/xml").coroutineHandler {
@@ -292,6 +299,12 @@ class SirixVerticle : CoroutineVerticle() {
         }.coroutineHandler {
             JsonCreate(location, false).handle(it)
         }
+        put("/:database/:resource").consumes("application/cbor").coroutineHandler {
+            Auth(keycloak, AuthRole.CREATE).handle(it)
+            it.next()
+        }.coroutineHandler {
+            JsonCreate(location, false).handle(it)
+        }
 
         delete("/:database/:resource").coroutineHandler {
             Auth(keycloak, AuthRole.DELETE).handle(it)
@@ -22,7 +22,7 @@ import java.nio.file.Path
 import java.util.stream.Collectors
 
 @Suppress("RedundantLambdaArrow")
-class GetHandler(private val location: Path) {
+class GetHandler(private val location: Path, private val cache: SerializationCache? = null) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName: String? = ctx.pathParam("database")
@@ -92,9 +92,10 @@ class GetHandler(private val location: Path) {
             with(acceptHeader) {
                 @Suppress("IMPLICIT_CAST_TO_ANY")
                 when {
-                    contains("application/json") -> JsonGet(location).handle(ctx)
-                    contains("application/xml") -> XmlGet(location).handle(ctx)
-                    else -> JsonGet(location).handle(ctx)
+                    contains("application/json") -> JsonGet(location, cache).handle(ctx)
+                    contains("application/cbor") -> JsonGet(location, cache).handle(ctx)
+                    contains("application/xml") -> XmlGet(location, cache).handle(ctx)
+                    else -> JsonGet(location, cache).handle(ctx)
                 }
             }
         }
@@ -0,0 +1,125 @@
+package org.sirix.rest.crud
+
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpHeaders
+import io.vertx.ext.web.RoutingContext
+import org.sirix.access.trx.node.HashType
+import org.sirix.api.NodeCursor
+import org.sirix.api.NodeReadOnlyTrx
+import org.sirix.api.NodeTrx
+import org.sirix.api.ResourceManager
+import java.math.BigInteger
+import java.nio.file.Path
+
+/**
+ * Size-bounded cache of serialized subtrees. An entry is keyed by the resource, the node key and the hash of the
+ * subtree root as well as the serializer options. As the rolling hash of a node changes whenever its subtree changes,
+ * an entry is valid for all revisions, in which the subtree is unchanged. The least recently used entries are evicted,
+ * once the serialized bytes exceed the maximum size.
+ */
+class SerializationCache(private val maxBytes: Long) {
+    init {
+        require(maxBytes > 0) { "maxBytes must be > 0." }
+    }
+
+    data class Key(val resource: Path, val nodeKey: Long, val hash: BigInteger, val options: String)
+
+    /** The serialized subtrees in access order. */
+    private val entries = LinkedHashMap<Key, ByteArray>(16, 0.75f, true)
+
+    /** The number of bytes of all serialized subtrees. */
+    private var usedBytes = 0L
+
+    @Synchronized
+    fun get(key: Key): ByteArray? = entries[key]
+
+    @Synchronized
+    fun put(key: Key, bytes: ByteArray) {
+        if (bytes.size > maxBytes)
+            return
+
+        entries.put(key, bytes)?.let { usedBytes -= it.size }
+        usedBytes += bytes.size
+
+        val iterator = entries.values.iterator()
+        while (usedBytes > maxBytes && iterator.hasNext()) {
+            usedBytes -= iterator.next().size
+            iterator.remove()
+        }
+    }
+
+    companion object {
+        /**
+         * Respond with the serialized subtree of a single revision, which is either taken from the cache or serialized
+         * by [serialize] and cached afterwards. The hash of the subtree root is sent as the ETag, such that a request
+         * with a matching `If-None-Match` header is answered with `304 Not Modified` without serializing anything.
+         *
+         * @param cache the cache or `null`, if caching is disabled (only conditional requests are supported then)
+         * @param nodeId the node key of the subtree root or `null` for the whole resource
+         * @param options the serializer options, which determine the output besides the subtree
+         * @return `false`, if the resource doesn't store hashes or the node doesn't exist, thus the response has to be
+         * written by the caller
+         */
+        fun <R, W> respond(
+            cache: SerializationCache?,
+            ctx: RoutingContext,
+            manager: ResourceManager<R, W>,
+            revision: Int,
+            nodeId: Long?,
+            contentType: String,
+            options: String,
+            serialize: () -> ByteArray
+        ): Boolean
+                where R : NodeReadOnlyTrx,
+                      R : NodeCursor,
+                      W : NodeTrx,
+                      W : NodeCursor {
+            if (manager.resourceConfig.hashType == HashType.NONE)
+                return false
+
+            val (hash, etag) = manager.beginNodeReadOnlyTrx(revision).use { rtx ->
+                val hasMoved = if (nodeId == null) rtx.moveToDocumentRoot().hasMoved() else rtx.moveTo(nodeId).hasMoved()
+
+                if (!hasMoved)
+                    return false
+
+                // The subtree of the document root is serialized, whereas the ETag of a resource is the hash of the
+                // first child, as for HEAD requests and updates.
+                val hash: BigInteger = rtx.hash ?: return false
+
+                if (rtx.isDocumentRoot && rtx.hasFirstChild())
+                    rtx.moveToFirstChild()
+
+                Pair(hash, rtx.hash.toString())
+            }
+
+            if (matches(ctx.request().getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+                ctx.response().setStatusCode(HttpResponseStatus.NOT_MODIFIED.code())
+                    .putHeader(HttpHeaders.ETAG, etag)
+                    .end()
+                return true
+            }
+
+            val key = Key(manager.resourceConfig.resource, nodeId ?: 0, hash, "$contentType;$options")
+            val body = cache?.get(key) ?: serialize().also { cache?.put(key, it) }
+
+            ctx.response().setStatusCode(200)
+                .putHeader(HttpHeaders.CONTENT_TYPE, contentType)
+                .putHeader(HttpHeaders.CONTENT_LENGTH, body.size.toString())
+                .putHeader(HttpHeaders.ETAG, etag)
+                .write(Buffer.buffer(body))
+                .end()
+
+            return true
+        }
+
+        private fun matches(ifNoneMatch: String?, etag: String): Boolean {
+            if (ifNoneMatch == null)
+                return false
+
+            return ifNoneMatch.split(",").map { it.trim().removePrefix("W/").removeSurrounding("\"") }
+                .any { it == "*" || it == etag }
+        }
+    }
+}
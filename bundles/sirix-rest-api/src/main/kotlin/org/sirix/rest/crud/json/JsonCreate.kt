@@ -3,6 +3,7 @@ package org.sirix.rest.crud.json
 import io.vertx.core.Context
 import io.vertx.core.Promise
 import io.vertx.core.file.OpenOptions
+import io.vertx.core.http.HttpHeaders
 import io.vertx.core.file.impl.FileResolver
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
@@ -145,7 +146,8 @@ class JsonCreate(
 
                 manager.use {
                     val pathToFile = filePath.toPath()
-                    val maxNodeKey = insertJsonSubtreeAsFirstChild(manager, pathToFile.toAbsolutePath())
+                    val isCbor = ctx.request().getHeader(HttpHeaders.CONTENT_TYPE)?.contains("application/cbor") ?: false
+                    val maxNodeKey = insertJsonSubtreeAsFirstChild(manager, pathToFile.toAbsolutePath(), isCbor)
 
                     ctx.vertx().fileSystem().deleteAwait(pathToFile.toAbsolutePath().toString())
 
@@ -214,12 +216,16 @@ class JsonCreate(
 
     private suspend fun insertJsonSubtreeAsFirstChild(
         manager: JsonResourceManager,
-        resFileToStore: Path
+        resFileToStore: Path,
+        isCbor: Boolean = false
     ): Long {
         return withContext(Dispatchers.IO) {
             val wtx = manager.beginNodeTrx()
             return@withContext wtx.use {
-                val eventReader = JsonShredder.createFileReader(resFileToStore)
+                val eventReader = if (isCbor)
+                    JsonShredder.createCborReader(Files.newInputStream(resFileToStore))
+                else
+                    JsonShredder.createFileReader(resFileToStore)
                 eventReader.use {
                     wtx.insertSubtreeAsFirstChild(eventReader)
                 }
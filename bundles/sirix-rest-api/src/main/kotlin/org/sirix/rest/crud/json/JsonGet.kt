@@ -19,18 +19,21 @@ import org.sirix.api.json.JsonResourceManager
 import org.sirix.exception.SirixUsageException
 import org.sirix.rest.crud.QuerySerializer
 import org.sirix.rest.crud.Revisions
+import org.sirix.rest.crud.SerializationCache
 import org.sirix.rest.crud.xml.XmlSessionDBStore
+import org.sirix.service.json.serialize.JsonCborSerializer
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.xquery.JsonDBSerializer
 import org.sirix.xquery.SirixCompileChain
 import org.sirix.xquery.SirixQueryContext
 import org.sirix.xquery.json.*
 import org.sirix.xquery.node.BasicXmlDBStore
+import java.io.ByteArrayOutputStream
 import java.io.StringWriter
 import java.nio.charset.StandardCharsets
 import java.nio.file.Path
 
-class JsonGet(private val location: Path) {
+class JsonGet(private val location: Path, private val cache: SerializationCache? = null) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName = ctx.pathParam("database")
@@ -212,8 +215,48 @@ class JsonGet(private val location: Path) {
         manager: JsonResourceManager, revisions: Array<Int>, nodeId: Long?,
         ctx: RoutingContext
     ) {
-        val out = StringWriter()
+        val acceptHeader: String? = ctx.request().getHeader(HttpHeaders.ACCEPT)
+        val isCbor = acceptHeader != null && acceptHeader.contains("application/cbor")
 
+        if (revisions.size == 1) {
+            // The output of a single revision only depends on the subtree and the serializer options.
+            val options = listOf("withMetaData", "maxLevel", "prettyPrint").joinToString(";") {
+                "$it=${ctx.queryParam(it).getOrNull(0)}"
+            }
+            val contentType = if (isCbor) "application/cbor" else "application/json"
+
+            val hasResponded =
+                SerializationCache.respond(cache, ctx, manager, revisions[0], nodeId, contentType, options) {
+                    if (isCbor) {
+                        val out = ByteArrayOutputStream()
+                        createCborSerializer(manager, revisions, nodeId, ctx, out).call()
+                        out.toByteArray()
+                    } else {
+                        val out = StringWriter()
+                        createSerializer(manager, revisions, nodeId, ctx, out).call()
+                        out.toString().toByteArray(StandardCharsets.UTF_8)
+                    }
+                }
+
+            if (hasResponded)
+                return
+        }
+
+        if (isCbor) {
+            val out = ByteArrayOutputStream()
+            val serializer = createCborSerializer(manager, revisions, nodeId, ctx, out)
+            JsonSerializeHelper().serialize(serializer, out, ctx, manager, nodeId)
+        } else {
+            val out = StringWriter()
+            val serializer = createSerializer(manager, revisions, nodeId, ctx, out)
+            JsonSerializeHelper().serialize(serializer, out, ctx, manager, nodeId)
+        }
+    }
+
+    private fun createSerializer(
+        manager: JsonResourceManager, revisions: Array<Int>, nodeId: Long?,
+        ctx: RoutingContext, out: StringWriter
+    ): JsonSerializer {
         val serializerBuilder = JsonSerializer.newBuilder(manager, out).revisions(revisions.toIntArray())
 
         nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
@@ -236,8 +279,31 @@ class JsonGet(private val location: Path) {
         if (prettyPrint != null)
             serializerBuilder.prettyPrint()
 
-        val serializer = serializerBuilder.build()
+        return serializerBuilder.build()
+    }
+
+    private fun createCborSerializer(
+        manager: JsonResourceManager, revisions: Array<Int>, nodeId: Long?,
+        ctx: RoutingContext, out: ByteArrayOutputStream
+    ): JsonCborSerializer {
+        val serializerBuilder = JsonCborSerializer.newBuilder(manager, out).revisions(revisions.toIntArray())
+
+        nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
+
+        val withMetaData: String? = ctx.queryParam("withMetaData").getOrNull(0)
+        val maxLevel: String? = ctx.queryParam("maxLevel").getOrNull(0)
+
+        if (withMetaData != null) {
+            when (withMetaData) {
+                "nodeKeyAndChildCount" -> serializerBuilder.withNodeKeyAndChildCountMetaData(true)
+                "nodeKey" -> serializerBuilder.withNodeKeyMetaData(true)
+                else -> serializerBuilder.withMetaData(true)
+            }
+        }
+
+        if (maxLevel != null)
+            serializerBuilder.maxLevel(maxLevel.toLong())
 
-        JsonSerializeHelper().serialize(serializer, out, ctx, manager, nodeId)
+        return serializerBuilder.build()
     }
 }
@@ -1,12 +1,14 @@
 package org.sirix.rest.crud.json
 
+import io.vertx.core.buffer.Buffer
 import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.RoutingContext
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.json.JsonResourceManager
+import org.sirix.service.json.serialize.JsonCborSerializer
 import org.sirix.service.json.serialize.JsonSerializer
+import java.io.ByteArrayOutputStream
 import java.io.StringWriter
-import java.nio.charset.StandardCharsets
 
 class JsonSerializeHelper {
     fun serialize(
@@ -18,19 +20,39 @@ class JsonSerializeHelper {
     ) {
         serializer.call()
 
-        val body = out.toString()
+        writeResponse(ctx, manager, Buffer.buffer(out.toString()), "application/json", nodeId)
+    }
+
+    fun serialize(
+        serializer: JsonCborSerializer,
+        out: ByteArrayOutputStream,
+        ctx: RoutingContext,
+        manager: JsonResourceManager,
+        nodeId: Long?
+    ) {
+        serializer.call()
+
+        writeResponse(ctx, manager, Buffer.buffer(out.toByteArray()), "application/cbor", nodeId)
+    }
 
+    private fun writeResponse(
+        ctx: RoutingContext,
+        manager: JsonResourceManager,
+        body: Buffer,
+        contentType: String,
+        nodeId: Long?
+    ) {
         if (manager.resourceConfig.hashType == HashType.NONE) {
-            writeResponseWithoutHashValue(ctx, body)
+            writeResponseWithoutHashValue(ctx, body, contentType)
         } else {
-            writeResponseWithHashValue(manager, ctx, body, nodeId)
+            writeResponseWithHashValue(manager, ctx, body, contentType, nodeId)
         }
     }
 
-    private fun writeResponseWithoutHashValue(ctx: RoutingContext, body: String) {
+    private fun writeResponseWithoutHashValue(ctx: RoutingContext, body: Buffer, contentType: String) {
         ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-            .putHeader(HttpHeaders.CONTENT_LENGTH, body.toByteArray(StandardCharsets.UTF_8).size.toString())
+            .putHeader(HttpHeaders.CONTENT_TYPE, contentType)
+            .putHeader(HttpHeaders.CONTENT_LENGTH, body.length().toString())
             .write(body)
             .end()
     }
@@ -38,7 +60,8 @@ class JsonSerializeHelper {
     private fun writeResponseWithHashValue(
         manager: JsonResourceManager,
         ctx: RoutingContext,
-        body: String,
+        body: Buffer,
+        contentType: String,
         nodeId: Long?
     ) {
         val rtx = manager.beginNodeReadOnlyTrx()
@@ -50,11 +73,11 @@ class JsonSerializeHelper {
                 rtx.moveTo(nodeId).trx().hash
 
             ctx.response().setStatusCode(200)
-                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-                .putHeader(HttpHeaders.CONTENT_LENGTH, body.toByteArray(StandardCharsets.UTF_8).size.toString())
+                .putHeader(HttpHeaders.CONTENT_TYPE, contentType)
+                .putHeader(HttpHeaders.CONTENT_LENGTH, body.length().toString())
                 .putHeader(HttpHeaders.ETAG, hash.toString())
                 .write(body)
                 .end()
         }
     }
-}
\ No newline at end of file
+}
@@ -19,6 +19,7 @@ import org.sirix.api.xml.XmlResourceManager
 import org.sirix.exception.SirixUsageException
 import org.sirix.rest.crud.QuerySerializer
 import org.sirix.rest.crud.Revisions
+import org.sirix.rest.crud.SerializationCache
 import org.sirix.service.xml.serialize.XmlSerializer
 import org.sirix.xquery.SirixCompileChain
 import org.sirix.xquery.SirixQueryContext
@@ -31,7 +32,7 @@ import java.io.PrintStream
 import java.nio.charset.StandardCharsets
 import java.nio.file.Path
 
-class XmlGet(private val location: Path) {
+class XmlGet(private val location: Path, private val cache: SerializationCache? = null) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName: String? = ctx.pathParam("database")
@@ -210,8 +211,31 @@ class XmlGet(private val location: Path) {
         manager: XmlResourceManager, revisions: Array<Int>, nodeId: Long?,
         ctx: RoutingContext
     ) {
+        if (revisions.size == 1) {
+            // The output of a single revision only depends on the subtree and the serializer options.
+            val options = "maxLevel=${ctx.queryParam("maxLevel").getOrNull(0)}"
+
+            val hasResponded =
+                SerializationCache.respond(cache, ctx, manager, revisions[0], nodeId, "application/xml", options) {
+                    val out = ByteArrayOutputStream()
+                    createSerializer(manager, revisions, nodeId, ctx, out).call()
+                    out.toByteArray()
+                }
+
+            if (hasResponded)
+                return
+        }
+
         val out = ByteArrayOutputStream()
+        val serializer = createSerializer(manager, revisions, nodeId, ctx, out)
 
+        XmlSerializeHelper().serializeXml(serializer, out, ctx, manager, nodeId)
+    }
+
+    private fun createSerializer(
+        manager: XmlResourceManager, revisions: Array<Int>, nodeId: Long?,
+        ctx: RoutingContext, out: ByteArrayOutputStream
+    ): XmlSerializer {
         val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out).revisions(revisions.toIntArray())
 
         nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
@@ -219,8 +243,6 @@ class XmlGet(private val location: Path) {
         if (ctx.queryParam("maxLevel").isNotEmpty())
             serializerBuilder.maxLevel(ctx.queryParam("maxLevel")[0].toLong())
 
-        val serializer = serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build()
-
-        XmlSerializeHelper().serializeXml(serializer, out, ctx, manager, nodeId)
+        return serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build()
     }
-}
\ No newline at end of file
+}
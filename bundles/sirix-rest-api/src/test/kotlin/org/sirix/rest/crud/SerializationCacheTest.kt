@@ -0,0 +1,186 @@
+package org.sirix.rest.crud
+
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.vertx.core.Vertx
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpHeaders
+import io.vertx.core.http.HttpServer
+import io.vertx.ext.web.Router
+import io.vertx.ext.web.client.HttpResponse
+import io.vertx.ext.web.client.WebClient
+import io.vertx.kotlin.core.closeAwait
+import io.vertx.kotlin.core.http.listenAwait
+import io.vertx.kotlin.ext.web.client.sendAwait
+import kotlinx.coroutines.runBlocking
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertArrayEquals
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotEquals
+import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.sirix.access.DatabaseConfiguration
+import org.sirix.access.Databases
+import org.sirix.access.ResourceConfiguration
+import org.sirix.access.trx.node.json.objectvalue.StringValue
+import org.sirix.api.Database
+import org.sirix.api.json.JsonResourceManager
+import org.sirix.service.json.serialize.JsonSerializer
+import org.sirix.service.json.shredder.JsonShredder
+import org.sirix.utils.SirixFiles
+import java.io.StringWriter
+import java.math.BigInteger
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.util.concurrent.atomic.AtomicInteger
+
+@DisplayName("Serialization cache")
+class SerializationCacheTest {
+    private val resource = "resource"
+
+    private lateinit var location: Path
+    private lateinit var database: Database<JsonResourceManager>
+    private lateinit var manager: JsonResourceManager
+    private lateinit var vertx: Vertx
+    private lateinit var server: HttpServer
+    private lateinit var client: WebClient
+
+    /** The number of serializations, which haven't been answered from the cache. */
+    private val serializations = AtomicInteger()
+
+    @BeforeEach
+    fun setup() {
+        location = Files.createTempDirectory("sirix-serialization-cache")
+        val databaseFile = location.resolve("database")
+        Databases.createJsonDatabase(DatabaseConfiguration(databaseFile))
+        database = Databases.openJsonDatabase(databaseFile)
+        database.createResource(ResourceConfiguration.Builder(resource).build())
+        manager = database.openResourceManager(resource)
+        manager.beginNodeTrx().use { wtx ->
+            wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"foo\":[\"bar\",null,2.33]}"))
+        }
+
+        val cache = SerializationCache(1024)
+
+        vertx = Vertx.vertx()
+
+        val router = Router.router(vertx)
+        router.get("/").blockingHandler { ctx ->
+            val revision = ctx.queryParam("revision").getOrNull(0)?.toInt() ?: manager.mostRecentRevisionNumber
+
+            val hasResponded =
+                SerializationCache.respond(cache, ctx, manager, revision, null, "application/json", "") {
+                    serializations.incrementAndGet()
+                    val out = StringWriter()
+                    JsonSerializer.newBuilder(manager, out, revision).build().call()
+                    out.toString().toByteArray(StandardCharsets.UTF_8)
+                }
+
+            if (!hasResponded)
+                ctx.fail(HttpResponseStatus.INTERNAL_SERVER_ERROR.code())
+        }
+
+        server = runBlocking { vertx.createHttpServer().requestHandler(router).listenAwait(0) }
+        client = WebClient.create(vertx)
+    }
+
+    @AfterEach
+    fun tearDown() {
+        client.close()
+        runBlocking { vertx.closeAwait() }
+        manager.close()
+        database.close()
+        SirixFiles.recursiveRemove(location)
+    }
+
+    @Test
+    @DisplayName("Answering a request from the cache")
+    fun testHit() {
+        val first = get()
+        val second = get()
+
+        assertEquals(HttpResponseStatus.OK.code(), first.statusCode())
+        assertEquals(HttpResponseStatus.OK.code(), second.statusCode())
+        assertEquals("{\"foo\":[\"bar\",null,2.33]}", first.bodyAsString())
+        assertEquals(first.bodyAsString(), second.bodyAsString())
+        assertEquals(first.getHeader(HttpHeaders.ETAG.toString()), second.getHeader(HttpHeaders.ETAG.toString()))
+        assertEquals(1, serializations.get())
+    }
+
+    @Test
+    @DisplayName("Serializing a subtree again, once its hash has changed")
+    fun testMissAfterCommit() {
+        val first = get()
+
+        manager.beginNodeTrx().use { wtx ->
+            wtx.moveToDocumentRoot().trx().moveToFirstChild()
+            wtx.insertObjectRecordAsFirstChild("tadaaa", StringValue("todooo"))
+            wtx.commit()
+        }
+
+        val second = get()
+
+        assertEquals(HttpResponseStatus.OK.code(), second.statusCode())
+        assertEquals("{\"tadaaa\":\"todooo\",\"foo\":[\"bar\",null,2.33]}", second.bodyAsString())
+        assertNotEquals(first.getHeader(HttpHeaders.ETAG.toString()), second.getHeader(HttpHeaders.ETAG.toString()))
+        assertEquals(2, serializations.get())
+
+        // The entry of the old revision is still valid.
+        val old = get(revision = 1)
+
+        assertEquals(first.bodyAsString(), old.bodyAsString())
+        assertEquals(2, serializations.get())
+    }
+
+    @Test
+    @DisplayName("Answering a request with a matching If-None-Match header with 304")
+    fun testIfNoneMatch() {
+        val etag = get().getHeader(HttpHeaders.ETAG.toString())
+        assertNotNull(etag)
+
+        val notModified = get(ifNoneMatch = "\"$etag\"")
+
+        assertEquals(HttpResponseStatus.NOT_MODIFIED.code(), notModified.statusCode())
+        assertEquals(etag, notModified.getHeader(HttpHeaders.ETAG.toString()))
+        assertNull(notModified.body())
+
+        val modified = get(ifNoneMatch = "\"0\"")
+
+        assertEquals(HttpResponseStatus.OK.code(), modified.statusCode())
+        assertEquals(1, serializations.get())
+    }
+
+    @Test
+    @DisplayName("Evicting the least recently used entries")
+    fun testEviction() {
+        val cache = SerializationCache(10)
+        val first = SerializationCache.Key(Paths.get(resource), 1, BigInteger.ONE, "")
+        val second = SerializationCache.Key(Paths.get(resource), 2, BigInteger.valueOf(2), "")
+        val third = SerializationCache.Key(Paths.get(resource), 3, BigInteger.TEN, "")
+
+        cache.put(first, ByteArray(4))
+        cache.put(second, ByteArray(4))
+        assertNotNull(cache.get(first))
+
+        cache.put(third, ByteArray(4))
+
+        assertNull(cache.get(second))
+        assertArrayEquals(ByteArray(4), cache.get(first))
+        assertArrayEquals(ByteArray(4), cache.get(third))
+
+        // Entries, which exceed the maximum size, aren't cached.
+        cache.put(second, ByteArray(11))
+        assertNull(cache.get(second))
+    }
+
+    private fun get(revision: Int? = null, ifNoneMatch: String? = null): HttpResponse<Buffer> {
+        val request = client.get(server.actualPort(), "localhost", "/")
+        revision?.let { request.addQueryParam("revision", it.toString()) }
+        ifNoneMatch?.let { request.putHeader(HttpHeaders.IF_NONE_MATCH.toString(), it) }
+        return runBlocking { request.sendAwait() }
+    }
+}
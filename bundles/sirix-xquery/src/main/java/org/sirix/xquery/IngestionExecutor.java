@@ -0,0 +1,266 @@
+package org.sirix.xquery;
+
+import org.brackit.xquery.xdm.DocumentException;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Executes the import of many resources into a collection in parallel. One instance is shared by all collections
+ * created through a store, such that concurrent bulk imports don't each spawn their own thread pool.
+ *
+ * <p>
+ * The number of pending imports (running or queued) is bounded, such that lazily produced inputs (for instance a
+ * stream of JSON strings) are not buffered completely in memory if the producer is faster than the import. Failures
+ * of single imports are propagated to the caller once all imports of a batch are done. If the producer of the inputs
+ * fails, closing the batch skips the imports, which haven't been started yet, and waits for the running ones.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class IngestionExecutor implements AutoCloseable {
+
+  /** Default maximum number of pending imports per available processor. */
+  private static final int PENDING_IMPORTS_PER_THREAD = 4;
+
+  /** The executor service running the imports. */
+  private final ExecutorService executor;
+
+  /** Determines if the executor service has been created by this instance and thus has to be shut down. */
+  private final boolean ownsExecutor;
+
+  /** Bounds the number of pending imports. */
+  private final Semaphore pendingImports;
+
+  /** Number of submitted imports. */
+  private final AtomicLong submitted = new AtomicLong();
+
+  /** Number of successfully completed imports. */
+  private final AtomicLong completed = new AtomicLong();
+
+  /** Number of failed imports. */
+  private final AtomicLong failed = new AtomicLong();
+
+  /** Number of skipped imports of closed batches. */
+  private final AtomicLong skipped = new AtomicLong();
+
+  /**
+   * Create a new instance with a fixed number of threads.
+   *
+   * @param numberOfThreads the number of threads
+   * @return a new instance
+   */
+  public static IngestionExecutor create(final @Nonnegative int numberOfThreads) {
+    checkArgument(numberOfThreads > 0, "The number of threads must be positive!");
+    return new IngestionExecutor(Executors.newFixedThreadPool(numberOfThreads), true,
+        numberOfThreads * PENDING_IMPORTS_PER_THREAD);
+  }
+
+  /**
+   * Create a new instance, which uses the given executor service. The executor service isn't shut down on
+   * {@link #close()}, as it is managed by the caller.
+   *
+   * @param executor the executor service
+   * @param maxPendingImports maximum number of pending imports, before further submissions block
+   * @return a new instance
+   */
+  public static IngestionExecutor of(final ExecutorService executor, final @Nonnegative int maxPendingImports) {
+    checkArgument(maxPendingImports > 0, "The maximum number of pending imports must be positive!");
+    return new IngestionExecutor(checkNotNull(executor), false, maxPendingImports);
+  }
+
+  private IngestionExecutor(final ExecutorService executor, final boolean ownsExecutor,
+      final int maxPendingImports) {
+    this.executor = executor;
+    this.ownsExecutor = ownsExecutor;
+    this.pendingImports = new Semaphore(maxPendingImports);
+  }
+
+  /**
+   * Start a new batch of imports, which belong together, for instance all resources of one collection.
+   *
+   * @return a new batch
+   */
+  public Batch newBatch() {
+    return new Batch();
+  }
+
+  /**
+   * Get the number of submitted imports.
+   *
+   * @return the number of submitted imports
+   */
+  public long getSubmittedCount() {
+    return submitted.get();
+  }
+
+  /**
+   * Get the number of successfully completed imports.
+   *
+   * @return the number of completed imports
+   */
+  public long getCompletedCount() {
+    return completed.get();
+  }
+
+  /**
+   * Get the number of failed imports.
+   *
+   * @return the number of failed imports
+   */
+  public long getFailedCount() {
+    return failed.get();
+  }
+
+  /**
+   * Get the number of imports, which have been skipped, as their batch has been closed before they have been started.
+   *
+   * @return the number of skipped imports
+   */
+  public long getSkippedCount() {
+    return skipped.get();
+  }
+
+  /**
+   * Get the number of imports, which are currently running or waiting for a thread.
+   *
+   * @return the number of pending imports
+   */
+  public long getPendingCount() {
+    return submitted.get() - completed.get() - failed.get() - skipped.get();
+  }
+
+  @Override
+  public void close() {
+    if (ownsExecutor) {
+      executor.shutdown();
+      try {
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+          executor.shutdownNow();
+        }
+      } catch (final InterruptedException e) {
+        executor.shutdownNow();
+        Thread.currentThread().interrupt();
+        throw new DocumentException(e);
+      }
+    }
+  }
+
+  /**
+   * A batch of imports, which is awaited as a whole. A batch, which hasn't been awaited, for instance because the
+   * producer of the inputs failed, is cancelled on {@link #close()}.
+   */
+  public final class Batch implements AutoCloseable {
+    /** The futures of the submitted imports. */
+    private final List<Future<?>> futures = new ArrayList<>();
+
+    /** Determines if the imports, which haven't been started yet, are skipped. */
+    private volatile boolean cancelled;
+
+    private Batch() {
+    }
+
+    /**
+     * Submit an import. Blocks, if the maximum number of pending imports is reached.
+     *
+     * @param task the import
+     * @throws DocumentException if the thread is interrupted while waiting
+     */
+    public void submit(final Callable<?> task) {
+      checkNotNull(task);
+      try {
+        pendingImports.acquire();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new DocumentException(e);
+      }
+      submitted.incrementAndGet();
+      try {
+        futures.add(executor.submit(() -> {
+          if (cancelled) {
+            skipped.incrementAndGet();
+            pendingImports.release();
+            return null;
+          }
+          try {
+            final Object result = task.call();
+            completed.incrementAndGet();
+            return result;
+          } catch (final Exception | Error e) {
+            failed.incrementAndGet();
+            throw e;
+          } finally {
+            pendingImports.release();
+          }
+        }));
+      } catch (final RejectedExecutionException e) {
+        failed.incrementAndGet();
+        pendingImports.release();
+        throw new DocumentException(e);
+      }
+    }
+
+    /**
+     * Wait until all imports of this batch are done.
+     *
+     * @throws DocumentException if at least one import failed, with the failures of the other imports suppressed
+     */
+    public void await() {
+      DocumentException failure = null;
+      for (final Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new DocumentException(e);
+        } catch (final ExecutionException e) {
+          final Throwable cause = e.getCause();
+          if (failure == null) {
+            failure = new DocumentException(cause);
+          } else {
+            failure.addSuppressed(cause);
+          }
+        }
+      }
+      futures.clear();
+      if (failure != null) {
+        throw failure;
+      }
+    }
+
+    /**
+     * Skip the imports of this batch, which haven't been started yet, and wait for the running ones. Running imports
+     * aren't interrupted, as an interrupt closes the file channels of their resources. Failures are ignored, as the
+     * batch is only closed before it has been awaited if the caller already fails.
+     */
+    @Override
+    public void close() {
+      cancelled = true;
+      for (final Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        } catch (final ExecutionException ignored) {
+          // The caller already fails.
+        }
+      }
+      futures.clear();
+    }
+  }
+}
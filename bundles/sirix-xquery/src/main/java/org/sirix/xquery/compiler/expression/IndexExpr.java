@@ -21,7 +21,10 @@ import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.cas.CASFilter;
 import org.sirix.index.cas.CASFilterRange;
+import org.sirix.index.deweyid.DeweyIDIndex;
+import org.sirix.index.deweyid.StructuralJoins;
 import org.sirix.index.path.json.JsonPCRCollector;
+import org.sirix.node.SirixDeweyID;
 import org.sirix.xquery.SirixQueryContext;
 import org.sirix.xquery.function.jn.JNFun;
 import org.sirix.xquery.json.JsonDBCollection;
@@ -30,6 +33,7 @@ import org.sirix.xquery.json.JsonItemFactory;
 import java.util.*;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 public final class IndexExpr implements Expr {
@@ -67,10 +71,10 @@ public final class IndexExpr implements Expr {
 
     final JsonNodeReadOnlyTrx rtx =
         revision == -1 ? manager.beginNodeReadOnlyTrx() : manager.beginNodeReadOnlyTrx(revision);
-    var nodeKeys = new ArrayList<Long>();
+    var nodeKeys = new ArrayList<Set<Long>>();
 
     final var indexType = (IndexType) properties.get("indexType");
-    final var indexTypeToNodeKeys = new HashMap<IndexDef, List<Long>>();
+    final var indexTypeToNodeKeys = new HashMap<IndexDef, List<Set<Long>>>();
     final var arrayIndexes = (Map<String, Deque<Integer>>) properties.get("arrayIndexes");
 
     for (final Map.Entry<IndexDef, List<Path<QNm>>> entrySet : indexDefsToPaths.entrySet()) {
@@ -142,29 +146,54 @@ public final class IndexExpr implements Expr {
     final var jsonItemFactory = new JsonItemFactory();
 
     switch (indexType) {
-      case PATH -> nodeKeys.forEach(nodeKey -> {
+      case PATH -> nodeKeys.forEach(nodeKeysOfIndexKey -> nodeKeysOfIndexKey.forEach(nodeKey -> {
         rtx.moveTo(nodeKey).trx().moveToFirstChild();
         sequence.add(jsonItemFactory.getSequence(rtx, jsonCollection));
-      });
-      case CAS -> indexDefsToPaths.keySet().forEach(indexDef -> {
+      }));
+      case CAS -> {
         final var indexDefToPredicateLevel = (Map<IndexDef, Integer>) properties.get("predicateLevel");
-        final var predicateLevel = indexDefToPredicateLevel.get(indexDef);
-        final var nodeKeysOfIndex = indexTypeToNodeKeys.get(indexDef);
-        nodeKeysOfIndex.forEach(nodeKey -> {
-          // TODO: We can skip this traversal once we store a DeweyID <=> nodeKey mapping.
-          // Then we can simply clip the DeweyID with the given path level and get the corresponding nodeKey.
-          rtx.moveTo(nodeKey);
-          rtx.moveToParent();
-          for (int i = 0; i < predicateLevel; i++) {
-            rtx.moveToParent();
 
-            if (rtx.isObject() && i + 1 < predicateLevel) {
-              rtx.moveToParent();
-            }
-          }
+        // The nodes of all indexes are sorted in document order without duplicates.
+        final List<Long> predicateNodeKeys;
+
+        if (manager.getResourceConfig().areDeweyIDsStored) {
+          final var deweyIDIndex = indexController.getIndexes()
+                                                  .findDeweyIDIndex()
+                                                  .map(indexDef -> indexController.openDeweyIDIndex(rtx.getPageTrx(),
+                                                                                                    indexDef))
+                                                  .orElse(null);
+          final var deweyIDs = getDeweyIDs(rtx, deweyIDIndex, indexTypeToNodeKeys.values());
+          final var nodesOfIndexes = new ArrayList<List<Map.Entry<SirixDeweyID, Long>>>();
+          indexDefsToPaths.keySet()
+                          .forEach(indexDef -> nodesOfIndexes.add(getPredicateNodes(rtx,
+                                                                                    deweyIDIndex,
+                                                                                    deweyIDs,
+                                                                                    indexTypeToNodeKeys.get(indexDef),
+                                                                                    indexDefToPredicateLevel.get(
+                                                                                        indexDef))));
+          predicateNodeKeys = StructuralJoins.union(nodesOfIndexes, Map.Entry::getKey)
+                                             .stream()
+                                             .map(Map.Entry::getValue)
+                                             .collect(toList());
+        } else {
+          final var nodeKeysOfPredicateNodes = new HashSet<Long>();
+          indexDefsToPaths.keySet().forEach(indexDef -> {
+            final var predicateLevel = indexDefToPredicateLevel.get(indexDef);
+            final var nodeKeysOfIndex = indexTypeToNodeKeys.get(indexDef);
+            nodeKeysOfIndex.forEach(nodeKeysOfIndexKey -> nodeKeysOfIndexKey.forEach(nodeKey -> {
+              rtx.moveTo(nodeKey);
+              moveToPredicateNode(rtx, predicateLevel);
+              nodeKeysOfPredicateNodes.add(rtx.getNodeKey());
+            }));
+          });
+          predicateNodeKeys = sortInDocumentOrder(rtx, nodeKeysOfPredicateNodes);
+        }
+
+        predicateNodeKeys.forEach(nodeKey -> {
+          rtx.moveTo(nodeKey);
           sequence.add(jsonItemFactory.getSequence(rtx, jsonCollection));
         });
-      });
+      }
       case NAME -> {
       }
       default -> throw new QueryException(JNFun.ERR_INVALID_INDEX_TYPE, "Index type not known: " + indexType);
@@ -198,6 +227,139 @@ public final class IndexExpr implements Expr {
     };
   }
 
+  /**
+   * Get the DeweyIDs of the found nodes of all indexes. If the DeweyID index is available, the DeweyIDs are read in
+   * one scan over the index, which stops once all nodes are found, instead of moving to each node.
+   */
+  private static Map<Long, SirixDeweyID> getDeweyIDs(JsonNodeReadOnlyTrx rtx, DeweyIDIndex deweyIDIndex,
+      Collection<List<Set<Long>>> nodeKeysOfIndexes) {
+    final var nodeKeys = new HashSet<Long>();
+    nodeKeysOfIndexes.forEach(nodeKeysOfIndex -> nodeKeysOfIndex.forEach(nodeKeys::addAll));
+
+    final var deweyIDs = new HashMap<Long, SirixDeweyID>(nodeKeys.size() * 2);
+
+    if (deweyIDIndex != null) {
+      final Iterator<Map.Entry<SirixDeweyID, Long>> entries = deweyIDIndex.getRange(null, false, null, false);
+      while (deweyIDs.size() < nodeKeys.size() && entries.hasNext()) {
+        final Map.Entry<SirixDeweyID, Long> entry = entries.next();
+        if (nodeKeys.contains(entry.getValue())) {
+          deweyIDs.put(entry.getValue(), entry.getKey());
+        }
+      }
+    }
+
+    // Nodes, which aren't indexed (or if there's no DeweyID index).
+    for (final long nodeKey : nodeKeys) {
+      if (!deweyIDs.containsKey(nodeKey)) {
+        rtx.moveTo(nodeKey);
+        deweyIDs.put(nodeKey, rtx.getDeweyID());
+      }
+    }
+
+    return deweyIDs;
+  }
+
+  /**
+   * Get the nodes, on which the predicate has been specified, in document order. All nodes, which are found for one
+   * index key, share the same path class record and thus the same number of levels to their predicate node. Once the
+   * number of levels is known from the first node, the DeweyIDs of the predicate nodes are computed by clipping the
+   * DeweyIDs of the found nodes, such that nodes below an already found predicate node are skipped and the node keys
+   * of the other predicate nodes are looked up in the DeweyID index (if available) instead of navigating upwards.
+   */
+  private static List<Map.Entry<SirixDeweyID, Long>> getPredicateNodes(JsonNodeReadOnlyTrx rtx,
+      DeweyIDIndex deweyIDIndex, Map<Long, SirixDeweyID> deweyIDs, List<Set<Long>> nodeKeysOfIndex,
+      int predicateLevel) {
+    final var predicateNodes = new TreeMap<SirixDeweyID, Long>();
+
+    for (final Set<Long> nodeKeysOfIndexKey : nodeKeysOfIndex) {
+      int levelsToPredicateNode = -1;
+
+      for (final long nodeKey : nodeKeysOfIndexKey) {
+        final SirixDeweyID deweyID = deweyIDs.get(nodeKey);
+
+        if (levelsToPredicateNode != -1) {
+          final SirixDeweyID predicateNodeDeweyID = deweyID.getAncestor(deweyID.getLevel() - levelsToPredicateNode);
+
+          if (predicateNodes.containsKey(predicateNodeDeweyID)) {
+            continue;
+          }
+
+          if (deweyIDIndex != null) {
+            final Optional<Long> predicateNodeKey = deweyIDIndex.getNodeKey(predicateNodeDeweyID);
+
+            if (predicateNodeKey.isPresent()) {
+              predicateNodes.put(predicateNodeDeweyID, predicateNodeKey.get());
+              continue;
+            }
+          }
+        }
+
+        rtx.moveTo(nodeKey);
+        moveToPredicateNode(rtx, predicateLevel);
+        final SirixDeweyID predicateNodeDeweyID = rtx.getDeweyID();
+        levelsToPredicateNode = deweyID.getLevel() - predicateNodeDeweyID.getLevel();
+        predicateNodes.put(predicateNodeDeweyID, rtx.getNodeKey());
+      }
+    }
+
+    return new ArrayList<>(predicateNodes.entrySet());
+  }
+
+  /**
+   * Sort nodes in document order without DeweyIDs. The position of a node is the list of the child indexes of its
+   * ancestors-or-self, whereas the children of each ancestor are enumerated only once.
+   */
+  private static List<Long> sortInDocumentOrder(JsonNodeReadOnlyTrx rtx, Set<Long> nodeKeys) {
+    final var childIndexesOfParents = new HashMap<Long, Map<Long, Integer>>();
+    final var positions = new HashMap<Long, int[]>(nodeKeys.size() * 2);
+
+    for (final long nodeKey : nodeKeys) {
+      final var ancestorsOrSelf = new ArrayDeque<Long>();
+      rtx.moveTo(nodeKey);
+      while (!rtx.isDocumentRoot()) {
+        ancestorsOrSelf.push(rtx.getNodeKey());
+        rtx.moveToParent();
+      }
+
+      final int[] position = new int[ancestorsOrSelf.size()];
+      long parentKey = rtx.getNodeKey();
+      int level = 0;
+      for (final long ancestorKey : ancestorsOrSelf) {
+        position[level++] = childIndexesOfParents.computeIfAbsent(parentKey, key -> getChildIndexes(rtx, key))
+                                                 .get(ancestorKey);
+        parentKey = ancestorKey;
+      }
+      positions.put(nodeKey, position);
+    }
+
+    final var sortedNodeKeys = new ArrayList<>(nodeKeys);
+    sortedNodeKeys.sort((first, second) -> Arrays.compare(positions.get(first), positions.get(second)));
+    return sortedNodeKeys;
+  }
+
+  private static Map<Long, Integer> getChildIndexes(JsonNodeReadOnlyTrx rtx, long parentKey) {
+    final var childIndexes = new HashMap<Long, Integer>();
+    rtx.moveTo(parentKey);
+    if (rtx.moveToFirstChild().hasMoved()) {
+      int index = 0;
+      do {
+        childIndexes.put(rtx.getNodeKey(), index++);
+      } while (rtx.moveToRightSibling().hasMoved());
+    }
+    return childIndexes;
+  }
+
+  private static void moveToPredicateNode(JsonNodeReadOnlyTrx rtx, int predicateLevel) {
+    rtx.moveToParent();
+    for (int i = 0; i < predicateLevel; i++) {
+      rtx.moveToParent();
+
+      if (rtx.isObject() && i + 1 < predicateLevel) {
+        rtx.moveToParent();
+      }
+    }
+  }
+
   private SearchMode getSearchMode(String comparisonType) {
     final SearchMode searchMode;
 
@@ -219,7 +381,8 @@ public final class IndexExpr implements Expr {
   }
 
   private void checkIfIndexNodeIsApplicable(JsonResourceManager manager, JsonNodeReadOnlyTrx rtx,
-      Map<String, Deque<Integer>> arrayIndexes, Iterator<NodeReferences> nodeReferencesIterator, List<Long> nodeKeys) {
+      Map<String, Deque<Integer>> arrayIndexes, Iterator<NodeReferences> nodeReferencesIterator,
+      List<Set<Long>> nodeKeys) {
     try (final var pathSummary = revision == -1 ? manager.openPathSummary() : manager.openPathSummary(revision)) {
       nodeReferencesIterator.forEachRemaining(currentNodeReferences -> {
         final var currNodeKeys = new HashSet<>(currentNodeReferences.getNodeKeys());
@@ -288,7 +451,9 @@ public final class IndexExpr implements Expr {
             }
           });
         }
-        nodeKeys.addAll(currNodeKeys);
+        if (!currNodeKeys.isEmpty()) {
+          nodeKeys.add(currNodeKeys);
+        }
       });
     }
   }
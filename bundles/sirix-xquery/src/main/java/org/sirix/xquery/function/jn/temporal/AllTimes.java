@@ -12,17 +12,20 @@ import org.brackit.xquery.xdm.Iter;
 import org.brackit.xquery.xdm.Sequence;
 import org.brackit.xquery.xdm.Signature;
 import org.brackit.xquery.xdm.Stream;
+import org.sirix.axis.temporal.RevisionFilter;
+import org.sirix.xquery.function.FunUtil;
 import org.sirix.xquery.function.jn.JNFun;
 import org.sirix.xquery.json.TemporalJsonDBItem;
 
 /**
  * <p>
  * Function for selecting a node in the future or the future-or-self. The first parameter is the
- * context node. Second parameter is if ithe current node should be included or not. Supported
- * signature is:
+ * context node. Second parameter is if only the revisions, in which the node has changed, should be selected.
+ * Supported signatures are:
  * </p>
  * <ul>
  * <li><code>jn:all-times($doc as json-item()) as json-item()*</code></li>
+ * <li><code>jn:all-times($doc as json-item(), $onlyChanged as xs:boolean?) as json-item()*</code></li>
  * </ul>
  *
  * @author Johannes Lichtenberger
@@ -46,6 +49,10 @@ public final class AllTimes extends AbstractFunction {
   @Override
   public Sequence execute(final StaticContext sctx, final QueryContext ctx, final Sequence[] args) {
     final TemporalJsonDBItem<? extends TemporalJsonDBItem<?>> item = ((TemporalJsonDBItem<?>) args[0]);
+    final boolean onlyChanged = FunUtil.getBoolean(args, 1, "onlyChanged", false, false);
+    final RevisionFilter revisionFilter = onlyChanged
+        ? RevisionFilter.CHANGED
+        : RevisionFilter.ALL;
 
     return new LazySequence() {
       @Override
@@ -56,7 +63,7 @@ public final class AllTimes extends AbstractFunction {
           @Override
           public Item next() {
             if (s == null) {
-              s = item.getAllTimes();
+              s = item.getAllTimes(revisionFilter);
             }
             return (Item) s.next();
           }
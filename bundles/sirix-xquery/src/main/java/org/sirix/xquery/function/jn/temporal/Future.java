@@ -12,6 +12,7 @@ import org.brackit.xquery.xdm.Iter;
 import org.brackit.xquery.xdm.Sequence;
 import org.brackit.xquery.xdm.Signature;
 import org.brackit.xquery.xdm.Stream;
+import org.sirix.axis.temporal.RevisionFilter;
 import org.sirix.xquery.function.FunUtil;
 import org.sirix.xquery.function.jn.JNFun;
 import org.sirix.xquery.json.TemporalJsonDBItem;
@@ -19,11 +20,13 @@ import org.sirix.xquery.json.TemporalJsonDBItem;
 /**
  * <p>
  * Function for selecting a node in the future or the future-or-self. The first parameter is the
- * context node. Second parameter is if the current node should be included or not. Supported
- * signature is:
+ * context node. Second parameter is if the current node should be included or not. Third parameter is if only the
+ * revisions, in which the node has changed, should be selected. Supported signatures are:
  * </p>
  * <ul>
  * <li><code>jn:future($doc as json-item(), $includeSelf as xs:boolean?) as json-item()*</code></li>
+ * <li><code>jn:future($doc as json-item(), $includeSelf as xs:boolean?, $onlyChanged as xs:boolean?) as
+ * json-item()*</code></li>
  * </ul>
  *
  * @author Johannes Lichtenberger
@@ -48,6 +51,10 @@ public final class Future extends AbstractFunction {
   public Sequence execute(final StaticContext sctx, final QueryContext ctx, final Sequence[] args) {
     final TemporalJsonDBItem<? extends TemporalJsonDBItem<?>> item = ((TemporalJsonDBItem<?>) args[0]);
     final boolean includeSelf = FunUtil.getBoolean(args, 1, "includeSelf", false, false);
+    final boolean onlyChanged = FunUtil.getBoolean(args, 2, "onlyChanged", false, false);
+    final RevisionFilter revisionFilter = onlyChanged
+        ? RevisionFilter.CHANGED
+        : RevisionFilter.ALL;
 
     return new LazySequence() {
       @Override
@@ -58,7 +65,7 @@ public final class Future extends AbstractFunction {
           @Override
           public Item next() {
             if (s == null) {
-              s = item.getFuture(includeSelf);
+              s = item.getFuture(includeSelf, revisionFilter);
             }
             return (Item) s.next();
           }
@@ -12,6 +12,7 @@ import org.brackit.xquery.xdm.Iter;
 import org.brackit.xquery.xdm.Sequence;
 import org.brackit.xquery.xdm.Signature;
 import org.brackit.xquery.xdm.Stream;
+import org.sirix.axis.temporal.RevisionFilter;
 import org.sirix.xquery.function.FunUtil;
 import org.sirix.xquery.function.jn.JNFun;
 import org.sirix.xquery.json.TemporalJsonDBItem;
@@ -19,10 +20,13 @@ import org.sirix.xquery.json.TemporalJsonDBItem;
 /**
  * <p>
  * Function for selecting a node in the past or the past-or-self. The first parameter is the context
- * node. Second parameter is if the current node should be included or not. Supported signature is:
+ * node. Second parameter is if the current node should be included or not. Third parameter is if only the revisions,
+ * in which the node has changed, should be selected. Supported signatures are:
  * </p>
  * <ul>
  * <li><code>jn:past($doc as json-item(), $includeSelf as xs:boolean?) as json-item()*</code></li>
+ * <li><code>jn:past($doc as json-item(), $includeSelf as xs:boolean?, $onlyChanged as xs:boolean?) as
+ * json-item()*</code></li>
  * </ul>
  *
  * @author Johannes Lichtenberger
@@ -47,6 +51,10 @@ public final class Past extends AbstractFunction {
   public Sequence execute(final StaticContext sctx, final QueryContext ctx, final Sequence[] args) {
     final TemporalJsonDBItem<? extends TemporalJsonDBItem<?>> item = ((TemporalJsonDBItem<?>) args[0]);
     final boolean includeSelf = FunUtil.getBoolean(args, 1, "includeSelf", false, false);
+    final boolean onlyChanged = FunUtil.getBoolean(args, 2, "onlyChanged", false, false);
+    final RevisionFilter revisionFilter = onlyChanged
+        ? RevisionFilter.CHANGED
+        : RevisionFilter.ALL;
 
     return new LazySequence() {
       @Override
@@ -57,7 +65,7 @@ public final class Past extends AbstractFunction {
           @Override
           public Item next() {
             if (s == null) {
-              s = item.getEarlier(includeSelf);
+              s = item.getEarlier(includeSelf, revisionFilter);
             }
             return (Item) s.next();
           }
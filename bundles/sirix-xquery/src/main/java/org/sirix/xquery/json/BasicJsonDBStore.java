@@ -1,5 +1,6 @@
 package org.sirix.xquery.json;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -9,11 +10,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import org.brackit.xquery.atomic.Str;
 import org.brackit.xquery.xdm.DocumentException;
@@ -28,6 +28,7 @@ import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixRuntimeException;
 import org.sirix.io.StorageType;
 import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.xquery.IngestionExecutor;
 import com.google.gson.stream.JsonReader;
 
 /**
@@ -59,6 +60,15 @@ public final class BasicJsonDBStore implements JsonDBStore {
   /** Determines if a path summary should be built. */
   private final boolean buildPathSummary;
 
+  /** Determines if DeweyIDs should be stored. */
+  private final boolean useDeweyIDs;
+
+  /** Imports the resources of collections in parallel. */
+  private final IngestionExecutor ingestionExecutor;
+
+  /** Determines if the ingestion executor has been created by the store and thus has to be closed. */
+  private final boolean ownsIngestionExecutor;
+
   /** Get a new builder instance. */
   public static Builder newBuilder() {
     return new Builder();
@@ -77,6 +87,15 @@ public final class BasicJsonDBStore implements JsonDBStore {
     /** Determines if for resources a path summary should be build. */
     private boolean buildPathSummary = true;
 
+    /** Determines if for resources DeweyIDs should be stored. */
+    private boolean useDeweyIDs = true;
+
+    /** Number of threads to import resources in parallel. */
+    private int numberOfIngestionThreads = Runtime.getRuntime().availableProcessors();
+
+    /** Shared executor to import resources in parallel. */
+    private IngestionExecutor ingestionExecutor;
+
     /**
      * Set the storage type (default: file backend).
      *
@@ -99,6 +118,17 @@ public final class BasicJsonDBStore implements JsonDBStore {
       return this;
     }
 
+    /**
+     * Set if DeweyIDs should be stored for resources (default: {@code true}).
+     *
+     * @param useDeweyIDs {@code true} if DeweyIDs should be stored, {@code false} otherwise
+     * @return this builder instance
+     */
+    public Builder useDeweyIDs(final boolean useDeweyIDs) {
+      this.useDeweyIDs = useDeweyIDs;
+      return this;
+    }
+
     /**
      * Set the location where to store the created databases/collections.
      *
@@ -110,6 +140,30 @@ public final class BasicJsonDBStore implements JsonDBStore {
       return this;
     }
 
+    /**
+     * Set the number of threads, which import the resources of a collection in parallel (default: number of
+     * available processors). Ignored, if a shared ingestion executor is set.
+     *
+     * @param numberOfIngestionThreads the number of threads
+     * @return this builder instance
+     */
+    public Builder numberOfIngestionThreads(final @Nonnegative int numberOfIngestionThreads) {
+      checkArgument(numberOfIngestionThreads > 0, "The number of threads must be positive!");
+      this.numberOfIngestionThreads = numberOfIngestionThreads;
+      return this;
+    }
+
+    /**
+     * Set a shared executor, which imports the resources of a collection in parallel. It is not closed by the store.
+     *
+     * @param ingestionExecutor the executor
+     * @return this builder instance
+     */
+    public Builder ingestionExecutor(final IngestionExecutor ingestionExecutor) {
+      this.ingestionExecutor = checkNotNull(ingestionExecutor);
+      return this;
+    }
+
     /**
      * Create a new {@link BasicJsonDBStore} instance
      *
@@ -131,6 +185,11 @@ public final class BasicJsonDBStore implements JsonDBStore {
     storageType = builder.storageType;
     location = builder.location;
     buildPathSummary = builder.buildPathSummary;
+    useDeweyIDs = builder.useDeweyIDs;
+    ownsIngestionExecutor = builder.ingestionExecutor == null;
+    ingestionExecutor = ownsIngestionExecutor
+        ? IngestionExecutor.create(builder.numberOfIngestionThreads)
+        : builder.ingestionExecutor;
   }
 
   /** Get the location of the generated collections/databases. */
@@ -138,6 +197,11 @@ public final class BasicJsonDBStore implements JsonDBStore {
     return location;
   }
 
+  /** Get the executor, which imports resources in parallel, for instance to monitor the progress. */
+  public IngestionExecutor getIngestionExecutor() {
+    return ingestionExecutor;
+  }
+
   @Override
   public JsonDBCollection lookup(final String name) {
     final Path dbPath = location.resolve(name);
@@ -229,7 +293,7 @@ public final class BasicJsonDBStore implements JsonDBStore {
       }
 
       database.createResource(ResourceConfiguration.newBuilder(resourceName)
-                                                   .useDeweyIDs(true)
+                                                   .useDeweyIDs(useDeweyIDs)
                                                    .useTextCompression(true)
                                                    .buildPathSummary(buildPathSummary)
                                                    .storageType(storageType)
@@ -256,21 +320,33 @@ public final class BasicJsonDBStore implements JsonDBStore {
       Databases.createJsonDatabase(dbConf);
       final var database = Databases.openJsonDatabase(dbConf.getFile());
       databases.add(database);
-      final ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-      int numberOfResources = database.listResources().size();
-      for (final var jsonReader : jsonReaders) {
-        numberOfResources++;
-        final String resourceName = "resource" + numberOfResources;
-        pool.submit(() -> createResource(collName, database, jsonReader, resourceName));
+      try (final IngestionExecutor.Batch batch = ingestionExecutor.newBatch()) {
+        int numberOfResources = database.listResources().size();
+        for (final var jsonReader : jsonReaders) {
+          numberOfResources++;
+          final String resourceName = "resource" + numberOfResources;
+          batch.submit(() -> createResource(collName, database, () -> jsonReader, resourceName));
+        }
+        batch.await();
+      } finally {
+        // The readers of skipped imports haven't been closed by their tasks.
+        closeReaders(jsonReaders);
       }
-      pool.shutdown();
-      pool.awaitTermination(15, TimeUnit.SECONDS);
       return new JsonDBCollection(collName, database);
-    } catch (final SirixRuntimeException | InterruptedException e) {
+    } catch (final SirixRuntimeException e) {
       throw new DocumentException(e.getCause());
     }
   }
 
+  private static void closeReaders(final Set<JsonReader> jsonReaders) {
+    for (final var jsonReader : jsonReaders) {
+      try {
+        jsonReader.close();
+      } catch (final IOException ignored) {
+      }
+    }
+  }
+
   @Override
   public JsonDBCollection create(String collectionName, String resourceName, JsonReader jsonReader) {
     return createCollection(collectionName, resourceName, jsonReader);
@@ -288,37 +364,39 @@ public final class BasicJsonDBStore implements JsonDBStore {
       Databases.createJsonDatabase(dbConf);
       final var database = Databases.openJsonDatabase(dbConf.getFile());
       databases.add(database);
-      final ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-      int i = database.listResources().size() + 1;
-      try (jsonStrings) {
-        Str string;
-        while ((string = jsonStrings.next()) != null) {
-          final String currentString = string.stringValue();
-          final String resourceName = "resource" + i;
-          pool.submit(() -> createResource(collName,
-                                           database,
-                                           JsonShredder.createStringReader(currentString),
-                                           resourceName));
-          i++;
+      try (final IngestionExecutor.Batch batch = ingestionExecutor.newBatch()) {
+        int i = database.listResources().size() + 1;
+        try (jsonStrings) {
+          Str string;
+          while ((string = jsonStrings.next()) != null) {
+            final String currentString = string.stringValue();
+            final String resourceName = "resource" + i;
+            batch.submit(() -> createResource(collName,
+                                              database,
+                                              () -> JsonShredder.createStringReader(currentString),
+                                              resourceName));
+            i++;
+          }
         }
+        batch.await();
       }
-      pool.shutdown();
-      pool.awaitTermination(15, TimeUnit.SECONDS);
       return new JsonDBCollection(collName, database);
-    } catch (final SirixRuntimeException | InterruptedException e) {
+    } catch (final SirixRuntimeException e) {
       throw new DocumentException(e.getCause());
     }
   }
 
-  private Void createResource(String collName, final Database<JsonResourceManager> database, final JsonReader reader,
-      final String resourceName) {
+  private Void createResource(String collName, final Database<JsonResourceManager> database,
+      final Callable<JsonReader> readerFactory, final String resourceName) throws Exception {
     database.createResource(ResourceConfiguration.newBuilder(resourceName)
                                                  .storageType(storageType)
-                                                 .useDeweyIDs(true)
+                                                 .useDeweyIDs(useDeweyIDs)
                                                  .useTextCompression(true)
                                                  .buildPathSummary(true)
                                                  .build());
-    try (final JsonResourceManager manager = database.openResourceManager(resourceName);
+    // The reader is opened by the import task itself, such that skipped imports don't leak it.
+    try (final JsonReader reader = readerFactory.call();
+        final JsonResourceManager manager = database.openResourceManager(resourceName);
         final JsonNodeTrx wtx = manager.beginNodeTrx()) {
       final JsonDBCollection collection = new JsonDBCollection(collName, database);
       collections.put(database, collection);
@@ -339,35 +417,24 @@ public final class BasicJsonDBStore implements JsonDBStore {
       Databases.createJsonDatabase(dbConf);
       final var database = Databases.openJsonDatabase(dbConf.getFile());
       databases.add(database);
-      final ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-      int i = database.listResources().size() + 1;
-      try (paths) {
-        Path path;
-        while ((path = paths.next()) != null) {
-          final Path currentPath = path;
-          final String resourceName = "resource" + i;
-          pool.submit(() -> {
-            database.createResource(ResourceConfiguration.newBuilder(resourceName)
-                                                         .storageType(storageType)
-                                                         .useDeweyIDs(true)
-                                                         .useTextCompression(true)
-                                                         .buildPathSummary(true)
-                                                         .build());
-            try (final JsonResourceManager manager = database.openResourceManager(resourceName);
-                 final JsonNodeTrx wtx = manager.beginNodeTrx()) {
-              final JsonDBCollection collection = new JsonDBCollection(collName, database);
-              collections.put(database, collection);
-              wtx.insertSubtreeAsFirstChild(JsonShredder.createFileReader(currentPath));
-            }
-            return null;
-          });
-          i++;
+      try (final IngestionExecutor.Batch batch = ingestionExecutor.newBatch()) {
+        int i = database.listResources().size() + 1;
+        try (paths) {
+          Path path;
+          while ((path = paths.next()) != null) {
+            final Path currentPath = path;
+            final String resourceName = "resource" + i;
+            batch.submit(() -> createResource(collName,
+                                              database,
+                                              () -> JsonShredder.createFileReader(currentPath),
+                                              resourceName));
+            i++;
+          }
         }
+        batch.await();
       }
-      pool.shutdown();
-      pool.awaitTermination(15, TimeUnit.SECONDS);
       return new JsonDBCollection(collName, database);
-    } catch (final SirixRuntimeException | InterruptedException e) {
+    } catch (final SirixRuntimeException e) {
       throw new DocumentException(e.getCause());
     }
   }
@@ -406,6 +473,9 @@ public final class BasicJsonDBStore implements JsonDBStore {
       for (final var database : databases) {
         database.close();
       }
+      if (ownsIngestionExecutor) {
+        ingestionExecutor.close();
+      }
     } catch (final SirixException e) {
       throw new DocumentException(e.getCause());
     }
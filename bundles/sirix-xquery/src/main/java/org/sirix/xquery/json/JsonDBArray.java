@@ -10,6 +10,7 @@ import org.sirix.axis.IncludeSelf;
 import org.sirix.axis.temporal.AllTimeAxis;
 import org.sirix.axis.temporal.FutureAxis;
 import org.sirix.axis.temporal.PastAxis;
+import org.sirix.axis.temporal.RevisionFilter;
 import org.sirix.xquery.StructuredDBItem;
 import org.sirix.xquery.stream.json.TemporalSirixJsonArrayStream;
 
@@ -46,26 +47,44 @@ public final class JsonDBArray extends AbstractJsonDBArray<JsonDBArray>
 
   @Override
   public Stream<JsonDBArray> getEarlier(final boolean includeSelf) {
+    return getEarlier(includeSelf, RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonDBArray> getEarlier(final boolean includeSelf, final RevisionFilter revisionFilter) {
     moveRtx();
     final IncludeSelf include = includeSelf
         ? IncludeSelf.YES
         : IncludeSelf.NO;
-    return new TemporalSirixJsonArrayStream(new PastAxis<>(rtx.getResourceManager(), rtx, include), collection);
+    final var axis = new PastAxis<>(rtx.getResourceManager(), rtx, include, revisionFilter);
+    return new TemporalSirixJsonArrayStream(axis, collection);
   }
 
   @Override
   public Stream<JsonDBArray> getFuture(final boolean includeSelf) {
+    return getFuture(includeSelf, RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonDBArray> getFuture(final boolean includeSelf, final RevisionFilter revisionFilter) {
     moveRtx();
     final IncludeSelf include = includeSelf
         ? IncludeSelf.YES
         : IncludeSelf.NO;
-    return new TemporalSirixJsonArrayStream(new FutureAxis<>(rtx.getResourceManager(), rtx, include), collection);
+    final var axis = new FutureAxis<>(rtx.getResourceManager(), rtx, include, revisionFilter);
+    return new TemporalSirixJsonArrayStream(axis, collection);
   }
 
   @Override
   public Stream<JsonDBArray> getAllTimes() {
+    return getAllTimes(RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonDBArray> getAllTimes(final RevisionFilter revisionFilter) {
     moveRtx();
-    return new TemporalSirixJsonArrayStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection);
+    final var axis = new AllTimeAxis<>(rtx.getResourceManager(), rtx, revisionFilter);
+    return new TemporalSirixJsonArrayStream(axis, collection);
   }
 
   @Override
@@ -27,6 +27,7 @@ import org.sirix.axis.temporal.LastAxis;
 import org.sirix.axis.temporal.NextAxis;
 import org.sirix.axis.temporal.PastAxis;
 import org.sirix.axis.temporal.PreviousAxis;
+import org.sirix.axis.temporal.RevisionFilter;
 import org.sirix.utils.LogWrapper;
 import org.sirix.xquery.stream.json.TemporalSirixJsonArraySliceStream;
 import org.slf4j.LoggerFactory;
@@ -98,29 +99,44 @@ public final class JsonDBArraySlice extends AbstractJsonDBArray<JsonDBArraySlice
 
   @Override
   public Stream<JsonDBArraySlice> getEarlier(final boolean includeSelf) {
+    return getEarlier(includeSelf, RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonDBArraySlice> getEarlier(final boolean includeSelf, final RevisionFilter revisionFilter) {
     moveRtx();
     final IncludeSelf include = includeSelf
         ? IncludeSelf.YES
         : IncludeSelf.NO;
-    return new TemporalSirixJsonArraySliceStream(new PastAxis<>(rtx.getResourceManager(), rtx, include), collection,
-        fromIndex, toIndex);
+    final var axis = new PastAxis<>(rtx.getResourceManager(), rtx, include, revisionFilter);
+    return new TemporalSirixJsonArraySliceStream(axis, collection, fromIndex, toIndex);
   }
 
   @Override
   public Stream<JsonDBArraySlice> getFuture(final boolean includeSelf) {
+    return getFuture(includeSelf, RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonDBArraySlice> getFuture(final boolean includeSelf, final RevisionFilter revisionFilter) {
     moveRtx();
     final IncludeSelf include = includeSelf
         ? IncludeSelf.YES
         : IncludeSelf.NO;
-    return new TemporalSirixJsonArraySliceStream(new FutureAxis<>(rtx.getResourceManager(), rtx, include), collection,
-        fromIndex, toIndex);
+    final var axis = new FutureAxis<>(rtx.getResourceManager(), rtx, include, revisionFilter);
+    return new TemporalSirixJsonArraySliceStream(axis, collection, fromIndex, toIndex);
   }
 
   @Override
   public Stream<JsonDBArraySlice> getAllTimes() {
+    return getAllTimes(RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonDBArraySlice> getAllTimes(final RevisionFilter revisionFilter) {
     moveRtx();
-    return new TemporalSirixJsonArraySliceStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection,
-        fromIndex, toIndex);
+    final var axis = new AllTimeAxis<>(rtx.getResourceManager(), rtx, revisionFilter);
+    return new TemporalSirixJsonArraySliceStream(axis, collection, fromIndex, toIndex);
   }
 
   @Override
@@ -29,6 +29,7 @@ import org.sirix.axis.temporal.LastAxis;
 import org.sirix.axis.temporal.NextAxis;
 import org.sirix.axis.temporal.PastAxis;
 import org.sirix.axis.temporal.PreviousAxis;
+import org.sirix.axis.temporal.RevisionFilter;
 import org.sirix.utils.LogWrapper;
 import org.sirix.xquery.StructuredDBItem;
 import org.sirix.xquery.stream.json.SirixJsonStream;
@@ -153,26 +154,44 @@ public final class JsonDBObject extends AbstractItem
 
   @Override
   public Stream<JsonDBObject> getEarlier(final boolean includeSelf) {
+    return getEarlier(includeSelf, RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonDBObject> getEarlier(final boolean includeSelf, final RevisionFilter revisionFilter) {
     moveRtx();
     final IncludeSelf include = includeSelf
         ? IncludeSelf.YES
         : IncludeSelf.NO;
-    return new TemporalSirixJsonObjectStream(new PastAxis<>(rtx.getResourceManager(), rtx, include), collection);
+    final var axis = new PastAxis<>(rtx.getResourceManager(), rtx, include, revisionFilter);
+    return new TemporalSirixJsonObjectStream(axis, collection);
   }
 
   @Override
   public Stream<JsonDBObject> getFuture(final boolean includeSelf) {
+    return getFuture(includeSelf, RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonDBObject> getFuture(final boolean includeSelf, final RevisionFilter revisionFilter) {
     moveRtx();
     final IncludeSelf include = includeSelf
         ? IncludeSelf.YES
         : IncludeSelf.NO;
-    return new TemporalSirixJsonObjectStream(new FutureAxis<>(rtx.getResourceManager(), rtx, include), collection);
+    final var axis = new FutureAxis<>(rtx.getResourceManager(), rtx, include, revisionFilter);
+    return new TemporalSirixJsonObjectStream(axis, collection);
   }
 
   @Override
   public Stream<JsonDBObject> getAllTimes() {
+    return getAllTimes(RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonDBObject> getAllTimes(final RevisionFilter revisionFilter) {
     moveRtx();
-    return new TemporalSirixJsonObjectStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection);
+    final var axis = new AllTimeAxis<>(rtx.getResourceManager(), rtx, revisionFilter);
+    return new TemporalSirixJsonObjectStream(axis, collection);
   }
 
   @Override
@@ -10,6 +10,7 @@ import org.sirix.axis.IncludeSelf;
 import org.sirix.axis.temporal.AllTimeAxis;
 import org.sirix.axis.temporal.FutureAxis;
 import org.sirix.axis.temporal.PastAxis;
+import org.sirix.axis.temporal.RevisionFilter;
 import org.sirix.xquery.stream.json.TemporalSirixJsonObjectKeyArrayStream;
 
 public final class JsonObjectKeyDBArray extends AbstractJsonDBArray<JsonObjectKeyDBArray>
@@ -40,26 +41,44 @@ public final class JsonObjectKeyDBArray extends AbstractJsonDBArray<JsonObjectKe
 
   @Override
   public Stream<JsonObjectKeyDBArray> getEarlier(final boolean includeSelf) {
+    return getEarlier(includeSelf, RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonObjectKeyDBArray> getEarlier(final boolean includeSelf, final RevisionFilter revisionFilter) {
     moveRtx();
     final IncludeSelf include = includeSelf
         ? IncludeSelf.YES
         : IncludeSelf.NO;
-    return new TemporalSirixJsonObjectKeyArrayStream(new PastAxis<>(rtx.getResourceManager(), rtx, include), collection);
+    final var axis = new PastAxis<>(rtx.getResourceManager(), rtx, include, revisionFilter);
+    return new TemporalSirixJsonObjectKeyArrayStream(axis, collection);
   }
 
   @Override
   public Stream<JsonObjectKeyDBArray> getFuture(final boolean includeSelf) {
+    return getFuture(includeSelf, RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonObjectKeyDBArray> getFuture(final boolean includeSelf, final RevisionFilter revisionFilter) {
     moveRtx();
     final IncludeSelf include = includeSelf
         ? IncludeSelf.YES
         : IncludeSelf.NO;
-    return new TemporalSirixJsonObjectKeyArrayStream(new FutureAxis<>(rtx.getResourceManager(), rtx, include), collection);
+    final var axis = new FutureAxis<>(rtx.getResourceManager(), rtx, include, revisionFilter);
+    return new TemporalSirixJsonObjectKeyArrayStream(axis, collection);
   }
 
   @Override
   public Stream<JsonObjectKeyDBArray> getAllTimes() {
+    return getAllTimes(RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonObjectKeyDBArray> getAllTimes(final RevisionFilter revisionFilter) {
     moveRtx();
-    return new TemporalSirixJsonObjectKeyArrayStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection);
+    final var axis = new AllTimeAxis<>(rtx.getResourceManager(), rtx, revisionFilter);
+    return new TemporalSirixJsonObjectKeyArrayStream(axis, collection);
   }
 
   @Override
@@ -11,7 +11,6 @@ import org.brackit.xquery.xdm.AbstractItem;
 import org.brackit.xquery.xdm.Sequence;
 import org.brackit.xquery.xdm.Stream;
 import org.brackit.xquery.xdm.json.Array;
-import org.brackit.xquery.xdm.json.TemporalJsonItem;
 import org.brackit.xquery.xdm.type.ArrayType;
 import org.brackit.xquery.xdm.type.ItemType;
 import org.sirix.api.NodeReadOnlyTrx;
@@ -28,6 +27,7 @@ import org.sirix.axis.temporal.LastAxis;
 import org.sirix.axis.temporal.NextAxis;
 import org.sirix.axis.temporal.PastAxis;
 import org.sirix.axis.temporal.PreviousAxis;
+import org.sirix.axis.temporal.RevisionFilter;
 import org.sirix.node.NodeKind;
 import org.sirix.utils.LogWrapper;
 import org.sirix.xquery.StructuredDBItem;
@@ -36,7 +36,7 @@ import org.slf4j.LoggerFactory;
 import com.google.common.base.Preconditions;
 
 public final class JsonObjectValueDBArray extends AbstractItem
-    implements TemporalJsonItem<JsonObjectValueDBArray>, Array, StructuredDBItem<JsonNodeReadOnlyTrx>, JsonDBItem {
+    implements TemporalJsonDBItem<JsonObjectValueDBArray>, Array, StructuredDBItem<JsonNodeReadOnlyTrx>, JsonDBItem {
 
   /** {@link LogWrapper} reference. */
   private static final LogWrapper LOGWRAPPER = new LogWrapper(LoggerFactory.getLogger(JsonObjectValueDBArray.class));
@@ -149,28 +149,44 @@ public final class JsonObjectValueDBArray extends AbstractItem
 
   @Override
   public Stream<JsonObjectValueDBArray> getEarlier(final boolean includeSelf) {
+    return getEarlier(includeSelf, RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonObjectValueDBArray> getEarlier(final boolean includeSelf, final RevisionFilter revisionFilter) {
     moveRtx();
     final IncludeSelf include = includeSelf
         ? IncludeSelf.YES
         : IncludeSelf.NO;
-    return new TemporalSirixJsonObjectValueArrayStream(new PastAxis<>(mRtx.getResourceManager(), mRtx, include),
-        mCollection);
+    final var axis = new PastAxis<>(mRtx.getResourceManager(), mRtx, include, revisionFilter);
+    return new TemporalSirixJsonObjectValueArrayStream(axis, mCollection);
   }
 
   @Override
   public Stream<JsonObjectValueDBArray> getFuture(final boolean includeSelf) {
+    return getFuture(includeSelf, RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonObjectValueDBArray> getFuture(final boolean includeSelf, final RevisionFilter revisionFilter) {
     moveRtx();
     final IncludeSelf include = includeSelf
         ? IncludeSelf.YES
         : IncludeSelf.NO;
-    return new TemporalSirixJsonObjectValueArrayStream(new FutureAxis<>(mRtx.getResourceManager(), mRtx, include),
-        mCollection);
+    final var axis = new FutureAxis<>(mRtx.getResourceManager(), mRtx, include, revisionFilter);
+    return new TemporalSirixJsonObjectValueArrayStream(axis, mCollection);
   }
 
   @Override
   public Stream<JsonObjectValueDBArray> getAllTimes() {
+    return getAllTimes(RevisionFilter.ALL);
+  }
+
+  @Override
+  public Stream<JsonObjectValueDBArray> getAllTimes(final RevisionFilter revisionFilter) {
     moveRtx();
-    return new TemporalSirixJsonObjectValueArrayStream(new AllTimeAxis<>(mRtx.getResourceManager(), mRtx), mCollection);
+    final var axis = new AllTimeAxis<>(mRtx.getResourceManager(), mRtx, revisionFilter);
+    return new TemporalSirixJsonObjectValueArrayStream(axis, mCollection);
   }
 
   @Override
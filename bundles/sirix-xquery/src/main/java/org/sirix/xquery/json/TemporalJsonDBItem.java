@@ -1,9 +1,37 @@
-package org.sirix.xquery.json;
-
-import org.brackit.xquery.xdm.json.TemporalJsonItem;
-import org.sirix.api.json.JsonNodeReadOnlyTrx;
-import org.sirix.xquery.StructuredDBItem;
-
-public interface TemporalJsonDBItem<E extends TemporalJsonDBItem<E>>
-    extends TemporalJsonItem<E>, StructuredDBItem<JsonNodeReadOnlyTrx> {
-}
+package org.sirix.xquery.json;
+
+import org.brackit.xquery.xdm.Stream;
+import org.brackit.xquery.xdm.json.TemporalJsonItem;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.axis.temporal.RevisionFilter;
+import org.sirix.xquery.StructuredDBItem;
+
+public interface TemporalJsonDBItem<E extends TemporalJsonDBItem<E>>
+    extends TemporalJsonItem<E>, StructuredDBItem<JsonNodeReadOnlyTrx> {
+
+  /**
+   * Get the item in all earlier revisions.
+   *
+   * @param includeSelf determines if the current revision is included
+   * @param revisionFilter determines if revisions, in which the item hasn't changed, are skipped
+   * @return the item in the earlier revisions
+   */
+  Stream<E> getEarlier(boolean includeSelf, RevisionFilter revisionFilter);
+
+  /**
+   * Get the item in all future revisions.
+   *
+   * @param includeSelf determines if the current revision is included
+   * @param revisionFilter determines if revisions, in which the item hasn't changed, are skipped
+   * @return the item in the future revisions
+   */
+  Stream<E> getFuture(boolean includeSelf, RevisionFilter revisionFilter);
+
+  /**
+   * Get the item in all revisions.
+   *
+   * @param revisionFilter determines if revisions, in which the item hasn't changed, are skipped
+   * @return the item in all revisions
+   */
+  Stream<E> getAllTimes(RevisionFilter revisionFilter);
+}
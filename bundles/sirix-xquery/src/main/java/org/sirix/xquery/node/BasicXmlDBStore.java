@@ -1,5 +1,6 @@
 package org.sirix.xquery.node;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -11,9 +12,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import org.brackit.xquery.node.parser.SubtreeParser;
 import org.brackit.xquery.xdm.DocumentException;
@@ -28,6 +27,7 @@ import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixRuntimeException;
 import org.sirix.io.StorageType;
 import org.sirix.service.xml.shredder.InsertPosition;
+import org.sirix.xquery.IngestionExecutor;
 
 /**
  * Database storage.
@@ -58,8 +58,11 @@ public final class BasicXmlDBStore implements XmlDBStore {
   /** Determines if a path summary should be built. */
   private boolean mBuildPathSummary;
 
-  /** Thread pool. */
-  private final ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  /** Imports the resources of collections in parallel. */
+  private final IngestionExecutor mIngestionExecutor;
+
+  /** Determines if the ingestion executor has been created by the store and thus has to be closed. */
+  private final boolean mOwnsIngestionExecutor;
 
   /** Get a new builder instance. */
   public static Builder newBuilder() {
@@ -79,6 +82,12 @@ public final class BasicXmlDBStore implements XmlDBStore {
     /** Determines if for resources a path summary should be build. */
     private boolean mBuildPathSummary = true;
 
+    /** Number of threads to import resources in parallel. */
+    private int mNumberOfIngestionThreads = Runtime.getRuntime().availableProcessors();
+
+    /** Shared executor to import resources in parallel. */
+    private IngestionExecutor mIngestionExecutor;
+
     /**
      * Set the storage type (default: file backend).
      *
@@ -112,6 +121,30 @@ public final class BasicXmlDBStore implements XmlDBStore {
       return this;
     }
 
+    /**
+     * Set the number of threads, which import the resources of a collection in parallel (default: number of
+     * available processors). Ignored, if a shared ingestion executor is set.
+     *
+     * @param numberOfIngestionThreads the number of threads
+     * @return this builder instance
+     */
+    public Builder numberOfIngestionThreads(final @Nonnegative int numberOfIngestionThreads) {
+      checkArgument(numberOfIngestionThreads > 0, "The number of threads must be positive!");
+      mNumberOfIngestionThreads = numberOfIngestionThreads;
+      return this;
+    }
+
+    /**
+     * Set a shared executor, which imports the resources of a collection in parallel. It is not closed by the store.
+     *
+     * @param ingestionExecutor the executor
+     * @return this builder instance
+     */
+    public Builder ingestionExecutor(final IngestionExecutor ingestionExecutor) {
+      mIngestionExecutor = checkNotNull(ingestionExecutor);
+      return this;
+    }
+
     /**
      * Create a new {@link BasicXmlDBStore} instance
      *
@@ -133,6 +166,10 @@ public final class BasicXmlDBStore implements XmlDBStore {
     mStorageType = builder.mStorageType;
     location = builder.mLocation;
     mBuildPathSummary = builder.mBuildPathSummary;
+    mOwnsIngestionExecutor = builder.mIngestionExecutor == null;
+    mIngestionExecutor = mOwnsIngestionExecutor
+        ? IngestionExecutor.create(builder.mNumberOfIngestionThreads)
+        : builder.mIngestionExecutor;
   }
 
   /** Get the location of the generated collections/databases. */
@@ -140,6 +177,11 @@ public final class BasicXmlDBStore implements XmlDBStore {
     return location;
   }
 
+  /** Get the executor, which imports resources in parallel, for instance to monitor the progress. */
+  public IngestionExecutor getIngestionExecutor() {
+    return mIngestionExecutor;
+  }
+
   @Override
   public XmlDBCollection lookup(final String name) {
     final Path dbPath = location.resolve(name);
@@ -229,27 +271,30 @@ public final class BasicXmlDBStore implements XmlDBStore {
         Databases.createXmlDatabase(dbConf);
         final var database = Databases.openXmlDatabase(dbConf.getFile());
         databases.add(database);
-        int i = database.listResources().size() + 1;
-        try (parsers) {
-          SubtreeParser parser;
-          while ((parser = parsers.next()) != null) {
-            final SubtreeParser nextParser = parser;
-            final String resourceName = "resource" + i;
-            pool.submit(() -> {
-              database.createResource(ResourceConfiguration.newBuilder(resourceName).storageType(
-                 mStorageType).useDeweyIDs(true).useTextCompression(true).buildPathSummary(true).build());
-              try (final XmlResourceManager manager = database.openResourceManager(resourceName);
-                   final XmlNodeTrx wtx = manager.beginNodeTrx()) {
-                  final XmlDBCollection collection = new XmlDBCollection(collName, database);
-                  collections.put(database, collection);
-                  nextParser.parse(new SubtreeBuilder(collection, wtx, InsertPosition.AS_FIRST_CHILD,
-                                                      Collections.emptyList()));
-                  wtx.commit();
-              }
-              return null;
-            });
-            i++;
+        try (final IngestionExecutor.Batch batch = mIngestionExecutor.newBatch()) {
+          int i = database.listResources().size() + 1;
+          try (parsers) {
+            SubtreeParser parser;
+            while ((parser = parsers.next()) != null) {
+              final SubtreeParser nextParser = parser;
+              final String resourceName = "resource" + i;
+              batch.submit(() -> {
+                database.createResource(ResourceConfiguration.newBuilder(resourceName).storageType(
+                   mStorageType).useDeweyIDs(true).useTextCompression(true).buildPathSummary(true).build());
+                try (final XmlResourceManager manager = database.openResourceManager(resourceName);
+                     final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+                    final XmlDBCollection collection = new XmlDBCollection(collName, database);
+                    collections.put(database, collection);
+                    nextParser.parse(new SubtreeBuilder(collection, wtx, InsertPosition.AS_FIRST_CHILD,
+                                                        Collections.emptyList()));
+                    wtx.commit();
+                }
+                return null;
+              });
+              i++;
+            }
           }
+          batch.await();
         }
         return new XmlDBCollection(collName, database);
       } catch (final SirixRuntimeException e) {
@@ -292,9 +337,10 @@ public final class BasicXmlDBStore implements XmlDBStore {
       for (final var database : databases) {
         database.close();
       }
-      pool.shutdown();
-      pool.awaitTermination(5, TimeUnit.SECONDS);
-    } catch (final SirixException | InterruptedException e) {
+      if (mOwnsIngestionExecutor) {
+        mIngestionExecutor.close();
+      }
+    } catch (final SirixException e) {
       throw new DocumentException(e.getCause());
     }
   }
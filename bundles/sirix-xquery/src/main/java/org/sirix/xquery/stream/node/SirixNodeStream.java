@@ -5,6 +5,10 @@ import org.brackit.xquery.xdm.DocumentException;
 import org.brackit.xquery.xdm.Stream;
 import org.sirix.api.Axis;
 import org.sirix.api.SirixAxis;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.axis.concurrent.ParallelDescendantAxis;
 import org.sirix.xquery.node.XmlDBCollection;
 import org.sirix.xquery.node.XmlDBNode;
 import com.google.common.base.MoreObjects;
@@ -42,8 +46,47 @@ public final class SirixNodeStream implements Stream<XmlDBNode> {
     return null;
   }
 
+  /**
+   * Create a stream of the descendants of the current node of a read-only transaction. The descendants are traversed
+   * sequentially by a {@link DescendantAxis}, unless {@code parallel} is set, in which case they are traversed by a
+   * {@link ParallelDescendantAxis} with several read-only transactions on the same revision. The parallel traversal is
+   * opt-in, as it only pays off for large subtrees.
+   *
+   * @param rtx the read-only transaction, which is located at the start node
+   * @param includeSelf determines if the start node is included or not
+   * @param collection {@link XmlDBCollection} the nodes belong to
+   * @param parallel determines if the descendants are traversed in parallel or not
+   * @return the stream
+   */
+  public static SirixNodeStream descendants(final XmlNodeReadOnlyTrx rtx, final IncludeSelf includeSelf,
+      final XmlDBCollection collection, final boolean parallel) {
+    final Axis axis = parallel
+        ? new ParallelDescendantAxis(rtx, includeSelf)
+        : new DescendantAxis(rtx, includeSelf);
+    return new SirixNodeStream(axis, collection);
+  }
+
+  /**
+   * Create a stream of the descendants of the current node of a read-only transaction, which are traversed in
+   * parallel by a {@link ParallelDescendantAxis}. The stream is worthwhile for large subtrees.
+   *
+   * @param rtx the read-only transaction, which is located at the start node
+   * @param includeSelf determines if the start node is included or not
+   * @param collection {@link XmlDBCollection} the nodes belong to
+   * @return the stream
+   */
+  public static SirixNodeStream parallelDescendants(final XmlNodeReadOnlyTrx rtx, final IncludeSelf includeSelf,
+      final XmlDBCollection collection) {
+    return descendants(rtx, includeSelf, collection, true);
+  }
+
   @Override
-  public void close() {}
+  public void close() {
+    if (axis instanceof ParallelDescendantAxis) {
+      // Stops the background traversals of a stream, which is closed before it is done.
+      axis.reset(axis.getStartKey());
+    }
+  }
 
   @Override
   public String toString() {
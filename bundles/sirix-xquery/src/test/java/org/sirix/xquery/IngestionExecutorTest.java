@@ -0,0 +1,125 @@
+package org.sirix.xquery;
+
+import org.brackit.xquery.xdm.DocumentException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class IngestionExecutorTest {
+
+  private ExecutorService executorService;
+
+  @Before
+  public void setUp() {
+    executorService = Executors.newSingleThreadExecutor();
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    executorService.shutdownNow();
+    executorService.awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testFailurePropagation() {
+    final var firstFailure = new IllegalStateException("first");
+    final var secondFailure = new IllegalStateException("second");
+
+    try (final IngestionExecutor executor = IngestionExecutor.of(executorService, 4);
+         final IngestionExecutor.Batch batch = executor.newBatch()) {
+      batch.submit(() -> {
+        throw firstFailure;
+      });
+      batch.submit(() -> null);
+      batch.submit(() -> {
+        throw secondFailure;
+      });
+
+      try {
+        batch.await();
+        fail("The failures of the imports have to be propagated.");
+      } catch (final DocumentException e) {
+        assertSame(firstFailure, e.getCause());
+        assertEquals(1, e.getSuppressed().length);
+        assertSame(secondFailure, e.getSuppressed()[0]);
+      }
+
+      assertEquals(3, executor.getSubmittedCount());
+      assertEquals(1, executor.getCompletedCount());
+      assertEquals(2, executor.getFailedCount());
+      assertEquals(0, executor.getPendingCount());
+    }
+  }
+
+  @Test
+  public void testBackPressure() throws InterruptedException {
+    final var release = new CountDownLatch(1);
+
+    try (final IngestionExecutor executor = IngestionExecutor.of(executorService, 2);
+         final IngestionExecutor.Batch batch = executor.newBatch()) {
+      batch.submit(() -> release.await(5, TimeUnit.SECONDS));
+      batch.submit(() -> null);
+
+      // The third import is only submitted, once one of the pending imports is done.
+      final var producer = new Thread(() -> batch.submit(() -> null));
+      producer.start();
+      awaitWaiting(producer);
+      assertEquals(2, executor.getSubmittedCount());
+
+      release.countDown();
+      producer.join(5_000);
+      batch.await();
+
+      assertEquals(3, executor.getSubmittedCount());
+      assertEquals(3, executor.getCompletedCount());
+    }
+  }
+
+  @Test
+  public void testProducerFailure() {
+    final var release = new CountDownLatch(1);
+    final var producerFailure = new IllegalStateException("producer");
+
+    try (final IngestionExecutor executor = IngestionExecutor.of(executorService, 4)) {
+      final Thread consumer = Thread.currentThread();
+      final var releaser = new Thread(() -> {
+        // Release the running import, once the batch waits for it on close.
+        awaitWaiting(consumer);
+        release.countDown();
+      });
+
+      try (final IngestionExecutor.Batch batch = executor.newBatch()) {
+        batch.submit(() -> release.await(5, TimeUnit.SECONDS));
+        batch.submit(() -> null);
+        batch.submit(() -> null);
+        releaser.start();
+        throw producerFailure;
+      } catch (final IllegalStateException e) {
+        assertSame(producerFailure, e);
+      }
+
+      // The running import has been awaited, the queued ones have been skipped.
+      assertEquals(1, executor.getCompletedCount());
+      assertEquals(2, executor.getSkippedCount());
+      assertEquals(0, executor.getPendingCount());
+    }
+  }
+
+  private static void awaitWaiting(final Thread thread) {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+      assertTrue("The thread doesn't wait.", System.nanoTime() < deadline);
+      Thread.onSpinWait();
+    }
+  }
+}
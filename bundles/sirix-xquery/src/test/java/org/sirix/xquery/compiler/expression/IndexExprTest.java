@@ -0,0 +1,84 @@
+package org.sirix.xquery.compiler.expression;
+
+import org.brackit.xquery.XQuery;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.xquery.SirixCompileChain;
+import org.sirix.xquery.SirixQueryContext;
+import org.sirix.xquery.json.BasicJsonDBStore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test the results of CAS index backed queries with and without stored DeweyIDs.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class IndexExprTest {
+
+  /** The values of the indexed nodes are not in document order. */
+  private static final String STORE_QUERY =
+      "jn:store('mycol.jn','mydoc.jn','[{\"key\":0},{\"value\":[{\"key\":{\"boolean\":5}},{\"newkey\":\"yes\"},"
+          + "{\"key\":{\"boolean\":4}},{\"key\":{\"boolean\":1}},{\"key\":{\"boolean\":9}}]},{\"key\":\"hey\",\"value\":false}]')";
+
+  private static final String INDEX_QUERY =
+      "let $doc := jn:doc('mycol.jn','mydoc.jn') let $stats := jn:create-cas-index($doc, 'xs:integer', '/[]/value/[]/key/boolean') return {\"revision\": sdb:commit($doc)}";
+
+  private static final String QUERY =
+      "for $i in bit:array-values(jn:doc('mycol.jn','mydoc.jn')=>value=>key)[.=>boolean gt 3] return { $i, \"nodekey\": sdb:nodekey($i) }";
+
+  private static final String EXPECTED_RESULT =
+      "{\"boolean\":5,\"nodekey\":10} {\"boolean\":4,\"nodekey\":18} {\"boolean\":9,\"nodekey\":28}";
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCASIndexWithDeweyIDs() throws IOException {
+    assertEquals(EXPECTED_RESULT, query(true));
+  }
+
+  @Test
+  public void testCASIndexWithoutDeweyIDs() throws IOException {
+    assertEquals(EXPECTED_RESULT, query(false));
+  }
+
+  @Test
+  public void testCASIndexWithAndWithoutDeweyIDsMatch() throws IOException {
+    final String resultWithDeweyIDs = query(true);
+    JsonTestHelper.deleteEverything();
+    assertEquals(resultWithDeweyIDs, query(false));
+  }
+
+  private static String query(final boolean useDeweyIDs) throws IOException {
+    try (final BasicJsonDBStore store = BasicJsonDBStore.newBuilder()
+                                                        .location(JsonTestHelper.PATHS.PATH1.getFile())
+                                                        .useDeweyIDs(useDeweyIDs)
+                                                        .build();
+         final SirixQueryContext ctx = SirixQueryContext.createWithJsonStore(store);
+         final SirixCompileChain chain = SirixCompileChain.createWithJsonStore(store)) {
+      new XQuery(chain, STORE_QUERY).evaluate(ctx);
+      new XQuery(chain, INDEX_QUERY).evaluate(ctx);
+
+      try (final var out = new ByteArrayOutputStream(); final var printWriter = new PrintWriter(out)) {
+        new XQuery(chain, QUERY).serialize(ctx, printWriter);
+        printWriter.flush();
+        return out.toString();
+      }
+    }
+  }
+}
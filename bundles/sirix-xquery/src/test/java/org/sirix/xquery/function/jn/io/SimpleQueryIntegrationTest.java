@@ -287,6 +287,27 @@ public final class SimpleQueryIntegrationTest {
     }
   }
 
+  @Test
+  public void testTimeTravelAllTimesOnlyChanged() throws IOException {
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath).build();
+         final var ctx = SirixQueryContext.createWithJsonStore(store);
+         final var chain = SirixCompileChain.createWithJsonStore(store)) {
+
+      setupRevisions(ctx, chain);
+
+      // The array hasn't changed after its insertion, thus only the first revision is selected.
+      final var allTimesQuery = "jn:all-times(jn:doc('mycol.jn','mydoc.jn')=>tada,true())";
+      final var allTimesSeq = new XQuery(chain, allTimesQuery).execute(ctx);
+
+      final var buf = IOUtils.createBuffer();
+      try (final var serializer = new StringSerializer(buf)) {
+        serializer.setFormat(true).serialize(allTimesSeq);
+      }
+
+      assertEquals("[{\"foo\":\"bar\"},{\"baz\":false},\"boo\",{},[]]", buf.toString());
+    }
+  }
+
   @Test
   public void testTimeTravelFuture() throws IOException {
     try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath).build();